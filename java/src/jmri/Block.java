@@ -187,6 +187,7 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
         }
         _namedSensor = s;
 
+        int old = _current;
         if (_namedSensor != null) {
             getSensor().addPropertyChangeListener(_sensorListener = (PropertyChangeEvent e) -> {
                 handleSensorChange(e);
@@ -195,6 +196,8 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
         } else {
             _current = UNDETECTED;
         }
+        // let listeners counting occupied blocks see the new state
+        firePropertyChange("state", old, _current);
     }
 
     public Sensor getSensor() {
@@ -275,12 +278,15 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
     }
 
     ArrayList<Path> paths = new ArrayList<>();
+    // the paths as an array, to search them on every sensor change without copying
+    private Path[] pathArray = new Path[0];
 
     public void addPath(Path p) {
         if (p == null) {
             throw new IllegalArgumentException("Can't add null path");
         }
         paths.add(p);
+        pathArray = paths.toArray(new Path[paths.size()]);
     }
 
     public void removePath(Path p) {
@@ -292,6 +298,7 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
         }
         if (j > -1) {
             paths.remove(j);
+            pathArray = paths.toArray(new Path[paths.size()]);
         }
     }
 
@@ -658,9 +665,8 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
      */
     public void goingInactive() {
         log.debug("Block {} goes UNOCCUPIED", getDisplayName());
-        int currPathCnt = paths.size();
-        for (int i = 0; i < currPathCnt; i++) {
-            Block b = paths.get(i).getBlock();
+        for (Path path : pathArray) {
+            Block b = path.getBlock();
             if (b != null) {
                 b.setAsEntryBlockIfPossible(this);
             }
@@ -684,33 +690,9 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
         }
         log.debug("Block {} goes OCCUPIED", getDisplayName());
         resetCandidateEntrancePaths();
-        // index through the paths, counting
-        int count = 0;
-        Path next = null;
-        // get statuses of everything once
-        int currPathCnt = paths.size();
-        Path pList[] = new Path[currPathCnt];
-        boolean isSet[] = new boolean[currPathCnt];
-        boolean isActive[] = new boolean[currPathCnt];
-        int pDir[] = new int[currPathCnt];
-        int pFromDir[] = new int[currPathCnt];
-        for (int i = 0; i < currPathCnt; i++) {
-            pList[i] = paths.get(i);
-            isSet[i] = pList[i].checkPathSet();
-            Block b = pList[i].getBlock();
-            if (b != null) {
-                isActive[i] = b.getState() == OCCUPIED;
-                pDir[i] = b.getDirection();
-            } else {
-                isActive[i] = false;
-                pDir[i] = -1;
-            }
-            pFromDir[i] = pList[i].getFromBlockDirection();
-            if (isSet[i] && isActive[i]) {
-                count++;
-                next = pList[i];
-            }
-        }
+        List<Path> entrances = getOccupiedNeighborPaths();
+        int count = entrances.size();
+        Path next = count > 0 ? entrances.get(count - 1) : null;
         // sort on number of neighbors
         switch (count) {
             case 0:
@@ -767,24 +749,15 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
                 log.debug("Block {} has {} active linked blocks, comparing directions", getDisplayName(), count);
                 next = null;
                 count = 0;
-                for (int i = 0; i < currPathCnt; i++) {
-                    if (isSet[i] && isActive[i]) {  //only consider active reachable blocks
-                        log.debug("comparing {} ({}) to {} ({})",
-                                pList[i].getBlock().getDisplayName(), Path.decodeDirection(pDir[i]),
-                                getDisplayName(), Path.decodeDirection(pFromDir[i]));
-                        if ((pDir[i] & pFromDir[i]) > 0) { //use bitwise comparison to support combination directions such as "North, West"
-                            count++;
-                            next = pList[i];
-                        }
+                for (Path path : entrances) {
+                    if (isEnteredFrom(path)) {
+                        count++;
+                        next = path;
                     }
                 }
                 if (next == null) {
-                    for (int i = 0; i < currPathCnt; i++) {
-                        if (isSet[i] && isActive[i]) {
-                            count++;
-                            next = pList[i];
-                        }
-                    }
+                    count = entrances.size();
+                    next = entrances.get(count - 1);
                 }
                 if (next != null && count == 1) {
                     // found one block with proper direction, use it
@@ -796,20 +769,48 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
                 } else {
                     // no unique path with correct direction - this happens frequently from noise in block detectors!!
                     log.warn("count of {} ACTIVE neightbors with proper direction can't be handled for block {} but maybe it can be determined when another block becomes free", count, getDisplayName());
-                    pListOfPossibleEntrancePaths = new Path[currPathCnt];
-                    cntOfPossibleEntrancePaths = 0;
-                    for (int i = 0; i < currPathCnt; i++) {
-                        if (isSet[i] && isActive[i]) {
-                            pListOfPossibleEntrancePaths[cntOfPossibleEntrancePaths] = pList[i];
-                            cntOfPossibleEntrancePaths++;
-                        }
-                    }
+                    pListOfPossibleEntrancePaths = entrances.toArray(new Path[entrances.size()]);
+                    cntOfPossibleEntrancePaths = pListOfPossibleEntrancePaths.length;
                 }
                 break;
         }
         setState(OCCUPIED);
     }
 
+    /**
+     * Get the paths to the occupied blocks next to this one that are set for
+     * travel into this block. Only the paths to occupied blocks are checked
+     * for being set, so the turnouts of most paths are not looked at.
+     *
+     * @return the paths, in the order they were added to this block
+     */
+    private List<Path> getOccupiedNeighborPaths() {
+        List<Path> entrances = new ArrayList<>(2);
+        for (Path path : pathArray) {
+            Block b = path.getBlock();
+            if (b != null && b.getState() == OCCUPIED && path.checkPathSet()) {
+                entrances.add(path);
+            }
+        }
+        return entrances;
+    }
+
+    /**
+     * Check if the block at the end of a path is travelling in the direction
+     * of the path.
+     *
+     * @param path the path to an occupied block
+     * @return true if the direction of the block matches the path
+     */
+    private boolean isEnteredFrom(Path path) {
+        Block b = path.getBlock();
+        log.debug("comparing {} ({}) to {} ({})",
+                b.getDisplayName(), Path.decodeDirection(b.getDirection()),
+                getDisplayName(), Path.decodeDirection(path.getFromBlockDirection()));
+        //use bitwise comparison to support combination directions such as "North, West"
+        return (b.getDirection() & path.getFromBlockDirection()) > 0;
+    }
+
     /**
      * Find which path this Block became Active, without actually modifying the
      * state of this block.
@@ -820,33 +821,9 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
      * @return the next path
      */
     public Path findFromPath() {
-        // index through the paths, counting
-        int count = 0;
-        Path next = null;
-        // get statuses of everything once
-        int currPathCnt = paths.size();
-        Path pList[] = new Path[currPathCnt];
-        boolean isSet[] = new boolean[currPathCnt];
-        boolean isActive[] = new boolean[currPathCnt];
-        int pDir[] = new int[currPathCnt];
-        int pFromDir[] = new int[currPathCnt];
-        for (int i = 0; i < currPathCnt; i++) {
-            pList[i] = paths.get(i);
-            isSet[i] = pList[i].checkPathSet();
-            Block b = pList[i].getBlock();
-            if (b != null) {
-                isActive[i] = b.getState() == OCCUPIED;
-                pDir[i] = b.getDirection();
-            } else {
-                isActive[i] = false;
-                pDir[i] = -1;
-            }
-            pFromDir[i] = pList[i].getFromBlockDirection();
-            if (isSet[i] && isActive[i]) {
-                count++;
-                next = pList[i];
-            }
-        }
+        List<Path> entrances = getOccupiedNeighborPaths();
+        int count = entrances.size();
+        Path next = count > 0 ? entrances.get(count - 1) : null;
         // sort on number of neighbors
         if ((count == 0) || (count == 1)) {
             // do nothing.  OK to return null from this function.  "next" is already set.
@@ -856,15 +833,10 @@ public class Block extends AbstractNamedBean implements PhysicalLocationReporter
             log.debug("Block {} - count of active linked blocks = {}", getDisplayName(), count);
             next = null;
             count = 0;
-            for (int i = 0; i < currPathCnt; i++) {
-                if (isSet[i] && isActive[i]) {  //only consider active reachable blocks
-                    log.debug("comparing {} ({}) to {} ({})",
-                            pList[i].getBlock().getDisplayName(), Path.decodeDirection(pDir[i]),
-                            getDisplayName(), Path.decodeDirection(pFromDir[i]));
-                    if ((pDir[i] & pFromDir[i]) > 0) { //use bitwise comparison to support combination directions such as "North, West"
-                        count++;
-                        next = pList[i];
-                    }
+            for (Path path : entrances) {
+                if (isEnteredFrom(path)) {
+                    count++;
+                    next = path;
                 }
             }
             if (next == null) {
@@ -1,7 +1,11 @@
 package jmri;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.annotation.CheckForNull;
 import javax.annotation.CheckReturnValue;
@@ -28,6 +32,9 @@ import org.slf4j.LoggerFactory;
  * the bean reference will be updated and the propertyChangeListener attached to
  * that bean will also be moved, so long as the correct method of adding the
  * listener has been used.
+ * <p>
+ * The handles are kept by bean and by name, so finding, renaming and moving
+ * handles does not depend on how many handles have been issued.
  * <hr>
  * This file is part of JMRI.
  * <P>
@@ -54,19 +61,18 @@ public class NamedBeanHandleManager extends AbstractManager implements InstanceM
     @SuppressWarnings("unchecked") // namedBeanHandles contains multiple types of NameBeanHandles<T>
     @Nonnull
     @CheckReturnValue
-    public <T extends NamedBean> NamedBeanHandle<T> getNamedBeanHandle(@Nonnull String name, @Nonnull T bean) {
+    public synchronized <T extends NamedBean> NamedBeanHandle<T> getNamedBeanHandle(@Nonnull String name, @Nonnull T bean) {
         Objects.requireNonNull(bean, "bean must be nonnull");
         Objects.requireNonNull(name, "name must be nonnull");
         if (name.isEmpty()) {
             throw new IllegalArgumentException("name cannot be empty in getNamedBeanHandle");
         }
-        NamedBeanHandle<T> temp = new NamedBeanHandle<>(name, bean);
-        for (NamedBeanHandle<T> h : namedBeanHandles) {
-            if (temp.equals(h)) {
-                return h;
-            }
+        List<NamedBeanHandle<?>> handles = getHandles(bean, name);
+        if (handles != null) {
+            return (NamedBeanHandle<T>) handles.get(0);
         }
-        namedBeanHandles.add(temp);
+        NamedBeanHandle<T> temp = new NamedBeanHandle<>(name, bean);
+        addHandles(bean, name, Collections.<NamedBeanHandle<?>>singletonList(temp));
         return temp;
     }
 
@@ -90,10 +96,13 @@ public class NamedBeanHandleManager extends AbstractManager implements InstanceM
          it simply updates the name to the new one. So hence you can end up with
          multiple named bean entries for one name.
          */
-        NamedBeanHandle<T> oldBean = new NamedBeanHandle<>(oldName, bean);
-        for (NamedBeanHandle<T> h : namedBeanHandles) {
-            if (oldBean.equals(h)) {
-                h.setName(newName);
+        synchronized (this) {
+            List<NamedBeanHandle<?>> handles = removeHandles(bean, oldName);
+            if (handles != null) {
+                for (NamedBeanHandle<?> h : handles) {
+                    h.setName(newName);
+                }
+                addHandles(bean, newName, handles);
             }
         }
         updateListenerRef(oldName, newName, bean);
@@ -119,11 +128,13 @@ public class NamedBeanHandleManager extends AbstractManager implements InstanceM
          it simply updates the bean to the new one. So hence you can end up with
          multiple bean entries with the same name.
          */
-
-        NamedBeanHandle<T> oldNamedBean = new NamedBeanHandle<>(name, oldBean);
-        for (NamedBeanHandle<T> h : namedBeanHandles) {
-            if (oldNamedBean.equals(h)) {
-                h.setBean(newBean);
+        synchronized (this) {
+            List<NamedBeanHandle<?>> handles = removeHandles(oldBean, name);
+            if (handles != null) {
+                for (NamedBeanHandle<?> h : handles) {
+                    ((NamedBeanHandle<T>) h).setBean(newBean);
+                }
+                addHandles(newBean, name, handles);
             }
         }
         moveListener(oldBean, newBean, name);
@@ -152,9 +163,8 @@ public class NamedBeanHandleManager extends AbstractManager implements InstanceM
 
     @SuppressWarnings("unchecked") // namedBeanHandles contains multiple types of NameBeanHandles<T>
     @CheckReturnValue
-    public <T extends NamedBean> boolean inUse(@Nonnull String name, @Nonnull T bean) {
-        NamedBeanHandle<T> temp = new NamedBeanHandle<>(name, bean);
-        return namedBeanHandles.stream().anyMatch((h) -> (temp.equals(h)));
+    public synchronized <T extends NamedBean> boolean inUse(@Nonnull String name, @Nonnull T bean) {
+        return getHandles(bean, name) != null;
     }
 
     @CheckForNull
@@ -191,8 +201,34 @@ public class NamedBeanHandleManager extends AbstractManager implements InstanceM
         super.dispose();
     }
 
-    @SuppressWarnings("rawtypes") // namedBeanHandles contains multiple types of NameBeanHandles<T>
-    ArrayList<NamedBeanHandle> namedBeanHandles = new ArrayList<>();
+    // the handles of each bean by name, in the order issued; beans are
+    // compared by identity as their hash codes change with their user names
+    private final Map<NamedBean, Map<String, List<NamedBeanHandle<?>>>> namedBeanHandles = new IdentityHashMap<>();
+
+    @CheckForNull
+    private List<NamedBeanHandle<?>> getHandles(NamedBean bean, String name) {
+        Map<String, List<NamedBeanHandle<?>>> handles = namedBeanHandles.get(bean);
+        return handles != null ? handles.get(name) : null;
+    }
+
+    @CheckForNull
+    private List<NamedBeanHandle<?>> removeHandles(NamedBean bean, String name) {
+        Map<String, List<NamedBeanHandle<?>>> handles = namedBeanHandles.get(bean);
+        if (handles == null) {
+            return null;
+        }
+        List<NamedBeanHandle<?>> removed = handles.remove(name);
+        if (handles.isEmpty()) {
+            namedBeanHandles.remove(bean);
+        }
+        return removed;
+    }
+
+    private void addHandles(NamedBean bean, String name, List<NamedBeanHandle<?>> added) {
+        namedBeanHandles.computeIfAbsent(bean, b -> new HashMap<>())
+                .computeIfAbsent(name, n -> new ArrayList<>(1))
+                .addAll(added);
+    }
 
     /**
      * Don't want to store this information
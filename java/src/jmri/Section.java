@@ -153,6 +153,8 @@ public class Section extends AbstractNamedBean {
     private int mState = FREE;
     private int mOccupancy = UNOCCUPIED;
     private boolean mOccupancyInitialized = false;
+    // the number of blocks that are OCCUPIED, kept up to date by the block listeners
+    private int mOccupiedBlocks = 0;
     private Block mFirstBlock = null;
     private Block mLastBlock = null;
 
@@ -502,17 +504,13 @@ public class Section extends AbstractNamedBean {
         // add Block to the Block list
         mBlockEntries.add(b);
         mLastBlock = b;
+        addBlockListener(b);
         // check occupancy
         if (b.getState() == OCCUPIED) {
             if (mOccupancy != OCCUPIED) {
                 setOccupancy(OCCUPIED);
             }
         }
-        PropertyChangeListener listener = (PropertyChangeEvent e) -> {
-            handleBlockChange(e);
-        };
-        b.addPropertyChangeListener(listener);
-        mBlockListeners.add(listener);
         return true;
     }
     private boolean initializationNeeded = false;
@@ -535,29 +533,52 @@ public class Section extends AbstractNamedBean {
                 }
                 mBlockEntries.add(b);
                 mLastBlock = b;
-                PropertyChangeListener listener = (PropertyChangeEvent e) -> {
-                    handleBlockChange(e);
-                };
-                b.addPropertyChangeListener(listener);
-                mBlockListeners.add(listener);
+                addBlockListener(b);
             }
         }
         initializationNeeded = false;
     }
 
+    private void addBlockListener(Block b) {
+        PropertyChangeListener listener = (PropertyChangeEvent e) -> {
+            handleBlockChange(e);
+        };
+        b.addPropertyChangeListener(listener);
+        mBlockListeners.add(listener);
+        if (b.getState() == OCCUPIED) {
+            mOccupiedBlocks++;
+        }
+    }
+
+    private void removeBlockListener(int index) {
+        Block b = mBlockEntries.get(index);
+        b.removePropertyChangeListener(mBlockListeners.get(index));
+        mBlockListeners.remove(index);
+        if (b.getState() == OCCUPIED) {
+            mOccupiedBlocks--;
+        }
+    }
+
     /**
      * Handle change in occupancy of a Block in the Section.
+     * <p>
+     * The number of occupied Blocks is changed by the old and new state in
+     * the event, so the other Blocks in the Section are not looked at.
      *
      * @param e event with change
      */
     void handleBlockChange(PropertyChangeEvent e) {
-        int o = UNOCCUPIED;
-        for (Block block : mBlockEntries) {
-            if (block.getState() == OCCUPIED) {
-                o = OCCUPIED;
-                break;
-            }
+        if (!"state".equals(e.getPropertyName())) { // NOI18N
+            return;
+        }
+        boolean wasOccupied = Integer.valueOf(OCCUPIED).equals(e.getOldValue());
+        boolean isOccupied = Integer.valueOf(OCCUPIED).equals(e.getNewValue());
+        if (wasOccupied && !isOccupied) {
+            mOccupiedBlocks--;
+        } else if (isOccupied && !wasOccupied) {
+            mOccupiedBlocks++;
         }
+        int o = mOccupiedBlocks > 0 ? OCCUPIED : UNOCCUPIED;
         if (mOccupancy != o) {
             setOccupancy(o);
         }
@@ -668,9 +689,7 @@ public class Section extends AbstractNamedBean {
      */
     public void removeAllBlocksFromSection() {
         for (int i = mBlockEntries.size(); i > 0; i--) {
-            Block b = mBlockEntries.get(i - 1);
-            b.removePropertyChangeListener(mBlockListeners.get(i - 1));
-            mBlockListeners.remove(i - 1);
+            removeBlockListener(i - 1);
             mBlockEntries.remove(i - 1);
         }
         for (int i = mForwardEntryPoints.size(); i > 0; i--) {
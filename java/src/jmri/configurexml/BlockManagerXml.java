@@ -486,6 +486,17 @@ public class BlockManagerXml extends jmri.managers.configurexml.AbstractMemoryMa
         }
     }   // loadBeanSetting
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return true; only creates blocks and the beans they refer to, on the
+     *         layout thread
+     */
+    @Override
+    public boolean loadOffGUI() {
+        return true;
+    }
+
     @Override
     public int loadOrder() {
         return InstanceManager.getDefault(jmri.BlockManager.class).getXMLOrder();
@@ -5,13 +5,17 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import jmri.InstanceManager;
 import jmri.jmrit.XmlFile;
 import jmri.jmrit.revhistory.FileHistory;
 import jmri.util.FileUtil;
+import jmri.util.ThreadingUtil;
 import org.jdom2.Attribute;
 import org.jdom2.Document;
 import org.jdom2.Element;
@@ -585,30 +589,24 @@ public class ConfigXmlManager extends jmri.jmrit.XmlFile
      * Handles problems locally to the extent that it can, by routing them to
      * the creationErrorEncountered method.
      * <p>
-     * Always processes on Swing thread
+     * If called on the Swing thread, the entire load is done there. Otherwise
+     * the file is parsed on the calling thread, adapters that declare
+     * {@link XmlAdapter#loadOffGUI()} are loaded on the layout thread, and all
+     * other adapters are handed to the Swing thread; either way one at a time,
+     * in load order.
      *
      * @param url              URL of file to load
      * @param registerDeferred true to register objects to defer
      * @return true if no problems during the load
      * @throws JmriConfigureXmlException if problem during load
      * @see jmri.configurexml.XmlAdapter#loadDeferred()
+     * @see #getLoadTimes()
      * @since 3.3.2
      */
     @Override
     public boolean load(URL url, boolean registerDeferred) throws JmriConfigureXmlException {
         log.trace("starting load({}, {})", url, registerDeferred);
-        
-        // we do the actual load on the Swing thread in case it changes visible windows
-        Boolean retval = jmri.util.ThreadingUtil.runOnGUIwithReturn(() -> {
-            try { 
-                Boolean ret = loadOnSwingThread(url, registerDeferred);
-                return ret;
-            } catch (Exception e) {
-                log.trace("  ending load() via JmriConfigureXmlException");
-                throw new RuntimeException(e);
-            }
-        });
-        
+        boolean retval = loadFromURL(url, registerDeferred);
         log.trace("  ending load({}, {} with {})", url, registerDeferred, retval);
         return retval;
     }
@@ -631,8 +629,26 @@ public class ConfigXmlManager extends jmri.jmrit.XmlFile
         return validate;
     }
 
-    // must run on GUI thread only; that's ensured at the using level.
-    private Boolean loadOnSwingThread(URL url, boolean registerDeferred) throws JmriConfigureXmlException {
+    private final Map<String, Long> loadTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Get the time spent in each adapter during the most recent load, for
+     * finding which parts of a large file dominate its loading time.
+     *
+     * @return map of adapter class name to elapsed time in nanoseconds, in
+     *         descending order of time
+     */
+    public Map<String, Long> getLoadTimes() {
+        List<Map.Entry<String, Long>> l = new ArrayList<>(loadTimes.entrySet());
+        Collections.sort(l, (o1, o2) -> o2.getValue().compareTo(o1.getValue()));
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : l) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    private boolean loadFromURL(URL url, boolean registerDeferred) {
         boolean result = true;
         Element root = null;
         /* We will put all the elements into a load list, along with the load order
@@ -640,6 +656,8 @@ public class ConfigXmlManager extends jmri.jmrit.XmlFile
          before beans that they were dependant upon had been stored/loaded
          */
         Map<Element, Integer> loadlist = Collections.synchronizedMap(new LinkedHashMap<>());
+        Map<Element, XmlAdapter> adapters = new HashMap<>();
+        loadTimes.clear();
 
         try {
             setValidate(validate);
@@ -664,54 +682,43 @@ public class ConfigXmlManager extends jmri.jmrit.XmlFile
                 int order = adapter.loadOrder();
                 log.debug("add {} to load list with order id of {}", item, order);
                 loadlist.put(item, order);
+                adapters.put(item, adapter);
             }
 
             List<Map.Entry<Element, Integer>> l = new ArrayList<>(loadlist.entrySet());
             Collections.sort(l, (Map.Entry<Element, Integer> o1, Map.Entry<Element, Integer> o2) -> o1.getValue().compareTo(o2.getValue()));
 
+            boolean onGUI = ThreadingUtil.isGUIThread();
             for (int i = 0; i < l.size(); i++) {
                 Element item = l.get(i).getKey();
-                String adapterName = item.getAttribute("class").getValue();
-                adapterName = currentClassName(adapterName);
-                if (log.isDebugEnabled()) {
-                    log.debug("load " + item + " via " + adapterName);
-                }
-                XmlAdapter adapter = null;
-                try {
-                    adapter = (XmlAdapter) Class.forName(adapterName).newInstance();
-
-                    // get version info
-                    // loadVersion(root, adapter);
-                    // and do it
-                    if (adapter.loadDeferred() && registerDeferred) {
-                        // register in the list for deferred load
-                        loadDeferredList.add(item);
-                        if (log.isDebugEnabled()) {
-                            log.debug("deferred load registered for " + item + " " + adapterName);
-                        }
-                    } else {
-                        boolean loadStatus = adapter.load(item, item);
-                        if (log.isDebugEnabled()) {
-                            log.debug("load status for " + item + " " + adapterName + " is " + loadStatus);
-                        }
-
-                        // if any adaptor load fails, then the entire load has failed
-                        if (!loadStatus) {
-                            result = false;
-                        }
+                XmlAdapter adapter = adapters.get(item);
+                if (adapter.loadDeferred() && registerDeferred) {
+                    // register in the list for deferred load
+                    loadDeferredList.add(item);
+                    if (log.isDebugEnabled()) {
+                        log.debug("deferred load registered for " + item + " " + adapter.getClass().getName());
                     }
-                } catch (Exception e) {
-                    creationErrorEncountered(adapter, "load(" + url.getFile() + ")",
-                            "Unexpected error (Exception)", null, null, e);
-
-                    result = false;  // keep going, but return false to signal problem
-                } catch (Throwable et) {
-                    creationErrorEncountered(adapter, "in load(" + url.getFile() + ")",
-                            "Unexpected error (Throwable)", null, null, et);
-
-                    result = false;  // keep going, but return false to signal problem
+                } else if (onGUI) {
+                    result &= loadItem(adapter, item, url);
+                } else if (adapter.loadOffGUI()) {
+                    // changes managers, which are only changed on the layout thread
+                    AtomicBoolean loaded = new AtomicBoolean(false);
+                    ThreadingUtil.runOnLayout(() -> {
+                        loaded.set(loadItem(adapter, item, url));
+                    });
+                    result &= loaded.get();
+                } else {
+                    // may create or change visible windows
+                    result &= ThreadingUtil.runOnGUIwithReturn(() -> {
+                        return loadItem(adapter, item, url);
+                    });
                 }
             }
+            if (log.isDebugEnabled()) {
+                getLoadTimes().forEach((name, time) -> {
+                    log.debug("{} took {} msec", name, time / 1000000);
+                });
+            }
 
         } catch (java.io.FileNotFoundException e1) {
             // this returns false to indicate un-success, but not enough
@@ -761,6 +768,36 @@ public class ConfigXmlManager extends jmri.jmrit.XmlFile
         return result;
     }
 
+    /**
+     * Load a single element, recording the time taken.
+     *
+     * @return false if the load failed
+     */
+    private boolean loadItem(XmlAdapter adapter, Element item, URL url) {
+        if (log.isDebugEnabled()) {
+            log.debug("load " + item + " via " + adapter.getClass().getName());
+        }
+        long start = System.nanoTime();
+        try {
+            boolean loadStatus = adapter.load(item, item);
+            if (log.isDebugEnabled()) {
+                log.debug("load status for " + item + " " + adapter.getClass().getName() + " is " + loadStatus);
+            }
+            // if any adaptor load fails, then the entire load has failed
+            return loadStatus;
+        } catch (Exception e) {
+            creationErrorEncountered(adapter, "load(" + url.getFile() + ")",
+                    "Unexpected error (Exception)", null, null, e);
+            return false;  // keep going, but return false to signal problem
+        } catch (Throwable et) {
+            creationErrorEncountered(adapter, "in load(" + url.getFile() + ")",
+                    "Unexpected error (Throwable)", null, null, et);
+            return false;  // keep going, but return false to signal problem
+        } finally {
+            loadTimes.merge(adapter.getClass().getName(), System.nanoTime() - start, Long::sum);
+        }
+    }
+
     @Override
     public boolean loadDeferred(File fi) {
         return this.loadDeferred(FileUtil.fileToURL(fi));
@@ -46,6 +46,21 @@ public interface XmlAdapter {
      */
     public boolean loadDeferred();
 
+    /**
+     * Determine if this set of configured objects can be loaded on the layout
+     * thread instead of the GUI thread. Only concrete adapters whose load has
+     * been checked to create or change nothing but beans and their managers
+     * should return true; the property changes those managers fire are then
+     * delivered to GUI listeners on the GUI thread.
+     *
+     * @return true to allow loading off the GUI thread; false by default
+     * @see ConfigXmlManager#load(java.net.URL, boolean)
+     * @see jmri.util.ThreadingUtil#runOnLayout(jmri.util.ThreadingUtil.ThreadAction)
+     */
+    public default boolean loadOffGUI() {
+        return false;
+    }
+
     /**
      * Create a set of configured objects from their XML description, using an
      * auxiliary object.
@@ -8,7 +8,9 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
+import jmri.Manager;
 import jmri.NamedBean;
+import jmri.util.AlphanumComparator;
 
 /**
  * Abstract base for the NamedBean interface.
@@ -240,7 +242,7 @@ public abstract class AbstractNamedBean implements NamedBean {
 
     @OverridingMethodsMustInvokeSuper
     protected void firePropertyChange(String p, Object old, Object n) {
-        pcs.firePropertyChange(p, old, n);
+        jmri.util.ThreadingUtil.firePropertyChange(pcs, this, p, old, n);
     }
 
     @Override
@@ -357,6 +359,91 @@ public abstract class AbstractNamedBean implements NamedBean {
         return result;
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compares via a {@link SortKey} built from the system name the first
+     * time this bean is compared, so that repeated comparisons, e.g. while
+     * the bean is held in a manager's sorted set, don't re-parse the names.
+     */
+    @CheckReturnValue
+    @Override
+    public int compareTo(@Nonnull NamedBean n2) {
+        if (!(n2 instanceof AbstractNamedBean)) {
+            return NamedBean.super.compareTo(n2);
+        }
+        SortKey k1 = getSortKey();
+        SortKey k2 = ((AbstractNamedBean) n2).getSortKey();
+
+        int comp = AlphanumComparator.compareChunks(k1.prefixChunks, k1.prefixLength, k2.prefixChunks, k2.prefixLength);
+        if (comp != 0) {
+            return comp;
+        }
+        if (k1.typeLetter != k2.typeLetter) {
+            return (k1.typeLetter > k2.typeLetter) ? +1 : -1;
+        }
+        if (DEFAULT_SUFFIX_COMPARISON.get(getClass())) {
+            return AlphanumComparator.compareChunks(k1.suffixChunks, k1.suffix.length(), k2.suffixChunks, k2.suffix.length());
+        }
+        return this.compareSystemNameSuffix(k1.suffix, k2.suffix, n2);
+    }
+
+    /**
+     * Get the sort key for this bean, creating it if need be.
+     *
+     * @return the sort key
+     */
+    @Nonnull
+    protected SortKey getSortKey() {
+        SortKey key = sortKey;
+        if (key == null) {
+            key = new SortKey(getSystemName());
+            sortKey = key;
+        }
+        return key;
+    }
+    // system name is final, so the key never needs to be invalidated
+    private volatile SortKey sortKey = null;
+
+    /**
+     * The parts of a system name used for ordering, as used by
+     * {@link NamedBean#compareTo(NamedBean)}: the system prefix and suffix
+     * split into alphanumeric chunks, and the type letter. Immutable.
+     */
+    protected static final class SortKey {
+
+        final String[] prefixChunks;
+        final int prefixLength;
+        final char typeLetter;
+        final String suffix;
+        final String[] suffixChunks;
+
+        SortKey(@Nonnull String systemName) {
+            prefixLength = Manager.getSystemPrefixLength(systemName);
+            prefixChunks = AlphanumComparator.split(systemName.substring(0, prefixLength));
+            typeLetter = systemName.charAt(prefixLength);
+            suffix = systemName.substring(prefixLength + 1);
+            suffixChunks = AlphanumComparator.split(suffix);
+        }
+    }
+
+    /**
+     * Records, per class, if {@link #compareSystemNameSuffix} is the
+     * default alphanumeric comparison, which can then use the chunks in the
+     * sort key directly.
+     */
+    private static final ClassValue<Boolean> DEFAULT_SUFFIX_COMPARISON = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("compareSystemNameSuffix", String.class, String.class, NamedBean.class)
+                        .getDeclaringClass() == AbstractNamedBean.class;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
+
     /**
      * {@inheritDoc} 
      * 
@@ -38,7 +38,7 @@ import org.slf4j.LoggerFactory;
  * @author Bob Jacobsen Copyright (C) 2001, 2009
  */
 public abstract class AbstractTurnout extends AbstractNamedBean implements
-        Turnout, java.beans.PropertyChangeListener {
+        Turnout, java.beans.PropertyChangeListener, jmri.util.ThreadingUtil.LayoutListener {
 
     protected AbstractTurnout(String systemName) {
         super(systemName.toUpperCase());
@@ -74,6 +74,8 @@ public class DefaultConditional extends AbstractNamedBean
 
     // boolean expression of state variables
     private String _antecedent = "";
+    // _antecedent compiled when first calculated
+    private volatile DataPair _compiledAntecedent = null;
     private int _logicType = Conditional.ALL_AND;
     // variables (antecedent) parameters
     private ArrayList<ConditionalVariable> _variableList = new ArrayList<>();
@@ -144,6 +146,7 @@ public class DefaultConditional extends AbstractNamedBean
         log.debug("Conditional \"{}\" ({}) updated ConditionalVariable list.",
                 getUserName(), getSystemName());  // NOI18N
         _variableList = arrayList;
+        _compiledAntecedent = null;
     }
 
     /**
@@ -245,21 +248,8 @@ public class DefaultConditional extends AbstractNamedBean
                 }
                 break;
             case Conditional.MIXED:
-                char[] ch = _antecedent.toCharArray();
-                int n = 0;
-                for (int j = 0; j < ch.length; j++) {
-                    if (ch[j] != ' ') {
-                        if (ch[j] == '{' || ch[j] == '[') {
-                            ch[j] = '(';
-                        } else if (ch[j] == '}' || ch[j] == ']') {
-                            ch[j] = ')';
-                        }
-                        ch[n++] = ch[j];
-                    }
-                }
                 try {
-                    DataPair dp = parseCalculate(new String(ch, 0, n), _variableList);
-                    result = dp.result;
+                    result = getCompiledAntecedent().evaluate(_variableList);
                 } catch (NumberFormatException nfe) {
                     result = false;
                     log.error(getDisplayName() + " parseCalculation error antecedent= " + _antecedent + ", ex= " + nfe);  // NOI18N
@@ -337,17 +327,99 @@ public class DefaultConditional extends AbstractNamedBean
         boolean result = false;
         int indexCount = 0;         // index reached when parsing completed
         BitSet argsUsed = null;     // error detection for missing arguments
+        Antecedent antecedent = null;   // the level parsed, as compiled
+        String source = null;       // the antecedent that was compiled
     }
 
     /**
-     * Check that an antecedent is well formed.
+     * A compiled antecedent, or a part of one. All of the variables used are
+     * evaluated, in the order they appear in the antecedent, so that the
+     * states of the variables are set as when the antecedent was parsed on
+     * every calculation.
+     */
+    abstract static class Antecedent {
+
+        /**
+         * Evaluate the antecedent.
+         *
+         * @param variableList ConditionalVariables for R1, R2, etc
+         * @return the truth value
+         * @throws IndexOutOfBoundsException if a variable is not in the list
+         */
+        abstract boolean evaluate(List<ConditionalVariable> variableList);
+    }
+
+    private static class VariableAntecedent extends Antecedent {
+
+        private final int index;
+
+        VariableAntecedent(int index) {
+            this.index = index;
+        }
+
+        @Override
+        boolean evaluate(List<ConditionalVariable> variableList) {
+            boolean result = variableList.get(index).evaluate();
+            if (variableList.get(index).isNegated()) {
+                result = !result;
+            }
+            return result;
+        }
+    }
+
+    private static class NotAntecedent extends Antecedent {
+
+        private final Antecedent antecedent;
+
+        NotAntecedent(Antecedent antecedent) {
+            this.antecedent = antecedent;
+        }
+
+        @Override
+        boolean evaluate(List<ConditionalVariable> variableList) {
+            return !antecedent.evaluate(variableList);
+        }
+    }
+
+    private static class LevelAntecedent extends Antecedent {
+
+        private final Antecedent left;
+        private final int[] operators;
+        private final Antecedent[] rights;
+
+        LevelAntecedent(Antecedent left, List<Integer> operators, List<Antecedent> rights) {
+            this.left = left;
+            this.operators = new int[operators.size()];
+            for (int i = 0; i < this.operators.length; i++) {
+                this.operators[i] = operators.get(i);
+            }
+            this.rights = rights.toArray(new Antecedent[rights.size()]);
+        }
+
+        @Override
+        boolean evaluate(List<ConditionalVariable> variableList) {
+            // operators are applied left to right without precedence
+            boolean leftArg = left.evaluate(variableList);
+            for (int i = 0; i < rights.length; i++) {
+                boolean rightArg = rights[i].evaluate(variableList);
+                if (operators[i] == OPERATOR_AND) {
+                    leftArg = (leftArg && rightArg);
+                } else if (operators[i] == OPERATOR_OR) {
+                    leftArg = (leftArg || rightArg);
+                }
+            }
+            return leftArg;
+        }
+    }
+
+    /**
+     * Remove spaces from an antecedent and replace brackets and braces with
+     * parentheses.
      *
      * @param ant the antecedent string description
-     * @param variableList arraylist of existing Conditional variables
-     * @return error message string if not well formed
+     * @return the antecedent as parsed
      */
-    @Override
-    public String validateAntecedent(String ant, ArrayList<ConditionalVariable> variableList) {
+    private static String normalizeAntecedent(String ant) {
         char[] ch = ant.toCharArray();
         int n = 0;
         for (int j = 0; j < ch.length; j++) {
@@ -360,6 +432,38 @@ public class DefaultConditional extends AbstractNamedBean
                 ch[n++] = ch[j];
             }
         }
+        return new String(ch, 0, n);
+    }
+
+    /**
+     * Get the antecedent of this Conditional compiled, compiling it if it has
+     * changed since it was last compiled.
+     *
+     * @return the compiled antecedent
+     * @throws jmri.JmriException if the antecedent is not well formed
+     */
+    private Antecedent getCompiledAntecedent() throws JmriException {
+        String antecedent = _antecedent;
+        DataPair dp = _compiledAntecedent;
+        if (dp == null || !antecedent.equals(dp.source)) {
+            dp = compileAntecedent(normalizeAntecedent(antecedent), _variableList);
+            dp.source = antecedent;
+            _compiledAntecedent = dp;
+        }
+        return dp.antecedent;
+    }
+
+    /**
+     * Check that an antecedent is well formed.
+     *
+     * @param ant the antecedent string description
+     * @param variableList arraylist of existing Conditional variables
+     * @return error message string if not well formed
+     */
+    @Override
+    public String validateAntecedent(String ant, ArrayList<ConditionalVariable> variableList) {
+        char[] ch = normalizeAntecedent(ant).toCharArray();
+        int n = ch.length;
         int count = 0;
         for (int j = 0; j < n; j++) {
             if (ch[j] == '(') {
@@ -411,21 +515,42 @@ public class DefaultConditional extends AbstractNamedBean
      */
     DataPair parseCalculate(String s, ArrayList<ConditionalVariable> variableList)
             throws JmriException {
+        DataPair dp = compileAntecedent(s, variableList);
+        dp.result = dp.antecedent.evaluate(variableList);
+        return dp;
+    }
+
+    /**
+     * Parses one parenthesis level of a boolean statement into an
+     * {@link Antecedent} that can be evaluated without parsing it again.
+     * <p>
+     * Recursively calls inner parentheses levels.
+     *
+     * @param s            The expression to be parsed
+     * @param variableList ConditionalVariables for R1, R2, etc
+     * @return a data pair consisting of the compiled level, a count of the
+     *         indices consumed to parse the level and a bitmap of the variable
+     *         indices used.
+     * @throws jmri.JmriException if the level is not well formed
+     */
+    DataPair compileAntecedent(String s, List<ConditionalVariable> variableList) throws JmriException {
 
         // for simplicity, we force the string to upper case before scanning
         s = s.toUpperCase();
 
         BitSet argsUsed = new BitSet(_variableList.size());
         DataPair dp = null;
-        boolean leftArg = false;
-        boolean rightArg = false;
+        Antecedent leftArg = null;
+        Antecedent rightArg = null;
+        List<Integer> operators = new ArrayList<>();
+        List<Antecedent> rightArgs = new ArrayList<>();
         int oper = OPERATOR_NONE;
         int k = -1;
         int i = 0;      // index of String s
         //int numArgs = 0;
         if (s.charAt(i) == '(') {
-            dp = parseCalculate(s.substring(++i), variableList);
-            leftArg = dp.result;
+            dp = compileAntecedent(s.substring(++i), variableList);
+            leftArg = dp.antecedent;
             i += dp.indexCount;
             argsUsed.or(dp.argsUsed);
         } else // cannot be '('.  must be either leftArg or notleftArg
@@ -437,10 +562,7 @@ public class DefaultConditional extends AbstractNamedBean
                 } catch (NumberFormatException | IndexOutOfBoundsException nfe) {
                     k = Integer.parseInt(String.valueOf(s.charAt(++i)));
                 }
-                leftArg = variableList.get(k - 1).evaluate();
-                if (variableList.get(k - 1).isNegated()) {
-                    leftArg = !leftArg;
-                }
+                leftArg = compileVariable(k, variableList);
                 i++;
                 argsUsed.set(k - 1);
             } else if ("NOT".equals(s.substring(i, i + 3))) {  // NOI18N
@@ -448,8 +570,8 @@ public class DefaultConditional extends AbstractNamedBean
 
                 // not leftArg
                 if (s.charAt(i) == '(') {
-                    dp = parseCalculate(s.substring(++i), variableList);
-                    leftArg = dp.result;
+                    dp = compileAntecedent(s.substring(++i), variableList);
+                    leftArg = dp.antecedent;
                     i += dp.indexCount;
                     argsUsed.or(dp.argsUsed);
                 } else if (s.charAt(i) == 'R') {  // NOI18N
@@ -459,17 +581,14 @@ public class DefaultConditional extends AbstractNamedBean
                     } catch (NumberFormatException | IndexOutOfBoundsException nfe) {
                         k = Integer.parseInt(String.valueOf(s.charAt(++i)));
                     }
-                    leftArg = variableList.get(k - 1).evaluate();
-                    if (variableList.get(k - 1).isNegated()) {
-                        leftArg = !leftArg;
-                    }
+                    leftArg = compileVariable(k, variableList);
                     i++;
                     argsUsed.set(k - 1);
                 } else {
                     throw new JmriException(java.text.MessageFormat.format(
                             rbx.getString("ParseError1"), new Object[]{s.substring(i)}));  // NOI18N
                 }
-                leftArg = !leftArg;
+                leftArg = new NotAntecedent(leftArg);
             } else {
                 throw new JmriException(java.text.MessageFormat.format(
                         rbx.getString("ParseError9"), new Object[]{s}));  // NOI18N
@@ -490,8 +609,8 @@ public class DefaultConditional extends AbstractNamedBean
                             rbx.getString("ParseError2"), new Object[]{s.substring(i)}));  // NOI18N
                 }
                 if (s.charAt(i) == '(') {
-                    dp = parseCalculate(s.substring(++i), variableList);
-                    rightArg = dp.result;
+                    dp = compileAntecedent(s.substring(++i), variableList);
+                    rightArg = dp.antecedent;
                     i += dp.indexCount;
                     argsUsed.or(dp.argsUsed);
                 } else // cannot be '('.  must be either rightArg or notRightArg
@@ -503,18 +622,15 @@ public class DefaultConditional extends AbstractNamedBean
                         } catch (NumberFormatException | IndexOutOfBoundsException nfe) {
                             k = Integer.parseInt(String.valueOf(s.charAt(++i)));
                         }
-                        rightArg = variableList.get(k - 1).evaluate();
-                        if (variableList.get(k - 1).isNegated()) {
-                            rightArg = !rightArg;
-                        }
+                        rightArg = compileVariable(k, variableList);
                         i++;
                         argsUsed.set(k - 1);
                     } else if ("NOT".equals(s.substring(i, i + 3))) {  // NOI18N
                         i += 3;
                         // not rightArg
                         if (s.charAt(i) == '(') {
-                            dp = parseCalculate(s.substring(++i), variableList);
-                            rightArg = dp.result;
+                            dp = compileAntecedent(s.substring(++i), variableList);
+                            rightArg = dp.antecedent;
                             i += dp.indexCount;
                             argsUsed.or(dp.argsUsed);
                         } else if (s.charAt(i) == 'R') {  // NOI18N
@@ -524,39 +640,39 @@ public class DefaultConditional extends AbstractNamedBean
                             } catch (NumberFormatException | IndexOutOfBoundsException nfe) {
                                 k = Integer.parseInt(String.valueOf(s.charAt(++i)));
                             }
-                            rightArg = variableList.get(k - 1).evaluate();
-                            if (variableList.get(k - 1).isNegated()) {
-                                rightArg = !rightArg;
-                            }
+                            rightArg = compileVariable(k, variableList);
                             i++;
                             argsUsed.set(k - 1);
                         } else {
                             throw new JmriException(java.text.MessageFormat.format(
                                     rbx.getString("ParseError3"), new Object[]{s.substring(i)}));  // NOI18N
                         }
-                        rightArg = !rightArg;
+                        rightArg = new NotAntecedent(rightArg);
                     } else {
                         throw new JmriException(java.text.MessageFormat.format(
                                 rbx.getString("ParseError9"), new Object[]{s.substring(i)}));  // NOI18N
                     }
                 }
-                if (oper == OPERATOR_AND) {
-                    leftArg = (leftArg && rightArg);
-                } else if (oper == OPERATOR_OR) {
-                    leftArg = (leftArg || rightArg);
-                }
+                operators.add(oper);
+                rightArgs.add(rightArg);
             } else {  // This level done, pop recursion
                 i++;
                 break;
             }
         }
         dp = new DataPair();
-        dp.result = leftArg;
+        dp.antecedent = rightArgs.isEmpty() ? leftArg : new LevelAntecedent(leftArg, operators, rightArgs);
         dp.indexCount = i;
         dp.argsUsed = argsUsed;
         return dp;
     }
 
+    private static Antecedent compileVariable(int k, List<ConditionalVariable> variableList) {
+        // fail on a missing variable where parsing used to
+        variableList.get(k - 1);
+        return new VariableAntecedent(k - 1);
+    }
+
     /**
      * Compares action options, and takes action if appropriate
      * <P>
@@ -228,6 +228,12 @@ public class DefaultLogix extends AbstractNamedBean
     /**
      * Calculate all Conditionals, triggering action if the user specified
      * conditions are met, and the Logix is enabled.
+     * <P>
+     * This is only needed to set the initial state when the Logix is
+     * activated. After that, a change to a bean only recalculates the
+     * Conditionals that reference it: {@link #assembleListenerList()} builds
+     * one listener per referenced bean, and each listener holds just the
+     * Conditionals that use that bean.
      */
     @Override
     public void calculateConditionals() {
@@ -419,7 +425,11 @@ public class DefaultLogix extends AbstractNamedBean
     }
 
     /**
-     * Assembles a list of Listeners needed to activate this Logix
+     * Assembles a list of Listeners needed to activate this Logix.
+     * <P>
+     * The listeners form the index from state variables to Conditionals:
+     * each bean gets one listener, and a Conditional is added to the
+     * listeners of the beans named in its state variables only.
      */
     private void assembleListenerList() {
         // initialize
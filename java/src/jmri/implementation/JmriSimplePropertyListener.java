@@ -30,6 +30,7 @@ public class JmriSimplePropertyListener implements PropertyChangeListener {
     String _varName;
     int _varType;
     String _propertyName;
+    // only the Conditionals with a state variable for this bean
     ArrayList<Conditional> _clients;
     boolean _enabled;
     NamedBeanHandle<?> _namedBean;
@@ -16,9 +16,15 @@ import java.beans.PropertyVetoException;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.BorderFactory;
@@ -52,6 +58,7 @@ import jmri.NamedBeanHandleManager;
 import jmri.NamedBeanPropertyDescriptor;
 import jmri.UserPreferencesManager;
 import jmri.swing.JTablePersistenceManager;
+import jmri.util.ThreadingUtil;
 import jmri.util.davidflanagan.HardcopyWriter;
 import jmri.util.swing.XTableColumnModel;
 import jmri.util.table.ButtonEditor;
@@ -125,22 +132,153 @@ abstract public class BeanTableDataModel<T extends NamedBean> extends AbstractTa
     public void propertyChange(PropertyChangeEvent e) {
         if (e.getPropertyName().equals("length")) {
             // a new NamedBean is available in the manager
+            List<String> oldList = sysNameList;
             updateNameList();
             log.debug("Table changed length to {}", sysNameList.size());
-            fireTableDataChanged();
+            fireNameListChanged(oldList);
         } else if (matchPropertyName(e)) {
             // a value changed.  Find it, to avoid complete redraw
             if (e.getSource() instanceof NamedBean) {
                 String name = ((NamedBean) e.getSource()).getSystemName();
-                int row = sysNameList.indexOf(name);
-                log.debug("Update cell {},{} for {}", row, VALUECOL, name);
+                log.debug("Update row for {}", name);
                 // since we can add columns, the entire row is marked as updated
-                try {
-                    fireTableRowsUpdated(row, row);
-                } catch (Exception ex) {
-                    log.error("Exception updating table", ex);
+                fireRowUpdatedLater(name);
+            }
+        }
+    }
+
+    /**
+     * Get the row showing a bean.
+     *
+     * @param systemName the system name of the bean
+     * @return the row, or -1 if the bean is not shown
+     */
+    public int getRow(String systemName) {
+        if (rowIndexList != sysNameList || rowIndexSize != sysNameList.size()) {
+            updateRowIndex();
+        }
+        Integer row = rowIndex.get(systemName);
+        if (row != null && (row >= sysNameList.size() || !sysNameList.get(row).equals(systemName))) {
+            // the list was changed in place
+            updateRowIndex();
+            row = rowIndex.get(systemName);
+        }
+        return row != null ? row : -1;
+    }
+
+    private void updateRowIndex() {
+        rowIndex.clear();
+        for (int i = 0; i < sysNameList.size(); i++) {
+            rowIndex.put(sysNameList.get(i), i);
+        }
+        rowIndexList = sysNameList;
+        rowIndexSize = sysNameList.size();
+    }
+
+    // rows by system name, for the list and size they were found in
+    private final Map<String, Integer> rowIndex = new HashMap<>();
+    private List<String> rowIndexList = null;
+    private int rowIndexSize = 0;
+
+    /**
+     * Tell the table that the row showing a bean has changed, together with
+     * the other rows that change before the GUI thread is next free, so a
+     * burst of changes repaints each row once.
+     *
+     * @param systemName the system name of the bean
+     */
+    protected void fireRowUpdatedLater(String systemName) {
+        synchronized (changedRows) {
+            if (!changedRows.add(systemName) || changedRows.size() > 1) {
+                return; // already waiting to be fired
+            }
+        }
+        ThreadingUtil.runOnGUIEventually(this::fireChangedRows);
+    }
+
+    private void fireChangedRows() {
+        BitSet rows = new BitSet();
+        synchronized (changedRows) {
+            for (String name : changedRows) {
+                int row = getRow(name);
+                if (row >= 0) {
+                    rows.set(row);
                 }
             }
+            changedRows.clear();
+        }
+        for (int first = rows.nextSetBit(0); first >= 0; first = rows.nextSetBit(first)) {
+            int last = rows.nextClearBit(first) - 1;
+            try {
+                fireTableRowsUpdated(first, last);
+            } catch (Exception ex) {
+                log.error("Exception updating table", ex);
+            }
+            first = last + 1;
+        }
+    }
+
+    // beans whose rows changed since the table was last told
+    private final Set<String> changedRows = new LinkedHashSet<>();
+
+    /**
+     * Tell the table which rows were inserted and deleted when the list of
+     * names changed. If names were reordered, or most names changed, the
+     * whole table is changed instead.
+     *
+     * @param oldList the list of names before the change
+     */
+    protected void fireNameListChanged(List<String> oldList) {
+        List<String> newList = sysNameList;
+        if (oldList == null || oldList.isEmpty() || newList.isEmpty()) {
+            fireTableDataChanged();
+            return;
+        }
+        Set<String> oldNames = new HashSet<>(oldList);
+        Set<String> newNames = new HashSet<>(newList);
+        List<String> kept = new ArrayList<>(oldList.size());
+        BitSet deleted = new BitSet();
+        for (int i = 0; i < oldList.size(); i++) {
+            if (newNames.contains(oldList.get(i))) {
+                kept.add(oldList.get(i));
+            } else {
+                deleted.set(i);
+            }
+        }
+        BitSet inserted = new BitSet();
+        int k = 0;
+        for (int i = 0; i < newList.size(); i++) {
+            String name = newList.get(i);
+            if (!oldNames.contains(name)) {
+                inserted.set(i);
+            } else if (k >= kept.size() || !kept.get(k++).equals(name)) {
+                // reordered
+                fireTableDataChanged();
+                return;
+            }
+        }
+        if (deleted.cardinality() + inserted.cardinality() > newList.size() / 2) {
+            fireTableDataChanged();
+            return;
+        }
+        // show the table each step, so its row count matches each event
+        List<String> shown = new ArrayList<>(oldList);
+        sysNameList = shown;
+        try {
+            for (int last = deleted.length() - 1; last >= 0; last = deleted.previousSetBit(last)) {
+                int first = deleted.previousClearBit(last) + 1;
+                shown.subList(first, last + 1).clear();
+                fireTableRowsDeleted(first, last);
+                last = first - 1;
+            }
+            for (int first = inserted.nextSetBit(0); first >= 0; first = inserted.nextSetBit(first)) {
+                int last = inserted.nextClearBit(first) - 1;
+                shown.addAll(first, newList.subList(first, last + 1));
+                fireTableRowsInserted(first, last);
+                first = last + 1;
+            }
+        } finally {
+            sysNameList = newList;
         }
     }
 
@@ -270,10 +270,10 @@ public class SignalMastTableDataModel extends BeanTableDataModel<SignalMast> {
             if (e.getSource() instanceof NamedBean) {
                 String name = ((NamedBean) e.getSource()).getSystemName();
                 if (log.isDebugEnabled()) {
-                    log.debug("Update cell {}, {} for {}", sysNameList.indexOf(name), VALUECOL, name);
+                    log.debug("Update cell {}, {} for {}", getRow(name), VALUECOL, name);
                 }
                 // since we can add columns, the entire row is marked as updated
-                int row = sysNameList.indexOf(name);
+                int row = getRow(name);
                 this.fireTableRowsUpdated(row, row);
                 clearAspectVector(row);
             }
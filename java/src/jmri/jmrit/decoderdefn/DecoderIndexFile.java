@@ -1,14 +1,25 @@
 package jmri.jmrit.decoderdefn;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nonnull;
 import javax.swing.JComboBox;
 import jmri.InstanceInitializer;
@@ -17,10 +28,12 @@ import jmri.implementation.AbstractInstanceInitializer;
 import jmri.jmrit.XmlFile;
 import jmri.util.FileUtil;
 import org.jdom2.Attribute;
+import org.jdom2.Content;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.jdom2.ProcessingInstruction;
+import org.jdom2.Text;
 import org.openide.util.lookup.ServiceProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,7 +56,27 @@ import org.slf4j.LoggerFactory;
 public class DecoderIndexFile extends XmlFile {
 
     // fill in abstract members
-    protected List<DecoderFile> decoderList = new ArrayList<>();
+    protected List<DecoderFile> decoderList = new DecoderList();
+
+    /**
+     * The list of decoders, counting the changes made to it so the indexes
+     * into it can tell when to be rebuilt.
+     */
+    private static class DecoderList extends ArrayList<DecoderFile> {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DecoderFile set(int index, DecoderFile element) {
+            // not a structural change, so not otherwise counted
+            modCount++;
+            return super.set(index, element);
+        }
+
+        int getModifications() {
+            return modCount;
+        }
+    }
 
     public int numDecoders() {
         return decoderList.size();
@@ -104,14 +137,97 @@ public class DecoderIndexFile extends XmlFile {
             String decoderMfgID, String decoderVersionID,
             String decoderProductID, String model, String developerID) {
         List<DecoderFile> l = new ArrayList<>();
-        for (int i = 0; i < numDecoders(); i++) {
-            if (checkEntry(i, mfg, family, decoderMfgID, decoderVersionID, decoderProductID, model, developerID)) {
-                l.add(decoderList.get(i));
+        for (DecoderFile r : candidates(mfg, family, decoderMfgID, decoderProductID, model)) {
+            if (checkEntry(r, mfg, family, decoderMfgID, decoderVersionID, decoderProductID, model, developerID)) {
+                l.add(r);
             }
         }
         return l;
     }
 
+    // indexes into decoderList, rebuilt when it changes
+    private List<DecoderFile> indexedList = null;
+    private int indexedModifications = -1;
+    private final HashMap<String, List<DecoderFile>> mfgIndex = new HashMap<>();
+    private final HashMap<String, List<DecoderFile>> familyIndex = new HashMap<>();
+    private final HashMap<String, List<DecoderFile>> mfgIDIndex = new HashMap<>();
+    private final HashMap<String, List<DecoderFile>> productIDIndex = new HashMap<>();
+    private final HashMap<String, List<DecoderFile>> modelIndex = new HashMap<>();
+    private final HashMap<String, DecoderFile> titleIndex = new HashMap<>();
+
+    private synchronized void updateIndexes() {
+        // a list set by a subclass can't be tracked, so is always indexed again
+        int modifications = decoderList instanceof DecoderList ? ((DecoderList) decoderList).getModifications() : -1;
+        if (indexedList == decoderList && modifications != -1 && indexedModifications == modifications) {
+            return;
+        }
+        mfgIndex.clear();
+        familyIndex.clear();
+        mfgIDIndex.clear();
+        productIDIndex.clear();
+        modelIndex.clear();
+        titleIndex.clear();
+        for (DecoderFile r : decoderList) {
+            addToIndex(mfgIndex, r.getMfg(), r);
+            addToIndex(familyIndex, r.getFamily(), r);
+            addToIndex(mfgIDIndex, r.getMfgID(), r);
+            addToIndex(modelIndex, r.getModel(), r);
+            if (r.getModelElement() != null) {
+                // matched as one of a comma-separated list
+                for (String productID : String.valueOf(r.getProductID()).split(",", -1)) {
+                    addToIndex(productIDIndex, productID, r);
+                }
+            }
+            // later entries take precedence
+            titleIndex.put(r.titleString(), r);
+        }
+        indexedList = decoderList;
+        indexedModifications = modifications;
+    }
+
+    private static void addToIndex(HashMap<String, List<DecoderFile>> index, String key, DecoderFile r) {
+        if (key != null) {
+            List<DecoderFile> l = index.get(key);
+            if (l == null) {
+                l = new ArrayList<>();
+                index.put(key, l);
+            }
+            // a decoder appears once per key, even if a product ID is repeated
+            if (l.isEmpty() || l.get(l.size() - 1) != r) {
+                l.add(r);
+            }
+        }
+    }
+
+    /**
+     * Get the smallest list of decoders, in index order, that includes all
+     * the decoders matching the given keys. A null key matches everything.
+     */
+    private synchronized List<DecoderFile> candidates(String mfg, String family,
+            String mfgID, String productID, String model) {
+        updateIndexes();
+        List<DecoderFile> result = decoderList;
+        result = smaller(result, mfgIndex, mfg);
+        result = smaller(result, familyIndex, family);
+        result = smaller(result, mfgIDIndex, mfgID);
+        result = smaller(result, modelIndex, model);
+        if (productID != null && !productID.contains(",")) {
+            result = smaller(result, productIDIndex, productID);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static List<DecoderFile> smaller(List<DecoderFile> current, HashMap<String, List<DecoderFile>> index, String key) {
+        if (key == null) {
+            return current;
+        }
+        List<DecoderFile> l = index.get(key);
+        if (l == null) {
+            return Collections.emptyList();
+        }
+        return l.size() < current.size() ? l : current;
+    }
+
     /**
      * Get a JComboBox representing the choices that match some information.
      *
@@ -162,13 +278,10 @@ public class DecoderIndexFile extends XmlFile {
      * @return the decoder file
      */
     public DecoderFile fileFromTitle(String title) {
-        for (int i = numDecoders() - 1; i >= 0; i--) {
-            DecoderFile r = decoderList.get(i);
-            if (r.titleString().equals(title)) {
-                return r;
-            }
+        synchronized (this) {
+            updateIndexes();
+            return titleIndex.get(title);
         }
-        return null;
     }
 
     /**
@@ -189,7 +302,12 @@ public class DecoderIndexFile extends XmlFile {
     public boolean checkEntry(int i, String mfgName, String family, String mfgID,
             String decoderVersionID, String decoderProductID, String model,
             String developerID) {
-        DecoderFile r = decoderList.get(i);
+        return checkEntry(decoderList.get(i), mfgName, family, mfgID, decoderVersionID, decoderProductID, model, developerID);
+    }
+
+    private boolean checkEntry(DecoderFile r, String mfgName, String family, String mfgID,
+            String decoderVersionID, String decoderProductID, String model,
+            String developerID) {
         if (mfgName != null && !mfgName.equals(r.getMfg())) {
             return false;
         }
@@ -395,6 +513,11 @@ public class DecoderIndexFile extends XmlFile {
             log.debug("readFile " + name);
         }
 
+        File indexFile = findFile(name);
+        if (indexFile != null && readCache(indexFile)) {
+            return;
+        }
+
         // read file, find root
         Element root = rootFromName(name);
 
@@ -409,6 +532,18 @@ public class DecoderIndexFile extends XmlFile {
             log.debug("found fileVersion of {}", fileVersion);
             readMfgSection(root.getChild("decoderIndex"));
             readFamilySection(root.getChild("decoderIndex"));
+            if (indexFile != null) {
+                // the decoder files these came from are unknown, so they will
+                // all be read again when the index is next rebuilt
+                List<CachedFamily> families = new ArrayList<>();
+                Element familyList = root.getChild("decoderIndex").getChild("familyList");
+                if (familyList != null) {
+                    for (Element family : familyList.getChildren("family")) {
+                        families.add(new CachedFamily(family.getAttributeValue("file"), null, -1, -1, family));
+                    }
+                }
+                writeCache(indexFile, root.getChild("decoderIndex"), families);
+            }
         } else {
             log.error("Unrecognized decoderIndex file contents in file: {}", name);
         }
@@ -600,21 +735,22 @@ public class DecoderIndexFile extends XmlFile {
             }
         }
 
-        // add family list by scanning files
+        // add family list by scanning files, reusing the families from
+        // files that have not changed since the index was last written
+        Map<String, CachedFamily> previous = new HashMap<>();
+        for (CachedFamily family : readCachedFamilies()) {
+            previous.put(family.file, family);
+        }
+        CachedFamily[] families = new CachedFamily[files.length];
+        IntStream.range(0, files.length).parallel().forEach((i) -> {
+            families[i] = readFamilyFromFile(files[i], previous.get(files[i]));
+        });
         Element familyList = new Element("familyList");
-        for (String fileName : files) {
-            DecoderFile d = new DecoderFile();
-            try {
-                Element droot = d.rootFromName(DecoderFile.fileLocation + fileName);
-                Element family = droot.getChild("decoder").getChild("family").clone();
-                family.setAttribute("file", fileName);
-                familyList.addContent(family);
-            } catch (org.jdom2.JDOMException exj) {
-                log.error("could not parse {}: {}", fileName, exj.getMessage());
-            } catch (java.io.FileNotFoundException exj) {
-                log.error("could not read {}: {}", fileName, exj.getMessage());
-            } catch (IOException exj) {
-                log.error("other exception while dealing with {}: {}", fileName, exj.getMessage());
+        List<CachedFamily> cached = new ArrayList<>();
+        for (CachedFamily family : families) {
+            if (family != null) {
+                familyList.addContent(family.family.clone());
+                cached.add(family);
             }
         }
 
@@ -622,11 +758,280 @@ public class DecoderIndexFile extends XmlFile {
         index.addContent(familyList);
 
         writeXML(file, doc);
+        writeCache(file, index, cached);
 
         // force a read of the new file next time
         resetInstance();
     }
 
+    /**
+     * Read the family from a decoder file, or reuse a previously read family
+     * if the decoder file has not changed since.
+     *
+     * @param fileName the decoder file name
+     * @param previous the family previously read from fileName, or null
+     * @return the family, or null if it could not be read
+     */
+    CachedFamily readFamilyFromFile(String fileName, CachedFamily previous) {
+        File f = findFile(DecoderFile.fileLocation + fileName);
+        if (f != null && previous != null
+                && f.getAbsolutePath().equals(previous.path)
+                && f.length() == previous.length
+                && f.lastModified() == previous.lastModified) {
+            log.trace("reusing family from unchanged {}", fileName);
+            return previous;
+        }
+        DecoderFile d = new DecoderFile();
+        try {
+            Element droot = (f != null) ? d.rootFromFile(f) : d.rootFromName(DecoderFile.fileLocation + fileName);
+            Element family = droot.getChild("decoder").getChild("family").clone();
+            family.setAttribute("file", fileName);
+            if (f != null) {
+                return new CachedFamily(fileName, f.getAbsolutePath(), f.length(), f.lastModified(), family);
+            }
+            return new CachedFamily(fileName, null, -1, -1, family);
+        } catch (org.jdom2.JDOMException exj) {
+            log.error("could not parse {}: {}", fileName, exj.getMessage());
+        } catch (java.io.FileNotFoundException exj) {
+            log.error("could not read {}: {}", fileName, exj.getMessage());
+        } catch (IOException exj) {
+            log.error("other exception while dealing with {}: {}", fileName, exj.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * A family element as read from a decoder file, with the size and
+     * modification time of that file when read.
+     */
+    static class CachedFamily {
+
+        final String file;
+        final String path;
+        final long length;
+        final long lastModified;
+        final Element family;
+
+        CachedFamily(String file, String path, long length, long lastModified, Element family) {
+            this.file = file;
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.family = family;
+        }
+    }
+
+    /**
+     * Get the binary cache file.
+     *
+     * @return the cache file in the user files location
+     */
+    protected static File cacheFile() {
+        return new File(FileUtil.getUserFilesPath() + DECODER_INDEX_CACHE_FILE_NAME);
+    }
+
+    private void writeCache(File indexFile, Element decoderIndex, List<CachedFamily> families) {
+        writeCache(cacheFile(), indexFile, decoderIndex, families);
+    }
+
+    /**
+     * Write the binary cache of a decoder index file.
+     * <p>
+     * The cache holds records written with a {@link DataOutputStream}: the
+     * size and modification time of the index file, then the version and
+     * mfgList of the index, then each family with the size and modification
+     * time of the decoder file it was read from. Elements are written as
+     * their name, attributes, and child elements and text, so reading the
+     * cache never creates objects of any other type.
+     *
+     * @param cache        the cache file
+     * @param indexFile    the XML decoder index the cache represents
+     * @param decoderIndex the decoderIndex element, of which only the version
+     *                     and mfgList are cached
+     * @param families     the families in the index
+     */
+    void writeCache(File cache, File indexFile, Element decoderIndex, List<CachedFamily> families) {
+        Element header = new Element("decoderIndex");
+        if (decoderIndex.getAttribute("version") != null) {
+            header.setAttribute("version", decoderIndex.getAttributeValue("version"));
+        }
+        if (decoderIndex.getChild("mfgList") != null) {
+            header.addContent(decoderIndex.getChild("mfgList").clone());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(cache))))) {
+            out.writeInt(CACHE_FORMAT);
+            writeString(out, indexFile.getAbsolutePath());
+            out.writeLong(indexFile.length());
+            out.writeLong(indexFile.lastModified());
+            writeElement(out, header);
+            out.writeInt(families.size());
+            for (CachedFamily family : families) {
+                writeString(out, family.file);
+                writeString(out, family.path != null ? family.path : "");
+                out.writeLong(family.length);
+                out.writeLong(family.lastModified);
+                writeElement(out, family.family);
+            }
+        } catch (IOException ex) {
+            log.warn("Unable to write decoder index cache {}: {}", cache, ex.getMessage());
+            if (cache.exists() && !cache.delete()) {
+                log.error("Unable to delete incomplete decoder index cache {}", cache);
+            }
+        }
+    }
+
+    private boolean readCache(File indexFile) {
+        return readCache(cacheFile(), indexFile);
+    }
+
+    /**
+     * Read the binary cache into this object if it represents a decoder index
+     * file as that file is now.
+     *
+     * @param cache     the cache file
+     * @param indexFile the XML decoder index file
+     * @return true if read; false if the XML file must be read instead
+     */
+    boolean readCache(File cache, File indexFile) {
+        if (!cache.exists()) {
+            return false;
+        }
+        Element header;
+        List<CachedFamily> families = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(cache))))) {
+            if (in.readInt() != CACHE_FORMAT
+                    || !readString(in).equals(indexFile.getAbsolutePath())
+                    || in.readLong() != indexFile.length()
+                    || in.readLong() != indexFile.lastModified()) {
+                log.debug("decoder index cache is not for {}", indexFile);
+                return false;
+            }
+            header = readElement(in, 0);
+            readCachedFamilies(in, families);
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("Unable to read decoder index cache {}: {}", cache, ex.getMessage());
+            return false;
+        }
+        log.debug("reading decoder index from cache {}", cache);
+        if (header.getAttribute("version") != null) {
+            fileVersion = Integer.parseInt(header.getAttributeValue("version"));
+        }
+        readMfgSection(header);
+        for (CachedFamily family : families) {
+            readFamily(family.family);
+        }
+        return true;
+    }
+
+    /**
+     * Read the families from the binary cache, whichever decoder index file
+     * the cache represents.
+     *
+     * @return the cached families, empty if none can be read
+     */
+    private List<CachedFamily> readCachedFamilies() {
+        List<CachedFamily> families = new ArrayList<>();
+        File cache = cacheFile();
+        if (cache.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(cache))))) {
+                if (in.readInt() == CACHE_FORMAT) {
+                    readString(in);
+                    in.readLong();
+                    in.readLong();
+                    readElement(in, 0);
+                    readCachedFamilies(in, families);
+                }
+            } catch (IOException | IllegalArgumentException ex) {
+                log.warn("Unable to read decoder index cache {}: {}", cache, ex.getMessage());
+                families.clear();
+            }
+        }
+        return families;
+    }
+
+    private void readCachedFamilies(DataInputStream in, List<CachedFamily> families) throws IOException {
+        int count = readCount(in);
+        for (int i = 0; i < count; i++) {
+            String file = readString(in);
+            String path = readString(in);
+            long length = in.readLong();
+            long lastModified = in.readLong();
+            Element family = readElement(in, 0);
+            families.add(new CachedFamily(file, path.isEmpty() ? null : path, length, lastModified, family));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // a count or length, checked so a damaged cache can't exhaust memory
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > CACHE_MAX_COUNT) {
+            throw new IOException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private static void writeElement(DataOutputStream out, Element element) throws IOException {
+        writeString(out, element.getName());
+        List<Attribute> attributes = element.getAttributes();
+        out.writeInt(attributes.size());
+        for (Attribute attribute : attributes) {
+            writeString(out, attribute.getName());
+            writeString(out, attribute.getValue());
+        }
+        // only elements and text are used, comments and the like are dropped
+        List<Content> content = new ArrayList<>();
+        for (Content c : element.getContent()) {
+            if (c instanceof Element || (c instanceof Text && !((Text) c).getTextTrim().isEmpty())) {
+                content.add(c);
+            }
+        }
+        out.writeInt(content.size());
+        for (Content c : content) {
+            if (c instanceof Element) {
+                out.writeByte(CACHE_ELEMENT);
+                writeElement(out, (Element) c);
+            } else {
+                out.writeByte(CACHE_TEXT);
+                writeString(out, ((Text) c).getText());
+            }
+        }
+    }
+
+    private static Element readElement(DataInputStream in, int depth) throws IOException {
+        if (depth > CACHE_MAX_DEPTH) {
+            throw new IOException("Elements nested too deeply");
+        }
+        Element element = new Element(readString(in));
+        int attributes = readCount(in);
+        for (int i = 0; i < attributes; i++) {
+            element.setAttribute(readString(in), readString(in));
+        }
+        int content = readCount(in);
+        for (int i = 0; i < content; i++) {
+            byte type = in.readByte();
+            if (type == CACHE_ELEMENT) {
+                element.addContent(readElement(in, depth + 1));
+            } else if (type == CACHE_TEXT) {
+                element.addContent(readString(in));
+            } else {
+                throw new IOException("Invalid content type " + type);
+            }
+        }
+        return element;
+    }
+
     String nmraListDate = null;
     String updated = null;
     String lastAdd = null;
@@ -642,6 +1047,12 @@ public class DecoderIndexFile extends XmlFile {
     }
 
     static final protected String DECODER_INDEX_FILE_NAME = "decoderIndex.xml";
+    static final protected String DECODER_INDEX_CACHE_FILE_NAME = "decoderIndex.cache";
+    private static final int CACHE_FORMAT = 2;
+    private static final int CACHE_MAX_COUNT = 16 * 1024 * 1024;
+    private static final int CACHE_MAX_DEPTH = 64;
+    private static final byte CACHE_ELEMENT = 1;
+    private static final byte CACHE_TEXT = 2;
     private final static Logger log = LoggerFactory.getLogger(DecoderIndexFile.class);
 
     @ServiceProvider(service = InstanceInitializer.class)
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.swing.AbstractAction;
@@ -136,6 +137,9 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
     private boolean useExtraColor = false;
     private boolean suppressNameUpdate = false;
 
+    // count of block, occupancy sensor and memory assignments to any layout block
+    private static final AtomicLong beanAssignments = new AtomicLong();
+
     //persistent instances variables (saved between sessions)
     private String occupancySensorName = "";
     private String memoryName = "";
@@ -198,6 +202,7 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
                 block.setNamedSensor(occupancyNamedSensor);
             }
         }
+        beanAssignments.incrementAndGet();
     }
 
     /* initializeLayoutBlock */
@@ -300,11 +305,11 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
     }
 
     /**
-     * Redraws panels using this layout block
+     * Redraws the tracks in this layout block on the panels using it
      */
     public void redrawLayoutBlockPanels() {
         panels.stream().forEach((le) -> {
-            le.redrawPanel();
+            le.redrawLayoutBlock(this);
         });
         firePropertyChange("redraw", null, null);
     }
@@ -501,14 +506,18 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
             memoryName = "";
             return;
         }
-        memoryName = name;
         Memory memory = InstanceManager.memoryManagerInstance().getMemory(name);
+        if ((memory != null) || !name.equals(memoryName)) {
+            beanAssignments.incrementAndGet();
+        }
+        memoryName = name;
         if (memory != null) {
             namedMemory = InstanceManager.getDefault(NamedBeanHandleManager.class).getNamedBeanHandle(name, memory);
         }
     }
 
     public void setMemory(Memory m, String name) {
+        beanAssignments.incrementAndGet();
         if (m == null) {
             namedMemory = null;
             memoryName = name == null ? "" : name;
@@ -517,6 +526,17 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
         namedMemory = InstanceManager.getDefault(NamedBeanHandleManager.class).getNamedBeanHandle(name, m);
     }
 
+    /**
+     * Get the number of times a block, occupancy sensor or memory has been
+     * assigned to any layout block. Indexes of layout blocks by these beans
+     * are out of date when this changes.
+     *
+     * @return the count of assignments
+     */
+    static long getBeanAssignments() {
+        return beanAssignments.get();
+    }
+
     /**
      * Returns occupancy Sensor name
      *
@@ -564,6 +584,7 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
         if (sensor != null) {
             occupancyNamedSensor = InstanceManager.getDefault(
                     NamedBeanHandleManager.class).getNamedBeanHandle(name, sensor);
+            beanAssignments.incrementAndGet();
             if (block != null) {
                 block.setNamedSensor(occupancyNamedSensor);
             }
@@ -601,6 +622,7 @@ public class LayoutBlock extends AbstractNamedBean implements PropertyChangeList
             }
             occupancyNamedSensor = InstanceManager.getDefault(
                     NamedBeanHandleManager.class).getNamedBeanHandle(occupancySensorName, s);
+            beanAssignments.incrementAndGet();
             if (block != null) {
                 block.setNamedSensor(occupancyNamedSensor);
             }
@@ -1,7 +1,11 @@
 package jmri.jmrit.display.layoutEditor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.annotation.CheckForNull;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -149,6 +153,83 @@ public class LayoutBlockManager extends AbstractManager<LayoutBlock> implements
         deregister(block);
     }
 
+    @Override
+    public void register(LayoutBlock s) {
+        super.register(s);
+        beanIndex = null;
+    }
+
+    @Override
+    public void deregister(LayoutBlock s) {
+        super.deregister(s);
+        beanIndex = null;
+    }
+
+    /**
+     * The LayoutBlocks by their Block, occupancy Sensor and Memory, in system
+     * name order, as of a count of assignments of those beans.
+     */
+    private static final class BeanIndex {
+
+        private final Map<Block, List<LayoutBlock>> byBlock = new HashMap<>();
+        private final Map<Sensor, List<LayoutBlock>> bySensor = new HashMap<>();
+        private final Map<Memory, List<LayoutBlock>> byMemory = new HashMap<>();
+        // LayoutBlocks with a memory name that is not yet a Memory
+        private final List<LayoutBlock> unresolvedMemories = new ArrayList<>();
+        private final long assignments;
+
+        BeanIndex(long assignments) {
+            this.assignments = assignments;
+        }
+    }
+
+    private volatile BeanIndex beanIndex = null;
+
+    @Nonnull
+    private BeanIndex getBeanIndex() {
+        long assignments = LayoutBlock.getBeanAssignments();
+        BeanIndex index = beanIndex;
+        if ((index == null) || (index.assignments != assignments)) {
+            index = new BeanIndex(assignments);
+            for (String sName : getSystemNameList()) {
+                LayoutBlock b = getBySystemName(sName);
+                if (b == null) {
+                    continue;
+                }
+                index.byBlock.computeIfAbsent(b.getBlock(), k -> new ArrayList<>()).add(b);
+                index.bySensor.computeIfAbsent(b.getOccupancySensor(), k -> new ArrayList<>()).add(b);
+                Memory m = b.getMemory();
+                index.byMemory.computeIfAbsent(m, k -> new ArrayList<>()).add(b);
+                if ((m == null) && !b.getMemoryName().isEmpty()) {
+                    index.unresolvedMemories.add(b);
+                }
+            }
+            // only keep the index if nothing was assigned while building it
+            if (LayoutBlock.getBeanAssignments() == assignments) {
+                beanIndex = index;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the first of a list of LayoutBlocks from the index that still
+     * matches, as assignments removed since the index was built are not
+     * reflected in it.
+     */
+    @CheckForNull
+    private static LayoutBlock getFirstMatching(@CheckForNull List<LayoutBlock> candidates,
+            @Nonnull Predicate<LayoutBlock> matches) {
+        if (candidates != null) {
+            for (LayoutBlock b : candidates) {
+                if (matches.test(b)) {
+                    return b;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Method to get an existing LayoutBlock. First looks up assuming that name
      * is a User Name. If this fails looks up assuming that name is a System
@@ -168,23 +249,8 @@ public class LayoutBlockManager extends AbstractManager<LayoutBlock> implements
     @CheckReturnValue
     @Nullable
     public LayoutBlock getLayoutBlock(@Nullable Block block) {
-        LayoutBlock result = null;
-
-        java.util.Iterator<String> iter = getSystemNameList().iterator();
-
-        while (iter.hasNext()) {
-            String sName = iter.next();
-            if (sName == null) {
-                log.error("System name null during scan of LayoutBlocks");
-            } else {
-                result = getBySystemName(sName);
-                if (result.getBlock() == block) {
-                    break;
-                }
-                result = null;
-            }
-        }
-        return result;
+        return getFirstMatching(getBeanIndex().byBlock.get(block),
+                (b) -> b.getBlock() == block);
     }	//getLayoutBlock
 
     @CheckReturnValue
@@ -221,22 +287,8 @@ public class LayoutBlockManager extends AbstractManager<LayoutBlock> implements
     @CheckReturnValue
     @Nullable
     public LayoutBlock getBlockWithSensorAssigned(@Nullable Sensor s) {
-        LayoutBlock result = null;
-
-        java.util.Iterator<String> iter = getSystemNameList().iterator();
-        while (iter.hasNext()) {
-            String sName = iter.next();
-            if (sName == null) {
-                log.error("System name null during scan of LayoutBlocks");
-            } else {
-                LayoutBlock block = getBySystemName(sName);
-                if (block.getOccupancySensor() == s) {
-                    result = block;
-                    break;
-                }
-            }
-        }
-        return result;
+        return getFirstMatching(getBeanIndex().bySensor.get(s),
+                (b) -> b.getOccupancySensor() == s);
     }	//getBlockWithSensorAssigned
 
     /**
@@ -249,23 +301,17 @@ public class LayoutBlockManager extends AbstractManager<LayoutBlock> implements
     @CheckReturnValue
     @Nullable
     public LayoutBlock getBlockWithMemoryAssigned(Memory m) {
-        LayoutBlock result = null;
-
-        java.util.Iterator<String> iter = getSystemNameList().iterator();
-        while (iter.hasNext()) {
-            String sName = iter.next();
-            if (sName == null) {
-                log.error("System name null during scan of LayoutBlocks");
-            } else {
-                LayoutBlock block = getBySystemName(sName);
-
-                if (block.getMemory() == m) {
-                    result = block;
-                    break;
-                }
+        BeanIndex index = getBeanIndex();
+        if (!index.unresolvedMemories.isEmpty()) {
+            // the memory may have been created since the index was built, so
+            // look it up again; this counts as an assignment if it now exists
+            for (LayoutBlock b : index.unresolvedMemories) {
+                b.getMemory();
             }
+            index = getBeanIndex();
         }
-        return result;
+        return getFirstMatching(index.byMemory.get(m),
+                (b) -> b.getMemory() == m);
     }	//getBlockWithMemoryAssigned
 
     /**
@@ -363,6 +409,10 @@ public class LayoutBlockManager extends AbstractManager<LayoutBlock> implements
      * turnouts of a THROAT_TO_THROAT turnout or a 3-way turnout. "null" is
      * returned for block boundaries exiting a THROAT_TO_THROAT turnout block,
      * since there are no signals that apply there.
+     * <P>
+     * Results are not kept by facing and protected Block, as they depend on
+     * the current turnout settings; the block boundaries searched are already
+     * indexed by Layout Block in {@link LayoutEditorAuxTools}.
      */
     @CheckReturnValue
     @Nullable
@@ -1523,6 +1573,10 @@ public class LayoutBlockManager extends AbstractManager<LayoutBlock> implements
     /**
      * Method to return a facing bean into a specified Block from a specified
      * protected Block.
+     * <P>
+     * Results are not kept by facing and protected Block, as track
+     * connections can change without notice; the block boundaries searched
+     * are already indexed by Layout Block in {@link LayoutEditorAuxTools}.
      *
      * @param panel the layout editor panel the block is assigned, if null then
      *              the maximum connected panel of the facing block is used
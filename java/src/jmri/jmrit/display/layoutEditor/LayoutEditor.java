@@ -417,6 +417,9 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
     public transient List<SignalHeadIcon> signalHeadImage = new ArrayList<>();       //signal head images
 
     private transient List<LayoutTrack> layoutTrackList = new ArrayList<>();         // LayoutTrack list
+    private transient final LayoutTrackIndex layoutTrackIndex = new LayoutTrackIndex(); // LayoutTrack areas
+    private transient boolean layoutTrackIndexValid = false;
+    private transient List<LayoutTrack> layoutTracksToDraw = layoutTrackList;        // LayoutTracks in clip
 
     // PositionableLabel's
     public transient List<BlockContentsIcon> blockContentsLabelList = new ArrayList<>(); //BlockContentsIcon Label List
@@ -4503,6 +4506,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
         for (LayoutTrack lt : layoutTrackList) {
             lt.setCoordsCenter(MathUtil.add(lt.getCoordsCenter(), delta));
         }
+        invalidateLayoutTrackIndex();
         resizePanelBounds(true);
         return true;
     }
@@ -4517,6 +4521,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
         for (LayoutTrack lt : layoutTrackList) {
             lt.scaleCoords(xFactor, yFactor);
         }
+        invalidateLayoutTrackIndex();
 
         //update the overall scale factors
         xScale *= xFactor;
@@ -4735,6 +4740,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
                     lt.setCoordsCenter(MathUtil.add(center, delta));
                 }
             }
+            invalidateLayoutTrackIndex();
             undoRect = MathUtil.offset(undoRect, delta);
             selectionX = undoRect.getX();
             selectionY = undoRect.getY();
@@ -4883,11 +4889,80 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
 
     /**
      * Allow external trigger of re-drawHidden
+     * <p>
+     * This does not rebuild the index of the areas the layout tracks are drawn
+     * in, so callers that move, add or remove tracks without setting the
+     * dirty bit must also call {@link #invalidateLayoutTrackIndex()}.
      */
     public void redrawPanel() {
         repaint();
     }
 
+    /**
+     * Redraw only the tracks drawn in the color of a layout block, for example
+     * when its occupancy changes.
+     *
+     * @param layoutBlock the layout block
+     */
+    public void redrawLayoutBlock(@Nonnull LayoutBlock layoutBlock) {
+        Rectangle2D bounds = getLayoutTrackIndex().getBounds(layoutBlock);
+        if (bounds == null) {
+            repaint();
+            return;
+        }
+        // the tracks are drawn scaled into the target panel
+        double scale = getPaintScale();
+        getTargetPanel().repaint(
+                (int) Math.floor(bounds.getX() * scale),
+                (int) Math.floor(bounds.getY() * scale),
+                (int) Math.ceil(bounds.getWidth() * scale) + 2,
+                (int) Math.ceil(bounds.getHeight() * scale) + 2);
+    }
+
+    /**
+     * Get the index of the areas the layout tracks are drawn in, rebuilding it
+     * if needed.
+     *
+     * @return the index
+     */
+    private LayoutTrackIndex getLayoutTrackIndex() {
+        double margin = getLayoutTrackDrawingMargin();
+        if (!layoutTrackIndexValid
+                || (layoutTrackIndex.size() != layoutTrackList.size())
+                || (layoutTrackIndex.getMargin() != margin)) {
+            layoutTrackIndex.rebuild(layoutTrackList, margin);
+            layoutTrackIndexValid = true;
+        }
+        return layoutTrackIndex;
+    }
+
+    /**
+     * Force the indexes of the areas the layout tracks are drawn in and of the
+     * beans assigned to them to be rebuilt when next used, as tracks have been
+     * moved, resized or replaced.
+     */
+    void invalidateLayoutTrackIndex() {
+        layoutTrackIndexValid = false;
+        finder.invalidateBeanIndex();
+    }
+
+    /**
+     * Get the distance past its bounds that a layout track, its controls or
+     * the area for hitting them may reach.
+     *
+     * @return the distance
+     */
+    private double getLayoutTrackDrawingMargin() {
+        LayoutTrackDrawingOptions ltdo = getLayoutTrackDrawingOptions();
+        double width = Math.max(mainlineTrackWidth, sidelineTrackWidth);
+        width = Math.max(width, Math.max(ltdo.getMainBallastWidth(), ltdo.getSideBallastWidth()));
+        width = Math.max(width, Math.max(ltdo.getMainTieLength(), ltdo.getSideTieLength()));
+        width = Math.max(width, Math.max(ltdo.getMainBlockLineWidth(), ltdo.getSideBlockLineWidth()));
+        width = Math.max(width, ltdo.getMainRailCount() * (ltdo.getMainRailWidth() + ltdo.getMainRailGap()));
+        width = Math.max(width, ltdo.getSideRailCount() * (ltdo.getSideRailWidth() + ltdo.getSideRailGap()));
+        return width + circleDiameter + SIZE2;
+    }
+
     /**
      * Allow external set/reset of awaitingIconChange
      */
@@ -4918,6 +4993,10 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
      */
     public void setDirty(boolean val) {
         panelChanged = val;
+        if (val) {
+            // the change may have added, removed or moved tracks
+            invalidateLayoutTrackIndex();
+        }
     }
 
     public void setDirty() {
@@ -5163,7 +5242,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
      */
     private void checkControls(boolean useRectangles) {
         selectedObject = null;  // deliberate side-effect
-        for (LayoutTrack theTrack : layoutTrackList) {
+        for (LayoutTrack theTrack : getLayoutTrackIndex().getTracks(dLoc.getX(), dLoc.getY())) {
             selectedPointType = theTrack.findHitPointType(dLoc, useRectangles); // deliberate side-effect
             if (LayoutTrack.isControlHitType(selectedPointType)) {
                 selectedObject = theTrack; // deliberate side-effect
@@ -5189,7 +5268,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
 
         foundObject = null;
         foundPointType = LayoutTrack.NONE;
-        Optional<LayoutTrack> opt = layoutTrackList.stream().filter(layoutTrack -> {
+        Optional<LayoutTrack> opt = getLayoutTrackIndex().getTracks(loc.getX(), loc.getY()).stream().filter(layoutTrack -> {
             if ((layoutTrack != avoid) && (layoutTrack != selectedObject)) {
                 foundPointType = layoutTrack.findHitPointType(loc, false, requireUnconnected);
             }
@@ -6190,6 +6269,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
         y = conCord.getY() - tCord.getY();
         Point2D offset = new Point2D.Double(be.getCoordsCenter().getX() - x, be.getCoordsCenter().getY() - y);
         be.setCoordsCenter(offset);
+        invalidateLayoutTrackIndex();
 
     }
 
@@ -6274,7 +6354,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
             }
         }
 
-        for (LayoutTrack lt : layoutTrackList) {
+        for (LayoutTrack lt : getLayoutTrackIndex().getTracks(selectionRect)) {
             Point2D center = lt.getCoordsCenter();
             if (selectionRect.contains(center)) {
                 if (!_layoutTrackSelection.contains(lt)) {
@@ -6417,6 +6497,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
                 lt.setCoordsCenter(new Point2D.Double(lt.getCoordsCenter().getX(), aveY));
             }
         }
+        invalidateLayoutTrackIndex();
 
         redrawPanel();
     }
@@ -6480,6 +6561,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
                 newPoint = MathUtil.max(MathUtil.zeroPoint2D, newPoint);
                 lt.setCoordsCenter(newPoint);
             }
+            invalidateLayoutTrackIndex();
             redrawPanel();
         }
     }
@@ -6599,6 +6681,8 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
 
         if (isEditable()) {
             if ((selectedObject != null) && isMetaDown(event) && allPositionable()) {
+                // the tracks or points of tracks selected are moved below
+                invalidateLayoutTrackIndex();
                 if (snapToGridOnMove != snapToGridInvert) {
                     // this snaps currentPoint to the grid
                     currentPoint = MathUtil.granulize(currentPoint, gridSize1st);
@@ -8729,6 +8813,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
     @Override
     public void setAllEditable(boolean editable) {
         int restoreScroll = _scrollState;
+        invalidateLayoutTrackIndex();
 
         super.setAllEditable(editable);
 
@@ -9428,6 +9513,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
         for (LayoutTrack lt : layoutTrackList) {
             lt.setObjects(this);
         }
+        invalidateLayoutTrackIndex();
         getLEAuxTools().initializeBlockConnectivity();
         log.debug("Initializing Block Connectivity for {}", getLayoutName());
 
@@ -9487,6 +9573,9 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
             g2.setRenderingHints(antialiasing);
         }
 
+        // only draw the tracks in the area being repainted
+        layoutTracksToDraw = getLayoutTrackIndex().getTracks(g2.getClipBounds());
+
         // things that only get drawn in edit mode
         if (isEditable()) {
             if (getDrawGrid()) {
@@ -9524,6 +9613,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
                 drawTurnoutControls(g2);
             }
         }
+        layoutTracksToDraw = layoutTrackList;
     }   // draw
 
     //
@@ -9801,7 +9891,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
             boolean isBlock,
             boolean isHidden,
             boolean isDashed) {
-        for (LayoutTrack layoutTrack : layoutTrackList) {
+        for (LayoutTrack layoutTrack : layoutTracksToDraw) {
             if (!(layoutTrack instanceof PositionablePoint)) {
                 if (isHidden == layoutTrack.isHidden()) {
                     if ((layoutTrack instanceof TrackSegment)) {
@@ -9818,7 +9908,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
 
     // draw positionable points
     private void drawPositionablePoints(Graphics2D g2, boolean isMain) {
-        for (LayoutTrack layoutTrack : layoutTrackList) {
+        for (LayoutTrack layoutTrack : layoutTracksToDraw) {
             if (layoutTrack instanceof PositionablePoint) {
                 layoutTrack.draw1(g2, isMain, false);
             }
@@ -9833,7 +9923,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
     // draw parallel lines (rails)
     private void draw2(Graphics2D g2, boolean isMain,
             float railDisplacement, boolean isDashed) {
-        for (LayoutTrack layoutTrack : layoutTrackList) {
+        for (LayoutTrack layoutTrack : layoutTracksToDraw) {
             if ((layoutTrack instanceof TrackSegment)) {
                 if (((TrackSegment) layoutTrack).isDashed() == isDashed) {
                     layoutTrack.draw2(g2, isMain, railDisplacement);
@@ -9883,7 +9973,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
     private void drawLayoutTrackEditControls(Graphics2D g2) {
         g2.setStroke(new BasicStroke(1.0F, BasicStroke.CAP_BUTT, BasicStroke.JOIN_ROUND));
 
-        for (LayoutTrack tr : layoutTrackList) {
+        for (LayoutTrack tr : layoutTracksToDraw) {
             tr.drawEditControls(g2);
         }
     }
@@ -9894,7 +9984,7 @@ public class LayoutEditor extends PanelEditor implements MouseWheelListener {
         g2.setColor(turnoutCircleColor);
         // loop over all turnouts
         boolean editable = isEditable();
-        for (LayoutTrack tr : layoutTrackList) {
+        for (LayoutTrack tr : layoutTracksToDraw) {
             if (tr instanceof LayoutTurnout) {  //<== this includes LayoutSlips
                 LayoutTurnout lt = (LayoutTurnout) tr;
                 if (editable || !(lt.isHidden() || lt.isDisabled())) {
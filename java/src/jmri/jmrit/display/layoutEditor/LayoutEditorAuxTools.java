@@ -2,7 +2,9 @@ package jmri.jmrit.display.layoutEditor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import jmri.BeanSetting;
 import jmri.InstanceManager;
 import jmri.Path;
@@ -31,6 +33,7 @@ public class LayoutEditorAuxTools {
     private List<LayoutConnectivity> cList = new ArrayList<>(); //LayoutConnectivity list
     private boolean blockConnectivityChanged = false;  // true if block connectivity may have changed
     private boolean initialized = false;
+    private Map<LayoutBlock, List<LayoutConnectivity>> cListByBlock = null; // cList by both blocks; null until needed
 
     // constructor method
     public LayoutEditorAuxTools(LayoutEditor thePanel) {
@@ -55,13 +58,18 @@ public class LayoutEditorAuxTools {
         if (blockConnectivityChanged) {
             updateBlockConnectivity();
         }
-        List<LayoutConnectivity> retList = new ArrayList<>();
-        for (LayoutConnectivity lc : cList) {
-            if ((lc.getBlock1() == blk) || (lc.getBlock2() == blk)) {
-                retList.add(lc);
+        if (cListByBlock == null) {
+            Map<LayoutBlock, List<LayoutConnectivity>> byBlock = new HashMap<>();
+            for (LayoutConnectivity lc : cList) {
+                byBlock.computeIfAbsent(lc.getBlock1(), k -> new ArrayList<>()).add(lc);
+                if (lc.getBlock2() != lc.getBlock1()) {
+                    byBlock.computeIfAbsent(lc.getBlock2(), k -> new ArrayList<>()).add(lc);
+                }
             }
+            cListByBlock = byBlock;
         }
-        return (retList);
+        List<LayoutConnectivity> retList = cListByBlock.get(blk);
+        return (retList == null) ? new ArrayList<>() : new ArrayList<>(retList);
     }
 
     /**
@@ -90,6 +98,7 @@ public class LayoutEditorAuxTools {
             return;
         }
         cList = new ArrayList<>();
+        cListByBlock = null;
         List<LayoutConnectivity> lcs = null;
 
         for (LayoutTrack lt : layoutEditor.getLayoutTracks()) {
@@ -160,6 +169,7 @@ public class LayoutEditorAuxTools {
                 cList.remove(i);
             }
         }
+        cListByBlock = null;
         blockConnectivityChanged = false;
     }   // updateBlockConnectivity
 
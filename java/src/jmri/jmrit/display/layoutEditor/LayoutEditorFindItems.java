@@ -1,8 +1,12 @@
 package jmri.jmrit.display.layoutEditor;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.CheckReturnValue;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import jmri.NamedBean;
 import jmri.Sensor;
@@ -22,10 +26,122 @@ public class LayoutEditorFindItems {
 
     private LayoutEditor layoutEditor;
 
+    private volatile BeanIndex beanIndex = null;
+
     public LayoutEditorFindItems(LayoutEditor editor) {
         layoutEditor = editor;
     }
 
+    /**
+     * The tracks of the panel by the signal heads, signal masts and sensors
+     * assigned to them, as of a count of assignments and a number of tracks.
+     */
+    private static final class BeanIndex {
+
+        private final Map<NamedBean, List<LayoutTrack>> tracks;
+        private final long assignments;
+        private final int size;
+
+        BeanIndex(Map<NamedBean, List<LayoutTrack>> tracks, long assignments, int size) {
+            this.tracks = tracks;
+            this.assignments = assignments;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Discard the index of tracks by assigned signals and sensors, so
+     * that it is rebuilt when next used.
+     */
+    void invalidateBeanIndex() {
+        beanIndex = null;
+    }
+
+    /**
+     * Get the tracks of a class that a signal or sensor may be assigned
+     * to. The result contains every such track that the bean is assigned to,
+     * in panel order, but may also contain tracks it is no longer assigned to,
+     * so callers must still check the assignment.
+     *
+     * @param bean the signal head, signal mast or sensor
+     * @param type the class of track
+     * @return the tracks
+     */
+    @Nonnull
+    private <T extends LayoutTrack> List<T> findTracksByAssignedBean(
+            @Nonnull NamedBean bean, @Nonnull Class<T> type) {
+        List<LayoutTrack> layoutTracks = layoutEditor.getLayoutTracks();
+        long assignments = LayoutTrack.getBeanAssignments();
+        BeanIndex index = beanIndex;
+        if ((index == null) || (index.assignments != assignments) || (index.size != layoutTracks.size())) {
+            Map<NamedBean, List<LayoutTrack>> tracks = new HashMap<>();
+            for (LayoutTrack lt : new ArrayList<>(layoutTracks)) {
+                for (NamedBean b : getAssignedBeans(lt)) {
+                    List<LayoutTrack> list = tracks.computeIfAbsent(b, k -> new ArrayList<>());
+                    if (list.isEmpty() || (list.get(list.size() - 1) != lt)) {
+                        list.add(lt);
+                    }
+                }
+            }
+            index = new BeanIndex(tracks, assignments, layoutTracks.size());
+            beanIndex = index;
+        }
+        List<T> result = new ArrayList<>();
+        for (LayoutTrack lt : index.tracks.getOrDefault(bean, Collections.emptyList())) {
+            if (type.isInstance(lt)) {
+                result.add(type.cast(lt));
+            }
+        }
+        return result;
+    }
+
+    private static final int[] SIGNAL_HEAD_POINTS = {
+        LayoutTurnout.POINTA, LayoutTurnout.POINTA2, LayoutTurnout.POINTA3,
+        LayoutTurnout.POINTB, LayoutTurnout.POINTB2,
+        LayoutTurnout.POINTC, LayoutTurnout.POINTC2,
+        LayoutTurnout.POINTD, LayoutTurnout.POINTD2};
+
+    @Nonnull
+    private static List<NamedBean> getAssignedBeans(@Nonnull LayoutTrack lt) {
+        List<NamedBean> beans = new ArrayList<>();
+        if (lt instanceof PositionablePoint) {
+            PositionablePoint p = (PositionablePoint) lt;
+            beans.add(p.getEastBoundSignalMast());
+            beans.add(p.getWestBoundSignalMast());
+            beans.add(p.getEastBoundSensor());
+            beans.add(p.getWestBoundSensor());
+        } else if (lt instanceof LevelXing) {
+            LevelXing l = (LevelXing) lt;
+            beans.add(l.getSignalHead(LevelXing.POINTA));
+            beans.add(l.getSignalHead(LevelXing.POINTB));
+            beans.add(l.getSignalHead(LevelXing.POINTC));
+            beans.add(l.getSignalHead(LevelXing.POINTD));
+            beans.add(l.getSignalAMast());
+            beans.add(l.getSignalBMast());
+            beans.add(l.getSignalCMast());
+            beans.add(l.getSignalDMast());
+            beans.add(l.getSensorA());
+            beans.add(l.getSensorB());
+            beans.add(l.getSensorC());
+            beans.add(l.getSensorD());
+        } else if (lt instanceof LayoutTurnout) {
+            LayoutTurnout t = (LayoutTurnout) lt;
+            for (int loc : SIGNAL_HEAD_POINTS) {
+                beans.add(t.getSignalHead(loc));
+            }
+            beans.add(t.getSignalAMast());
+            beans.add(t.getSignalBMast());
+            beans.add(t.getSignalCMast());
+            beans.add(t.getSignalDMast());
+            beans.add(t.getSensorA());
+            beans.add(t.getSensorB());
+            beans.add(t.getSensorC());
+            beans.add(t.getSensorD());
+        }
+        beans.removeIf(b -> b == null);
+        return beans;
+    }
+
     public TrackSegment findTrackSegmentByName(String name) {
         if (name.isEmpty()) {
             return null;
@@ -108,13 +224,13 @@ public class LayoutEditorFindItems {
 
     public PositionablePoint findPositionablePointByWestBoundBean(NamedBean bean) {
         if (bean instanceof SignalMast) {
-            for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
+            for (PositionablePoint p : findTracksByAssignedBean(bean, PositionablePoint.class)) {
                 if (p.getWestBoundSignalMast() == bean) {
                     return p;
                 }
             }
         } else if (bean instanceof Sensor) {
-            for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
+            for (PositionablePoint p : findTracksByAssignedBean(bean, PositionablePoint.class)) {
                 if (p.getWestBoundSensor() == bean) {
                     return p;
                 }
@@ -131,13 +247,13 @@ public class LayoutEditorFindItems {
 
     public PositionablePoint findPositionablePointByEastBoundBean(NamedBean bean) {
         if (bean instanceof SignalMast) {
-            for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
+            for (PositionablePoint p : findTracksByAssignedBean(bean, PositionablePoint.class)) {
                 if (p.getEastBoundSignalMast() == bean) {
                     return p;
                 }
             }
         } else if (bean instanceof Sensor) {
-            for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
+            for (PositionablePoint p : findTracksByAssignedBean(bean, PositionablePoint.class)) {
                 if (p.getEastBoundSensor() == bean) {
                     return p;
                 }
@@ -163,20 +279,22 @@ public class LayoutEditorFindItems {
 
     public PositionablePoint findPositionablePointByBean(NamedBean bean) {
         if (bean instanceof SignalMast) {
-            for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
+            for (PositionablePoint p : findTracksByAssignedBean(bean, PositionablePoint.class)) {
                 if (p.getWestBoundSignalMast() == bean
                         || p.getEastBoundSignalMast() == bean) {
                     return p;
                 }
             }
         } else if (bean instanceof Sensor) {
-            for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
+            for (PositionablePoint p : findTracksByAssignedBean(bean, PositionablePoint.class)) {
                 if (p.getWestBoundSensor() == bean
                         || p.getEastBoundSensor() == bean) {
                     return p;
                 }
             }
         } else if (bean instanceof SignalHead) {
+            // not indexed, as an edge connector reports the heads of the
+            // point it is linked to, which may be on another panel
             for (PositionablePoint p : layoutEditor.getPositionablePoints()) {
                 if (p.getEastBoundSignal().equals(bean.getSystemName())
                         || p.getWestBoundSignal().equals(bean.getSystemName())) {
@@ -199,27 +317,29 @@ public class LayoutEditorFindItems {
 
     @CheckReturnValue
     public LayoutTurnout findLayoutTurnoutByBean(@Nullable NamedBean bean) {
-        List<LayoutTurnout> layoutTurnouts = layoutEditor.getLayoutTurnouts();
         if (bean instanceof SignalMast) {
-            for (LayoutTurnout t : layoutTurnouts) {
-                if (t.getSignalAMast() == bean
+            for (LayoutTurnout t : findTracksByAssignedBean(bean, LayoutTurnout.class)) {
+                if (!(t instanceof LayoutSlip) && (t.getSignalAMast() == bean
                         || t.getSignalBMast() == bean
                         || t.getSignalCMast() == bean
-                        || t.getSignalDMast() == bean) {
+                        || t.getSignalDMast() == bean)) {
                     return t;
                 }
             }
         } else if (bean instanceof Sensor) {
-            for (LayoutTurnout t : layoutTurnouts) {
-                if (t.getSensorA() == bean
+            for (LayoutTurnout t : findTracksByAssignedBean(bean, LayoutTurnout.class)) {
+                if (!(t instanceof LayoutSlip) && (t.getSensorA() == bean
                         || t.getSensorB() == bean
                         || t.getSensorC() == bean
-                        || t.getSensorD() == bean) {
+                        || t.getSensorD() == bean)) {
                     return t;
                 }
             }
         } else if (bean instanceof SignalHead) {
-            for (LayoutTurnout t : layoutTurnouts) {
+            for (LayoutTurnout t : findTracksByAssignedBean(bean, LayoutTurnout.class)) {
+                if (t instanceof LayoutSlip) {
+                    continue;
+                }
                 if (t.getSignalA1Name().equals(bean.getSystemName())
                         || t.getSignalA2Name().equals(bean.getSystemName())
                         || t.getSignalA3Name().equals(bean.getSystemName())) {
@@ -260,7 +380,7 @@ public class LayoutEditorFindItems {
                 }
             }
         } else if (bean instanceof Turnout) {
-            for (LayoutTurnout t : layoutTurnouts) {
+            for (LayoutTurnout t : layoutEditor.getLayoutTurnouts()) {
                 if (bean.equals(t.getTurnout())) {
                     return t;
                 }
@@ -283,9 +403,8 @@ public class LayoutEditorFindItems {
     }
 
     public LevelXing findLevelXingByBean(NamedBean bean) {
-        List<LevelXing> levelXings = layoutEditor.getLevelXings();
         if (bean instanceof SignalMast) {
-            for (LevelXing l : levelXings) {
+            for (LevelXing l : findTracksByAssignedBean(bean, LevelXing.class)) {
                 if (l.getSignalAMast() == bean
                         || l.getSignalBMast() == bean
                         || l.getSignalCMast() == bean
@@ -294,7 +413,7 @@ public class LayoutEditorFindItems {
                 }
             }
         } else if (bean instanceof Sensor) {
-            for (LevelXing l : levelXings) {
+            for (LevelXing l : findTracksByAssignedBean(bean, LevelXing.class)) {
                 if (l.getSensorA() == bean
                         || l.getSensorB() == bean
                         || l.getSensorC() == bean
@@ -304,7 +423,7 @@ public class LayoutEditorFindItems {
             }
 
         } else if (bean instanceof SignalHead) {
-            for (LevelXing l : levelXings) {
+            for (LevelXing l : findTracksByAssignedBean(bean, LevelXing.class)) {
                 if (l.getSignalAName().equals(bean.getSystemName())
                         || l.getSignalBName().equals(bean.getSystemName())
                         || l.getSignalCName().equals(bean.getSystemName())
@@ -323,9 +442,8 @@ public class LayoutEditorFindItems {
     }
 
     public LayoutSlip findLayoutSlipByBean(NamedBean bean) {
-        List<LayoutSlip> layoutSlips = layoutEditor.getLayoutSlips();
         if (bean instanceof SignalMast) {
-            for (LayoutSlip l : layoutSlips) {
+            for (LayoutSlip l : findTracksByAssignedBean(bean, LayoutSlip.class)) {
                 if (l.getSignalAMast() == bean
                         || l.getSignalBMast() == bean
                         || l.getSignalCMast() == bean
@@ -334,7 +452,7 @@ public class LayoutEditorFindItems {
                 }
             }
         } else if (bean instanceof Sensor) {
-            for (LayoutSlip l : layoutSlips) {
+            for (LayoutSlip l : findTracksByAssignedBean(bean, LayoutSlip.class)) {
                 if (l.getSensorA() == bean
                         || l.getSensorB() == bean
                         || l.getSensorC() == bean
@@ -343,7 +461,7 @@ public class LayoutEditorFindItems {
                 }
             }
         } else if (bean instanceof SignalHead) {
-            for (LayoutSlip l : layoutSlips) {
+            for (LayoutSlip l : findTracksByAssignedBean(bean, LayoutSlip.class)) {
                 if (l.getSignalA1Name().equals(bean.getSystemName())
                         || l.getSignalA2Name().equals(bean.getSystemName())
                         || l.getSignalA3Name().equals(bean.getSystemName())) {
@@ -383,7 +501,7 @@ public class LayoutEditorFindItems {
                 }
             }
         } else if (bean instanceof Turnout) {
-            for (LayoutSlip l : layoutSlips) {
+            for (LayoutSlip l : layoutEditor.getLayoutSlips()) {
                 if (bean.equals(l.getTurnout())) {
                     return l;
                 }
@@ -914,6 +914,7 @@ public class LayoutSlip extends LayoutTurnout {
                                     entering = false;
                                     if (rot != 0.0) {
                                         rotateCoords(rot);
+                                        layoutEditor.invalidateLayoutTrackIndex();
                                         layoutEditor.redrawPanel();
                                     }
                                 }
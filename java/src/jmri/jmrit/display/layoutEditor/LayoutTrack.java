@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JPopupMenu;
@@ -74,6 +75,9 @@ public abstract class LayoutTrack {
     static Color defaultBallastColor = Color.gray;
     static Color defaultTieColor = new Color(122, 74, 50);
 
+    // count of signal and sensor assignments to tracks in any panel
+    private static final AtomicLong beanAssignments = new AtomicLong();
+
     /**
      * constructor method
      */
@@ -113,6 +117,24 @@ public abstract class LayoutTrack {
         center = p;
     }
 
+    /**
+     * Note that a signal or sensor has been assigned to a track, so that
+     * indexes of tracks by their assigned beans are rebuilt.
+     */
+    static void beanAssigned() {
+        beanAssignments.incrementAndGet();
+    }
+
+    /**
+     * Get the number of times a signal or sensor has been assigned to a
+     * track in any panel.
+     *
+     * @return the count of assignments
+     */
+    static long getBeanAssignments() {
+        return beanAssignments.get();
+    }
+
     /**
      * @return true if this track segment has decorations
      */
@@ -507,6 +529,27 @@ public abstract class LayoutTrack {
      */
     public abstract Rectangle2D getBounds();
 
+    /**
+     * Get the bounds of the track as drawn, before allowing for the width of
+     * the lines it is drawn with. This includes any curves or circles that
+     * extend beyond {@link #getBounds()}.
+     *
+     * @return the drawn bounds of this track
+     */
+    protected Rectangle2D getDrawnBounds() {
+        return getBounds();
+    }
+
+    /**
+     * Check if this track is drawn in the color of a layout block.
+     *
+     * @param layoutBlock the layout block
+     * @return true if any part of this track shows the state of layoutBlock
+     */
+    protected boolean isDrawnWithLayoutBlock(@Nonnull LayoutBlock layoutBlock) {
+        return false;
+    }
+
     /**
      * show the popup menu for this layout track
      *
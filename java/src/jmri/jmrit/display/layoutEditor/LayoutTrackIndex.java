@@ -0,0 +1,233 @@
+package jmri.jmrit.display.layoutEditor;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A grid over the tracks of a {@link LayoutEditor}, so that the tracks drawn
+ * in or near an area of the panel can be found without checking every track.
+ * <p>
+ * Tracks are filed under each grid cell that their drawn bounds, widened by a
+ * margin for the width of what is drawn, overlap at the time the index is
+ * built. The index must be rebuilt after tracks are added, removed or moved,
+ * or after the layout blocks of tracks are changed.
+ * Tracks are returned in the order of the list the index was built from, so
+ * that they are drawn in the same order as without the index.
+ */
+class LayoutTrackIndex {
+
+    /**
+     * The width and height of a grid cell.
+     */
+    static final double CELL_SIZE = 128.0;
+
+    /**
+     * Tracks that would be filed under more cells than this are always
+     * checked instead.
+     */
+    private static final int MAX_CELLS_PER_TRACK = 256;
+
+    private LayoutTrack[] tracks = new LayoutTrack[0];
+    private Rectangle2D[] bounds = new Rectangle2D[0];
+    private final Map<Long, int[]> cells = new HashMap<>();
+    private int[] large = new int[0];
+    private double margin = 0.0;
+    // the areas found by getBounds(LayoutBlock), null if unknown
+    private final Map<LayoutBlock, Rectangle2D> blockBounds = new HashMap<>();
+
+    /**
+     * Build the index.
+     *
+     * @param layoutTracks the tracks to index
+     * @param margin       the distance past the drawn bounds of a track that
+     *                     drawing or hit testing may reach
+     */
+    void rebuild(@Nonnull List<LayoutTrack> layoutTracks, double margin) {
+        this.margin = margin;
+        tracks = layoutTracks.toArray(new LayoutTrack[layoutTracks.size()]);
+        bounds = new Rectangle2D[tracks.length];
+        cells.clear();
+        blockBounds.clear();
+        Map<Long, List<Integer>> building = new HashMap<>();
+        List<Integer> buildingLarge = new ArrayList<>();
+        for (int i = 0; i < tracks.length; i++) {
+            Rectangle2D r = getDrawnBounds(tracks[i]);
+            bounds[i] = r;
+            if (r == null) {
+                buildingLarge.add(i);
+                continue;
+            }
+            int x1 = cell(r.getMinX()), x2 = cell(r.getMaxX());
+            int y1 = cell(r.getMinY()), y2 = cell(r.getMaxY());
+            if ((long) (x2 - x1 + 1) * (y2 - y1 + 1) > MAX_CELLS_PER_TRACK) {
+                buildingLarge.add(i);
+                continue;
+            }
+            for (int x = x1; x <= x2; x++) {
+                for (int y = y1; y <= y2; y++) {
+                    building.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        building.forEach((k, v) -> cells.put(k, toArray(v)));
+        large = toArray(buildingLarge);
+        log.debug("Indexed {} tracks in {} cells, {} not in cells", tracks.length, cells.size(), large.length);
+    }
+
+    /**
+     * Get the number of tracks in the index.
+     *
+     * @return the number of tracks
+     */
+    int size() {
+        return tracks.length;
+    }
+
+    /**
+     * Get the margin the index was built with.
+     *
+     * @return the margin
+     */
+    double getMargin() {
+        return margin;
+    }
+
+    /**
+     * Get the tracks that may be drawn within an area.
+     *
+     * @param area the area or null for all tracks
+     * @return the tracks, in the order they were indexed
+     */
+    @Nonnull
+    List<LayoutTrack> getTracks(@Nullable Rectangle2D area) {
+        List<LayoutTrack> result = new ArrayList<>();
+        if (area == null) {
+            for (LayoutTrack lt : tracks) {
+                result.add(lt);
+            }
+            return result;
+        }
+        BitSet found = new BitSet(tracks.length);
+        for (int i : large) {
+            found.set(i);
+        }
+        int x1 = cell(area.getMinX()), x2 = cell(area.getMaxX());
+        int y1 = cell(area.getMinY()), y2 = cell(area.getMaxY());
+        if ((long) (x2 - x1 + 1) * (y2 - y1 + 1) > cells.size()) {
+            // the area covers more cells than are in use, so check every track
+            found.set(0, tracks.length);
+        } else {
+            for (int x = x1; x <= x2; x++) {
+                for (int y = y1; y <= y2; y++) {
+                    int[] cell = cells.get(key(x, y));
+                    if (cell != null) {
+                        for (int i : cell) {
+                            found.set(i);
+                        }
+                    }
+                }
+            }
+        }
+        for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            if ((bounds[i] == null) || bounds[i].intersects(area)) {
+                result.add(tracks[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the tracks that may be drawn at a point.
+     *
+     * @param x the x coordinate of the point
+     * @param y the y coordinate of the point
+     * @return the tracks, in the order they were indexed
+     */
+    @Nonnull
+    List<LayoutTrack> getTracks(double x, double y) {
+        return getTracks(new Rectangle2D.Double(x - 0.5, y - 0.5, 1.0, 1.0));
+    }
+
+    /**
+     * Get the area that tracks drawn with a layout block are drawn in.
+     *
+     * @param layoutBlock the layout block
+     * @return the area, widened by the margin, or null if no indexed track is
+     *         drawn with layoutBlock or the area of a track is unknown
+     */
+    @CheckForNull
+    Rectangle2D getBounds(@Nonnull LayoutBlock layoutBlock) {
+        Rectangle2D result;
+        if (blockBounds.containsKey(layoutBlock)) {
+            result = blockBounds.get(layoutBlock);
+        } else {
+            result = findBounds(layoutBlock);
+            blockBounds.put(layoutBlock, result);
+        }
+        return (result == null) ? null : result.getBounds2D();
+    }
+
+    @CheckForNull
+    private Rectangle2D findBounds(@Nonnull LayoutBlock layoutBlock) {
+        Rectangle2D result = null;
+        for (int i = 0; i < tracks.length; i++) {
+            if (tracks[i].isDrawnWithLayoutBlock(layoutBlock)) {
+                if (bounds[i] == null) {
+                    return null;
+                }
+                if (result == null) {
+                    result = new Rectangle2D.Double();
+                    result.setRect(bounds[i]);
+                } else {
+                    result.add(bounds[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @CheckForNull
+    private Rectangle2D getDrawnBounds(@Nonnull LayoutTrack lt) {
+        Rectangle2D r;
+        try {
+            r = lt.getDrawnBounds();
+        } catch (RuntimeException ex) {
+            // tracks that are not fully connected may not know where they are
+            log.debug("Unable to get bounds of {}", lt.getName(), ex);
+            return null;
+        }
+        if ((r == null) || Double.isNaN(r.getX()) || Double.isNaN(r.getY())
+                || Double.isInfinite(r.getWidth()) || Double.isInfinite(r.getHeight())) {
+            return null;
+        }
+        return new Rectangle2D.Double(r.getX() - margin, r.getY() - margin,
+                r.getWidth() + margin * 2, r.getHeight() + margin * 2);
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long key(int x, int y) {
+        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+    private final static Logger log = LoggerFactory.getLogger(LayoutTrackIndex.class);
+}
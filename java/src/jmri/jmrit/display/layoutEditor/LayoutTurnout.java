@@ -498,6 +498,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalA1Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalA1HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -508,6 +509,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalA1HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalA2Name() {
@@ -520,6 +522,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalA2Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalA2HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -530,6 +533,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalA2HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalA3Name() {
@@ -542,6 +546,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalA3Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalA3HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -552,6 +557,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalA3HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalB1Name() {
@@ -564,6 +570,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalB1Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalB1HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -574,6 +581,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalB1HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalB2Name() {
@@ -586,6 +594,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalB2Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalB2HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -596,6 +605,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalB2HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalC1Name() {
@@ -608,6 +618,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalC1Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalC1HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -618,6 +629,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalC1HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalC2Name() {
@@ -630,6 +642,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalC2Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalC2HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -640,6 +653,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalC2HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalD1Name() {
@@ -652,6 +666,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalD1Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalD1HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -662,6 +677,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalD1HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public String getSignalD2Name() {
@@ -674,6 +690,7 @@ public class LayoutTurnout extends LayoutTrack {
     public void setSignalD2Name(@Nullable String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalD2HeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -684,6 +701,7 @@ public class LayoutTurnout extends LayoutTrack {
             signalD2HeadNamed = null;
             log.error("Signal Head " + signalHead + " Not found for turnout " + getTurnoutName());
         }
+        beanAssigned();
     }
 
     public void removeBeanReference(jmri.NamedBean nb) {
@@ -779,6 +797,7 @@ public class LayoutTurnout extends LayoutTrack {
         SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).getSignalMast(signalMast);
         if (mast != null) {
             signalAMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } else {
             signalAMastNamed = null;
             log.error("Signal Mast " + signalMast + " Not found for turnout " + getTurnoutName());
@@ -808,6 +827,7 @@ public class LayoutTurnout extends LayoutTrack {
         SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).getSignalMast(signalMast);
         if (mast != null) {
             signalBMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } else {
             signalBMastNamed = null;
             log.error("Signal Mast " + signalMast + " Not found for turnout " + getTurnoutName());
@@ -837,6 +857,7 @@ public class LayoutTurnout extends LayoutTrack {
         SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).getSignalMast(signalMast);
         if (mast != null) {
             signalCMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } else {
             log.error("Signal Mast " + signalMast + " Not found for turnout " + getTurnoutName());
             signalCMastNamed = null;
@@ -866,6 +887,7 @@ public class LayoutTurnout extends LayoutTrack {
         SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).getSignalMast(signalMast);
         if (mast != null) {
             signalDMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } else {
             log.error("Signal Mast " + signalMast + " Not found for turnout " + getTurnoutName());
             signalDMastNamed = null;
@@ -895,6 +917,7 @@ public class LayoutTurnout extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorANamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorANamed = null;
         }
@@ -923,6 +946,7 @@ public class LayoutTurnout extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorBNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorBNamed = null;
         }
@@ -951,6 +975,7 @@ public class LayoutTurnout extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorCNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorCNamed = null;
         }
@@ -979,6 +1004,7 @@ public class LayoutTurnout extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorDNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorDNamed = null;
         }
@@ -1262,6 +1288,17 @@ public class LayoutTurnout extends LayoutTrack {
         return block;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isDrawnWithLayoutBlock(@Nonnull LayoutBlock layoutBlock) {
+        return (getLayoutBlock() == layoutBlock)
+                || (getLayoutBlockB() == layoutBlock)
+                || (getLayoutBlockC() == layoutBlock)
+                || (getLayoutBlockD() == layoutBlock);
+    }
+
     public Point2D getCoordsA() {
         if ((getTurnoutType() == DOUBLE_XOVER)
                 || (getTurnoutType() == LH_XOVER)
@@ -2636,6 +2673,7 @@ public class LayoutTurnout extends LayoutTrack {
                             entering = false;
                             if (rot != 0.0) {
                                 rotateCoords(rot);
+                                layoutEditor.invalidateLayoutTrackIndex();
                                 layoutEditor.redrawPanel();
                             }
                         }
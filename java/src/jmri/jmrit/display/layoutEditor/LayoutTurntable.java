@@ -128,6 +128,32 @@ public class LayoutTurntable extends LayoutTrack {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Rectangle2D getDrawnBounds() {
+        Rectangle2D result = getBounds();
+        double radius = getRadius();
+        result.add(new Rectangle2D.Double(center.getX() - radius, center.getY() - radius, radius * 2.0, radius * 2.0));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isDrawnWithLayoutBlock(@Nonnull LayoutBlock layoutBlock) {
+        // the rays are drawn in the color of the connected tracks
+        for (int k = 0; k < getNumberRays(); k++) {
+            TrackSegment ts = getRayConnectOrdered(k);
+            if ((ts != null) && (ts.getLayoutBlock() == layoutBlock)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * add a ray at the specified angle
      *
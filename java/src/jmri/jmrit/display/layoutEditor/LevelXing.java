@@ -219,6 +219,7 @@ public class LevelXing extends LayoutTrack {
     public void setSignalAName(String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalAHeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -228,6 +229,7 @@ public class LevelXing extends LayoutTrack {
         } else {
             signalAHeadNamed = null;
         }
+        beanAssigned();
     }
 
     public String getSignalBName() {
@@ -240,6 +242,7 @@ public class LevelXing extends LayoutTrack {
     public void setSignalBName(String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalBHeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -249,6 +252,7 @@ public class LevelXing extends LayoutTrack {
         } else {
             signalBHeadNamed = null;
         }
+        beanAssigned();
     }
 
     public String getSignalCName() {
@@ -261,6 +265,7 @@ public class LevelXing extends LayoutTrack {
     public void setSignalCName(String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalCHeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -270,6 +275,7 @@ public class LevelXing extends LayoutTrack {
         } else {
             signalCHeadNamed = null;
         }
+        beanAssigned();
     }
 
     public String getSignalDName() {
@@ -282,6 +288,7 @@ public class LevelXing extends LayoutTrack {
     public void setSignalDName(String signalHead) {
         if (signalHead == null || signalHead.isEmpty()) {
             signalDHeadNamed = null;
+            beanAssigned();
             return;
         }
 
@@ -291,6 +298,7 @@ public class LevelXing extends LayoutTrack {
         } else {
             signalDHeadNamed = null;
         }
+        beanAssigned();
     }
 
     public void removeBeanReference(jmri.NamedBean nb) {
@@ -376,6 +384,7 @@ public class LevelXing extends LayoutTrack {
         try {
             SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).provideSignalMast(signalMast);
             signalAMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             signalAMastNamed = null;
         }
@@ -404,6 +413,7 @@ public class LevelXing extends LayoutTrack {
         try {
             SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).provideSignalMast(signalMast);
             signalBMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             signalBMastNamed = null;
         }
@@ -432,6 +442,7 @@ public class LevelXing extends LayoutTrack {
         try {
             SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).provideSignalMast(signalMast);
             signalCMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             signalCMastNamed = null;
         }
@@ -460,6 +471,7 @@ public class LevelXing extends LayoutTrack {
         try {
             SignalMast mast = InstanceManager.getDefault(jmri.SignalMastManager.class).provideSignalMast(signalMast);
             signalDMastNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(signalMast, mast);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             signalDMastNamed = null;
         }
@@ -488,6 +500,7 @@ public class LevelXing extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorANamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorANamed = null;
         }
@@ -516,6 +529,7 @@ public class LevelXing extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorBNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorBNamed = null;
         }
@@ -544,6 +558,7 @@ public class LevelXing extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorCNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorCNamed = null;
         }
@@ -572,6 +587,7 @@ public class LevelXing extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             sensorDNamed = InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             sensorDNamed = null;
         }
@@ -691,6 +707,14 @@ public class LevelXing extends LayoutTrack {
         return blockBD;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isDrawnWithLayoutBlock(@Nonnull LayoutBlock layoutBlock) {
+        return (getLayoutBlockAC() == layoutBlock) || (getLayoutBlockBD() == layoutBlock);
+    }
+
     public Point2D getCoordsA() {
         return MathUtil.add(center, dispA);
     }
@@ -420,6 +420,7 @@ public class PositionablePoint extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             eastBoundSensorNamed = jmri.InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             eastBoundSensorNamed = null;
         }
@@ -450,6 +451,7 @@ public class PositionablePoint extends LayoutTrack {
         try {
             Sensor sensor = InstanceManager.sensorManagerInstance().provideSensor(sensorName);
             westBoundSensorNamed = jmri.InstanceManager.getDefault(jmri.NamedBeanHandleManager.class).getNamedBeanHandle(sensorName, sensor);
+            beanAssigned();
         } catch (IllegalArgumentException ex) {
             westBoundSensorNamed = null;
         }
@@ -500,6 +502,7 @@ public class PositionablePoint extends LayoutTrack {
             eastBoundSignalMastNamed = null;
             return;
         }
+        beanAssigned();
         if (getType() == EDGE_CONNECTOR) {
             int dir = getConnect1Dir();
             if (dir == Path.EAST || dir == Path.SOUTH || dir == Path.SOUTH_EAST) {
@@ -564,6 +567,7 @@ public class PositionablePoint extends LayoutTrack {
             westBoundSignalMastNamed = null;
             return;
         }
+        beanAssigned();
         if (getType() == EDGE_CONNECTOR) {
             int dir = getConnect1Dir();
             if (dir == Path.WEST || dir == Path.NORTH || dir == Path.NORTH_WEST) {
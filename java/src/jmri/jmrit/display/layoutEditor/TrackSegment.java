@@ -756,6 +756,36 @@ public class TrackSegment extends LayoutTrack {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Rectangle2D getDrawnBounds() {
+        Rectangle2D result = getBounds();
+        // include the parts of curves that bulge out between the end points
+        if (isArc() && (getConnect1() != null) && (getConnect2() != null)) {
+            calculateTrackSegmentAngle();
+            if (getChordLength() > 0.D) {
+                result.add(new Arc2D.Double(getCX(), getCY(), getCW(), getCH(),
+                        getStartAdj(), getTmpAngle(), Arc2D.OPEN).getBounds2D());
+            }
+        } else if (isBezier()) {
+            // a bezier curve is within the bounds of its control points
+            for (Point2D controlPoint : bezierControlPoints) {
+                result.add(controlPoint);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isDrawnWithLayoutBlock(@Nonnull LayoutBlock layoutBlock) {
+        return getLayoutBlock() == layoutBlock;
+    }
+
     private JPopupMenu popupMenu = null;
     private JCheckBoxMenuItem mainlineCheckBoxMenuItem = new JCheckBoxMenuItem(Bundle.getMessage("MainlineCheckBoxMenuItemTitle"));
     private JCheckBoxMenuItem hiddenCheckBoxMenuItem = new JCheckBoxMenuItem(Bundle.getMessage("HiddenCheckBoxMenuItemTitle"));
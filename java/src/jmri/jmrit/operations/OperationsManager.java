@@ -116,6 +116,7 @@ public final class OperationsManager implements InstanceManagerAutoDefault, Inst
             public boolean execute() {
                 try {
                     OperationsXml.save();
+                    OperationsXml.flush();
                 } catch (Exception ex) {
                     log.warn("Error saving operations state: {}", ex.getMessage());
                     log.debug("Details follow: ", ex);
@@ -12,6 +12,7 @@ import jmri.jmrit.operations.routes.RouteManagerXml;
 import jmri.jmrit.operations.setup.OperationsSetupXml;
 import jmri.jmrit.operations.trains.TrainManagerXml;
 import jmri.util.FileUtil;
+import org.jdom2.Document;
 import org.jdom2.JDOMException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,15 +29,65 @@ public abstract class OperationsXml extends XmlFile {
      * including making a backup if needed
      */
     public void writeOperationsFile() {
-        createFile(getDefaultOperationsFilename(), true); // make backup
+        writeOperationsFile(false);
+    }
+
+    private synchronized void writeOperationsFile(boolean background) {
+        backupOnWrite = true;
+        writeInBackground = background;
         try {
             writeFile(getDefaultOperationsFilename());
         } catch (IOException e) {
             log.error("Exception while writing operation file, may not be complete: {}", e.getMessage());
+        } finally {
+            backupOnWrite = false;
+            writeInBackground = false;
         }
     }
 
+    // set while writing the default file
+    private boolean backupOnWrite = false;
+    private boolean writeInBackground = false;
+
+    private static OperationsXmlWriter writer = null;
+
+    private static synchronized OperationsXmlWriter getWriter() {
+        if (writer == null) {
+            writer = new OperationsXmlWriter();
+        }
+        return writer;
+    }
+
+    /**
+     * Write a File as XML. The file is written to a temporary file that then
+     * replaces the file. When the operations files are being saved, the file
+     * is written in the background.
+     *
+     * @see #save()
+     */
+    @Override
+    public void writeXML(File file, Document doc) throws IOException, FileNotFoundException {
+        if (writeInBackground) {
+            getWriter().writeLater(this, file, doc, backupOnWrite);
+        } else {
+            getWriter().writeNow(this, file, doc, backupOnWrite);
+        }
+    }
+
+    void writeXMLFile(File file, Document doc) throws IOException {
+        super.writeXML(file, doc);
+    }
+
+    /**
+     * Wait for the operations files being saved in the background to be
+     * written. Use before reading, copying or deleting the files.
+     */
+    public static void flush() {
+        getWriter().flush();
+    }
+
     protected void load() {
+        flush();
         try {
             readFile(getDefaultOperationsFilename());
         } catch (IOException | JDOMException e) {
@@ -83,7 +134,8 @@ public abstract class OperationsXml extends XmlFile {
      */
     abstract public void readFile(String filename) throws org.jdom2.JDOMException, java.io.IOException;
 
-    private boolean dirty = false;
+    // set again by the background writer if a file can't be written
+    private volatile boolean dirty = false;
 
     public void setDirty(boolean b) {
         dirty = b;
@@ -93,9 +145,14 @@ public abstract class OperationsXml extends XmlFile {
         return dirty;
     }
 
+    /**
+     * Store the operation objects if they have been modified. The file is
+     * written in the background, and the objects are set dirty again if it
+     * can't be written.
+     */
     public void writeFileIfDirty() {
         if (isDirty()) {
-            writeOperationsFile();
+            writeOperationsFile(true);
         }
     }
 
@@ -208,7 +265,9 @@ public abstract class OperationsXml extends XmlFile {
     }
 
     /**
-     * Saves operation files that have been modified.
+     * Saves operation files that have been modified. The files are written
+     * in the background; use {@link #flush()} to wait for them to be
+     * written.
      */
     public static void save() {
         InstanceManager.getDefault(OperationsSetupXml.class).writeFileIfDirty();
@@ -0,0 +1,231 @@
+package jmri.jmrit.operations;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import jmri.InstanceManager;
+import jmri.ShutDownManager;
+import jmri.implementation.QuietShutDownTask;
+import org.jdom2.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes operations files on a background thread.
+ * <p>
+ * Each file is written from a document built when it was saved, so the
+ * document can be written while the operations objects keep changing. A file
+ * is first written to a temporary file in the same directory, which then
+ * replaces the file, so that the file is never left partly written. Files
+ * saved in the background are written after a short delay, and only the last
+ * document saved for a file in that time is written.
+ *
+ * @see OperationsXml#save()
+ */
+final class OperationsXmlWriter {
+
+    /**
+     * The time in milliseconds to wait before writing a file saved in the
+     * background.
+     */
+    static final long WRITE_DELAY = 500;
+
+    private static final String TEMP_SUFFIX = ".tmp"; // NOI18N
+
+    private final ScheduledExecutorService executor;
+    // writes waiting to start, by file
+    private final Map<File, Write> pending = new HashMap<>();
+
+    OperationsXmlWriter() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Write Operations Files"); // NOI18N
+            thread.setDaemon(true);
+            return thread;
+        });
+        // write the files still waiting when JMRI shuts down, even if the
+        // operations shut down task has been replaced
+        InstanceManager.getOptionalDefault(ShutDownManager.class).ifPresent(manager -> {
+            manager.register(new QuietShutDownTask("Write Operations Files") { // NOI18N
+                @Override
+                public boolean execute() {
+                    flush();
+                    return true;
+                }
+            });
+        });
+    }
+
+    /**
+     * Write a file in the background. If the file is already waiting to be
+     * written, the new document replaces the one waiting.
+     *
+     * @param xml    writes the document
+     * @param file   the file to write
+     * @param doc    the document to write
+     * @param backup true to keep a backup of the file being replaced
+     */
+    void writeLater(@Nonnull OperationsXml xml, @Nonnull File file, @Nonnull Document doc, boolean backup) {
+        synchronized (pending) {
+            Write write = pending.get(file);
+            if (write != null) {
+                write.doc = doc;
+                write.backup |= backup;
+                return;
+            }
+            write = new Write(xml, file, doc, backup);
+            pending.put(file, write);
+            write.future = executor.schedule(write, WRITE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Write a file and wait for it to be written. Any write of the file
+     * waiting to start is dropped, as it was saved earlier.
+     *
+     * @param xml    writes the document
+     * @param file   the file to write
+     * @param doc    the document to write
+     * @param backup true to keep a backup of the file being replaced
+     * @throws IOException if the file could not be written
+     */
+    void writeNow(@Nonnull OperationsXml xml, @Nonnull File file, @Nonnull Document doc, boolean backup)
+            throws IOException {
+        Write write = new Write(xml, file, doc, backup);
+        synchronized (pending) {
+            Write waiting = pending.remove(file);
+            if (waiting != null) {
+                waiting.superseded = true;
+                waiting.future.cancel(false);
+                write.backup |= waiting.backup;
+            }
+            write.future = executor.submit(() -> {
+                write.writeFile();
+                return null;
+            });
+        }
+        try {
+            write.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for operations file to be written");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            log.error("Exception while writing operation file", e.getCause());
+        }
+    }
+
+    /**
+     * Write the files waiting to be written now, and wait for all files to be
+     * written.
+     */
+    void flush() {
+        List<Write> writes;
+        synchronized (pending) {
+            writes = new ArrayList<>(pending.values());
+        }
+        for (Write write : writes) {
+            if (write.future.cancel(false)) {
+                executor.execute(write);
+            }
+        }
+        waitFor(executor.submit(() -> {
+        }));
+    }
+
+    private void waitFor(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for operations files to be written");
+        } catch (ExecutionException e) {
+            log.error("Exception while writing operation file", e.getCause());
+        }
+    }
+
+    private final class Write implements Runnable {
+
+        private final OperationsXml xml;
+        private final File file;
+        private Document doc;
+        private boolean backup;
+        private boolean superseded = false;
+        private Future<?> future;
+
+        Write(OperationsXml xml, File file, Document doc, boolean backup) {
+            this.xml = xml;
+            this.file = file;
+            this.doc = doc;
+            this.backup = backup;
+        }
+
+        @Override
+        public void run() {
+            try {
+                writeFile();
+            } catch (IOException e) {
+                log.error("Exception while writing operation file, may not be complete: {}", e.getMessage());
+            }
+        }
+
+        /**
+         * Write the file, unless it has been written since. If the file can't
+         * be written, the operations objects it holds are set dirty again so
+         * that the next save writes them.
+         *
+         * @throws IOException if the file could not be written
+         */
+        void writeFile() throws IOException {
+            Document document;
+            boolean backupFile;
+            synchronized (pending) {
+                if (superseded) {
+                    return;
+                }
+                if (pending.get(file) == this) {
+                    pending.remove(file);
+                }
+                document = doc;
+                backupFile = backup;
+            }
+            try {
+                write(document, backupFile);
+            } catch (IOException e) {
+                xml.setDirty(true);
+                throw e;
+            }
+        }
+
+        private void write(Document document, boolean backupFile) throws IOException {
+            File temp = new File(file.getPath() + TEMP_SUFFIX);
+            xml.writeXMLFile(temp, document);
+            if (backupFile && file.exists()) {
+                Files.copy(file.toPath(), new File(xml.backupFileName(file.getAbsolutePath())).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("Wrote operations file {}", file);
+        }
+    }
+
+    private final static Logger log = LoggerFactory.getLogger(OperationsXmlWriter.class);
+}
@@ -3,9 +3,13 @@ package jmri.jmrit.operations.locations;
 import java.awt.Point;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.swing.JComboBox;
 import jmri.InstanceManager;
 import jmri.Reporter;
@@ -1612,7 +1616,29 @@ public class Location implements java.beans.PropertyChangeListener {
         pcs.removePropertyChangeListener(l);
     }
 
+    // changes to the rolling stock at a location, not to its settings
+    private static final Set<String> USAGE_PROPERTIES = new HashSet<>(Arrays.asList(
+            "locationAddDropRS", "locationAddPickupRS", "locationDeleteDropRS", "locationDeletePickupRS", // NOI18N
+            "locationNumberRS", "locationNumberCars", "locationNumberEngines", USEDLENGTH_CHANGED_PROPERTY)); // NOI18N
+
+    // count of changes to the settings of any location
+    private static final AtomicLong settingChanges = new AtomicLong();
+
+    /**
+     * Get the number of times the settings of any location have been changed,
+     * so that lookups of which train can service a car know when they must be
+     * rebuilt. Rolling stock arriving or departing is not counted.
+     *
+     * @return the count of changes
+     */
+    public static long getSettingChanges() {
+        return settingChanges.get();
+    }
+
     protected void setDirtyAndFirePropertyChange(String p, Object old, Object n) {
+        if (!USAGE_PROPERTIES.contains(p)) {
+            settingChanges.incrementAndGet();
+        }
         InstanceManager.getDefault(LocationManagerXml.class).setDirty(true);
         pcs.firePropertyChange(p, old, n);
     }
@@ -2,7 +2,11 @@ package jmri.jmrit.operations.locations;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import jmri.InstanceManager;
 import jmri.Reporter;
 import jmri.jmrit.operations.OperationsXml;
@@ -2922,7 +2926,33 @@ public class Track {
         pcs.removePropertyChangeListener(l);
     }
 
+    // changes to the rolling stock on a track and to the position in its
+    // schedule, not to its settings
+    private static final Set<String> USAGE_PROPERTIES = new HashSet<>(Arrays.asList(
+            "trackReserved", "trackAddReservedInRoute", "trackDeleteReservedInRoute", "trackUsedLength", // NOI18N
+            PLANNEDPICKUPS_CHANGED_PROPERTY, "trackNumberRS", "trackNumberCars", "trackNumberEngines", // NOI18N
+            "trackPickupRS", "trackDeletePickupRS", "trackAddDropRS", "trackDeleteDropRS", "trackMoves", // NOI18N
+            SCHEDULE_CHANGED_PROPERTY));
+
+    // count of changes to the settings of any track
+    private static final AtomicLong settingChanges = new AtomicLong();
+
+    /**
+     * Get the number of times the settings of any track have been changed, so
+     * that lookups of which train can service a car know when they must be
+     * rebuilt. Rolling stock arriving or departing, and moving through a
+     * schedule, is not counted.
+     *
+     * @return the count of changes
+     */
+    public static long getSettingChanges() {
+        return settingChanges.get();
+    }
+
     protected void setDirtyAndFirePropertyChange(String p, Object old, Object n) {
+        if (!USAGE_PROPERTIES.contains(p)) {
+            settingChanges.incrementAndGet();
+        }
         InstanceManager.getDefault(LocationManagerXml.class).setDirty(true);
         pcs.firePropertyChange(p, old, n);
     }
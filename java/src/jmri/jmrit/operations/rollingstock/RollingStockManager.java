@@ -1,9 +1,19 @@
 package jmri.jmrit.operations.rollingstock;
 
+import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import jmri.jmrit.operations.locations.Location;
 import jmri.jmrit.operations.locations.Track;
 import jmri.jmrit.operations.trains.Train;
@@ -25,6 +35,33 @@ public class RollingStockManager<T extends RollingStock> {
 
     public static final String LISTLENGTH_CHANGED_PROPERTY = "RollingStockListLength"; // NOI18N
 
+    // lookups of rolling stock by location, track and train, kept up to date
+    // as rolling stock is added, removed, moved and assigned to trains
+    private final Object _lookupLock = new Object();
+    private final Map<T, Filing> _filings = new HashMap<>();
+    private final Map<Location, Set<T>> _byLocation = new HashMap<>();
+    private final Map<Track, Set<T>> _byTrack = new HashMap<>();
+    private final Map<Train, Set<T>> _byTrain = new HashMap<>();
+    // the position of each rolling stock in the roster, rebuilt when needed
+    private final Map<T, Integer> _rosterOrder = new HashMap<>();
+    // sorted lists of all rolling stock, cleared when rolling stock is added
+    // or removed, and kept in order as rolling stock changes
+    private final Map<String, SortedList> _sortedLists = new HashMap<>();
+    private final PropertyChangeListener _lookupListener = (e) -> {
+        synchronized (_lookupLock) {
+            @SuppressWarnings("unchecked")
+            T rs = (T) e.getSource();
+            _sortedLists.values().removeIf(sorted -> !sorted.update(rs, e.getPropertyName()));
+            if (e.getPropertyName().equals(RollingStock.TRACK_CHANGED_PROPERTY)
+                    || e.getPropertyName().equals(RollingStock.TRAIN_CHANGED_PROPERTY)) {
+                Filing filing = _filings.get(e.getSource());
+                if (filing != null) {
+                    filing.update();
+                }
+            }
+        }
+    };
+
     public RollingStockManager() {
     }
 
@@ -107,7 +144,16 @@ public class RollingStockManager<T extends RollingStock> {
      */
     public void register(T rs) {
         int oldSize = _hashTable.size();
+        T old = _hashTable.get(rs.getId());
+        if (old != null && old != rs) {
+            synchronized (_lookupLock) {
+                removeFiling(old);
+            }
+        }
         _hashTable.put(rs.getId(), rs);
+        synchronized (_lookupLock) {
+            addFiling(rs);
+        }
         firePropertyChange(LISTLENGTH_CHANGED_PROPERTY, oldSize, _hashTable.size());
     }
 
@@ -119,11 +165,17 @@ public class RollingStockManager<T extends RollingStock> {
     public void deregister(T rs) {
         rs.dispose();
         int oldSize = _hashTable.size();
+        synchronized (_lookupLock) {
+            removeFiling(rs);
+        }
         _hashTable.remove(rs.getId());
         firePropertyChange(LISTLENGTH_CHANGED_PROPERTY, oldSize, _hashTable.size());
     }
 
     public void changeId(T rs, String road, String number) {
+        synchronized (_lookupLock) {
+            removeFiling(rs);
+        }
         _hashTable.remove(rs.getId());
         rs._id = RollingStock.createId(road, number);
         register(rs);
@@ -138,6 +190,9 @@ public class RollingStockManager<T extends RollingStock> {
         while (en.hasMoreElements()) {
             T rs = getById(en.nextElement());
             rs.dispose();
+            synchronized (_lookupLock) {
+                removeFiling(rs);
+            }
             _hashTable.remove(rs.getId());
         }
         firePropertyChange(LISTLENGTH_CHANGED_PROPERTY, oldSize, _hashTable.size());
@@ -160,25 +215,104 @@ public class RollingStockManager<T extends RollingStock> {
         return new ArrayList<>(_hashTable.values());
     }
 
+    /**
+     * Get a list of all rolling stock sorted by a method other than
+     * {@link #getByList(List, int)}. The list is sorted again after rolling
+     * stock has been added or removed, or a property that the sort depends on
+     * has changed.
+     *
+     * @param name       the name of the sort order
+     * @param sorter     creates the sorted list
+     * @param attributes the attributes the sort depends on
+     * @return a copy of the sorted list
+     */
+    protected List<T> getSortedList(String name, Supplier<List<T>> sorter, int... attributes) {
+        synchronized (_lookupLock) {
+            SortedList sorted = _sortedLists.get(name);
+            if (sorted == null) {
+                sorted = new SortedList(sorter.get(), null, null, attributes);
+                _sortedLists.put(name, sorted);
+            }
+            return new ArrayList<>(sorted.list);
+        }
+    }
+
+    /**
+     * Get a list of all rolling stock sorted by one or more attributes. Rolling
+     * stock with equal attributes stays in the order of the base list. The
+     * list is sorted again after rolling stock has been added or removed; when
+     * an attribute of one rolling stock changes, only that rolling stock is
+     * moved.
+     *
+     * @param name       the name of the sort order
+     * @param baseName   the name of the sorted list returned by base, or null
+     *                   if base returns {@link #getList()}
+     * @param base       gets the list to sort
+     * @param attributes the attributes to sort by, most significant first
+     * @return a copy of the sorted list
+     */
+    protected List<T> getSortedList(String name, String baseName, Supplier<List<T>> base, int... attributes) {
+        synchronized (_lookupLock) {
+            SortedList sorted = _sortedLists.get(name);
+            if (sorted == null) {
+                List<T> baseList = base.get();
+                List<T> list = baseList;
+                for (int i = attributes.length - 1; i >= 0; i--) {
+                    list = getByList(list, attributes[i]);
+                }
+                SortedList baseSorted = (baseName == null) ? null : _sortedLists.get(baseName);
+                Comparator<T> baseOrder;
+                if (baseName == null) {
+                    baseOrder = (r1, r2) -> (getRosterOrder(r1) - getRosterOrder(r2));
+                } else if (baseSorted != null && baseSorted.order != null) {
+                    baseOrder = baseSorted.order;
+                } else {
+                    // the base can't move a single rolling stock, so keep the
+                    // order of its list until the base has to be sorted again
+                    Map<T, Integer> positions = new HashMap<>();
+                    for (T rs : baseList) {
+                        positions.put(rs, positions.size());
+                    }
+                    baseOrder = (r1, r2) -> (positions.get(r1) - positions.get(r2));
+                }
+                sorted = new SortedList(list, baseOrder, baseSorted, attributes);
+                if (baseName != null && baseSorted == null) {
+                    log.warn("Sorted list {} is not based on a sorted list named {}", name, baseName);
+                    sorted.dropOnAny = true;
+                }
+                _sortedLists.put(name, sorted);
+            }
+            return new ArrayList<>(sorted.list);
+        }
+    }
+
     /**
      * Sort by rolling stock id
      *
      * @return list of RollingStock ordered by id
      */
     public List<T> getByIdList() {
-        Enumeration<String> en = _hashTable.keys();
-        String[] arr = new String[_hashTable.size()];
-        List<T> out = new ArrayList<>();
-        int i = 0;
-        while (en.hasMoreElements()) {
-            arr[i] = en.nextElement();
-            i++;
-        }
-        java.util.Arrays.sort(arr);
-        for (i = 0; i < arr.length; i++) {
-            out.add(getById(arr[i]));
+        synchronized (_lookupLock) {
+            SortedList sorted = _sortedLists.get("id");
+            if (sorted == null) {
+                Enumeration<String> en = _hashTable.keys();
+                String[] arr = new String[_hashTable.size()];
+                List<T> out = new ArrayList<>();
+                int i = 0;
+                while (en.hasMoreElements()) {
+                    arr[i] = en.nextElement();
+                    i++;
+                }
+                java.util.Arrays.sort(arr);
+                for (i = 0; i < arr.length; i++) {
+                    out.add(getById(arr[i]));
+                }
+                // the id only changes when rolling stock is registered again
+                sorted = new SortedList(out, (r1, r2) -> (r1.getId().compareTo(r2.getId())), null);
+                _sortedLists.put("id", sorted);
+            }
+            return new ArrayList<>(sorted.list);
         }
-        return out;
     }
 
     /**
@@ -187,7 +321,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by road name
      */
     public List<T> getByRoadNameList() {
-        return getByList(getByIdList(), BY_ROAD);
+        return getSortedList("road", "id", this::getByIdList, BY_ROAD);
     }
 
     private static final int PAGE_SIZE = 64;
@@ -201,93 +335,95 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by number
      */
     public List<T> getByNumberList() {
-        // first get by road list
-        List<T> sortIn = getByRoadNameList();
-        // now re-sort
-        List<T> out = new ArrayList<>();
-        int rsNumber = 0;
-        int outRsNumber = 0;
-
-        for (T rs : sortIn) {
-            boolean rsAdded = false;
-            try {
-                rsNumber = Integer.parseInt(rs.getNumber());
-                rs.number = rsNumber;
-            } catch (NumberFormatException e) {
-                // maybe rolling stock number in the format nnnn-N
+        return getSortedList("number", () -> {
+            // first get by road list
+            List<T> sortIn = getByRoadNameList();
+            // now re-sort
+            List<T> out = new ArrayList<>();
+            int rsNumber = 0;
+            int outRsNumber = 0;
+
+            for (T rs : sortIn) {
+                boolean rsAdded = false;
                 try {
-                    String[] number = rs.getNumber().split("-");
-                    rsNumber = Integer.parseInt(number[0]);
+                    rsNumber = Integer.parseInt(rs.getNumber());
                     rs.number = rsNumber;
-                } catch (NumberFormatException e2) {
-                    rs.number = NOT_INTEGER;
-                    // sort alphanumeric numbers at the end of the out list
-                    String numberIn = rs.getNumber();
-                    // log.debug("rolling stock in road number ("+numberIn+") isn't a number");
-                    for (int k = (out.size() - 1); k >= 0; k--) {
-                        String numberOut = out.get(k).getNumber();
-                        try {
-                            Integer.parseInt(numberOut);
-                            // done, place rolling stock with alphanumeric
-                            // number after rolling stocks with real numbers.
-                            out.add(k + 1, rs);
-                            rsAdded = true;
-                            break;
-                        } catch (NumberFormatException e3) {
-                            if (numberIn.compareToIgnoreCase(numberOut) >= 0) {
+                } catch (NumberFormatException e) {
+                    // maybe rolling stock number in the format nnnn-N
+                    try {
+                        String[] number = rs.getNumber().split("-");
+                        rsNumber = Integer.parseInt(number[0]);
+                        rs.number = rsNumber;
+                    } catch (NumberFormatException e2) {
+                        rs.number = NOT_INTEGER;
+                        // sort alphanumeric numbers at the end of the out list
+                        String numberIn = rs.getNumber();
+                        // log.debug("rolling stock in road number ("+numberIn+") isn't a number");
+                        for (int k = (out.size() - 1); k >= 0; k--) {
+                            String numberOut = out.get(k).getNumber();
+                            try {
+                                Integer.parseInt(numberOut);
+                                // done, place rolling stock with alphanumeric
+                                // number after rolling stocks with real numbers.
                                 out.add(k + 1, rs);
                                 rsAdded = true;
                                 break;
+                            } catch (NumberFormatException e3) {
+                                if (numberIn.compareToIgnoreCase(numberOut) >= 0) {
+                                    out.add(k + 1, rs);
+                                    rsAdded = true;
+                                    break;
+                                }
                             }
                         }
+                        if (!rsAdded) {
+                            out.add(0, rs);
+                        }
+                        continue;
                     }
-                    if (!rsAdded) {
-                        out.add(0, rs);
-                    }
-                    continue;
                 }
-            }
 
-            int start = 0;
-            // page to improve sort performance.
-            int divisor = out.size() / PAGE_SIZE;
-            for (int k = divisor; k > 0; k--) {
-                outRsNumber = out.get((out.size() - 1) * k / divisor).number;
-                if (outRsNumber == NOT_INTEGER) {
-                    continue;
-                }
-                if (rsNumber >= outRsNumber) {
-                    start = (out.size() - 1) * k / divisor;
-                    break;
+                int start = 0;
+                // page to improve sort performance.
+                int divisor = out.size() / PAGE_SIZE;
+                for (int k = divisor; k > 0; k--) {
+                    outRsNumber = out.get((out.size() - 1) * k / divisor).number;
+                    if (outRsNumber == NOT_INTEGER) {
+                        continue;
+                    }
+                    if (rsNumber >= outRsNumber) {
+                        start = (out.size() - 1) * k / divisor;
+                        break;
+                    }
                 }
-            }
-            for (int j = start; j < out.size(); j++) {
-                outRsNumber = out.get(j).number;
-                if (outRsNumber == NOT_INTEGER) {
-                    try {
-                        outRsNumber = Integer.parseInt(out.get(j).getNumber());
-                    } catch (NumberFormatException e) {
+                for (int j = start; j < out.size(); j++) {
+                    outRsNumber = out.get(j).number;
+                    if (outRsNumber == NOT_INTEGER) {
                         try {
-                            String[] number = out.get(j).getNumber().split("-");
-                            outRsNumber = Integer.parseInt(number[0]);
-                        } catch (NumberFormatException e2) {
-                            // force add
-                            outRsNumber = rsNumber + 1;
+                            outRsNumber = Integer.parseInt(out.get(j).getNumber());
+                        } catch (NumberFormatException e) {
+                            try {
+                                String[] number = out.get(j).getNumber().split("-");
+                                outRsNumber = Integer.parseInt(number[0]);
+                            } catch (NumberFormatException e2) {
+                                // force add
+                                outRsNumber = rsNumber + 1;
+                            }
                         }
                     }
+                    if (rsNumber < outRsNumber) {
+                        out.add(j, rs);
+                        rsAdded = true;
+                        break;
+                    }
                 }
-                if (rsNumber < outRsNumber) {
-                    out.add(j, rs);
-                    rsAdded = true;
-                    break;
+                if (!rsAdded) {
+                    out.add(rs);
                 }
             }
-            if (!rsAdded) {
-                out.add(rs);
-            }
-        }
-        // log.debug("end rolling stock sort by number list");
-        return out;
+            // log.debug("end rolling stock sort by number list");
+            return out;
+        }, BY_NUMBER, BY_ROAD);
     }
 
     /**
@@ -296,7 +432,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock type
      */
     public List<T> getByTypeList() {
-        return getByList(getByRoadNameList(), BY_TYPE);
+        return getSortedList("type", "road", this::getByRoadNameList, BY_TYPE);
     }
 
     /**
@@ -322,7 +458,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock color
      */
     public List<T> getByColorList() {
-        return getByList(getByTypeList(), BY_COLOR);
+        return getSortedList("color", "type", this::getByTypeList, BY_COLOR);
     }
 
     /**
@@ -331,7 +467,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock location
      */
     public List<T> getByLocationList() {
-        return getByList(getList(), BY_LOCATION);
+        return getSortedList("location", null, this::getList, BY_LOCATION);
     }
 
     /**
@@ -340,7 +476,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock destination
      */
     public List<T> getByDestinationList() {
-        return getByList(getByLocationList(), BY_DESTINATION);
+        return getSortedList("destination", "location", this::getByLocationList, BY_DESTINATION);
     }
 
     /**
@@ -349,9 +485,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by trains
      */
     public List<T> getByTrainList() {
-        List<T> byDest = getByList(getByIdList(), BY_DESTINATION);
-        List<T> byLoc = getByList(byDest, BY_LOCATION);
-        return getByList(byLoc, BY_TRAIN);
+        return getSortedList("train", "id", this::getByIdList, BY_TRAIN, BY_LOCATION, BY_DESTINATION);
     }
 
     /**
@@ -360,7 +494,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock moves
      */
     public List<T> getByMovesList() {
-        return getByList(getList(), BY_MOVES);
+        return getSortedList("moves", null, this::getList, BY_MOVES);
     }
 
     /**
@@ -369,7 +503,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock built date
      */
     public List<T> getByBuiltList() {
-        return getByList(getByIdList(), BY_BUILT);
+        return getSortedList("built", "id", this::getByIdList, BY_BUILT);
     }
 
     /**
@@ -378,7 +512,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RollingStock owner
      */
     public List<T> getByOwnerList() {
-        return getByList(getByIdList(), BY_OWNER);
+        return getSortedList("owner", "id", this::getByIdList, BY_OWNER);
     }
 
     /**
@@ -387,7 +521,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by value
      */
     public List<T> getByValueList() {
-        return getByList(getByIdList(), BY_VALUE);
+        return getSortedList("value", "id", this::getByIdList, BY_VALUE);
     }
 
     /**
@@ -396,7 +530,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by RFIDs
      */
     public List<T> getByRfidList() {
-        return getByList(getByIdList(), BY_RFID);
+        return getSortedList("rfid", "id", this::getByIdList, BY_RFID);
     }
 
     /**
@@ -405,7 +539,7 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock ordered by last date
      */
     public List<T> getByLastDateList() {
-        return getByList(getByIdList(), BY_LAST);
+        return getSortedList("last", "id", this::getByIdList, BY_LAST);
     }
 
     /**
@@ -420,7 +554,16 @@ public class RollingStockManager<T extends RollingStock> {
 
     protected List<T> getByList(List<T> sortIn, int attribute) {
         List<T> out = new ArrayList<>(sortIn);
-        out.sort(getComparator(attribute));
+        if (attribute == BY_BUILT) {
+            // convert each built date once, not on every comparison
+            Map<T, String> dates = new HashMap<>();
+            for (T rs : out) {
+                dates.put(rs, convertBuildDate(rs.getBuilt()));
+            }
+            out.sort((r1, r2) -> (dates.get(r1).compareToIgnoreCase(dates.get(r2))));
+        } else {
+            out.sort(getComparator(attribute));
+        }
         return out;
     }
 
@@ -463,14 +606,11 @@ public class RollingStockManager<T extends RollingStock> {
             case BY_COLOR:
                 return (r1, r2) -> (r1.getColor().compareToIgnoreCase(r2.getColor()));
             case BY_LOCATION:
-                return (r1, r2) -> (r1.getStatus() + r1.getLocationName() + r1.getTrackName())
-                        .compareToIgnoreCase(r2.getStatus()
-                                + r2.getLocationName()
-                                + r2.getTrackName());
+                return (r1, r2) -> compareIgnoreCase(r1.getStatus(), r1.getLocationName(), r1.getTrackName(),
+                        r2.getStatus(), r2.getLocationName(), r2.getTrackName());
             case BY_DESTINATION:
-                return (r1, r2) -> (r1.getDestinationName() + r1.getDestinationTrackName())
-                        .compareToIgnoreCase(r2.getDestinationName()
-                                + r2.getDestinationTrackName());
+                return (r1, r2) -> compareIgnoreCase(NONE, r1.getDestinationName(), r1.getDestinationTrackName(),
+                        NONE, r2.getDestinationName(), r2.getDestinationTrackName());
             case BY_TRAIN:
                 return (r1, r2) -> (r1.getTrainName().compareToIgnoreCase(r2.getTrainName()));
             case BY_MOVES:
@@ -489,11 +629,58 @@ public class RollingStockManager<T extends RollingStock> {
             case BY_BLOCKING:
                 return (r1, r2) -> (r1.getBlocking() - r2.getBlocking());
             default:
-                return (r1, r2) -> ((r1.getRoadName() + r1.getNumber()).compareToIgnoreCase(r2.getRoadName()
-                        + r2.getNumber()));
+                return (r1, r2) -> compareIgnoreCase(NONE, r1.getRoadName(), r1.getNumber(),
+                        NONE, r2.getRoadName(), r2.getNumber());
         }
     }
 
+    /**
+     * Compare the strings a1 + a2 + a3 and b1 + b2 + b3 as
+     * {@link String#compareToIgnoreCase(String)} would, without creating them.
+     *
+     * @param a1 the start of the first string
+     * @param a2 the middle of the first string
+     * @param a3 the end of the first string
+     * @param b1 the start of the second string
+     * @param b2 the middle of the second string
+     * @param b3 the end of the second string
+     * @return a negative integer, zero, or a positive integer as the first
+     *         string is less than, equal to, or greater than the second,
+     *         ignoring case
+     */
+    protected static int compareIgnoreCase(String a1, String a2, String a3, String b1, String b2, String b3) {
+        int length1 = a1.length() + a2.length() + a3.length();
+        int length2 = b1.length() + b2.length() + b3.length();
+        int min = Math.min(length1, length2);
+        for (int i = 0; i < min; i++) {
+            char c1 = charAt(a1, a2, a3, i);
+            char c2 = charAt(b1, b2, b3, i);
+            if (c1 != c2) {
+                c1 = Character.toUpperCase(c1);
+                c2 = Character.toUpperCase(c2);
+                if (c1 != c2) {
+                    c1 = Character.toLowerCase(c1);
+                    c2 = Character.toLowerCase(c2);
+                    if (c1 != c2) {
+                        return c1 - c2;
+                    }
+                }
+            }
+        }
+        return length1 - length2;
+    }
+
+    private static char charAt(String s1, String s2, String s3, int index) {
+        if (index < s1.length()) {
+            return s1.charAt(index);
+        }
+        index -= s1.length();
+        if (index < s2.length()) {
+            return s2.charAt(index);
+        }
+        return s3.charAt(index - s2.length());
+    }
+
     private String convertBuildDate(String date) {
         String[] built = date.split("-");
         if (built.length == 2) {
@@ -539,13 +726,9 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock
      */
     public List<T> getList(Train train) {
-        List<T> out = new ArrayList<>();
-        _hashTable.values().stream().filter((rs) -> {
-            return rs.getTrain() == train;
-        }).forEachOrdered((rs) -> {
-            out.add(rs);
-        });
-        return out;
+        synchronized (_lookupLock) {
+            return inRosterOrder(_byTrain.getOrDefault(train, Collections.emptySet()));
+        }
     }
 
     /**
@@ -555,13 +738,9 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock
      */
     public List<T> getList(Location location) {
-        List<T> out = new ArrayList<>();
-        _hashTable.values().stream().filter((rs) -> {
-            return rs.getLocation() == location;
-        }).forEachOrdered((rs) -> {
-            out.add(rs);
-        });
-        return out;
+        synchronized (_lookupLock) {
+            return inRosterOrder(_byLocation.getOrDefault(location, Collections.emptySet()));
+        }
     }
 
     /**
@@ -571,15 +750,248 @@ public class RollingStockManager<T extends RollingStock> {
      * @return list of RollingStock
      */
     public List<T> getList(Track track) {
-        List<T> out = new ArrayList<>();
-        _hashTable.values().stream().filter((rs) -> {
-            return rs.getTrack() == track;
-        }).forEachOrdered((rs) -> {
-            out.add(rs);
-        });
+        synchronized (_lookupLock) {
+            return inRosterOrder(_byTrack.getOrDefault(track, Collections.emptySet()));
+        }
+    }
+
+    /**
+     * Returns a list of RollingStock at any of a set of locations, in the
+     * same order as {@link #getList()}.
+     *
+     * @param locations the locations to search for.
+     * @return list of RollingStock
+     */
+    protected List<T> getList(Collection<Location> locations) {
+        synchronized (_lookupLock) {
+            List<T> out = new ArrayList<>();
+            for (Location location : locations) {
+                out.addAll(_byLocation.getOrDefault(location, Collections.emptySet()));
+            }
+            return inRosterOrder(out);
+        }
+    }
+
+    // properties of rolling stock that change when another object changes, so
+    // the sort order of other rolling stock has changed as well
+    private static final Set<String> SHARED_PROPERTIES = new HashSet<>(Arrays.asList(
+            Location.NAME_CHANGED_PROPERTY, Train.NAME_CHANGED_PROPERTY));
+
+    /**
+     * Get the names of the rolling stock properties that change a sort
+     * attribute.
+     *
+     * @param attribute the sort attribute
+     * @return the property names, or null if not known
+     */
+    protected String[] getSortProperties(int attribute) {
+        switch (attribute) {
+            case BY_NUMBER:
+                return new String[]{"rolling stock number"}; // NOI18N
+            case BY_ROAD:
+                return new String[]{"rolling stock road"}; // NOI18N
+            case BY_TYPE:
+                return new String[]{RollingStock.TYPE_CHANGED_PROPERTY};
+            case BY_COLOR:
+                return new String[]{"rolling stock color"}; // NOI18N
+            case BY_LOCATION:
+                return new String[]{RollingStock.TRACK_CHANGED_PROPERTY, Location.NAME_CHANGED_PROPERTY,
+                    "car location known", "car out of service"}; // NOI18N
+            case BY_DESTINATION:
+                return new String[]{RollingStock.DESTINATION_CHANGED_PROPERTY,
+                    RollingStock.DESTINATION_TRACK_CHANGED_PROPERTY, Location.NAME_CHANGED_PROPERTY};
+            case BY_TRAIN:
+                return new String[]{RollingStock.TRAIN_CHANGED_PROPERTY, Train.NAME_CHANGED_PROPERTY};
+            case BY_MOVES:
+                return new String[]{"rolling stock moves"}; // NOI18N
+            case BY_BUILT:
+                return new String[]{"rolling stock built"}; // NOI18N
+            case BY_OWNER:
+                return new String[]{"rolling stock owner"}; // NOI18N
+            case BY_RFID:
+                return new String[]{"rolling stock rfid"}; // NOI18N
+            case BY_VALUE:
+                return new String[]{"rolling stock value"}; // NOI18N
+            case BY_LAST:
+                return new String[]{"rolling stock date"}; // NOI18N
+            case BY_BLOCKING:
+                return new String[]{"rolling stock blocking changed"}; // NOI18N
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * A sorted list of all rolling stock, and the properties that change its
+     * order. Must only be used holding _lookupLock.
+     */
+    private class SortedList {
+
+        private final List<T> list;
+        // the order of the list, or null if only a full sort gives the order
+        private final Comparator<T> order;
+        // properties after which the rolling stock is moved in the list
+        private final Set<String> moveOn = new HashSet<>();
+        // properties after which the list is sorted again
+        private final Set<String> sortOn = new HashSet<>();
+        private boolean dropOnAny = false;
+
+        /**
+         * @param list       the sorted list
+         * @param baseOrder  the order of rolling stock with equal attributes,
+         *                   or null if the list is not sorted by attributes
+         * @param base       the sorted list the list was sorted from, if any
+         * @param attributes the attributes the list is sorted by, or depends
+         *                   on if baseOrder is null
+         */
+        SortedList(List<T> list, Comparator<T> baseOrder, SortedList base, int... attributes) {
+            this.list = list;
+            Set<String> properties = (baseOrder == null) ? sortOn : moveOn;
+            Comparator<T> comparator = null;
+            for (int attribute : attributes) {
+                String[] names = getSortProperties(attribute);
+                if (names == null) {
+                    dropOnAny = true;
+                } else {
+                    properties.addAll(Arrays.asList(names));
+                }
+                comparator = (comparator == null) ? getComparator(attribute)
+                        : comparator.thenComparing(getComparator(attribute));
+            }
+            if (baseOrder == null) {
+                order = null;
+            } else {
+                order = (comparator == null) ? baseOrder : comparator.thenComparing(baseOrder);
+            }
+            if (base != null) {
+                moveOn.addAll(base.moveOn);
+                sortOn.addAll(base.sortOn);
+                dropOnAny |= base.dropOnAny;
+            }
+        }
+
+        /**
+         * Keep the list in order after a property of a rolling stock changed.
+         *
+         * @param rs       the rolling stock that changed
+         * @param property the name of the property that changed
+         * @return false if the list has to be sorted again
+         */
+        boolean update(T rs, String property) {
+            if (dropOnAny || sortOn.contains(property)) {
+                return false;
+            }
+            if (moveOn.contains(property)) {
+                if (SHARED_PROPERTIES.contains(property) || !list.remove(rs)) {
+                    return false;
+                }
+                int index = Collections.binarySearch(list, rs, order);
+                list.add(index < 0 ? -index - 1 : index, rs);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Where a rolling stock is filed in the lookups by location, track and
+     * train. Must only be used holding _lookupLock.
+     */
+    private class Filing {
+
+        private final T rs;
+        private Location location;
+        private Track track;
+        private Train train;
+
+        Filing(T rs) {
+            this.rs = rs;
+            this.location = rs.getLocation();
+            this.track = rs.getTrack();
+            this.train = rs.getTrain();
+            _byLocation.computeIfAbsent(location, k -> new HashSet<>()).add(rs);
+            _byTrack.computeIfAbsent(track, k -> new HashSet<>()).add(rs);
+            _byTrain.computeIfAbsent(train, k -> new HashSet<>()).add(rs);
+        }
+
+        void update() {
+            if (location != rs.getLocation()) {
+                remove(_byLocation, location);
+                location = rs.getLocation();
+                _byLocation.computeIfAbsent(location, k -> new HashSet<>()).add(rs);
+            }
+            if (track != rs.getTrack()) {
+                remove(_byTrack, track);
+                track = rs.getTrack();
+                _byTrack.computeIfAbsent(track, k -> new HashSet<>()).add(rs);
+            }
+            if (train != rs.getTrain()) {
+                remove(_byTrain, train);
+                train = rs.getTrain();
+                _byTrain.computeIfAbsent(train, k -> new HashSet<>()).add(rs);
+            }
+        }
+
+        void dispose() {
+            remove(_byLocation, location);
+            remove(_byTrack, track);
+            remove(_byTrain, train);
+        }
+
+        private <K> void remove(Map<K, Set<T>> lookup, K key) {
+            Set<T> set = lookup.get(key);
+            if (set != null) {
+                set.remove(rs);
+                if (set.isEmpty()) {
+                    lookup.remove(key);
+                }
+            }
+        }
+    }
+
+    private void addFiling(T rs) {
+        if (!_filings.containsKey(rs)) {
+            _filings.put(rs, new Filing(rs));
+            rs.addPropertyChangeListener(_lookupListener);
+        }
+        _rosterOrder.clear();
+        _sortedLists.clear();
+    }
+
+    private void removeFiling(T rs) {
+        Filing filing = _filings.remove(rs);
+        if (filing != null) {
+            filing.dispose();
+            rs.removePropertyChangeListener(_lookupListener);
+        }
+        _rosterOrder.clear();
+        _sortedLists.clear();
+    }
+
+    /**
+     * Get rolling stock from a lookup in the same order as {@link #getList()}.
+     * Must be called holding _lookupLock.
+     */
+    private List<T> inRosterOrder(Collection<T> collection) {
+        List<T> out = new ArrayList<>(collection);
+        if (out.size() > 1) {
+            out.sort((r1, r2) -> (getRosterOrder(r1) - getRosterOrder(r2)));
+        }
         return out;
     }
 
+    /**
+     * Get the position of a rolling stock in {@link #getList()}. Must be
+     * called holding _lookupLock.
+     */
+    private int getRosterOrder(T rs) {
+        if (_rosterOrder.isEmpty()) {
+            for (T r : _hashTable.values()) {
+                _rosterOrder.put(r, _rosterOrder.size());
+            }
+        }
+        return _rosterOrder.get(rs);
+    }
+
     java.beans.PropertyChangeSupport pcs = new java.beans.PropertyChangeSupport(this);
 
     public synchronized void addPropertyChangeListener(java.beans.PropertyChangeListener l) {
@@ -2,12 +2,15 @@ package jmri.jmrit.operations.rollingstock.cars;
 
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Set;
 import javax.swing.JComboBox;
 import jmri.InstanceManager;
 import jmri.InstanceManagerAutoDefault;
 import jmri.InstanceManagerAutoInitialize;
+import jmri.jmrit.operations.locations.Location;
 import jmri.jmrit.operations.rollingstock.RollingStockManager;
 import jmri.jmrit.operations.routes.Route;
 import jmri.jmrit.operations.routes.RouteLocation;
@@ -222,7 +225,7 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
      */
     @Override
     public List<Car> getByLocationList() {
-        return getByList(getByKernelList(), BY_LOCATION);
+        return getSortedList("location", "kernel", this::getByKernelList, BY_LOCATION);
     }
 
     /**
@@ -231,7 +234,7 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
      * @return list of cars ordered by car kernel
      */
     public List<Car> getByKernelList() {
-        return getByList(getByList(getByNumberList(), BY_BLOCKING), BY_KERNEL);
+        return getSortedList("kernel", "number", this::getByNumberList, BY_KERNEL, BY_BLOCKING);
     }
 
     /**
@@ -240,7 +243,7 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
      * @return list of cars ordered by car loads
      */
     public List<Car> getByLoadList() {
-        return getByList(getByLocationList(), BY_LOAD);
+        return getSortedList("load", "location", this::getByLocationList, BY_LOAD);
     }
 
     /**
@@ -249,11 +252,11 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
      * @return list of cars ordered by car return when empty
      */
     public List<Car> getByRweList() {
-        return getByList(getByLocationList(), BY_RWE);
+        return getSortedList("rwe", "location", this::getByLocationList, BY_RWE);
     }
 
     public List<Car> getByFinalDestinationList() {
-        return getByList(getByDestinationList(), BY_FINAL_DEST);
+        return getSortedList("finalDestination", "destination", this::getByDestinationList, BY_FINAL_DEST);
     }
 
     /**
@@ -262,11 +265,11 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
      * @return list of cars ordered by wait count
      */
     public List<Car> getByWaitList() {
-        return getByList(getByIdList(), BY_WAIT);
+        return getSortedList("wait", "id", this::getByIdList, BY_WAIT);
     }
 
     public List<Car> getByPickupList() {
-        return getByList(getByIdList(), BY_PICKUP);
+        return getSortedList("pickup", "id", this::getByIdList, BY_PICKUP);
     }
 
     // The special sort options for cars
@@ -304,6 +307,29 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
         }
     }
 
+    @Override
+    protected String[] getSortProperties(int attribute) {
+        switch (attribute) {
+            case BY_LOAD:
+                return new String[]{Car.LOAD_CHANGED_PROPERTY};
+            case BY_KERNEL:
+                return new String[]{Car.KERNEL_NAME_CHANGED_PROPERTY};
+            case BY_RWE:
+                return new String[]{Car.RETURN_WHEN_EMPTY_CHANGED_PROPERTY, Location.NAME_CHANGED_PROPERTY};
+            case BY_FINAL_DEST:
+                return new String[]{Car.FINAL_DESTINATION_CHANGED_PROPERTY,
+                    Car.FINAL_DESTINATION_TRACK_CHANGED_PROPERTY, Location.NAME_CHANGED_PROPERTY};
+            case BY_WAIT:
+                return new String[]{Car.WAIT_CHANGED_PROPERTY, Car.NEXT_WAIT_CHANGED_PROPERTY};
+            case BY_PICKUP:
+                return new String[]{"car pickup schedule changes"}; // NOI18N
+            case BY_HAZARD:
+                return new String[]{"car hazardous"}; // NOI18N
+            default:
+                return super.getSortProperties(attribute);
+        }
+    }
+
     /**
      * Return a list available cars (no assigned train or car already assigned
      * to this train) on a route, cars are ordered least recently moved to most
@@ -341,39 +367,37 @@ public class CarManager extends RollingStockManager<Car> implements InstanceMana
                 destination = null; // include cars at destination
             }
         }
-        // get rolling stock by priority and then by moves
-        List<Car> sortByPriority = sortByPriority(getByMovesList());
-        // now build list of available Car for this route
-        for (Car car : sortByPriority) {
-            // only use Car with a location
-            if (car.getLocation() == null) {
-                continue;
+        // get the locations served by this route, other than the destination
+        Set<Location> locations = new HashSet<>();
+        for (RouteLocation rl : routeList) {
+            if (rl.getLocation() != null && (destination == null || !rl.getName().equals(destination.getName()))) {
+                locations.add(rl.getLocation());
             }
-            RouteLocation rl = route.getLastLocationByName(car.getLocationName());
-            // get Car that don't have an assigned train, or the
-            // assigned train is this one
-            if (rl != null && rl != destination && (car.getTrain() == null || train.equals(car.getTrain()))) {
+        }
+        // get Car that don't have an assigned train, or the
+        // assigned train is this one
+        for (Car car : getList(locations)) {
+            if (car.getTrain() == null || train.equals(car.getTrain())) {
                 out.add(car);
             }
         }
-        return out;
+        // order by priority and then by moves
+        return sortByPriority(getByList(out, BY_MOVES));
     }
 
-    // sorts the high priority cars to the start of the list
     protected List<Car> sortByPriority(List<Car> list) {
         List<Car> out = new ArrayList<>();
+        List<Car> low = new ArrayList<>();
         // move high priority cars to the start
         for (Car car : list) {
             if (car.getLoadPriority().equals(CarLoad.PRIORITY_HIGH)) {
                 out.add(car);
+            } else {
+                low.add(car);
             }
         }
         // now load all of the remaining low priority cars
-        for (Car rs : list) {
-            if (!out.contains(rs)) {
-                out.add(rs);
-            }
-        }
+        out.addAll(low);
         return out;
     }
 
@@ -3,7 +3,9 @@ package jmri.jmrit.operations.router;
 import java.io.PrintWriter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import jmri.InstanceManager;
 import jmri.InstanceManagerAutoDefault;
 import jmri.jmrit.operations.locations.Location;
@@ -40,6 +42,10 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
     private final List<Train> _nextLocationTrains = new ArrayList<>();
     private final List<Train> _lastLocationTrains = new ArrayList<>();
 
+    // trains found that carry the car being routed from one track to another,
+    // only kept while that one car is routed
+    private final Map<Track, Map<Track, Train>> _trainsBetweenTracks = new HashMap<>();
+
     protected static final String STATUS_NOT_THIS_TRAIN = Bundle.getMessage("RouterTrain");
     protected static final String STATUS_NOT_ABLE = Bundle.getMessage("RouterNotAble");
     public static final String STATUS_CAR_AT_DESINATION = Bundle.getMessage("RouterCarAtDestination");
@@ -119,6 +125,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
         _status = Track.OKAY;
         _train = train;
         _buildReport = buildReport;
+        _trainsBetweenTracks.clear();
         _addtoReport = Setup.getRouterBuildReportLevel().equals(Setup.BUILD_REPORT_DETAILED) ||
                 Setup.getRouterBuildReportLevel().equals(Setup.BUILD_REPORT_VERY_DETAILED);
         _addtoReportVeryDetailed = Setup.getRouterBuildReportLevel().equals(Setup.BUILD_REPORT_VERY_DETAILED);
@@ -715,7 +722,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
             for (Track llt : _lastLocationTracks) {
                 testCar.setDestinationTrack(llt); // set car to this destination and track
                 // does a train service these two locations?
-                Train middleTrain = InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add to report
+                Train middleTrain = getTrainForCar(testCar); // don't add to report
                 if (middleTrain != null) {
                     log.debug("Found 3 train route, setting car destination ({}, {})", testCar.getLocationName(),
                             testCar.getTrackName());
@@ -755,7 +762,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
                 testCar.setTrack(nlt); // set car to this location and track
                 testCar.setDestinationTrack(mlt); // set car to this destination and track
                 // does a train service these two locations?
-                Train middleTrain2 = InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add to report
+                Train middleTrain2 = getTrainForCar(testCar); // don't add to report
                 if (middleTrain2 != null) {
                     if (debugFlag) {
                         log.debug("Train 2 ({}) services car from ({}) to ({}, {})", middleTrain2.getName(), testCar
@@ -764,9 +771,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
                     for (Track llt : _lastLocationTracks) {
                         testCar.setTrack(mlt); // set car to this location and track
                         testCar.setDestinationTrack(llt); // set car to this destination and track
-                        Train middleTrain3 =
-                                InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add to
-                        // report
+                        Train middleTrain3 = getTrainForCar(testCar); // don't add to report
                         if (middleTrain3 != null) {
                             log.debug("Found 4 train route, setting car destination ({}, {})", nlt.getLocation()
                                     .getName(), nlt.getName());
@@ -816,7 +821,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
                 testCar.setTrack(nlt); // set car to this location and track
                 testCar.setDestinationTrack(mlt1); // set car to this destination and track
                 // does a train service these two locations?
-                Train middleTrain2 = InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add to report
+                Train middleTrain2 = getTrainForCar(testCar); // don't add to report
                 if (middleTrain2 != null) {
                     if (debugFlag) {
                         log.debug("Train 2 ({}) services car from ({}) to ({}, {})", middleTrain2.getName(), testCar
@@ -829,9 +834,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
                         testCar.setTrack(mlt1); // set car to this location and track
                         testCar.setDestinationTrack(mlt2); // set car to this destination and track
                         // does a train service these two locations?
-                        Train middleTrain3 =
-                                InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add to
-                        // report
+                        Train middleTrain3 = getTrainForCar(testCar); // don't add to report
                         if (middleTrain3 != null) {
                             if (debugFlag) {
                                 log.debug("Train 3 ({}) services car from ({}) to ({}, {})", middleTrain3.getName(),
@@ -842,9 +845,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
                                 testCar.setTrack(mlt2); // set car to this location and track
                                 testCar.setDestinationTrack(llt); // set car to this destination and track
                                 // does a train service these two locations?
-                                Train middleTrain4 =
-                                        InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add
-                                // to report
+                                Train middleTrain4 = getTrainForCar(testCar); // don't add to report
                                 if (middleTrain4 != null) {
                                     log.debug("Found 5 train route, setting car destination ({}, {})", nlt
                                             .getLocation().getName(), nlt.getName());
@@ -975,7 +976,7 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
             if (specific.equals(YES) || specific.equals(NOT_NOW)) {
                 train = _train;
             } else {
-                train = InstanceManager.getDefault(TrainManager.class).getTrainForCar(testCar, null); // don't add to report
+                train = getTrainForCar(testCar); // don't add to report
             }
             // Can specific train carry this car out of staging?
             if (car.getTrack().getTrackType().equals(Track.STAGING) && !specific.equals(YES)) {
@@ -1013,6 +1014,27 @@ public class Router extends TrainCommon implements InstanceManagerAutoDefault {
         }
     }
 
+    /**
+     * Find a train that can carry the test car from its track to its
+     * destination track. The search for a route using three or more trains
+     * tests the same pairs of tracks many times, so the train found for each
+     * pair is kept until the next car is routed. The train manager keeps the
+     * trains found for all cars, but not those that depend on the train being
+     * built, which do not change while one car is routed.
+     *
+     * @param testCar the clone of the car being routed
+     * @return the train or null if no train can carry the car
+     */
+    private Train getTrainForCar(Car testCar) {
+        Map<Track, Train> trains = _trainsBetweenTracks.computeIfAbsent(testCar.getTrack(), k -> new HashMap<>());
+        if (trains.containsKey(testCar.getDestinationTrack())) {
+            return trains.get(testCar.getDestinationTrack());
+        }
+        Train train = InstanceManager.getDefault(TrainManager.class).getTrainForCarBetweenTracks(testCar); // don't add to report
+        trains.put(testCar.getDestinationTrack(), train);
+        return train;
+    }
+
     private static final String NO = "no"; // NOI18N
     private static final String YES = "yes"; // NOI18N
     private static final String NOT_NOW = "not now"; // NOI18N
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.swing.JComboBox;
 import jmri.InstanceManager;
 import jmri.jmrit.operations.locations.Location;
@@ -522,7 +523,28 @@ public class Route implements java.beans.PropertyChangeListener {
         pcs.removePropertyChangeListener(l);
     }
 
+    // count of changes to any route
+    private static final AtomicLong propertyChanges = new AtomicLong();
+
+    /**
+     * Get the number of times any route has been changed, so that lookups by
+     * the locations in routes know when they must be rebuilt.
+     *
+     * @return the count of changes
+     */
+    public static long getPropertyChanges() {
+        return propertyChanges.get();
+    }
+
+    /**
+     * Count a change to a location in any route.
+     */
+    static void routeLocationChanged() {
+        propertyChanges.incrementAndGet();
+    }
+
     protected void setDirtyAndFirePropertyChange(String p, Object old, Object n) {
+        propertyChanges.incrementAndGet();
         InstanceManager.getDefault(RouteManagerXml.class).setDirty(true);
         pcs.firePropertyChange(p, old, n);
     }
@@ -630,6 +630,7 @@ public class RouteLocation implements java.beans.PropertyChangeListener {
     }
 
     protected void setDirtyAndFirePropertyChange(String p, Object old, Object n) {
+        Route.routeLocationChanged();
         InstanceManager.getDefault(RouteManagerXml.class).setDirty(true);
         firePropertyChange(p, old, n);
     }
@@ -218,6 +218,7 @@ public abstract class BackupBase {
     public void copyBackupSet(File sourceDir, File destDir) throws IOException {
         log.debug("copying backup set from: {} to: {}", sourceDir, destDir);
         log.info("Saving copy of operations files to: {}", destDir);
+        OperationsXml.flush(); // wait for files being saved
 
         if (!sourceDir.exists()) // This throws an exception, as the dir should
         // exist.
@@ -382,6 +383,7 @@ public abstract class BackupBase {
     public void deleteOperationsFiles() {
         // TODO Maybe this should also only delete specific files used by Operations,
         // and not just all XML files.
+        OperationsXml.flush(); // wait for files being saved
         File files = getOperationsRoot();
 
         if (!files.exists()) {
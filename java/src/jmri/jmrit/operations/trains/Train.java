@@ -8,6 +8,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import javax.swing.JOptionPane;
 import jmri.InstanceManager;
@@ -1046,6 +1047,7 @@ public class Train implements java.beans.PropertyChangeListener {
         for (String type : types) {
             _typeList.add(type);
         }
+        propertyChanges.incrementAndGet();
     }
 
     /**
@@ -4283,7 +4285,22 @@ public class Train implements java.beans.PropertyChangeListener {
         pcs.removePropertyChangeListener(l);
     }
 
+    // count of changes to any train
+    private static final AtomicLong propertyChanges = new AtomicLong();
+
+    /**
+     * Get the number of times any train has been changed. Used by the train
+     * manager to know when its lookups of the trains that may service a car
+     * must be rebuilt.
+     *
+     * @return the count of changes
+     */
+    static long getPropertyChanges() {
+        return propertyChanges.get();
+    }
+
     protected void setDirtyAndFirePropertyChange(String p, Object old, Object n) {
+        propertyChanges.incrementAndGet();
         InstanceManager.getDefault(TrainManagerXml.class).setDirty(true);
         pcs.firePropertyChange(p, old, n);
     }
@@ -5,15 +5,23 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.swing.JComboBox;
 import javax.swing.JOptionPane;
 import jmri.InstanceManager;
 import jmri.InstanceManagerAutoDefault;
 import jmri.InstanceManagerAutoInitialize;
 import jmri.jmrit.operations.locations.Location;
+import jmri.jmrit.operations.locations.Track;
 import jmri.jmrit.operations.rollingstock.cars.Car;
 import jmri.jmrit.operations.rollingstock.cars.CarLoad;
 import jmri.jmrit.operations.routes.Route;
@@ -271,11 +279,26 @@ public class TrainManager implements InstanceManagerAutoDefault, InstanceManager
 
     public void dispose() {
         _trainHashTable.clear();
+        _listChanges.incrementAndGet();
         _id = 0;
     }
 
     // stores known Train instances by id
     private final Hashtable<String, Train> _trainHashTable = new Hashtable<>();
+    private final AtomicLong _listChanges = new AtomicLong();
+
+    // lookups of the trains that may service a car, by car type and by the
+    // locations in the train's route, rebuilt when trains or routes change
+    private final Object _serviceLookupLock = new Object();
+    private long _serviceLookupChanges = -1;
+    private final Map<String, List<Train>> _trainsByCarType = new HashMap<>();
+    private final Map<Location, Set<Train>> _trainsByLocation = new HashMap<>();
+
+    // the train found to carry a kind of car from one track to another, for
+    // all cars, cleared when a train, route, location or track setting changes
+    private final Object _trainsBetweenTracksLock = new Object();
+    private long _trainsBetweenTracksChanges = -1;
+    private final Map<List<Object>, Train> _trainsBetweenTracks = new HashMap<>();
 
     /**
      * @param name The train's name.
@@ -439,7 +462,10 @@ public class TrainManager implements InstanceManagerAutoDefault, InstanceManager
                     .getMessage("trainFindForCar"), new Object[]{car.toString(), car.getLocationName(),
                 car.getTrackName(), car.getDestinationName(), car.getDestinationTrackName()}));
         }
-        for (Train train : getTrainsByIdList()) {
+        // the very detailed report lists why each train can't service the car
+        List<Train> trains = Setup.getRouterBuildReportLevel().equals(Setup.BUILD_REPORT_VERY_DETAILED)
+                ? getTrainsByIdList() : getTrainsThatMayService(car);
+        for (Train train : trains) {
             if (train == excludeTrain) {
                 continue;
             }
@@ -454,6 +480,107 @@ public class TrainManager implements InstanceManagerAutoDefault, InstanceManager
         return null;
     }
 
+    /**
+     * Find a train that can carry a car from its track to its destination
+     * track, as {@link #getTrainForCar(Car, PrintWriter)} does without a build
+     * report. The train found is kept for other cars of the same type, load,
+     * road, owner and built date that need to go between the same tracks,
+     * until a train, route, location or track setting changes.
+     * <p>
+     * A train being built can run out of moves or length, so an answer that
+     * depends on one is not kept. Nor is an answer for a car without a
+     * destination track, as the tracks at its destination are checked against
+     * the car's length and the track's schedule.
+     *
+     * @param car the car looking for a train
+     * @return the train or null if no train can carry the car
+     */
+    public Train getTrainForCarBetweenTracks(Car car) {
+        if (car.getTrack() == null || car.getDestinationTrack() == null) {
+            return getTrainForCar(car, null);
+        }
+        List<Object> key = Arrays.asList(car.getTrack(), car.getDestinationTrack(),
+                car.getTypeName(), car.getLoadName(), car.getRoadName(), car.getOwner(), car.getBuilt(),
+                car.isCaboose(), car.hasFred(), car.isPassenger(),
+                Setup.isCheckCarDestinationEnabled(), Setup.isOnlyActiveTrainsEnabled());
+        synchronized (_trainsBetweenTracksLock) {
+            long changes = Train.getPropertyChanges() + Route.getPropertyChanges() + _listChanges.get()
+                    + Location.getSettingChanges() + Track.getSettingChanges();
+            if (changes != _trainsBetweenTracksChanges) {
+                _trainsBetweenTracks.clear();
+                _trainsBetweenTracksChanges = changes;
+            }
+            if (_trainsBetweenTracks.containsKey(key)) {
+                return _trainsBetweenTracks.get(key);
+            }
+        }
+        Train train = getTrainForCar(car, null);
+        // a train being built that took the car, or turned it away for lack
+        // of moves or length, may answer differently later
+        for (Train building : new ArrayList<>(_trainHashTable.values())) {
+            if (building.getStatusCode() == Train.CODE_BUILDING
+                    && (building == train || !building.getServiceStatus().equals(Train.NONE))) {
+                return train;
+            }
+        }
+        synchronized (_trainsBetweenTracksLock) {
+            _trainsBetweenTracks.put(key, train);
+        }
+        return train;
+    }
+
+    /**
+     * Get the trains that carry a car's type and have both the car's location
+     * and destination in their route. Other trains can not service the car.
+     *
+     * @param car the car
+     * @return the trains, ordered by id
+     */
+    List<Train> getTrainsThatMayService(Car car) {
+        synchronized (_serviceLookupLock) {
+            updateServiceLookups();
+            List<Train> out = new ArrayList<>();
+            Set<Train> atLocation = _trainsByLocation.getOrDefault(car.getLocation(), Collections.emptySet());
+            Set<Train> atDestination = (car.getDestination() != null)
+                    ? _trainsByLocation.getOrDefault(car.getDestination(), Collections.emptySet()) : null;
+            for (Train train : _trainsByCarType.getOrDefault(car.getTypeName(), Collections.emptyList())) {
+                if (atLocation.contains(train) && (atDestination == null || atDestination.contains(train))) {
+                    out.add(train);
+                }
+            }
+            return out;
+        }
+    }
+
+    /**
+     * Rebuild the lookups of trains by car type and route location if any
+     * train or route has changed since they were last built. Must be called
+     * holding _serviceLookupLock.
+     */
+    private void updateServiceLookups() {
+        long changes = Train.getPropertyChanges() + Route.getPropertyChanges() + _listChanges.get();
+        if (changes == _serviceLookupChanges) {
+            return;
+        }
+        _trainsByCarType.clear();
+        _trainsByLocation.clear();
+        for (Train train : getTrainsByIdList()) {
+            Route route = train.getRoute();
+            if (route == null) {
+                continue; // can't service any car
+            }
+            for (String type : train.getTypeNames()) {
+                _trainsByCarType.computeIfAbsent(type, k -> new ArrayList<>()).add(train);
+            }
+            for (RouteLocation rl : route.getLocationsBySequenceList()) {
+                if (rl.getLocation() != null) {
+                    _trainsByLocation.computeIfAbsent(rl.getLocation(), k -> new HashSet<>()).add(train);
+                }
+            }
+        }
+        _serviceLookupChanges = changes;
+    }
+
     /**
      * Sort by train name
      *
@@ -1136,6 +1263,7 @@ public class TrainManager implements InstanceManagerAutoDefault, InstanceManager
     }
 
     private void setDirtyAndFirePropertyChange(String p, Object old, Object n) {
+        _listChanges.incrementAndGet();
         InstanceManager.getDefault(TrainManagerXml.class).setDirty(true);
         pcs.firePropertyChange(p, old, n);
     }
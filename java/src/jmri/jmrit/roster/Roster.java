@@ -90,6 +90,18 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
     static final public String schemaVersion = ""; // NOI18N
     private String defaultRosterGroup = null;
     private final HashMap<String, RosterGroup> rosterGroups = new HashMap<>();
+    /*
+     * Lookups into _list, rebuilt on demand after _list or an indexed property
+     * of an entry changes. Lists within the lookups are in _list order.
+     * Guarded by _list.
+     */
+    private boolean indexed = false;
+    private long indexedEntryChanges = -1;
+    private final HashMap<String, RosterEntry> idIndex = new HashMap<>();
+    private final HashMap<String, List<RosterEntry>> dccAddressIndex = new HashMap<>();
+    private final HashMap<String, List<RosterEntry>> roadNameIndex = new HashMap<>();
+    private final HashMap<String, List<RosterEntry>> roadNumberIndex = new HashMap<>();
+    private final HashMap<String, List<RosterEntry>> groupIndex = new HashMap<>();
     // initialize logging
     private final static Logger log = LoggerFactory.getLogger(Roster.class);
 
@@ -225,6 +237,7 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
                 i--;
             }
             _list.add(i + 1, e);
+            indexed = false;
         }
         e.addPropertyChangeListener(this);
         this.addRosterGroups(e.getGroups(this));
@@ -242,6 +255,7 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
         log.debug("Remove entry {}", e);
         synchronized (_list) {
             _list.remove(e);
+            indexed = false;
         }
         e.removePropertyChangeListener(this);
         setDirty(true);
@@ -281,14 +295,8 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
      * @return The matching RosterEntry or null
      */
     public RosterEntry entryFromTitle(String title) {
-        synchronized (_list) {
-            for (RosterEntry re : _list) {
-                if (re.titleString().equals(title)) {
-                    return re;
-                }
-            }
-        }
-        return null;
+        // the title of an entry is its ID
+        return getEntryForId(title);
     }
 
     /**
@@ -299,13 +307,9 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
      */
     public RosterEntry getEntryForId(String id) {
         synchronized (_list) {
-            for (RosterEntry re : _list) {
-                if (re.getId().equals(id)) {
-                    return re;
-                }
-            }
+            updateIndexes();
+            return idIndex.get(id);
         }
-        return null;
     }
 
     /**
@@ -316,11 +320,10 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
      */
     @Nonnull
     public List<RosterEntry> getEntriesByDccAddress(String a) {
-        return findMatchingEntries(
-                (RosterEntry r) -> {
-                    return r.getDccAddress().equals(a);
-                }
-        );
+        synchronized (_list) {
+            updateIndexes();
+            return new ArrayList<>(dccAddressIndex.getOrDefault(a, Collections.emptyList()));
+        }
     }
 
     /**
@@ -451,31 +454,50 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
         if (group == null || group.equals(Roster.ALLENTRIES) || group.isEmpty()) {
             return this.matchingList(null, null, null, null, null, null, null);
         } else {
-            return this.getEntriesWithAttributeKeyValue(Roster.getRosterGroupProperty(group), "yes"); // NOI18N
+            synchronized (_list) {
+                updateIndexes();
+                return new ArrayList<>(groupIndex.getOrDefault(Roster.getRosterGroupProperty(group), Collections.emptyList()));
+            }
         }
     }
 
     /**
-     * Internal interface works with #findMatchingEntries to provide a common
-     * search-match-return capability.
+     * Rebuild the lookups into the roster if the roster or an indexed
+     * property of an entry has changed since they were last built. Must be
+     * called while synchronized on _list.
      */
-    private interface RosterComparator {
-
-        public boolean check(RosterEntry r);
+    private void updateIndexes() {
+        // entries count changes as they are made, since the property change
+        // events that report them are delivered later
+        long entryChanges = RosterEntry.getIndexedPropertyChanges();
+        if (indexed && indexedEntryChanges == entryChanges) {
+            return;
+        }
+        idIndex.clear();
+        dccAddressIndex.clear();
+        roadNameIndex.clear();
+        roadNumberIndex.clear();
+        groupIndex.clear();
+        for (RosterEntry r : _list) {
+            // first entry with an ID wins, as the search used to
+            idIndex.putIfAbsent(r.getId(), r);
+            addToIndex(dccAddressIndex, r.getDccAddress(), r);
+            addToIndex(roadNameIndex, r.getRoadName(), r);
+            addToIndex(roadNumberIndex, r.getRoadNumber(), r);
+            for (String key : r.getAttributes()) {
+                if (key.startsWith(getRosterGroupPrefix()) && "yes".equals(r.getAttribute(key))) { // NOI18N
+                    addToIndex(groupIndex, key, r);
+                }
+            }
+        }
+        indexed = true;
+        indexedEntryChanges = entryChanges;
     }
 
-    /**
-     * Internal method works with #RosterComparator to provide a common
-     * search-match-return capability.
-     */
-    private List<RosterEntry> findMatchingEntries(RosterComparator c) {
-        List<RosterEntry> l = new ArrayList<>();
-        synchronized (_list) {
-            _list.stream().filter((r) -> (c.check(r))).forEachOrdered((r) -> {
-                l.add(r);
-            });
+    private static void addToIndex(HashMap<String, List<RosterEntry>> index, String key, RosterEntry r) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(r);
         }
-        return l;
     }
 
     /**
@@ -495,13 +517,36 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
     @Nonnull
     public List<RosterEntry> getEntriesMatchingCriteria(String roadName, String roadNumber, String dccAddress,
             String mfg, String decoderModel, String decoderFamily, String id, String group) {
-        return findMatchingEntries(
-                (RosterEntry r) -> {
-                    return checkEntry(r, roadName, roadNumber, dccAddress,
-                            mfg, decoderModel, decoderFamily,
-                            id, group);
-                }
-        );
+        List<RosterEntry> l = new ArrayList<>();
+        synchronized (_list) {
+            updateIndexes();
+            // check only the entries in the smallest list from the lookups
+            List<RosterEntry> candidates = _list;
+            if (id != null) {
+                RosterEntry r = idIndex.get(id);
+                candidates = (r != null) ? Collections.singletonList(r) : Collections.emptyList();
+            }
+            candidates = smaller(candidates, roadName, roadNameIndex);
+            candidates = smaller(candidates, roadNumber, roadNumberIndex);
+            candidates = smaller(candidates, dccAddress, dccAddressIndex);
+            if (group != null && !Roster.ALLENTRIES.equals(group)) {
+                candidates = smaller(candidates, Roster.getRosterGroupProperty(group), groupIndex);
+            }
+            candidates.stream().filter((r) -> (checkEntry(r, roadName, roadNumber, dccAddress,
+                    mfg, decoderModel, decoderFamily,
+                    id, group))).forEachOrdered((r) -> {
+                l.add(r);
+            });
+        }
+        return l;
+    }
+
+    private static List<RosterEntry> smaller(List<RosterEntry> candidates, String key, HashMap<String, List<RosterEntry>> index) {
+        if (key == null) {
+            return candidates;
+        }
+        List<RosterEntry> l = index.getOrDefault(key, Collections.emptyList());
+        return (l.size() < candidates.size()) ? l : candidates;
     }
 
     /**
@@ -990,6 +1035,7 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
         synchronized (_list) {
 
             _list.clear();
+            indexed = false;
         }
         this.rosterGroups.clear();
         // and read new
@@ -1104,6 +1150,7 @@ public class Roster extends XmlFile implements RosterGroupSelector, PropertyChan
         log.debug("EntryIdChanged");
         synchronized (_list) {
             Collections.sort(_list, (RosterEntry o1, RosterEntry o2) -> o1.getId().compareToIgnoreCase(o2.getId()));
+            indexed = false;
         }
         firePropertyChange(CHANGE, null, r);
     }
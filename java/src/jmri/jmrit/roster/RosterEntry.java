@@ -12,11 +12,14 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.swing.ImageIcon;
@@ -74,6 +77,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     public static final String ID = "id"; // NOI18N
     public static final String FILENAME = "filename"; // NOI18N
     public static final String ROADNAME = "roadname"; // NOI18N
+    public static final String ROADNUMBER = "roadnumber"; // NOI18N
     public static final String MFG = "mfg"; // NOI18N
     public static final String MODEL = "model"; // NOI18N
     public static final String OWNER = "owner"; // NOI18N
@@ -166,6 +170,17 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
 
     protected RosterSpeedProfile _sp = null;
 
+    /**
+     * Count of changes to the properties of any entry that {@link Roster}
+     * looks entries up by. Unlike the property change events reporting them,
+     * this is updated before the change returns.
+     */
+    private static final AtomicLong INDEXED_PROPERTY_CHANGES = new AtomicLong();
+
+    static long getIndexedPropertyChanges() {
+        return INDEXED_PROPERTY_CHANGES.get();
+    }
+
     /**
      * Construct a blank object.
      */
@@ -251,6 +266,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
         String oldID = _id;
         _id = s;
         if (oldID == null || !oldID.equals(s)) {
+            INDEXED_PROPERTY_CHANGES.incrementAndGet();
             firePropertyChange(RosterEntry.ID, oldID, s);
         }
     }
@@ -315,6 +331,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     public void setRoadName(String s) {
         String old = _roadName;
         _roadName = s;
+        INDEXED_PROPERTY_CHANGES.incrementAndGet();
         firePropertyChange(RosterEntry.ROADNAME, old, s);
     }
 
@@ -325,7 +342,8 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     public void setRoadNumber(String s) {
         String old = _roadNumber;
         _roadNumber = s;
-        firePropertyChange(RosterEntry.ROADNAME, old, s);
+        INDEXED_PROPERTY_CHANGES.incrementAndGet();
+        firePropertyChange(RosterEntry.ROADNUMBER, old, s);
     }
 
     public String getRoadNumber() {
@@ -371,6 +389,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     public void setDccAddress(String s) {
         String old = _dccAddress;
         _dccAddress = s;
+        INDEXED_PROPERTY_CHANGES.incrementAndGet();
         firePropertyChange(RosterEntry.DCC_ADDRESS, old, s);
     }
 
@@ -1024,6 +1043,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     public void putAttribute(String key, String value) {
         String oldValue = getAttribute(key);
         attributePairs.put(key, value);
+        INDEXED_PROPERTY_CHANGES.incrementAndGet();
         firePropertyChange(RosterEntry.ATTRIBUTE_UPDATED + key, oldValue, value);
     }
 
@@ -1036,6 +1056,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     public void deleteAttribute(String key) {
         if (attributePairs.containsKey(key)) {
             attributePairs.remove(key);
+            INDEXED_PROPERTY_CHANGES.incrementAndGet();
             firePropertyChange(RosterEntry.ATTRIBUTE_DELETED, key, null);
         }
     }
@@ -1254,8 +1275,10 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
         String fullFilename = LocoFile.getFileLocation() + getFileName();
 
         // read in the content
+        Element root = null;
         try {
-            mRootElement = df.rootFromName(fullFilename);
+            root = df.rootFromName(fullFilename);
+            setRootElement(root);
         } catch (JDOMException | IOException e) {
             log.error("Exception while loading loco XML file: " + getFileName() + " exception: " + e);
         }
@@ -1266,7 +1289,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
             df.makeBackupFile(LocoFile.getFileLocation() + getFileName());
 
             // and finally write the file
-            df.writeFile(f, mRootElement, this.store());
+            df.writeFile(f, root, this.store());
 
         } catch (Exception e) {
             log.error("error during locomotive file output", e);
@@ -1336,9 +1359,75 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
 
     /**
      * Store the root element of the JDOM tree representing this RosterEntry.
+     * Guarded by {@link #LOADED_ENTRIES}.
      */
     private Element mRootElement = null;
 
+    /**
+     * The maximum number of entries that hold the contents of their
+     * locomotive file in memory.
+     */
+    static final int MAX_LOADED_ENTRIES = 16;
+
+    /**
+     * Entries holding the contents of their locomotive file, least recently
+     * used first. Beyond {@link #MAX_LOADED_ENTRIES} the contents of the least
+     * recently used entry are released, and read again if needed.
+     */
+    private static final LinkedHashMap<RosterEntry, Boolean> LOADED_ENTRIES = new LinkedHashMap<RosterEntry, Boolean>(MAX_LOADED_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RosterEntry, Boolean> eldest) {
+            if (size() > MAX_LOADED_ENTRIES) {
+                log.debug("Releasing contents of {}", eldest.getKey().getFileName());
+                eldest.getKey().mRootElement = null;
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private void setRootElement(Element root) {
+        synchronized (LOADED_ENTRIES) {
+            mRootElement = root;
+            if (root != null) {
+                LOADED_ENTRIES.put(this, Boolean.TRUE);
+            } else {
+                LOADED_ENTRIES.remove(this);
+            }
+        }
+    }
+
+    /**
+     * Get the contents of the locomotive file for this entry, reading the
+     * file if it is not held in memory.
+     *
+     * @return the root element of the file or null if it could not be read
+     */
+    private Element getRootElement() {
+        synchronized (LOADED_ENTRIES) {
+            if (mRootElement != null) {
+                LOADED_ENTRIES.get(this); // mark as recently used
+                return mRootElement;
+            }
+        }
+        readFile();
+        synchronized (LOADED_ENTRIES) {
+            return mRootElement;
+        }
+    }
+
+    /**
+     * Check if the contents of the locomotive file for this entry are held in
+     * memory.
+     *
+     * @return true if held in memory; false if they would need to be read
+     */
+    boolean isLoaded() {
+        synchronized (LOADED_ENTRIES) {
+            return mRootElement != null;
+        }
+    }
+
     /**
      * Load pre-existing Variable and CvTableModel object with the contents of
      * this entry.
@@ -1351,16 +1440,17 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
             log.error("loadCvModel must be given a non-null argument");
             return;
         }
-        if (mRootElement == null) {
-            log.error("loadCvModel called before readFile() succeeded");
+        Element root = getRootElement();
+        if (root == null) {
+            log.error("loadCvModel unable to read {}", getFileName());
             return;
         }
         try {
             if (varModel != null) {
-                LocoFile.loadVariableModel(mRootElement.getChild("locomotive"), varModel);
+                LocoFile.loadVariableModel(root.getChild("locomotive"), varModel);
             }
 
-            LocoFile.loadCvModel(mRootElement.getChild("locomotive"), cvModel, getDecoderFamily());
+            LocoFile.loadCvModel(root.getChild("locomotive"), cvModel, getDecoderFamily());
         } catch (Exception ex) {
             log.error("Error reading roster entry", ex);
             try {
@@ -1740,7 +1830,9 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
     /**
      * Read a file containing the contents of this RosterEntry.
      * <p>
-     * This has to be done before a call to loadCvModel, for example.
+     * This is done by {@link #loadCvModel(jmri.jmrit.symbolicprog.VariableTableModel, jmri.jmrit.symbolicprog.CvTableModel)}
+     * if needed. The contents are held in memory only for the most recently
+     * used entries.
      */
     public void readFile() {
         if (getFileName() == null) {
@@ -1752,7 +1844,7 @@ public class RosterEntry extends ArbitraryBean implements RosterObject, BasicRos
 
         LocoFile lf = new LocoFile();  // used as a temporary
         try {
-            mRootElement = lf.rootFromName(LocoFile.getFileLocation() + getFileName());
+            setRootElement(lf.rootFromName(LocoFile.getFileLocation() + getFileName()));
         } catch (JDOMException | IOException e) {
             log.error("Exception while loading loco XML file: " + getFileName() + " exception: " + e);
         }
@@ -0,0 +1,317 @@
+package jmri.jmrit.withrottle;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the connections of all WiThrottle devices from one thread, instead
+ * of a thread that waits for input from each device.
+ * <p>
+ * Input is read as it arrives and split into lines. The lines from a device
+ * are handled by its {@link DeviceServer} in the order they arrive, on a
+ * thread from a pool that is shared by all devices, so a thread is only used
+ * while a device has lines to handle. Messages sent to a device are queued
+ * and written by the selecting thread, so that all the messages waiting for a
+ * device are written together and senders never wait on the network.
+ *
+ * @see FacelessServer#listen()
+ */
+class DeviceSelector {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final Function<Connection, DeviceServer> deviceFactory;
+    private final ExecutorService workers;
+    // connections with messages to write
+    private final Queue<Connection> writable = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    /**
+     * Create a selector for connections to a server socket.
+     *
+     * @param serverChannel the bound server socket
+     * @param deviceFactory creates the device server for a new connection
+     * @throws IOException if the selector can not be opened
+     */
+    DeviceSelector(@Nonnull ServerSocketChannel serverChannel,
+            @Nonnull Function<Connection, DeviceServer> deviceFactory) throws IOException {
+        this.serverChannel = serverChannel;
+        this.deviceFactory = deviceFactory;
+        selector = Selector.open();
+        AtomicInteger count = new AtomicInteger();
+        workers = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "WiThrottle device " + count.incrementAndGet()); // NOI18N
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Accept connections and serve them until {@link #stop()} is called or
+     * the server socket is closed.
+     *
+     * @throws IOException if the server socket fails
+     */
+    void run() throws IOException {
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        try {
+            while (running && serverChannel.isOpen()) {
+                selector.select();
+                Connection connection;
+                while ((connection = writable.poll()) != null) {
+                    connection.write();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        connection = (Connection) key.attachment();
+                        if (key.isWritable()) {
+                            connection.write();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            connection.read();
+                        }
+                    }
+                }
+            }
+        } finally {
+            selector.close();
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Stop serving connections. Connections that are open are not closed.
+     */
+    void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        log.debug("Accepted connection from {}", channel.getRemoteAddress());
+        channel.configureBlocking(false);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        connection.dispatch(() -> {
+            connection.device = deviceFactory.apply(connection);
+            connection.device.start();
+        });
+    }
+
+    /**
+     * The connection to one device.
+     */
+    class Connection {
+
+        private final SocketChannel channel;
+        private SelectionKey key;
+        private DeviceServer device;
+        private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder line = new StringBuilder();
+        private boolean skipLineFeed = false;
+        // tasks waiting to be run for this device, in order
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean dispatching = false;
+        private boolean ended = false;
+        // bytes waiting to be written, guarded by this connection
+        private ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Get the socket of the connection. The socket can be closed, and
+         * its addresses queried, but it can not be read from or written to
+         * as a stream.
+         *
+         * @return the socket
+         */
+        Socket getSocket() {
+            return channel.socket();
+        }
+
+        /**
+         * Queue a message to be written to the device.
+         *
+         * @param message the message
+         */
+        void send(@Nonnull String message) {
+            if (!channel.isOpen()) {
+                return;
+            }
+            byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+            boolean wasEmpty;
+            synchronized (this) {
+                wasEmpty = output.position() == 0;
+                if (output.remaining() < bytes.length) {
+                    ByteBuffer larger = ByteBuffer.allocate(Math.max(output.capacity() * 2, output.position() + bytes.length));
+                    output.flip();
+                    larger.put(output);
+                    output = larger;
+                }
+                output.put(bytes);
+            }
+            if (wasEmpty) {
+                writable.add(this);
+                selector.wakeup();
+            }
+        }
+
+        // called on the selecting thread
+        private void write() {
+            synchronized (this) {
+                if (output.position() == 0) {
+                    return;
+                }
+                output.flip();
+                try {
+                    channel.write(output);
+                    output.compact();
+                    // wait to be able to write the rest
+                    key.interestOps(output.position() > 0
+                            ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+                } catch (IOException | CancelledKeyException e) {
+                    log.debug("Write to {} failed: {}", getSocket().getRemoteSocketAddress(), e.getMessage());
+                    output.clear();
+                    end();
+                }
+            }
+        }
+
+        // called on the selecting thread
+        private void read() {
+            int count;
+            try {
+                count = channel.read(input);
+            } catch (IOException e) {
+                log.debug("Read from {} failed: {}", getSocket().getRemoteSocketAddress(), e.getMessage());
+                count = -1;
+            }
+            if (count < 0) {
+                key.cancel();
+                end();
+                return;
+            }
+            input.flip();
+            decoder.decode(input, chars, false);
+            input.compact();
+            chars.flip();
+            while (chars.hasRemaining()) {
+                char c = chars.get();
+                if (skipLineFeed && c == '\n') {
+                    skipLineFeed = false;
+                    continue;
+                }
+                skipLineFeed = false;
+                if (c == '\n' || c == '\r') {
+                    skipLineFeed = (c == '\r');
+                    String message = line.toString();
+                    line.setLength(0);
+                    dispatch(() -> handle(message));
+                } else {
+                    line.append(c);
+                }
+            }
+            chars.clear();
+        }
+
+        private void handle(String message) {
+            if (ended || device == null) {
+                return;
+            }
+            if (!device.handleMessage(message)) {
+                log.debug("Ending connection for device '{}'", device.getName());
+                ended = true;
+                device.closeThrottles();
+            }
+        }
+
+        // the device disconnected, or the connection failed
+        private void end() {
+            dispatch(() -> {
+                if (!ended && device != null) {
+                    log.debug("Lost connection to device '{}'", device.getName());
+                    ended = true;
+                    device.closeThrottles();
+                }
+            });
+        }
+
+        /**
+         * Run a task for this device after the tasks already waiting.
+         *
+         * @param task the task
+         */
+        private void dispatch(Runnable task) {
+            synchronized (tasks) {
+                tasks.add(task);
+                if (dispatching) {
+                    return;
+                }
+                dispatching = true;
+            }
+            workers.execute(this::runTasks);
+        }
+
+        private void runTasks() {
+            while (true) {
+                Runnable task;
+                synchronized (tasks) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        dispatching = false;
+                        return;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Exception handling message from device", e);
+                }
+            }
+        }
+    }
+
+    private final static Logger log = LoggerFactory.getLogger(DeviceSelector.class);
+}
@@ -87,8 +87,10 @@ import java.net.Socket;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import jmri.CommandStation;
 import jmri.DccLocoAddress;
 import jmri.InstanceManager;
@@ -119,7 +121,7 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
     private boolean isUsingHeartbeat = false;
     private boolean heartbeat = true;
     private int pulseInterval = 16; // seconds til disconnect
-    private Timer ekg;
+    private ScheduledFuture<?> ekg;
     private int stopEKGCount;
 
     private TrackPowerController trackPower = null;
@@ -134,6 +136,7 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
     final boolean isClockDisplayed = InstanceManager.getDefault(WiThrottlePreferences.class).isDisplayFastClock();
 
     private DeviceManager manager;
+    private DeviceSelector.Connection connection = null;
 
     DeviceServer(Socket socket, DeviceManager manager) {
         this.device = socket;
@@ -153,24 +156,50 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
             log.error("Stream creation failed (DeviceServer)");
             return;
         }
+        sendInitialPackets();
+    }
+
+    /**
+     * Create a server for a device connected through a
+     * {@link DeviceSelector}. Messages from the device are passed to
+     * {@link #handleMessage(java.lang.String)}, and messages to the device
+     * are queued on the connection.
+     *
+     * @param connection the connection to the device
+     * @param manager    the device manager
+     */
+    DeviceServer(DeviceSelector.Connection connection, DeviceManager manager) {
+        this.device = connection.getSocket();
+        this.manager = manager;
+        this.connection = connection;
+        sendInitialPackets();
+    }
+
+    private void sendInitialPackets() {
         sendPacketToDevice("VN" + getWiTVersion());
         sendPacketToDevice(sendRoster());
         addControllers();
         sendPacketToDevice("PW" + getWebServerPort());
-
     }
 
-    @Override
-    public void run() {
+    /**
+     * Notify the device listeners that the device has connected.
+     */
+    void start() {
         for (int i = 0; i < listeners.size(); i++) {
             DeviceListener l = listeners.get(i);
             log.debug("Notify Device Add");
             l.notifyDeviceConnected(this);
 
         }
+        keepReading = true; // Gets set to false when device sends 'Q'uit
+    }
+
+    @Override
+    public void run() {
+        start();
         String inPackage = null;
 
-        keepReading = true; // Gets set to false when device sends 'Q'uit
         int consecutiveErrors = 0;
 
         do {
@@ -178,211 +207,223 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
                 inPackage = in.readLine();
 
                 if (inPackage != null) {
-                    heartbeat = true;   //  Any contact will keep alive
                     consecutiveErrors = 0;  //reset error counter
+                    keepReading = handleMessage(inPackage);
+                    inPackage = null;
+                } else { //in.readLine() IS null
+                    consecutiveErrors += 1;
+                    log.warn("null readLine() from device '{}', consecutive error # {}", getName(), consecutiveErrors);
+                }
+
+            } catch (IOException exa) {
+                consecutiveErrors += 1;
+                log.warn("readLine from device '{}' failed, consecutive error # {}", getName(), consecutiveErrors);
+            }
+            if (consecutiveErrors > 0) { //a read error was encountered
+                if (consecutiveErrors < 25) { //pause thread to give time for reconnection
+                    try {
+                        Thread.sleep(200);
+                    } catch (java.lang.InterruptedException ex) {
+                    }
+                } else {
+                    keepReading = false;
+                    log.error("readLine failure limit exceeded, ending thread run loop for device '{}'", getName());
+                }
+            }
+        } while (keepReading); // 'til we tell it to stop
+        log.debug("Ending thread run loop for device '{}'", getName());
+        closeThrottles();
+
+    }
+
+    /**
+     * Handle a message from the device.
+     *
+     * @param inPackage the message, without its line end
+     * @return false if the device has quit
+     */
+    boolean handleMessage(String inPackage) {
+        try {
+            heartbeat = true;   //  Any contact will keep alive
+            if (log.isDebugEnabled()) {
+                String s = inPackage + "                    "; //pad output so messages form columns
+                s = s.substring(0, Math.max(inPackage.length(), 20));
+                log.debug("Rcvd: " + s + " from " + getName() + device.getRemoteSocketAddress());
+            }
+
+            switch (inPackage.charAt(0)) {
+                case 'T': {
+                    if (throttleController == null) {
+                        throttleController = new ThrottleController('T', this, this);
+                    }
+                    keepReading = throttleController.sort(inPackage.substring(1));
+                    break;
+                }
+
+                case 'S': {
+                    if (secondThrottleController == null) {
+                        secondThrottleController = new ThrottleController('S', this, this);
+                    }
+                    keepReading = secondThrottleController.sort(inPackage.substring(1));
+                    break;
+                }
+
+                case 'M': {  //  MultiThrottle M(id character)('A'ction '+' or '-')(message)
+                    if (multiThrottles == null) {
+                        multiThrottles = new HashMap<>(1);
+                    }
+                    char id = inPackage.charAt(1);
+                    if (!multiThrottles.containsKey(id)) {   //  Create a MT if this is a new id
+                        multiThrottles.put(id, new MultiThrottle(id, this, this));
+                    }
+
+                    // Strips 'M' and id, forwards rest
+                    multiThrottles.get(id).handleMessage(inPackage.substring(2));
+
+                    break;
+                }
+
+                case 'D': {
                     if (log.isDebugEnabled()) {
-                        String s = inPackage + "                    "; //pad output so messages form columns
-                        s = s.substring(0, Math.max(inPackage.length(), 20));
-                        log.debug("Rcvd: " + s + " from " + getName() + device.getRemoteSocketAddress());
+                        log.debug("Sending hex packet: " + inPackage.substring(2) + " to command station.");
                     }
+                    int repeats = Character.getNumericValue(inPackage.charAt(1));
+                    byte[] packet = jmri.util.StringUtil.bytesFromHexString(inPackage.substring(2));
+                    cmdStation.sendPacket(packet, repeats);
+                    break;
+                }
 
-                    switch (inPackage.charAt(0)) {
-                        case 'T': {
-                            if (throttleController == null) {
-                                throttleController = new ThrottleController('T', this, this);
+                case '*': {  //  Heartbeat only
+
+                    if (inPackage.length() > 1) {
+                        switch (inPackage.charAt(1)) {
+
+                            case '+': {  //  trigger, turns on timed monitoring
+                                if (!isUsingHeartbeat) {
+                                    startEKG();
+                                }
+                                break;
                             }
-                            keepReading = throttleController.sort(inPackage.substring(1));
-                            break;
-                        }
 
-                        case 'S': {
-                            if (secondThrottleController == null) {
-                                secondThrottleController = new ThrottleController('S', this, this);
+                            case '-': {  //  turns off
+                                if (isUsingHeartbeat) {
+                                    stopEKG();
+                                }
+                                break;
                             }
-                            keepReading = secondThrottleController.sort(inPackage.substring(1));
-                            break;
+                            default:
+                                log.warn("Unhandled code: {}", inPackage.charAt(1));
+                                break;
                         }
 
-                        case 'M': {  //  MultiThrottle M(id character)('A'ction '+' or '-')(message)
-                            if (multiThrottles == null) {
-                                multiThrottles = new HashMap<>(1);
-                            }
-                            char id = inPackage.charAt(1);
-                            if (!multiThrottles.containsKey(id)) {   //  Create a MT if this is a new id
-                                multiThrottles.put(id, new MultiThrottle(id, this, this));
-                            }
+                    }
 
-                            // Strips 'M' and id, forwards rest
-                            multiThrottles.get(id).handleMessage(inPackage.substring(2));
+                    break;
+                }   //  end heartbeat block
 
-                            break;
-                        }
+                case 'C': {  //  Prefix for confirmed package
+                    switch (inPackage.charAt(1)) {
+                        case 'T': {
+                            keepReading = throttleController.sort(inPackage.substring(2));
 
-                        case 'D': {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Sending hex packet: " + inPackage.substring(2) + " to command station.");
-                            }
-                            int repeats = Character.getNumericValue(inPackage.charAt(1));
-                            byte[] packet = jmri.util.StringUtil.bytesFromHexString(inPackage.substring(2));
-                            cmdStation.sendPacket(packet, repeats);
                             break;
                         }
 
-                        case '*': {  //  Heartbeat only
-
-                            if (inPackage.length() > 1) {
-                                switch (inPackage.charAt(1)) {
-
-                                    case '+': {  //  trigger, turns on timed monitoring
-                                        if (!isUsingHeartbeat) {
-                                            startEKG();
-                                        }
-                                        break;
-                                    }
-
-                                    case '-': {  //  turns off
-                                        if (isUsingHeartbeat) {
-                                            stopEKG();
-                                        }
-                                        break;
-                                    }
-                                    default:
-                                        log.warn("Unhandled code: {}", inPackage.charAt(1));
-                                        break;
-                                }
-
-                            }
+                        default: {
+                            log.warn("Received unknown network package: {}", inPackage);
 
                             break;
-                        }   //  end heartbeat block
+                        }
+                    }
 
-                        case 'C': {  //  Prefix for confirmed package
-                            switch (inPackage.charAt(1)) {
-                                case 'T': {
-                                    keepReading = throttleController.sort(inPackage.substring(2));
+                    break;
+                }
 
-                                    break;
-                                }
+                case 'N': {  //  Prefix for deviceName
+                    deviceName = inPackage.substring(1);
+                    log.info("Received Name: {}", deviceName);
 
-                                default: {
-                                    log.warn("Received unknown network package: {}", inPackage);
+                    if (InstanceManager.getDefault(WiThrottlePreferences.class).isUseEStop()) {
+                        pulseInterval = InstanceManager.getDefault(WiThrottlePreferences.class).getEStopDelay();
+                        sendPacketToDevice("*" + pulseInterval); //  Turn on heartbeat, if used
+                    }
+                    break;
+                }
 
-                                    break;
-                                }
+                case 'H': {  //  Hardware
+                    switch (inPackage.charAt(1)) {
+                        case 'U':
+                            deviceUDID = inPackage.substring(2);
+                            for (int i = 0; i < listeners.size(); i++) {
+                                DeviceListener l = listeners.get(i);
+                                l.notifyDeviceInfoChanged(this);
                             }
-
                             break;
-                        }
+                        default:
+                            log.warn("Unhandled code: {}", inPackage.charAt(1));
+                            break;
+                    }
 
-                        case 'N': {  //  Prefix for deviceName
-                            deviceName = inPackage.substring(1);
-                            log.info("Received Name: {}", deviceName);
+                    break;
+                }   //  end hardware block
 
-                            if (InstanceManager.getDefault(WiThrottlePreferences.class).isUseEStop()) {
-                                pulseInterval = InstanceManager.getDefault(WiThrottlePreferences.class).getEStopDelay();
-                                sendPacketToDevice("*" + pulseInterval); //  Turn on heartbeat, if used
+                case 'P': {  //  Start 'P'anel case
+                    switch (inPackage.charAt(1)) {
+                        case 'P': {
+                            if (isTrackPowerAllowed) {
+                                trackPower.handleMessage(inPackage.substring(2));
                             }
                             break;
                         }
-
-                        case 'H': {  //  Hardware
-                            switch (inPackage.charAt(1)) {
-                                case 'U':
-                                    deviceUDID = inPackage.substring(2);
-                                    for (int i = 0; i < listeners.size(); i++) {
-                                        DeviceListener l = listeners.get(i);
-                                        l.notifyDeviceInfoChanged(this);
-                                    }
-                                    break;
-                                default:
-                                    log.warn("Unhandled code: {}", inPackage.charAt(1));
-                                    break;
+                        case 'T': {
+                            if (isTurnoutAllowed) {
+                                turnoutC.handleMessage(inPackage.substring(2));
                             }
-
                             break;
-                        }   //  end hardware block
-
-                        case 'P': {  //  Start 'P'anel case
-                            switch (inPackage.charAt(1)) {
-                                case 'P': {
-                                    if (isTrackPowerAllowed) {
-                                        trackPower.handleMessage(inPackage.substring(2));
-                                    }
-                                    break;
-                                }
-                                case 'T': {
-                                    if (isTurnoutAllowed) {
-                                        turnoutC.handleMessage(inPackage.substring(2));
-                                    }
-                                    break;
-                                }
-                                case 'R': {
-                                    if (isRouteAllowed) {
-                                        routeC.handleMessage(inPackage.substring(2));
-                                    }
-                                    break;
-                                }
-                                default:
-                                    log.warn("Unhandled code: {}", inPackage.charAt(1));
-                                    break;
+                        }
+                        case 'R': {
+                            if (isRouteAllowed) {
+                                routeC.handleMessage(inPackage.substring(2));
                             }
                             break;
-                        }   //  end panel block
-
-                        case 'R': {  //  Start 'R'oster case
-                            switch (inPackage.charAt(1)) {
-                                case 'C':
-                                    if (isConsistAllowed) {
-                                        consistC.handleMessage(inPackage.substring(2));
-                                    }
-                                    break;
-                                default:
-                                    log.warn("Unhandled code: {}", inPackage.charAt(1));
-                                    break;
-                            }
-
+                        }
+                        default:
+                            log.warn("Unhandled code: {}", inPackage.charAt(1));
                             break;
-                        }   //  end roster block
-
-                        case 'Q': {
-                            keepReading = false;
+                    }
+                    break;
+                }   //  end panel block
+
+                case 'R': {  //  Start 'R'oster case
+                    switch (inPackage.charAt(1)) {
+                        case 'C':
+                            if (isConsistAllowed) {
+                                consistC.handleMessage(inPackage.substring(2));
+                            }
                             break;
-                        }
-
-                        default: {   //  If an unknown makes it through, do nothing.
-                            log.warn("Received unknown network package: {}", inPackage);
+                        default:
+                            log.warn("Unhandled code: {}", inPackage.charAt(1));
                             break;
-                        }
+                    }
 
-                    }   //End of charAt(0) switch block
+                    break;
+                }   //  end roster block
 
-                    inPackage = null;
-                } else { //in.readLine() IS null
-                    consecutiveErrors += 1;
-                    log.warn("null readLine() from device '{}', consecutive error # {}", getName(), consecutiveErrors);
+                case 'Q': {
+                    keepReading = false;
+                    break;
                 }
 
-            } catch (IOException exa) {
-                consecutiveErrors += 1;
-                log.warn("readLine from device '{}' failed, consecutive error # {}", getName(), consecutiveErrors);
-            } catch (IndexOutOfBoundsException exb) {
-                log.warn("Bad message '{}' from device '{}'", inPackage, getName());
-            }
-            if (consecutiveErrors > 0) { //a read error was encountered
-                if (consecutiveErrors < 25) { //pause thread to give time for reconnection
-                    try {
-                        Thread.sleep(200);
-                    } catch (java.lang.InterruptedException ex) {
-                    }
-                } else {
-                    keepReading = false;
-                    log.error("readLine failure limit exceeded, ending thread run loop for device '{}'", getName());
+                default: {   //  If an unknown makes it through, do nothing.
+                    log.warn("Received unknown network package: {}", inPackage);
+                    break;
                 }
-            }
-        } while (keepReading); // 'til we tell it to stop
-        log.debug("Ending thread run loop for device '{}'", getName());
-        closeThrottles();
 
+            }   //End of charAt(0) switch block
+        } catch (IndexOutOfBoundsException exb) {
+            log.warn("Bad message '{}' from device '{}'", inPackage, getName());
+        }
+        return keepReading;
     }
 
     public void closeThrottles() {
@@ -458,8 +499,7 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
         log.debug("starting heartbeat EKG for '{}' with interval: {}", getName(), pulseInterval);
         isUsingHeartbeat = true;
         stopEKGCount = 0;
-        ekg = new Timer("Withrottle hearbeat");
-        TimerTask task = new TimerTask() {
+        Runnable task = new Runnable() {
             @Override
             public void run() {  //  Drops on second pass
                 if (!heartbeat) {
@@ -491,17 +531,32 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
             }
 
         };
-        ekg.scheduleAtFixedRate(task, pulseInterval * 900L, pulseInterval * 900L);
+        ekg = getHeartbeatTimer().scheduleAtFixedRate(task, pulseInterval * 900L, pulseInterval * 900L,
+                TimeUnit.MILLISECONDS);
     }
 
     public void stopEKG() {
         isUsingHeartbeat = false;
         if (ekg != null) {
-            ekg.cancel();
+            ekg.cancel(false);
         }
 
     }
 
+    // checks the heartbeats of all devices
+    private static ScheduledExecutorService heartbeatTimer = null;
+
+    private static synchronized ScheduledExecutorService getHeartbeatTimer() {
+        if (heartbeatTimer == null) {
+            heartbeatTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Withrottle hearbeat"); // NOI18N
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return heartbeatTimer;
+    }
+
     private void addControllers() {
         if (isTrackPowerAllowed) {
             trackPower = InstanceManager.getDefault(WiThrottleManager.class).getTrackPowerController();
@@ -611,7 +666,11 @@ public class DeviceServer implements Runnable, ThrottleControllerListener, Contr
         if (message == null) {
             return; //  Do not send a null.
         }
-        out.println(message + newLine);
+        if (connection != null) {
+            connection.send(message + newLine + newLine); // as println() would
+        } else {
+            out.println(message + newLine);
+        }
         if (log.isDebugEnabled()) {
             String s = message + "                    "; //pad output so messages form columns
             s = s.substring(0, Math.max(message.length(), 20));
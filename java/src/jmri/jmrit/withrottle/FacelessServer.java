@@ -2,7 +2,8 @@ package jmri.jmrit.withrottle;
 
 import java.io.IOException;
 import java.net.InetAddress;
-import java.net.ServerSocket;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
 import java.util.ArrayList;
 import jmri.InstanceManager;
 import jmri.UserPreferencesManager;
@@ -16,7 +17,8 @@ import org.slf4j.LoggerFactory;
  * Copied from UserInterface, but with the UI stuff removed. Sets up to
  * advertise service, and creates a thread for it to run in.
  * <p>
- * listen() has to run in a separate thread.
+ * listen() has to run in a separate thread, where it serves all the
+ * connected devices with a {@link DeviceSelector}.
  *
  * @author Brett Hoffman Copyright (C) 2009, 2010
  * @author Paul Bender Copyright (C) 2018
@@ -31,7 +33,8 @@ public class FacelessServer implements DeviceListener, DeviceManager, ZeroConfSe
     int port;
     ZeroConfService service;
     boolean isListen = true;
-    ServerSocket socket = null;
+    ServerSocketChannel socket = null;
+    DeviceSelector selector = null;
     final private ArrayList<DeviceServer> deviceList = new ArrayList<>();
     final private ArrayList<DeviceListener> deviceListenerList = new ArrayList<>();
 
@@ -45,13 +48,14 @@ public class FacelessServer implements DeviceListener, DeviceManager, ZeroConfSe
         int socketPort = InstanceManager.getDefault(WiThrottlePreferences.class).getPort();
 
         try { //Create socket on available port
-            socket = new ServerSocket(socketPort);
+            socket = ServerSocketChannel.open();
+            socket.bind(new InetSocketAddress(socketPort));
         } catch (IOException e1) {
             log.error("New ServerSocket Failed during listen()");
             return;
         }
 
-        port = socket.getLocalPort();
+        port = socket.socket().getLocalPort();
         log.debug("WiThrottle listening on TCP port: {}", port);
 
         service = ZeroConfService.create("_withrottle._tcp.local.", port);
@@ -60,25 +64,20 @@ public class FacelessServer implements DeviceListener, DeviceManager, ZeroConfSe
 
         addDeviceListener(this);
 
-        while (isListen) { //Create DeviceServer threads
-            DeviceServer device;
-            try {
-                log.info("Creating new WiThrottle DeviceServer(socket) on port {}, waiting for incoming connection...", port);
-                device = new DeviceServer(socket.accept(), this);  //blocks here until a connection is made
-
-                Thread t = new Thread(device);
-                for(DeviceListener dl:deviceListenerList){
-                   device.addDeviceListener(dl);
-                }
-                log.debug("Starting DeviceListener thread");
-                t.start();
-            } catch (IOException e3) {
-                if (isListen) {
-                    log.error("Listen Failed on port {}", port);
+        try { //Create a DeviceServer for each connection
+            log.info("Creating new WiThrottle DeviceSelector on port {}, waiting for incoming connections...", port);
+            selector = new DeviceSelector(socket, connection -> {
+                DeviceServer device = new DeviceServer(connection, this);
+                for (DeviceListener dl : deviceListenerList) {
+                    device.addDeviceListener(dl);
                 }
-                return;
+                return device;
+            });
+            selector.run();  //blocks here until the server is disabled
+        } catch (IOException e3) {
+            if (isListen) {
+                log.error("Listen Failed on port {}", port);
             }
-
         }
 
     }
@@ -206,6 +205,9 @@ public class FacelessServer implements DeviceListener, DeviceManager, ZeroConfSe
         isListen = false;
         stopDevices();
         try {
+            if (selector != null) {
+                selector.stop();
+            }
             socket.close();
             log.debug("closed socket in ServerThread");
             service.stop();
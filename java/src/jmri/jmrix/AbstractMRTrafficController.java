@@ -2,13 +2,18 @@ package jmri.jmrix;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.LinkedList;
 import java.util.Vector;
-import javax.swing.SwingUtilities;
+import jmri.util.ThreadingUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -173,7 +178,7 @@ abstract public class AbstractMRTrafficController {
             if (notMe != client) {
                 log.debug("notify client: {}", client);
                 try {
-                    forwardMessage(client, m);
+                    forwardMessage(client, m, notMe);
                 } catch (RuntimeException e) {
                     log.warn("notify: During message dispatch to {}", client, e);
                 }
@@ -187,6 +192,19 @@ abstract public class AbstractMRTrafficController {
      */
     abstract protected void forwardMessage(AbstractMRListener client, AbstractMRMessage m);
 
+    /**
+     * Forward a message sent by another listener. Override this to tell the
+     * listener which listener sent the message; by default the sender is
+     * ignored.
+     *
+     * @param client the listener to forward to
+     * @param m      the message
+     * @param sender the listener that sent the message, or null
+     */
+    protected void forwardMessage(AbstractMRListener client, AbstractMRMessage m, AbstractMRListener sender) {
+        forwardMessage(client, m);
+    }
+
     /**
      * Invoked if it's appropriate to do low-priority polling of the command
      * station, this should return the next message to send, or null if the
@@ -654,9 +672,9 @@ abstract public class AbstractMRTrafficController {
 
         // forward the message to the registered recipients,
         // which includes the communications monitor, except the sender.
-        // Schedule notification via the Swing event queue to ensure order
+        // Schedule notification via the layout thread to ensure order
         Runnable r = new XmtNotifier(m, mLastSender, this);
-        SwingUtilities.invokeLater(r);
+        ThreadingUtil.runOnLayoutEventually(r::run);
 
         // stream to port in single write, as that's needed by serial
         int byteLength = lengthOfByteStream(m);
@@ -791,6 +809,22 @@ abstract public class AbstractMRTrafficController {
             xmtThread.setPriority(Thread.MAX_PRIORITY-1);      //bump up the priority
             xmtThread.start();
 
+            if (p instanceof AbstractNetworkPortController
+                    && ((AbstractNetworkPortController) p).getSocketChannel() != null) {
+                // receive on the shared selector thread instead of one of our own
+                SocketChannel channel = ((AbstractNetworkPortController) p).getSocketChannel();
+                NioReceiver receiver = new NioReceiver(channel);
+                nioReceiver = receiver;
+                istream = receiver.stream;
+                try {
+                    NetworkChannelSelector.getDefault().register(channel, receiver);
+                } catch (IOException e) {
+                    log.error("Failed to register with network selector: {}", e.toString());
+                    rcvException = true;
+                }
+                return;
+            }
+
             rcvThread = new Thread(new Runnable() {
                 @Override
                 public void run() {
@@ -828,6 +862,7 @@ abstract public class AbstractMRTrafficController {
      * @param p the PortController
      */
     public void disconnectPort(AbstractPortController p) {
+        stopNioReceiver();
         istream = null;
         ostream = null;
         if (controller != p) {
@@ -895,6 +930,190 @@ abstract public class AbstractMRTrafficController {
         }
     }
 
+    /**
+     * Receives for a connection serviced by the {@link NetworkChannelSelector}.
+     * <p>
+     * The selector thread only adds the bytes read to a buffer. Replies are
+     * then read from the buffer through {@link #stream} by
+     * {@link #handleOneIncomingReply()}, so the usual
+     * {@link #waitForStartOfReply}, {@link #loadChars} and
+     * {@link #endOfMessage} framing applies. That runs on a thread from the
+     * selector's shared pool, and only while there are bytes to handle, so a
+     * slow listener or a stalled connection doesn't hold up the others. If the
+     * bytes run out part way through a reply, the thread is given back to the
+     * pool and the reply is read again from its start once the rest arrives.
+     */
+    protected class NioReceiver implements NetworkChannelSelector.ChannelReader {
+
+        private final SocketChannel channel;
+        private byte[] data = new byte[256];
+        private int count = 0;
+        private int position = 0;
+        // start of the reply being handled, kept until it is complete
+        private int mark = 0;
+        // the bytes there were when the reply being handled ran out
+        private int incomplete = 0;
+        // true while a pool thread is handling the buffered bytes
+        private boolean receiving = false;
+        private boolean stopped = false;
+        final DataInputStream stream = new DataInputStream(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                synchronized (NioReceiver.this) {
+                    waitForData();
+                    return data[position++] & 0xFF;
+                }
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                synchronized (NioReceiver.this) {
+                    waitForData();
+                    int n = Math.min(len, count - position);
+                    System.arraycopy(data, position, b, off, n);
+                    position += n;
+                    return n;
+                }
+            }
+
+            @Override
+            public int available() {
+                synchronized (NioReceiver.this) {
+                    return count - position;
+                }
+            }
+        });
+
+        NioReceiver(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        // must hold the NioReceiver lock
+        private void waitForData() throws IOException {
+            if (position >= count) {
+                if (stopped || threadStopRequest) {
+                    throw new EOFException("Connection closed");
+                }
+                // don't hold a pool thread while waiting for the rest
+                incomplete = count;
+                throw new IncompleteReplyException();
+            }
+        }
+
+        @Override
+        public void read(ByteBuffer buffer) {
+            synchronized (this) {
+                if (stopped) {
+                    return;
+                }
+                // drop the bytes already handled
+                if (mark > 0) {
+                    System.arraycopy(data, mark, data, 0, count - mark);
+                    count -= mark;
+                    position -= mark;
+                    incomplete -= mark;
+                    mark = 0;
+                }
+                int n = buffer.remaining();
+                if (count + n > data.length) {
+                    data = Arrays.copyOf(data, Math.max(data.length * 2, count + n));
+                }
+                buffer.get(data, count, n);
+                count += n;
+                if (receiving) {
+                    return;
+                }
+                receiving = true;
+            }
+            NetworkChannelSelector.getDefault().execute(this::receive);
+        }
+
+        // handle replies until the buffered bytes are used up
+        private void receive() {
+            while (true) {
+                synchronized (this) {
+                    if (stopped || threadStopRequest || position >= count) {
+                        receiving = false;
+                        return;
+                    }
+                    mark = position;
+                }
+                istream = stream;
+                try {
+                    handleOneIncomingReply();
+                } catch (IncompleteReplyException e) {
+                    synchronized (this) {
+                        position = mark;
+                        if (count == incomplete) {
+                            receiving = false;
+                            return;
+                        }
+                    }
+                    // more arrived meanwhile, so try again
+                } catch (IOException e) {
+                    // closed while waiting for the rest of a reply
+                    synchronized (this) {
+                        receiving = false;
+                    }
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Exception in receive loop: {}", e.toString(), e);
+                }
+            }
+        }
+
+        /**
+         * Stop servicing the connection, and drop any bytes not yet handled.
+         */
+        void stop() {
+            NetworkChannelSelector.getDefault().cancel(channel);
+            synchronized (this) {
+                stopped = true;
+                data = new byte[0];
+                count = 0;
+                position = 0;
+                mark = 0;
+                incomplete = 0;
+            }
+        }
+
+        @Override
+        public void closed(IOException e) {
+            synchronized (this) {
+                stopped = true;
+            }
+            if (threadStopRequest || controller == null) {
+                return;
+            }
+            rcvException = true;
+            reportReceiveLoopException(e);
+            log.error("Exit from rcv loop in {}", AbstractMRTrafficController.this.getClass().toString());
+            recovery(); // see if you can restart
+        }
+    }
+
+    /**
+     * Thrown by an {@link NioReceiver} stream when it has no more bytes yet.
+     */
+    private static class IncompleteReplyException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    // the receiver for a connection serviced by the NetworkChannelSelector
+    private volatile NioReceiver nioReceiver = null;
+
+    private void stopNioReceiver() {
+        NioReceiver receiver = nioReceiver;
+        nioReceiver = null;
+        if (receiver != null) {
+            receiver.stop();
+        }
+    }
+
     /**
      * Disconnect and reset the current PortController.
      * Invoked at abnormal ending of receiveLoop.
@@ -1014,18 +1233,10 @@ abstract public class AbstractMRTrafficController {
      *          send it to all the listeners.
      */
     protected void distributeReply(Runnable r) {
-        try {
-            if (synchronizeRx) {
-                SwingUtilities.invokeAndWait(r);
-            } else {
-                SwingUtilities.invokeLater(r);
-            }
-        } catch (InterruptedException ie) {
-            if(threadStopRequest) return;
-            log.error("Unexpected exception in invokeAndWait: {}" + ie.toString(), ie);
-        } catch (java.lang.reflect.InvocationTargetException| RuntimeException e) {
-            log.error("Unexpected exception in invokeAndWait: {}" + e.toString(), e);
-            return;
+        if (synchronizeRx) {
+            ThreadingUtil.runOnLayout(r::run);
+        } else {
+            ThreadingUtil.runOnLayoutEventually(r::run);
         }
         log.debug("dispatch thread invoked");
     }
@@ -1284,6 +1495,7 @@ abstract public class AbstractMRTrafficController {
                 // interrupted during cleanup.
             }
         }    
+        stopNioReceiver();
 
         // we also need to remove the shutdown hook. 
         Runtime.getRuntime().removeShutdownHook(shutdownHook);
@@ -3,7 +3,16 @@ package jmri.jmrix;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +34,15 @@ abstract public class AbstractNetworkPortController extends AbstractPortControll
     protected Socket socketConn = null;
     protected int connTimeout = 0; // connection timeout for read operations.
     // Default is 0, an infinite timeout.
+    // the channel behind socketConn, when connected for NIO
+    protected SocketChannel socketChannel = null;
+    private boolean nioEnabled = Boolean.getBoolean(NIO_PROPERTY);
+
+    /**
+     * Name of the system property that makes network connections use a single
+     * shared {@link NetworkChannelSelector} thread for receiving by default.
+     */
+    public static final String NIO_PROPERTY = "jmri.networkNio"; // NOI18N
 
     protected AbstractNetworkPortController(SystemConnectionMemo connectionMemo) {
         super(connectionMemo);
@@ -47,9 +65,18 @@ abstract public class AbstractNetworkPortController extends AbstractPortControll
             return;
         }
         try {
-            socketConn = new Socket(getHostAddress(), m_port);
-            socketConn.setKeepAlive(true);
-            socketConn.setSoTimeout(getConnectionTimeout());
+            if (isNioEnabled()) {
+                socketChannel = SocketChannel.open(new InetSocketAddress(getHostAddress(), m_port));
+                socketConn = socketChannel.socket();
+                socketConn.setKeepAlive(true);
+                // bounds writes waiting for room, see ChannelOutputStream
+                socketConn.setSoTimeout(getConnectionTimeout());
+            } else {
+                socketChannel = null;
+                socketConn = new Socket(getHostAddress(), m_port);
+                socketConn.setKeepAlive(true);
+                socketConn.setSoTimeout(getConnectionTimeout());
+            }
             opened = true;
         } catch (IOException e) {
             log.error("error opening network connection: ", e);
@@ -71,6 +98,37 @@ abstract public class AbstractNetworkPortController extends AbstractPortControll
         }
     }
 
+    /**
+     * Check if the receive side of this connection is serviced by the shared
+     * {@link NetworkChannelSelector} rather than by a thread of its own.
+     *
+     * @return true if NIO is used
+     */
+    public boolean isNioEnabled() {
+        return nioEnabled;
+    }
+
+    /**
+     * Set if the receive side of this connection should be serviced by the
+     * shared {@link NetworkChannelSelector}. Takes effect on the next
+     * {@link #connect()}. Defaults to the value of the system property
+     * {@value #NIO_PROPERTY}.
+     *
+     * @param enabled true to use NIO
+     */
+    public void setNioEnabled(boolean enabled) {
+        nioEnabled = enabled;
+    }
+
+    /**
+     * Get the channel for this connection, if connected with NIO enabled.
+     *
+     * @return the connected channel or null
+     */
+    public SocketChannel getSocketChannel() {
+        return socketChannel;
+    }
+
     /**
      * Query the status of this connection, at least as far as is
      * known.
@@ -256,6 +314,9 @@ abstract public class AbstractNetworkPortController extends AbstractPortControll
             log.error("getOutputStream called before load(), stream not available");
         }
         try {
+            if (socketChannel != null) {
+                return new DataOutputStream(new ChannelOutputStream(socketChannel));
+            }
             return new DataOutputStream(socketConn.getOutputStream());
         } catch (java.io.IOException e) {
             log.error("getOutputStream exception:", e);
@@ -275,6 +336,69 @@ abstract public class AbstractNetworkPortController extends AbstractPortControll
         super.dispose();
     }
 
+    /**
+     * Writes to a channel that may be in non-blocking mode, as a channel
+     * serviced by the {@link NetworkChannelSelector} is. When the channel
+     * can't take more bytes, the writer waits until it can, for no longer than
+     * the socket's timeout if one is set.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+
+        private final SocketChannel channel;
+        // used to wait until the channel can be written to
+        private Selector writeSelector = null;
+
+        ChannelOutputStream(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                if (channel.write(buffer) == 0) {
+                    // socket send buffer full, wait for room
+                    waitUntilWritable();
+                }
+            }
+        }
+
+        private void waitUntilWritable() throws IOException {
+            if (writeSelector == null) {
+                writeSelector = Selector.open();
+                channel.register(writeSelector, SelectionKey.OP_WRITE);
+            }
+            int timeout = channel.socket().getSoTimeout();
+            long start = System.currentTimeMillis();
+            while (writeSelector.select(timeout > 0 ? Math.min(timeout, 1000) : 1000) == 0) {
+                if (!channel.isOpen()) {
+                    throw new ClosedChannelException();
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException();
+                }
+                if (timeout > 0 && System.currentTimeMillis() - start >= timeout) {
+                    throw new SocketTimeoutException("Write timed out");
+                }
+            }
+            writeSelector.selectedKeys().clear();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (writeSelector != null) {
+                writeSelector.close();
+                writeSelector = null;
+            }
+            channel.close();
+        }
+    }
+
     //private boolean allowConnectionRecovery = false;
     /**
      * Close the client side socket connection, reset the open flag and attempt
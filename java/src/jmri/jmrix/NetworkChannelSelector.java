@@ -0,0 +1,241 @@
+package jmri.jmrix;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import jmri.InstanceManager;
+import jmri.InstanceManagerAutoDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Services the receive side of any number of network connections from a
+ * single thread.
+ * <p>
+ * Used by {@link AbstractMRTrafficController} when its
+ * {@link AbstractNetworkPortController} has NIO enabled, instead of starting a
+ * receive thread per connection. Each registered channel is put in
+ * non-blocking mode; whenever data is available it is read into a buffer and
+ * handed to the channel's {@link ChannelReader}, still on the selector thread.
+ * Readers must therefore not block: they should keep the data and handle it
+ * on a thread from {@link #execute(Runnable)}. That pool has a fixed number of
+ * threads, so work run on it must not wait for more data either.
+ */
+public class NetworkChannelSelector implements InstanceManagerAutoDefault {
+
+    /**
+     * Receives data from a registered channel.
+     */
+    public interface ChannelReader {
+
+        /**
+         * Handle data read from the channel.
+         *
+         * @param buffer contains the data read, ready for get()
+         * @throws IOException to close the connection
+         */
+        void read(@Nonnull ByteBuffer buffer) throws IOException;
+
+        /**
+         * Called once when the channel can no longer be read, either because
+         * the remote end closed it or because of an error.
+         *
+         * @param e the reason
+         */
+        void closed(@Nonnull IOException e);
+    }
+
+    private volatile Selector selector = null;
+    private Thread thread = null;
+    private volatile boolean running = false;
+    private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private final AtomicInteger workerCount = new AtomicInteger();
+    private final ThreadPoolExecutor workers = new ThreadPoolExecutor(
+            WORKERS, WORKERS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, "JMRI Network Receive " + workerCount.incrementAndGet()); // NOI18N
+                t.setDaemon(true);
+                t.setPriority(Thread.MAX_PRIORITY);
+                return t;
+            });
+    // closes are reported one at a time, as recovery may block while reconnecting
+    private final ExecutorService closes = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "JMRI Network Connection Status"); // NOI18N
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * The most threads used to handle data read, however many connections
+     * there are.
+     */
+    static final int WORKERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    public NetworkChannelSelector() {
+        workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get the default instance.
+     *
+     * @return the shared selector
+     */
+    @Nonnull
+    public static NetworkChannelSelector getDefault() {
+        return InstanceManager.getDefault(NetworkChannelSelector.class);
+    }
+
+    /**
+     * Start servicing a channel. The channel is switched to non-blocking mode.
+     *
+     * @param channel the connected channel
+     * @param reader  handler for the data read
+     * @throws IOException if the selector can't be opened or the channel
+     *                     can't be made non-blocking
+     */
+    public synchronized void register(@Nonnull SocketChannel channel, @Nonnull ChannelReader reader) throws IOException {
+        start();
+        channel.configureBlocking(false);
+        pending.add(() -> {
+            try {
+                channel.register(selector, SelectionKey.OP_READ, reader);
+            } catch (ClosedChannelException e) {
+                reportClosed(reader, e);
+            }
+        });
+        selector.wakeup();
+    }
+
+    /**
+     * Stop servicing a channel. The channel is not closed.
+     *
+     * @param channel the channel to stop servicing
+     */
+    public synchronized void cancel(@Nonnull SocketChannel channel) {
+        if (selector == null) {
+            return;
+        }
+        pending.add(() -> {
+            SelectionKey key = channel.keyFor(selector);
+            if (key != null) {
+                key.cancel();
+            }
+        });
+        selector.wakeup();
+    }
+
+    /**
+     * Run work for a connection, such as handling the data it received, on a
+     * thread from a pool shared by all connections. A thread is only used
+     * while there is work, so connections that are quiet don't hold one. The
+     * pool has at most {@link #WORKERS} threads; further work waits for one.
+     *
+     * @param r the work
+     */
+    public void execute(@Nonnull Runnable r) {
+        workers.execute(r);
+    }
+
+    /**
+     * Stop the selector thread. Registered channels are not closed.
+     */
+    public synchronized void dispose() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private void start() throws IOException {
+        if (running) {
+            return;
+        }
+        selector = Selector.open();
+        running = true;
+        thread = new Thread(this::selectLoop, "JMRI Network Selector"); // NOI18N
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    private void selectLoop() {
+        log.debug("selectLoop starts");
+        Selector s = selector;
+        while (running && s == selector) {
+            try {
+                s.select();
+            } catch (IOException e) {
+                log.error("Network selector failed", e);
+                break;
+            }
+            Runnable r;
+            while ((r = pending.poll()) != null) {
+                r.run();
+            }
+            Iterator<SelectionKey> keys = s.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                ChannelReader reader = (ChannelReader) key.attachment();
+                try {
+                    if (key.isReadable()) {
+                        readFrom(key, reader);
+                    }
+                } catch (CancelledKeyException e) {
+                    // channel closed while being serviced; nothing to do
+                } catch (IOException e) {
+                    key.cancel();
+                    reportClosed(reader, e);
+                } catch (RuntimeException e) {
+                    log.error("Exception in network receive handler", e);
+                }
+            }
+        }
+        try {
+            s.close();
+        } catch (IOException e) {
+            log.trace("Unable to close selector", e);
+        }
+        log.debug("selectLoop ends");
+    }
+
+    private void readFrom(SelectionKey key, ChannelReader reader) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        buffer.clear();
+        int count = channel.read(buffer);
+        if (count < 0) {
+            // No more bytes can be read from the channel
+            key.cancel();
+            reportClosed(reader, new IOException("Connection not terminated normally"));
+            return;
+        }
+        if (count > 0) {
+            buffer.flip();
+            reader.read(buffer);
+        }
+    }
+
+    /**
+     * Report a closed channel on the connection status thread rather than the
+     * selector thread, as recovery may block while reconnecting and must not
+     * hold up the other connections.
+     */
+    private void reportClosed(ChannelReader reader, IOException e) {
+        closes.execute(() -> reader.closed(e));
+    }
+
+    private final static Logger log = LoggerFactory.getLogger(NetworkChannelSelector.class);
+}
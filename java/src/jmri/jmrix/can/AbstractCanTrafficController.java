@@ -45,6 +45,21 @@ abstract public class AbstractCanTrafficController
         this.removeListener(l);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Passes the sender on to the listener, so listeners that pass messages
+     * on can skip the sender too.
+     */
+    @Override
+    protected void forwardMessage(AbstractMRListener client, AbstractMRMessage m, AbstractMRListener sender) {
+        if (sender instanceof CanListener) {
+            ((CanListener) client).message((CanMessage) m, (CanListener) sender);
+        } else {
+            forwardMessage(client, m);
+        }
+    }
+
     /**
      * Actually transmits the next message to the port
      *
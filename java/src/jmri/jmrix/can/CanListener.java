@@ -9,6 +9,18 @@ public interface CanListener extends jmri.jmrix.AbstractMRListener {
 
     public void message(CanMessage m);
 
+    /**
+     * Receive a message sent by another listener. Listeners that pass
+     * messages on, such as the managers of CBUS beans, use the sender to keep
+     * from passing a message back to the listener that sent it.
+     *
+     * @param m      the message
+     * @param sender the listener that sent the message, or null if not known
+     */
+    public default void message(CanMessage m, CanListener sender) {
+        message(m);
+    }
+
     public void reply(CanReply m);
 }
 
@@ -2,6 +2,7 @@ package jmri.jmrix.can.cbus;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import jmri.jmrix.can.CanFrame;
 import jmri.jmrix.can.CanMessage;
 import jmri.jmrix.can.CanReply;
 
@@ -214,6 +215,46 @@ public class CbusAddress {
         return true;
     }
 
+    /**
+     * Get a key for the frames this address matches. A frame matches this
+     * address when {@link #eventKey(jmri.jmrix.can.CanFrame)} gives the same
+     * key for it.
+     *
+     * @return the key
+     */
+    String eventKey() {
+        char[] key = new char[aFrame.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (char) aFrame[i];
+        }
+        return eventKey(key);
+    }
+
+    /**
+     * Get a key for the addresses a frame matches.
+     *
+     * @param f the frame
+     * @return the key
+     * @see #eventKey()
+     */
+    static String eventKey(CanFrame f) {
+        char[] key = new char[f.getNumDataElements()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (char) f.getElement(i);
+        }
+        return eventKey(key);
+    }
+
+    private static String eventKey(char[] key) {
+        if (key.length > 0 && CbusOpCodes.isShortEvent(key[0])) {
+            // skip node number for short events, as match() does
+            for (int i = 1; i < 3 && i < key.length; i++) {
+                key[i] = 0;
+            }
+        }
+        return new String(key);
+    }
+
     /**
      * Split a string containing one or more addresses into individual ones.
      *
@@ -0,0 +1,104 @@
+package jmri.jmrix.can.cbus;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+import jmri.jmrix.can.CanFrame;
+import jmri.jmrix.can.CanListener;
+import jmri.jmrix.can.CanMessage;
+import jmri.jmrix.can.CanReply;
+
+/**
+ * Pass CBUS frames to the beans of a manager whose addresses match them.
+ * <p>
+ * The manager listens to the CAN traffic for all its beans. The beans are
+ * kept by the {@link CbusAddress#eventKey() key} of their addresses, so a
+ * frame is only passed to the beans it matches instead of to every bean. For
+ * events the key holds the opcode, which gives the polarity, and the node and
+ * event numbers.
+ * <p>
+ * When the traffic controller passes back a message sent by a bean, it names
+ * the bean, so the message goes to the other beans with the same address but
+ * not to the bean that sent it.
+ *
+ * @see CbusSensorManager
+ * @see CbusTurnoutManager
+ * @see CbusLightManager
+ */
+class CbusEventDispatcher implements CanListener {
+
+    private static final CanListener[] NONE = new CanListener[0];
+
+    // the beans matching each key; replaced, not changed, when beans are added
+    private final Map<String, CanListener[]> beans = new ConcurrentHashMap<>();
+
+    /**
+     * Pass the frames matching an address to a bean.
+     *
+     * @param address the address, ignored if null
+     * @param bean    the bean
+     */
+    synchronized void add(@CheckForNull CbusAddress address, @Nonnull CanListener bean) {
+        if (address == null || address.elements() == null) {
+            return;
+        }
+        String key = address.eventKey();
+        CanListener[] list = beans.getOrDefault(key, NONE);
+        if (Arrays.asList(list).contains(bean)) {
+            return;
+        }
+        list = Arrays.copyOf(list, list.length + 1);
+        list[list.length - 1] = bean;
+        beans.put(key, list);
+    }
+
+    /**
+     * Stop passing the frames matching an address to a bean.
+     *
+     * @param address the address, ignored if null
+     * @param bean    the bean
+     */
+    synchronized void remove(@CheckForNull CbusAddress address, @Nonnull CanListener bean) {
+        if (address == null || address.elements() == null) {
+            return;
+        }
+        String key = address.eventKey();
+        CanListener[] list = beans.get(key);
+        if (list == null) {
+            return;
+        }
+        list = Arrays.stream(list).filter(l -> l != bean).toArray(CanListener[]::new);
+        if (list.length == 0) {
+            beans.remove(key);
+        } else {
+            beans.put(key, list);
+        }
+    }
+
+    private CanListener[] getBeans(CanFrame f) {
+        return beans.getOrDefault(CbusAddress.eventKey(f), NONE);
+    }
+
+    @Override
+    public void message(CanMessage m) {
+        message(m, null);
+    }
+
+    @Override
+    public void message(CanMessage m, CanListener sender) {
+        for (CanListener bean : getBeans(m)) {
+            if (bean != sender) {
+                bean.message(m);
+            }
+        }
+    }
+
+    @Override
+    public void reply(CanReply r) {
+        for (CanListener bean : getBeans(r)) {
+            bean.reply(r);
+        }
+    }
+}
@@ -63,8 +63,6 @@ public class CbusLight extends AbstractLight
                 log.error("Can't parse CbusSensor system name: " + address);
                 return;
         }
-        // connect
-        tc.addCanListener(this);
     }
 
     /**
@@ -20,10 +20,49 @@ public class CbusLightManager extends AbstractLightManager {
     public CbusLightManager(CanSystemConnectionMemo memo) {
         this.memo = memo;
         prefix = memo.getSystemPrefix();
+        memo.getTrafficController().addCanListener(events);
     }
 
     CanSystemConnectionMemo memo;
 
+    // passes CBUS frames to the lights they match
+    final CbusEventDispatcher events = new CbusEventDispatcher();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also pass the CBUS frames matching the addresses of the light to it.
+     */
+    @Override
+    public void register(Light s) {
+        super.register(s);
+        if (s instanceof CbusLight) {
+            CbusLight c = (CbusLight) s;
+            events.add(c.addrOn, c);
+            events.add(c.addrOff, c);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deregister(Light s) {
+        super.deregister(s);
+        if (s instanceof CbusLight) {
+            CbusLight c = (CbusLight) s;
+            events.remove(c.addrOn, c);
+            events.remove(c.addrOff, c);
+        }
+    }
+
+    // to free resources when no longer used
+    @Override
+    public void dispose() {
+        memo.getTrafficController().removeCanListener(events);
+        super.dispose();
+    }
+
     String prefix = "M";
 
     @Override
@@ -32,12 +32,10 @@ public class CbusReporter extends AbstractReporter implements CanListener {
 
     private final int _number;
 
-    @SuppressWarnings("LeakingThisInConstructor")
     public CbusReporter(int number, TrafficController tc, String prefix) {  // a human-readable Reporter number must be specified!
         super(prefix + "R" + number);  // can't use prefix here, as still in construction
         _number = number;
-        // At construction, register for messages
-        tc.addCanListener(this);
+        // messages are passed on by CbusReporterManager
         log.debug("Added new reporter " + prefix + "R" + number);
     }
 
@@ -123,7 +123,7 @@ public class CbusReporterManager extends AbstractReporterManager implements
         // message type OK, check address
         int addr = CbusMessage.getNodeNumber(m);
 
-        CbusReporter r = (CbusReporter) provideReporter("MR" + addr);
+        CbusReporter r = (CbusReporter) provideReporter(getSystemPrefix() + typeLetter() + addr);
         r.message(m);       // make sure it got the message
 
     }
@@ -137,13 +137,13 @@ public class CbusReporterManager extends AbstractReporterManager implements
     public void reply(CanReply m) {
         // TODO Auto-generated method stub
         log.debug("CbusReporterManager: handle reply: {} node: {}", m.getOpCode(), CbusMessage.getNodeNumber(m));
-        if (m.getOpCode() != CbusConstants.CBUS_DDES || m.getOpCode() != CbusConstants.CBUS_ACDAT) {
+        if (m.getOpCode() != CbusConstants.CBUS_DDES && m.getOpCode() != CbusConstants.CBUS_ACDAT) {
             return;
         }
         // message type OK, check address
         int addr = m.getElement(1) * 256 + m.getElement(2);
 
-        CbusReporter r = (CbusReporter) provideReporter("MR" + addr);
+        CbusReporter r = (CbusReporter) provideReporter(getSystemPrefix() + typeLetter() + addr);
         r.reply(m);     // make sure it got the message
 
     }
@@ -62,8 +62,6 @@ public class CbusSensor extends AbstractSensor implements CanListener {
                 log.error("Can't parse CbusSensor system name: " + address);
                 return;
         }
-        // connect
-        tc.addCanListener(this);
     }
 
     /**
@@ -121,12 +119,6 @@ public class CbusSensor extends AbstractSensor implements CanListener {
         }
     }
 
-    @Override
-    public void dispose() {
-        tc.removeCanListener(this);
-        super.dispose();
-    }
-
     private final static Logger log = LoggerFactory.getLogger(CbusSensor.class);
 
 }
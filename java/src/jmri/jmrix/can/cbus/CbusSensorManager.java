@@ -38,6 +38,37 @@ public class CbusSensorManager extends jmri.managers.AbstractSensorManager imple
 
     CanSystemConnectionMemo memo;
 
+    // passes CBUS frames to the sensors they match
+    final CbusEventDispatcher events = new CbusEventDispatcher();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also pass the CBUS frames matching the addresses of the sensor to it.
+     */
+    @Override
+    public void register(Sensor s) {
+        super.register(s);
+        if (s instanceof CbusSensor) {
+            CbusSensor c = (CbusSensor) s;
+            events.add(c.addrActive, c);
+            events.add(c.addrInactive, c);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deregister(Sensor s) {
+        super.deregister(s);
+        if (s instanceof CbusSensor) {
+            CbusSensor c = (CbusSensor) s;
+            events.remove(c.addrActive, c);
+            events.remove(c.addrInactive, c);
+        }
+    }
+
     // CBUS-specific methods
 
     @Override
@@ -152,17 +183,21 @@ public class CbusSensorManager extends jmri.managers.AbstractSensorManager imple
         return entryToolTip;
     }
 
-    // listen for sensors, creating them as needed
+    // pass frames to the sensors they match; for now
+    // we want you to create sensors manually
     @Override
     public void reply(CanReply l) {
-        // doesn't do anything, because for now 
-        // we want you to create manually
+        events.reply(l);
     }
 
     @Override
     public void message(CanMessage l) {
-        // doesn't do anything, because 
-        // messages come from us
+        events.message(l);
+    }
+
+    @Override
+    public void message(CanMessage l, CanListener sender) {
+        events.message(l, sender);
     }
 
     /**
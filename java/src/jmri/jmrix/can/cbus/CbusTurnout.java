@@ -63,8 +63,6 @@ public class CbusTurnout extends jmri.implementation.AbstractTurnout
                 log.error("Can't parse CbusSensor system name: " + address);
                 return;
         }
-        // connect
-        tc.addCanListener(this);
     }
 
     /**
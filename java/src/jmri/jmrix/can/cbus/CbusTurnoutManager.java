@@ -20,10 +20,49 @@ public class CbusTurnoutManager extends AbstractTurnoutManager {
     public CbusTurnoutManager(CanSystemConnectionMemo memo) {
         this.memo = memo;
         prefix = memo.getSystemPrefix();
+        memo.getTrafficController().addCanListener(events);
     }
 
     CanSystemConnectionMemo memo;
 
+    // passes CBUS frames to the turnouts they match
+    final CbusEventDispatcher events = new CbusEventDispatcher();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also pass the CBUS frames matching the addresses of the turnout to it.
+     */
+    @Override
+    public void register(Turnout s) {
+        super.register(s);
+        if (s instanceof CbusTurnout) {
+            CbusTurnout c = (CbusTurnout) s;
+            events.add(c.addrThrown, c);
+            events.add(c.addrClosed, c);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deregister(Turnout s) {
+        super.deregister(s);
+        if (s instanceof CbusTurnout) {
+            CbusTurnout c = (CbusTurnout) s;
+            events.remove(c.addrThrown, c);
+            events.remove(c.addrClosed, c);
+        }
+    }
+
+    // to free resources when no longer used
+    @Override
+    public void dispose() {
+        memo.getTrafficController().removeCanListener(events);
+        super.dispose();
+    }
+
     String prefix = "M";
 
     @Override
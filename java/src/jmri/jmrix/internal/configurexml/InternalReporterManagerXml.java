@@ -36,5 +36,15 @@ public class InternalReporterManagerXml extends jmri.managers.configurexml.Abstr
         return loadReporters(shared);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return true; only creates internal reporters, on the layout thread
+     */
+    @Override
+    public boolean loadOffGUI() {
+        return true;
+    }
+
     private final static Logger log = LoggerFactory.getLogger(InternalReporterManagerXml.class);
 }
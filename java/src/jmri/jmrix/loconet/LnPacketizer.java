@@ -4,6 +4,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.DataInputStream;
 import java.io.OutputStream;
 import java.util.LinkedList;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,7 +112,9 @@ public class LnPacketizer extends LnTrafficController {
         // in an atomic operation, queue the request and wake the xmit thread
         try {
             synchronized (xmtHandler) {
-                xmtList.addLast(msg);
+                if (!replaceQueued(msg)) {
+                    xmtList.addLast(msg);
+                }
                 xmtHandler.notify(); // NPE here on slow systems init state query
                 // null test added in 4.11.6 in LnPowerManager and LnSensorManager
             }
@@ -123,6 +126,72 @@ public class LnPacketizer extends LnTrafficController {
         }
     }
 
+    /**
+     * Replace a queued speed or function message for a slot with a newer one.
+     * <p>
+     * When a throttle is moved quickly, new speed and function settings can
+     * be requested faster than they can be sent. The newest message then
+     * takes the place of the one for the same slot and with the same opcode
+     * that is still waiting to be sent, so the slot gets the latest setting
+     * as soon as possible instead of working through the stale ones. A
+     * waiting message is not replaced if another message for the slot was
+     * queued after it, so changes to a slot are always sent in order.
+     * <p>
+     * Must be called holding the xmtHandler lock.
+     *
+     * @param msg the message to queue
+     * @return true if the message replaced a queued one; false if it still
+     *         needs to be queued
+     */
+    protected boolean replaceQueued(byte[] msg) {
+        if (!isSlotSetting(msg)) {
+            return false;
+        }
+        ListIterator<byte[]> queued = xmtList.listIterator(xmtList.size());
+        while (queued.hasPrevious()) {
+            byte[] previous = queued.previous();
+            if (isSlotSetting(previous)) {
+                if (previous[1] != msg[1]) {
+                    continue; // another slot
+                }
+                if (previous[0] != msg[0]) {
+                    return false; // a different setting for the slot
+                }
+                log.debug("replace queued LocoNet packet for slot {}", msg[1]); // NOI18N
+                queued.set(msg);
+                return true;
+            }
+            switch (previous[0] & 0xFF) {
+                case LnConstants.OPC_SLOT_STAT1:
+                case LnConstants.OPC_CONSIST_FUNC:
+                case LnConstants.OPC_UNLINK_SLOTS:
+                case LnConstants.OPC_LINK_SLOTS:
+                case LnConstants.OPC_MOVE_SLOTS:
+                case LnConstants.OPC_RQ_SL_DATA:
+                case LnConstants.OPC_WR_SL_DATA:
+                    return false; // the slot might have changed since
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    // a speed, direction and F0-F4 or F5-F8 setting for a slot
+    private static boolean isSlotSetting(byte[] msg) {
+        if (msg.length != 4) {
+            return false;
+        }
+        switch (msg[0] & 0xFF) {
+            case LnConstants.OPC_LOCO_SPD:
+            case LnConstants.OPC_LOCO_DIRF:
+            case LnConstants.OPC_LOCO_SND:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Implement abstract method to signal if there's a backlog of information
      * waiting to be sent.
@@ -432,10 +501,10 @@ public class LnPacketizer extends LnTrafficController {
         }
         // message is queued for transmit, echo it when needed
         // return a notification via the queue to ensure end
-        javax.swing.SwingUtilities.invokeLater(new Echo(this, new LocoNetMessage(msg)));
+        jmri.util.ThreadingUtil.runOnLayoutEventually(new Echo(this, new LocoNetMessage(msg)));
     }
 
-    static class Echo implements Runnable {
+    static class Echo implements jmri.util.ThreadingUtil.ThreadAction {
 
         Echo(LnPacketizer t, LocoNetMessage m) {
             myTc = t;
@@ -42,8 +42,8 @@ public class LnReporter extends AbstractReporter implements LocoNetListener, Phy
         super(prefix + "R" + number);  // can't use prefix here, as still in construction
         log.debug("new Reporter {}", number);
         _number = number;
-        // At construction, register for messages
-        tc.addLocoNetListener(~0, this);
+        // At construction, register for messages to this address only
+        tc.addLocoNetListener(LocoNetInterface.REPORTS, number, this);
         this.tc = tc;
     }
 
@@ -139,7 +139,7 @@ public class LnReporter extends AbstractReporter implements LocoNetListener, Phy
 
     @Override
     public void dispose() {
-        tc.removeLocoNetListener(~0, this);
+        tc.removeLocoNetListener(LocoNetInterface.REPORTS, _number, this);
         super.dispose();
     }
 
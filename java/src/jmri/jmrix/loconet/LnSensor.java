@@ -44,8 +44,8 @@ public class LnSensor extends AbstractSensor implements LocoNetListener {
             log.debug("create address {}", a);
         }
 
-        // At construction, register for messages
-        tc.addLocoNetListener(~0, this);
+        // At construction, register for messages to this address only
+        tc.addLocoNetListener(LocoNetInterface.SENSORS, a.asInt(), this);
     }
 
     /**
@@ -126,7 +126,7 @@ public class LnSensor extends AbstractSensor implements LocoNetListener {
 
     @Override
     public void dispose() {
-        tc.removeLocoNetListener(~0, this);
+        tc.removeLocoNetListener(LocoNetInterface.SENSORS, a.asInt(), this);
         super.dispose();
     }
 
@@ -1,6 +1,10 @@
 package jmri.jmrix.loconet;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,29 +69,216 @@ public abstract class LnTrafficController implements LocoNetInterface {
 
     // The methods to implement adding and removing listeners
 
+    /**
+     * Listeners that want to see every message, i.e. registered with
+     * {@link LocoNetInterface#ALL} (or, for historical reasons, with 0).
+     */
     protected Vector<LocoNetListener> listeners = new Vector<LocoNetListener>();
 
+    /**
+     * Listeners registered for only some classes of message, with the OR of
+     * all masks they registered with.
+     */
+    private final LinkedHashMap<LocoNetListener, Integer> maskedListeners = new LinkedHashMap<>();
+
+    /**
+     * Listeners registered for a single device address, indexed first by
+     * message class (SENSORS, TURNOUTS or REPORTS) and then by address.
+     */
+    private final HashMap<Integer, HashMap<Integer, Vector<LocoNetListener>>> addressedListeners = new HashMap<>();
+
     @Override
     public synchronized void addLocoNetListener(int mask, LocoNetListener l) {
         // add only if not already registered
         if (l == null) {
             throw new java.lang.NullPointerException();
         }
-        if (!listeners.contains(l)) {
-            listeners.addElement(l);
+        if (mask == ALL || mask == 0) {
+            if (!listeners.contains(l)) {
+                listeners.addElement(l);
+            }
+        } else {
+            Integer old = maskedListeners.get(l);
+            maskedListeners.put(l, (old == null) ? mask : (old | mask));
         }
     }
 
     @Override
     public synchronized void removeLocoNetListener(int mask, LocoNetListener l) {
-        if (listeners.contains(l)) {
-            listeners.removeElement(l);
+        if (mask == ALL || mask == 0) {
+            if (listeners.contains(l)) {
+                listeners.removeElement(l);
+            }
+        } else {
+            Integer old = maskedListeners.get(l);
+            if (old != null) {
+                if ((old & ~mask) == 0) {
+                    maskedListeners.remove(l);
+                } else {
+                    maskedListeners.put(l, old & ~mask);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void addLocoNetListener(int mask, int address, LocoNetListener l) {
+        if (l == null) {
+            throw new java.lang.NullPointerException();
+        }
+        if (mask != SENSORS && mask != TURNOUTS && mask != REPORTS) {
+            log.warn("no address index for mask {}, forwarding all messages", mask);
+            addLocoNetListener(ALL, l);
+            return;
+        }
+        HashMap<Integer, Vector<LocoNetListener>> byAddress = addressedListeners.get(mask);
+        if (byAddress == null) {
+            byAddress = new HashMap<>();
+            addressedListeners.put(mask, byAddress);
+        }
+        Vector<LocoNetListener> v = byAddress.get(address);
+        if (v == null) {
+            v = new Vector<>(1);
+            byAddress.put(address, v);
+        }
+        if (!v.contains(l)) {
+            v.addElement(l);
+        }
+    }
+
+    @Override
+    public synchronized void removeLocoNetListener(int mask, int address, LocoNetListener l) {
+        if (mask != SENSORS && mask != TURNOUTS && mask != REPORTS) {
+            removeLocoNetListener(ALL, l);
+            return;
+        }
+        HashMap<Integer, Vector<LocoNetListener>> byAddress = addressedListeners.get(mask);
+        if (byAddress == null) {
+            return;
+        }
+        Vector<LocoNetListener> v = byAddress.get(address);
+        if (v != null) {
+            v.removeElement(l);
+            if (v.isEmpty()) {
+                byAddress.remove(address);
+            }
+        }
+    }
+
+    /**
+     * Get the number of registrations, counting each listener once for the
+     * unaddressed lists and once per address it registered for.
+     *
+     * @return the number of registered listeners
+     */
+    protected synchronized int getNumListeners() {
+        int count = listeners.size() + maskedListeners.size();
+        for (HashMap<Integer, Vector<LocoNetListener>> byAddress : addressedListeners.values()) {
+            for (Vector<LocoNetListener> v : byAddress.values()) {
+                count += v.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the listener classes a message belongs to.
+     *
+     * @param m the message to classify
+     * @return the OR of the mask values that apply, 0 if none
+     */
+    static int messageClass(LocoNetMessage m) {
+        switch (m.getOpCode()) {
+            case LnConstants.OPC_INPUT_REP:
+                return SENSORS;
+            case LnConstants.OPC_SW_REQ:
+            case LnConstants.OPC_SW_REP:
+            case LnConstants.OPC_SW_STATE:
+            case LnConstants.OPC_SW_ACK:
+                return TURNOUTS;
+            case LnConstants.OPC_GPON:
+            case LnConstants.OPC_GPOFF:
+            case LnConstants.OPC_IDLE:
+                return POWER;
+            case LnConstants.OPC_MULTI_SENSE:
+            case LnConstants.OPC_LISSY_UPDATE:
+                return REPORTS;
+            case LnConstants.OPC_LONG_ACK:
+                return PROGRAMMING;
+            case LnConstants.OPC_SL_RD_DATA:
+            case LnConstants.OPC_WR_SL_DATA:
+                if (m.getNumDataElements() > 2 && m.getElement(2) == LnConstants.PRG_SLOT) {
+                    return SLOTINFO | PROGRAMMING;
+                }
+                return SLOTINFO;
+            case LnConstants.OPC_LOCO_ADR:
+            case LnConstants.OPC_LOCO_SPD:
+            case LnConstants.OPC_LOCO_DIRF:
+            case LnConstants.OPC_LOCO_SND:
+            case LnConstants.OPC_SLOT_STAT1:
+            case LnConstants.OPC_MOVE_SLOTS:
+            case LnConstants.OPC_LINK_SLOTS:
+            case LnConstants.OPC_UNLINK_SLOTS:
+            case LnConstants.OPC_CONSIST_FUNC:
+            case LnConstants.OPC_RQ_SL_DATA:
+                return SLOTINFO;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Decode the device address carried by a message of one of the addressed
+     * classes.
+     * <ul>
+     * <li>SENSORS: OPC_INPUT_REP, the 0-4095 address as used by
+     * {@link LnSensorAddress}
+     * <li>TURNOUTS: OPC_SW_REQ and OPC_SW_REP, the 1-based turnout number
+     * <li>REPORTS: the 1-based transponding zone for OPC_MULTI_SENSE, the
+     * unit number for a LISSY report
+     * </ul>
+     *
+     * @param mask the class to decode for
+     * @param m    the message
+     * @return the address, or -1 if the message doesn't carry one of that
+     *         class
+     */
+    public static int addressOf(int mask, LocoNetMessage m) {
+        int opc = m.getOpCode();
+        switch (mask) {
+            case SENSORS:
+                if (opc == LnConstants.OPC_INPUT_REP) {
+                    int sw1 = m.getElement(1);
+                    int sw2 = m.getElement(2);
+                    return (sw2 & 0x0f) * 256 + (sw1 & 0x7f) * 2 + ((sw2 & 0x20) != 0 ? 1 : 0);
+                }
+                return -1;
+            case TURNOUTS:
+                if (opc == LnConstants.OPC_SW_REQ || opc == LnConstants.OPC_SW_REP) {
+                    // the "+ 1" in the following converts to throttle-visible numbering
+                    return ((m.getElement(2) & 0x0f) * 128) + (m.getElement(1) & 0x7f) + 1;
+                }
+                return -1;
+            case REPORTS:
+                if (opc == LnConstants.OPC_MULTI_SENSE && (m.getElement(1) & 0xC0) == 0) {
+                    return ((m.getElement(1) & 0x1F) * 128) + m.getElement(2) + 1;
+                }
+                if (opc == LnConstants.OPC_LISSY_UPDATE && m.getElement(1) == 0x08) {
+                    return m.getElement(4) & 0x7F;
+                }
+                return -1;
+            default:
+                return -1;
         }
     }
 
     /**
      * Forward a LocoNetMessage to all registered listeners.
      * <p>
+     * Listeners registered with {@link LocoNetInterface#ALL} see every
+     * message; listeners registered with narrower masks or for a single
+     * address only see the messages that match.
+     * <p>
      * Needs to have public access, as
      * {@link jmri.jmrix.loconet.loconetovertcp.LnOverTcpPacketizer} and
      * {@link jmri.jmrix.loconet.Intellibox.IBLnPacketizer} invoke it, but don't
@@ -101,18 +292,46 @@ public abstract class LnTrafficController implements LocoNetInterface {
         receivedMsgCount++;
         receivedByteCount += m.getNumDataElements();
 
-        // make a copy of the listener vector to synchronized not needed for transmit
+        int mclass = messageClass(m);
+
+        // make a copy of the listener lists so synchronized not needed for transmit
         Vector<LocoNetListener> v;
+        ArrayList<LocoNetListener> targets = null;
         synchronized (this) {
             v = (Vector<LocoNetListener>) listeners.clone();
+            if (mclass != 0) {
+                for (Map.Entry<LocoNetListener, Integer> e : maskedListeners.entrySet()) {
+                    if ((e.getValue() & mclass) != 0) {
+                        if (targets == null) {
+                            targets = new ArrayList<>();
+                        }
+                        targets.add(e.getKey());
+                    }
+                }
+                HashMap<Integer, Vector<LocoNetListener>> byAddress = addressedListeners.get(mclass & (SENSORS | TURNOUTS | REPORTS));
+                if (byAddress != null) {
+                    Vector<LocoNetListener> addressed = byAddress.get(addressOf(mclass, m));
+                    if (addressed != null) {
+                        if (targets == null) {
+                            targets = new ArrayList<>(addressed.size());
+                        }
+                        targets.addAll(addressed);
+                    }
+                }
+            }
         }
         log.debug("notify of incoming LocoNet packet: {}", m.toString());
         // forward to all listeners
         int cnt = v.size();
         for (int i = 0; i < cnt; i++) {
-            LocoNetListener client = listeners.elementAt(i);
+            LocoNetListener client = v.elementAt(i);
             client.message(m);
         }
+        if (targets != null) {
+            for (LocoNetListener client : targets) {
+                client.message(m);
+            }
+        }
     }
 
     /**
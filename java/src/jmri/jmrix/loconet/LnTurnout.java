@@ -50,9 +50,9 @@ public class LnTurnout extends AbstractTurnout implements LocoNetListener {
         this.controller = controller;
 
         _number = number;
-        // At construction, register for messages
+        // At construction, register for messages to this address only
         if (this.controller != null) {
-            this.controller.addLocoNetListener(~0, this);
+            this.controller.addLocoNetListener(LocoNetInterface.TURNOUTS, _number, this);
         } else {
             log.warn("No LocoNet connection, turnout won't update");
         }
@@ -391,7 +391,7 @@ public class LnTurnout extends AbstractTurnout implements LocoNetListener {
         if(consistencyTask != null ) {
            consistencyTask.cancel();
         }
-        this.controller.removeLocoNetListener(~0, this);
+        this.controller.removeLocoNetListener(LocoNetInterface.TURNOUTS, _number, this);
         super.dispose();
     }
 
@@ -63,6 +63,38 @@ public interface LocoNetInterface {
      */
     void removeLocoNetListener(int mask, LocoNetListener listener);
 
+    /**
+     * Request notification of messages addressed to a single device.
+     * <p>
+     * Only the messages of the given class that carry the given address are
+     * forwarded, so that a layout with many sensors, turnouts and reporters
+     * does not need to offer every message to every one of them.
+     * Implementations that don't maintain an address index forward all
+     * messages, as if registered with {@link #ALL}.
+     *
+     * @param mask     exactly one of {@link #SENSORS}, {@link #TURNOUTS} or
+     *                 {@link #REPORTS}
+     * @param address  the device address; see
+     *                 {@link LnTrafficController#addressOf(int, LocoNetMessage)}
+     *                 for the numbering used with each class
+     * @param listener Object to be notified of new messages as they arrive.
+     */
+    default void addLocoNetListener(int mask, int address, LocoNetListener listener) {
+        addLocoNetListener(ALL, listener);
+    }
+
+    /**
+     * Stop notification of messages addressed to a single device. Mask,
+     * address and LocoNetListener must match a previous request exactly.
+     *
+     * @param mask     the class used when registering
+     * @param address  the address used when registering
+     * @param listener the registered listener
+     */
+    default void removeLocoNetListener(int mask, int address, LocoNetListener listener) {
+        removeLocoNetListener(ALL, listener);
+    }
+
     /*
      * Check whether an implementation is operational. True indicates OK.
      */
@@ -103,4 +135,9 @@ public interface LocoNetInterface {
      */
     public static final int POWER = 16;
 
+    /**
+     * Mask value to request notification of transponding and LISSY reports
+     */
+    public static final int REPORTS = 32;
+
 }
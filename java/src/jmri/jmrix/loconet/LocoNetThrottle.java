@@ -349,13 +349,10 @@ public class LocoNetThrottle extends AbstractThrottle implements SlotListener {
 
         if (sendLoconetMessage) {
             log.debug("setSpeedSetting: sending speed {} to LocoNet slot {}", speed, slot.getSlot());
-            LocoNetMessage msg = new LocoNetMessage(4);
-            msg.setOpCode(LnConstants.OPC_LOCO_SPD);
-            msg.setElement(1, slot.getSlot());
             log.debug("setSpeedSetting: float speed: " + speed + " LocoNet speed: " + new_spd);
-            msg.setElement(2, new_spd);
-            network.sendLocoNetMessage(msg);
+            sendSpeed(new_spd);
         } else {
+            cancelPendingSpeed();
             log.debug("setSpeedSetting: not sending LocoNet message to slot {}, new speed == old speed", slot.getSlot());
         }
 
@@ -372,6 +369,78 @@ public class LocoNetThrottle extends AbstractThrottle implements SlotListener {
         record(speed);
     }
 
+    // speed messages are sent no closer together than this, in msec; 0 for no limit
+    private int speedMessageInterval = 0;
+    private long lastSpeedSent = 0;
+    // the newest speed waiting for the interval to end, or -1 if none
+    private int pendingSpeed = -1;
+    private javax.swing.Timer pendingSpeedTimer = null;
+
+    /**
+     * Set the shortest time between speed messages sent for this throttle.
+     * <p>
+     * Speeds set within this time of the last speed message are not sent
+     * right away. Once the time is over, only the latest of them is sent.
+     * Stop and emergency stop are always sent right away.
+     *
+     * @param interval the interval in milliseconds; 0, the default, sends
+     *                 every speed right away
+     */
+    public synchronized void setSpeedMessageInterval(int interval) {
+        speedMessageInterval = Math.max(0, interval);
+    }
+
+    /**
+     * Get the shortest time between speed messages sent for this throttle.
+     *
+     * @return the interval in milliseconds; 0 if speeds are sent right away
+     * @see #setSpeedMessageInterval(int)
+     */
+    public synchronized int getSpeedMessageInterval() {
+        return speedMessageInterval;
+    }
+
+    /**
+     * Send a LocoNet speed, or hold it until the speed message interval is
+     * over.
+     *
+     * @param spd the LocoNet speed
+     */
+    protected synchronized void sendSpeed(int spd) {
+        if (speedMessageInterval > 0 && spd > 1) {
+            long wait = lastSpeedSent + speedMessageInterval - System.currentTimeMillis();
+            if (wait > 0) {
+                pendingSpeed = spd;
+                if (pendingSpeedTimer == null) {
+                    pendingSpeedTimer = jmri.util.ThreadingUtil.runOnLayoutDelayed(this::sendPendingSpeed, (int) wait);
+                }
+                return;
+            }
+        }
+        cancelPendingSpeed();
+        LocoNetMessage msg = new LocoNetMessage(4);
+        msg.setOpCode(LnConstants.OPC_LOCO_SPD);
+        msg.setElement(1, slot.getSlot());
+        msg.setElement(2, spd);
+        network.sendLocoNetMessage(msg);
+        lastSpeedSent = System.currentTimeMillis();
+    }
+
+    private synchronized void sendPendingSpeed() {
+        pendingSpeedTimer = null;
+        if (pendingSpeed >= 0 && slot != null) {
+            sendSpeed(pendingSpeed);
+        }
+    }
+
+    private synchronized void cancelPendingSpeed() {
+        pendingSpeed = -1;
+        if (pendingSpeedTimer != null) {
+            pendingSpeedTimer.stop();
+            pendingSpeedTimer = null;
+        }
+    }
+
     /**
      * Sends a LocoNet message containing the specified direction of travel.
      * 
@@ -434,6 +503,7 @@ public class LocoNetThrottle extends AbstractThrottle implements SlotListener {
             // Can remove the slot listener at any time; any further messages 
             // aren't needed.
             slot.removeSlotListener(this);
+            cancelPendingSpeed();
             // Stop the throttle speed refresh timer
             if (mRefreshTimer != null) {
                 mRefreshTimer.stop();
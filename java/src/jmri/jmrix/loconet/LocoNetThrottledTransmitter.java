@@ -74,6 +74,16 @@ public class LocoNetThrottledTransmitter implements LocoNetInterface {
         controller.removeLocoNetListener(mask, listener);
     }
 
+    @Override
+    public void addLocoNetListener(int mask, int address, LocoNetListener listener) {
+        controller.addLocoNetListener(mask, address, listener);
+    }
+
+    @Override
+    public void removeLocoNetListener(int mask, int address, LocoNetListener listener) {
+        controller.removeLocoNetListener(mask, address, listener);
+    }
+
     @Override
     public boolean status() {
         return controller.status();
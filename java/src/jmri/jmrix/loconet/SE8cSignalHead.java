@@ -50,8 +50,9 @@ public class SE8cSignalHead extends DefaultSignalHead implements LocoNetListener
         tc = jmri.InstanceManager.getDefault(LnTrafficController.class);
         mNumber = pNumber;
         mAppearance = DARK;  // start turned off
-        // At construction, register for messages
-        tc.addLocoNetListener(~0, this);
+        // At construction, register for messages to both of our addresses
+        tc.addLocoNetListener(LocoNetInterface.TURNOUTS, mNumber, this);
+        tc.addLocoNetListener(LocoNetInterface.TURNOUTS, mNumber + 1, this);
         updateOutput();
     }
 
@@ -223,7 +224,8 @@ public class SE8cSignalHead extends DefaultSignalHead implements LocoNetListener
 
     @Override
     public void dispose() {
-        tc.removeLocoNetListener(~0, this);
+        tc.removeLocoNetListener(LocoNetInterface.TURNOUTS, mNumber, this);
+        tc.removeLocoNetListener(LocoNetInterface.TURNOUTS, mNumber + 1, this);
     }
 
     // data members
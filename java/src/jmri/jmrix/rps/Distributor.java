@@ -1,5 +1,6 @@
 package jmri.jmrix.rps;
 
+import java.util.List;
 import java.util.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,12 +46,8 @@ public class Distributor {
             log.debug("notify " + v.size()
                     + " ReadingListeners about item ");
         }
-        // forward to all listeners
-        int cnt = v.size();
-        for (int i = 0; i < cnt; i++) {
-            ReadingListener client = v.elementAt(i);
-            javax.swing.SwingUtilities.invokeLater(new ForwardReading(s, client));
-        }
+        // forward to all listeners together
+        javax.swing.SwingUtilities.invokeLater(new ForwardReading(s, v));
     }
 
     /**
@@ -86,12 +83,8 @@ public class Distributor {
             log.debug("notify " + v.size()
                     + " MeasurementListeners about item ");
         }
-        // forward to all listeners
-        int cnt = v.size();
-        for (int i = 0; i < cnt; i++) {
-            MeasurementListener client = v.elementAt(i);
-            javax.swing.SwingUtilities.invokeLater(new ForwardMeasurement(s, client));
-        }
+        // forward to all listeners together
+        javax.swing.SwingUtilities.invokeLater(new ForwardMeasurement(s, v));
     }
 
     static volatile private Distributor instance = null;
@@ -112,40 +105,52 @@ public class Distributor {
     private final static Logger log = LoggerFactory.getLogger(Distributor.class);
 
     /**
-     * Forward the Reading from the Swing thread
+     * Forward the Reading to each listener from the Swing thread
      */
     static class ForwardReading implements Runnable {
 
         Reading s;
-        ReadingListener client;
+        List<ReadingListener> clients;
 
-        ForwardReading(Reading s, ReadingListener client) {
+        ForwardReading(Reading s, List<ReadingListener> clients) {
             this.s = s;
-            this.client = client;
+            this.clients = clients;
         }
 
         @Override
         public void run() {
-            client.notify(s);
+            for (ReadingListener client : clients) {
+                try {
+                    client.notify(s);
+                } catch (RuntimeException e) {
+                    log.error("Exception notifying listener", e);
+                }
+            }
         }
     }
 
     /**
-     * Forward the Measurement from the Swing thread
+     * Forward the Measurement to each listener from the Swing thread
      */
     static class ForwardMeasurement implements Runnable {
 
         Measurement s;
-        MeasurementListener client;
+        List<MeasurementListener> clients;
 
-        ForwardMeasurement(Measurement s, MeasurementListener client) {
+        ForwardMeasurement(Measurement s, List<MeasurementListener> clients) {
             this.s = s;
-            this.client = client;
+            this.clients = clients;
         }
 
         @Override
         public void run() {
-            client.notify(s);
+            for (MeasurementListener client : clients) {
+                try {
+                    client.notify(s);
+                } catch (RuntimeException e) {
+                    log.error("Exception notifying listener", e);
+                }
+            }
         }
     }
 
@@ -3,6 +3,14 @@ package jmri.jmrix.rps;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.vecmath.Point3d;
 import jmri.CommandStation;
 import jmri.jmrit.roster.Roster;
@@ -43,6 +51,12 @@ public class Engine implements ReadingListener {
     }
 
     public void dispose() {
+        synchronized (solving) {
+            if (solver != null) {
+                solver.shutdown();
+                solver = null;
+            }
+        }
     }
 
     public void setVSound(double v) {
@@ -67,6 +81,8 @@ public class Engine implements ReadingListener {
     }
 
     Measurement lastPoint = null;
+    // the last measurement of each transmitter, by ID, used to seed the next
+    final Map<String, Measurement> lastPoints = new ConcurrentHashMap<>();
 
     Receiver[] receivers;
 
@@ -186,14 +202,77 @@ public class Engine implements ReadingListener {
         Calculator c = Algorithms.newCalculator(list, getVSound(),
                 getOffset(), getAlgorithm());
 
-        Measurement m = c.convert(r, lastPoint);
+        solve(r, c);
+    }
 
-        saveLastMeasurement(r.getId(), m);
+    /**
+     * Convert a Reading to a Measurement on a solver thread, then save and
+     * distribute the Measurement on the layout thread.
+     * <p>
+     * Readings from different transmitters are converted at the same time.
+     * Readings from one transmitter are converted in the order they arrive,
+     * each seeded with the last Measurement of that transmitter.
+     *
+     * @param r the reading
+     * @param c the calculator, configured with the receivers for the reading
+     */
+    void solve(Reading r, Calculator c) {
+        String id = r.getId();
+        Runnable task = () -> {
+            Measurement last = lastPoints.get(id);
+            Measurement m = c.convert(r, last != null ? last : lastPoint);
+            lastPoints.put(id, m);
+            jmri.util.ThreadingUtil.runOnLayoutEventually(() -> {
+                saveLastMeasurement(id, m);
+                lastPoint = m;
+                Distributor.instance().submitMeasurement(m);
+            });
+        };
+        synchronized (solving) {
+            Queue<Runnable> tasks = solving.get(id);
+            if (tasks != null) {
+                tasks.add(task); // run after the readings already waiting
+                return;
+            }
+            tasks = new ArrayDeque<>();
+            tasks.add(task);
+            solving.put(id, tasks);
+            if (solver == null) {
+                AtomicInteger count = new AtomicInteger();
+                solver = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), t -> {
+                    Thread thread = new Thread(t, "RPS solver " + count.incrementAndGet()); // NOI18N
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            solver.execute(() -> solveAll(id));
+        }
+    }
 
-        lastPoint = m;
-        Distributor.instance().submitMeasurement(m);
+    // convert the readings of a transmitter until none are waiting
+    private void solveAll(String id) {
+        while (true) {
+            Runnable task;
+            synchronized (solving) {
+                Queue<Runnable> tasks = solving.get(id);
+                task = tasks.poll();
+                if (task == null) {
+                    solving.remove(id);
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Exception converting reading from {}", id, e);
+            }
+        }
     }
 
+    // readings waiting to be converted, by transmitter ID; guards solver
+    private final Map<String, Queue<Runnable>> solving = new HashMap<>();
+    private ExecutorService solver = null;
+
     // Store the lastMeasurement
     void saveLastMeasurement(String id, Measurement m) {
         for (int i = 0; i < getNumTransmitters(); i++) {
@@ -2,12 +2,19 @@ package jmri.jmrix.rps;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import javax.vecmath.Point3d;
 
 /**
  * Model holds RPS representation of layout geometry and logical structure.
  * <p>
  * The layout geometry is expressed as a set of (perhaps overlapping) Regions.
+ * The Regions are indexed by their bounds, so that the Regions containing a
+ * point can be found without checking every Region.
  *
  * @since 2.1.7
  * @author	Bob Jacobsen Copyright (C) 2008
@@ -30,15 +37,17 @@ public class Model {
     /**
      * Include a region in the model
      */
-    public void addRegion(Region r) {
+    public synchronized void addRegion(Region r) {
         regions.add(r);
+        index = null;
     }
 
     /**
-     * Include a region in the model
+     * Remove a region from the model
      */
-    public void removeRegion(Region r) {
+    public synchronized void removeRegion(Region r) {
         regions.remove(r);
+        index = null;
     }
 
     /**
@@ -50,6 +59,83 @@ public class Model {
         return regions;
     }
 
+    /**
+     * Get the regions that contain a point.
+     *
+     * @param p the point
+     * @return the regions containing the point, in no particular order
+     */
+    public synchronized List<Region> getRegionsContaining(Point3d p) {
+        buildIndex();
+        List<Region> result = new ArrayList<>();
+        // last region with lowest X not above the point
+        int low = 0;
+        int high = index.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (index[mid].bounds.getMinX() <= p.x) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // earlier regions can only contain the point while some reach it
+        for (int i = high; i >= 0 && indexMaxX[i] >= p.x; i--) {
+            if (index[i].isInside(p)) {
+                result.add(index[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check whether a point is inside a region.
+     * <p>
+     * The regions containing the last point checked are remembered, so each
+     * region of the model can be checked against the same point, as each
+     * RPS sensor and reporter does with a measurement, while the regions are
+     * only searched once.
+     *
+     * @param r the region, which should be in this model
+     * @param p the point
+     * @return true if the point is inside the region
+     */
+    public synchronized boolean isInside(Region r, Point3d p) {
+        buildIndex();
+        if (!indexed.contains(r)) {
+            return r.isInside(p);
+        }
+        if (lastInside == null || !p.equals(lastPoint)) {
+            lastPoint = new Point3d(p);
+            lastInside = new HashSet<>(getRegionsContaining(p));
+        }
+        return lastInside.contains(r);
+    }
+
+    // regions sorted by the lowest X of their bounds, or null if regions changed
+    private Region[] index = null;
+    // highest X of the bounds of the regions up to each place in the index
+    private double[] indexMaxX;
+    private Set<Region> indexed;
+    private Point3d lastPoint;
+    private Set<Region> lastInside;
+
+    private void buildIndex() {
+        if (index != null) {
+            return;
+        }
+        index = regions.toArray(new Region[regions.size()]);
+        Arrays.sort(index, Comparator.comparingDouble(r -> r.bounds.getMinX()));
+        indexMaxX = new double[index.length];
+        double maxX = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < index.length; i++) {
+            maxX = Math.max(maxX, index[i].bounds.getMaxX());
+            indexMaxX[i] = maxX;
+        }
+        indexed = new HashSet<>(regions);
+        lastInside = null;
+    }
+
     // Store model info
     public void storeModel(File file) { //throws org.jdom2.JDOMException, IOException {
 /*         PositionFile pf = new PositionFile(); */
@@ -3,6 +3,7 @@ package jmri.jmrix.rps;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.awt.Shape;
 import java.awt.geom.GeneralPath;
+import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 import javax.vecmath.Point3d;
 import org.slf4j.Logger;
@@ -63,6 +64,19 @@ public class Region {
             path.lineTo((float) points[i].x, (float) points[i].y);
         }
         path.lineTo((float) points[0].x, (float) points[0].y);
+        bounds = path.getBounds2D();
+    }
+
+    @SuppressFBWarnings(value = "JCIP_FIELD_ISNT_FINAL_IN_IMMUTABLE_CLASS", justification = "internal state, not changeable from outside")
+    Rectangle2D bounds;
+
+    /**
+     * Get the smallest rectangle in the X-Y plane that contains this region.
+     *
+     * @return a copy of the bounds
+     */
+    public Rectangle2D getBounds() {
+        return (Rectangle2D) bounds.clone();
     }
 
     /**
@@ -101,7 +115,8 @@ public class Region {
     }
 
     public boolean isInside(Point3d p) {
-        return path.contains(p.x, p.y);
+        // most points are outside the bounds, which is quicker to check
+        return bounds.contains(p.x, p.y) && path.contains(p.x, p.y);
     }
 
     @Override
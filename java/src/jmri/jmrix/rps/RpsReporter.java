@@ -52,7 +52,7 @@ public class RpsReporter extends AbstractReporter implements MeasurementListener
         if (log.isDebugEnabled()) {
             log.debug("starting " + getSystemName());
         }
-        if (region.isInside(p)) {
+        if (Model.instance().isInside(region, p)) {
             notifyInRegion(id);
         } else {
             notifyOutOfRegion(id);
@@ -50,7 +50,7 @@ public class RpsSensor extends AbstractSensor
         if (log.isDebugEnabled()) {
             log.debug("starting " + getSystemName());
         }
-        if (region.isInside(p)) {
+        if (Model.instance().isInside(region, p)) {
             notifyInRegion(id);
         } else {
             notifyOutOfRegion(id);
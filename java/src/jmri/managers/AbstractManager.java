@@ -387,7 +387,7 @@ abstract public class AbstractManager<E extends NamedBean> implements Manager<E>
 
     @OverridingMethodsMustInvokeSuper
     protected void firePropertyChange(String p, Object old, Object n) {
-        pcs.firePropertyChange(p, old, n);
+        jmri.util.ThreadingUtil.firePropertyChange(pcs, this, p, old, n);
     }
 
     VetoableChangeSupport vcs = new VetoableChangeSupport(this);
@@ -42,4 +42,14 @@ public class DefaultMemoryManagerXml extends AbstractMemoryManagerConfigXML {
         loadMemories(sharedMemories);
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return true; only creates memories, on the layout thread
+     */
+    @Override
+    public boolean loadOffGUI() {
+        return true;
+    }
 }
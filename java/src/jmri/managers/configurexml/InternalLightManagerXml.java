@@ -37,5 +37,15 @@ public class InternalLightManagerXml extends jmri.managers.configurexml.Abstract
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return true; only creates internal lights, on the layout thread
+     */
+    @Override
+    public boolean loadOffGUI() {
+        return true;
+    }
+
     private final static Logger log = LoggerFactory.getLogger(InternalLightManagerXml.class);
 }
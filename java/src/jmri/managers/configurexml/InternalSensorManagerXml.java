@@ -76,5 +76,15 @@ public class InternalSensorManagerXml extends jmri.managers.configurexml.Abstrac
         return load;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return true; only creates internal sensors, on the layout thread
+     */
+    @Override
+    public boolean loadOffGUI() {
+        return true;
+    }
+
     private final static Logger log = LoggerFactory.getLogger(InternalSensorManagerXml.class);
 }
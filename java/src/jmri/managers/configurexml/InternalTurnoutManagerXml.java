@@ -37,6 +37,16 @@ public class InternalTurnoutManagerXml extends jmri.managers.configurexml.Abstra
         return loadTurnouts(shared, perNode);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return true; only creates internal turnouts, on the layout thread
+     */
+    @Override
+    public boolean loadOffGUI() {
+        return true;
+    }
+
     private final static Logger log = LoggerFactory.getLogger(InternalTurnoutManagerXml.class);
 
 }
@@ -37,6 +37,15 @@ public final class JSON {
      * {@value #LIST}
      */
     public static final String LIST = "list"; // NOI18N
+    /**
+     * {@value #CHANGES}
+     * <p>
+     * When true in the data of a list request, later changes to the list are
+     * sent as an array of only the added objects, with the method
+     * {@value #PUT}, and the deleted objects, with the method
+     * {@value #DELETE}, instead of as the complete list.
+     */
+    public static final String CHANGES = "changes"; // NOI18N
     /**
      * {@value #DATA}
      */
@@ -4,12 +4,22 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import jmri.InstanceManager;
 import jmri.jmris.JmriConnection;
 import jmri.jmris.json.JsonServerPreferences;
 import jmri.server.json.schema.JsonSchemaServiceCache;
 import org.eclipse.jetty.websocket.api.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  *
@@ -17,9 +27,68 @@ import org.eclipse.jetty.websocket.api.Session;
  */
 public class JsonConnection extends JmriConnection {
 
+    /**
+     * Time, in milliseconds, that messages queued with
+     * {@link #queueMessage(PendingMessage)} are held before being sent.
+     */
+    public static final int QUEUE_DELAY = 50;
+
+    /**
+     * A message that is built when sent, so that a message queued several
+     * times before being sent is only built and sent once, with the state
+     * current at that time.
+     */
+    public interface PendingMessage {
+
+        /**
+         * Get the message to send.
+         *
+         * @return the message, or null if there is nothing to send
+         * @throws JsonException if the message can't be built; the error
+         *                       message is sent instead
+         */
+        @CheckForNull
+        JsonNode getMessage() throws JsonException;
+
+        /**
+         * Called if the message could not be sent.
+         *
+         * @param ex the reason the message could not be sent
+         */
+        void sendFailed(@Nonnull IOException ex);
+
+        /**
+         * Get the key under which this message, once serialized, can be
+         * shared with other connections through the {@link JsonMessageCache}.
+         *
+         * @return the key or null if the message is not shared; messages with a
+         *         key must not be null
+         */
+        @CheckForNull
+        default JsonMessageCache.Key getCacheKey() {
+            return null;
+        }
+    }
+
+    // only times the delay; the messages are sent on SEND_EXECUTOR
+    private static final ScheduledExecutorService QUEUE_EXECUTOR = Executors.newSingleThreadScheduledExecutor((Runnable r) -> {
+        Thread t = new Thread(r, "JSON Message Queue"); // NOI18N
+        t.setDaemon(true);
+        return t;
+    });
+    // a thread for each connection sending, so a slow client only delays itself
+    private static final ExecutorService SEND_EXECUTOR = Executors.newCachedThreadPool((Runnable r) -> {
+        Thread t = new Thread(r, "JSON Message Sender"); // NOI18N
+        t.setDaemon(true);
+        return t;
+    });
+    private final LinkedHashSet<PendingMessage> queue = new LinkedHashSet<>();
+    // true from queuing a message until the queue is sent; guarded by queue
+    private boolean sending = false;
     private final ObjectMapper objectMapper = new ObjectMapper();
     protected final JsonServerPreferences preferences = InstanceManager.getDefault(JsonServerPreferences.class);
     protected final JsonSchemaServiceCache schemas = InstanceManager.getDefault(JsonSchemaServiceCache.class);
+    private final JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
 
     public JsonConnection(Session connection) {
         super(connection);
@@ -66,4 +135,80 @@ public class JsonConnection extends JmriConnection {
         }
         super.sendMessage(this.getObjectMapper().writeValueAsString(message));
     }
+
+    /**
+     * Queue a message to be sent shortly. If the message is already queued,
+     * it is not queued again, so that a burst of changes to a single object is
+     * sent as a single message.
+     * <p>
+     * Each connection sends its queue on a thread of its own, one batch at a
+     * time, so messages are sent in order and a client that is slow to read
+     * doesn't hold up the others. Messages queued while a batch is being sent
+     * are sent in the next batch.
+     *
+     * @param message the message to queue
+     */
+    public void queueMessage(@Nonnull PendingMessage message) {
+        synchronized (this.queue) {
+            this.queue.add(message);
+            if (!this.sending) {
+                this.sending = true;
+                this.scheduleSend();
+            }
+        }
+    }
+
+    // must hold the queue lock
+    private void scheduleSend() {
+        QUEUE_EXECUTOR.schedule(() -> {
+            SEND_EXECUTOR.execute(this::sendQueuedMessages);
+        }, QUEUE_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    private void sendQueuedMessages() {
+        List<PendingMessage> messages;
+        synchronized (this.queue) {
+            messages = new ArrayList<>(this.queue);
+            this.queue.clear();
+        }
+        try {
+            this.sendMessages(messages);
+        } finally {
+            synchronized (this.queue) {
+                if (this.queue.isEmpty()) {
+                    this.sending = false;
+                } else {
+                    this.scheduleSend();
+                }
+            }
+        }
+    }
+
+    private void sendMessages(List<PendingMessage> messages) {
+        for (PendingMessage message : messages) {
+            try {
+                try {
+                    JsonMessageCache.Key key = message.getCacheKey();
+                    if (key != null && !this.preferences.getValidateServerMessages()) {
+                        // serialized once for all connections
+                        super.sendMessage(this.cache.getMessage(key, () -> {
+                            return this.getObjectMapper().writeValueAsString(message.getMessage());
+                        }));
+                    } else {
+                        JsonNode node = message.getMessage();
+                        if (node != null) {
+                            this.sendMessage(node);
+                        }
+                    }
+                } catch (JsonException ex) {
+                    this.sendMessage(ex.getJsonMessage());
+                }
+            } catch (IOException ex) {
+                log.debug("Unable to send queued message", ex);
+                message.sendFailed(ex);
+            }
+        }
+    }
+
+    private final static Logger log = LoggerFactory.getLogger(JsonConnection.class);
 }
@@ -0,0 +1,215 @@
+package jmri.server.json;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import jmri.InstanceManagerAutoDefault;
+
+/**
+ * Cache of serialized messages shared by all {@link JsonConnection}s, so that
+ * a change to an object listened to by many clients is only serialized once
+ * for each locale in use.
+ * <p>
+ * Services must call {@link #invalidate(java.lang.String, java.lang.String)}
+ * when an object changes, before queuing the message that reports the change.
+ * <p>
+ * Messages are only kept for objects that a connection is listening to:
+ * services call {@link #retain(java.lang.String, java.lang.String)} when they
+ * start listening to an object and
+ * {@link #release(java.lang.String, java.lang.String)} when they stop, and
+ * {@link #remove(java.lang.String, java.lang.String)} when the object is
+ * deleted. Messages for other objects are rendered each time.
+ *
+ * @see JsonConnection.PendingMessage#getCacheKey()
+ */
+public class JsonMessageCache implements InstanceManagerAutoDefault {
+
+    /**
+     * Identifies a message in the cache.
+     */
+    public static final class Key {
+
+        private final String type;
+        private final String name;
+        private final Locale locale;
+
+        /**
+         * Create a key.
+         *
+         * @param type   the JSON type of the object
+         * @param name   the name of the object
+         * @param locale the locale the message is rendered in
+         */
+        public Key(@Nonnull String type, @Nonnull String name, @Nullable Locale locale) {
+            this.type = type;
+            this.name = name;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.type.equals(other.type) && this.name.equals(other.name) && Objects.equals(this.locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.name, this.locale);
+        }
+
+        @Override
+        public String toString() {
+            return this.type + ":" + this.name + ":" + this.locale; // NOI18N
+        }
+    }
+
+    /**
+     * Renders a message that is not in the cache.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+
+        /**
+         * Render the message.
+         *
+         * @return the serialized message
+         * @throws JsonException if the message can't be built
+         * @throws IOException   if the message can't be serialized
+         */
+        @Nonnull
+        String render() throws JsonException, IOException;
+    }
+
+    private static final class Entry {
+
+        private final int version;
+        private final String message;
+
+        Entry(int version, String message) {
+            this.version = version;
+            this.message = message;
+        }
+    }
+
+    /**
+     * The cached messages for one object, in each locale they are used in.
+     */
+    private static final class CachedObject {
+
+        // listeners retaining this object; guarded by the cache
+        private int retained = 0;
+        private volatile int version = 0;
+        private final HashMap<Locale, Entry> messages = new HashMap<>();
+    }
+
+    // keys have no locale
+    private final HashMap<Key, CachedObject> objects = new HashMap<>();
+
+    /**
+     * Get a message, rendering it if there is no current rendering of it.
+     * Messages for objects that are not retained are not cached.
+     *
+     * @param key      the message to get
+     * @param renderer renders the message if needed
+     * @return the serialized message
+     * @throws JsonException if the message can't be built
+     * @throws IOException   if the message can't be serialized
+     */
+    @Nonnull
+    public String getMessage(@Nonnull Key key, @Nonnull Renderer renderer) throws JsonException, IOException {
+        CachedObject object;
+        synchronized (this) {
+            object = this.objects.get(new Key(key.type, key.name, null));
+        }
+        if (object == null) {
+            return renderer.render();
+        }
+        int version = object.version;
+        synchronized (object.messages) {
+            Entry entry = object.messages.get(key.locale);
+            if (entry != null && entry.version == version) {
+                return entry.message;
+            }
+        }
+        String message = renderer.render();
+        // if the object changed while rendering, this entry is never used
+        synchronized (object.messages) {
+            object.messages.put(key.locale, new Entry(version, message));
+        }
+        return message;
+    }
+
+    /**
+     * Discard all cached messages for an object, in all locales.
+     *
+     * @param type the JSON type of the object
+     * @param name the name of the object
+     */
+    public void invalidate(@Nonnull String type, @Nonnull String name) {
+        CachedObject object;
+        synchronized (this) {
+            object = this.objects.get(new Key(type, name, null));
+        }
+        if (object != null) {
+            synchronized (object.messages) {
+                object.version++;
+                object.messages.clear();
+            }
+        }
+    }
+
+    /**
+     * Start caching messages for an object. Each call must be matched by a
+     * call to {@link #release(java.lang.String, java.lang.String)} unless the
+     * object is {@link #remove(java.lang.String, java.lang.String) removed}.
+     *
+     * @param type the JSON type of the object
+     * @param name the name of the object
+     */
+    public synchronized void retain(@Nonnull String type, @Nonnull String name) {
+        this.objects.computeIfAbsent(new Key(type, name, null), k -> new CachedObject()).retained++;
+    }
+
+    /**
+     * Stop caching messages for an object. The messages are discarded once
+     * no listener retains the object.
+     *
+     * @param type the JSON type of the object
+     * @param name the name of the object
+     */
+    public synchronized void release(@Nonnull String type, @Nonnull String name) {
+        Key key = new Key(type, name, null);
+        CachedObject object = this.objects.get(key);
+        if (object != null && --object.retained <= 0) {
+            this.objects.remove(key);
+        }
+    }
+
+    /**
+     * Discard all cached messages for a deleted object, however many
+     * listeners retain it.
+     *
+     * @param type the JSON type of the object
+     * @param name the name of the object
+     */
+    public synchronized void remove(@Nonnull String type, @Nonnull String name) {
+        this.objects.remove(new Key(type, name, null));
+    }
+
+    /**
+     * Check if messages for an object are being cached.
+     *
+     * @param type the JSON type of the object
+     * @param name the name of the object
+     * @return true if the object is retained
+     */
+    public synchronized boolean isRetained(@Nonnull String type, @Nonnull String name) {
+        return this.objects.containsKey(new Key(type, name, null));
+    }
+}
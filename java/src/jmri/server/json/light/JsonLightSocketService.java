@@ -16,6 +16,7 @@ import jmri.Light;
 import jmri.LightManager;
 import jmri.server.json.JsonConnection;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonSocketService;
 
 /**
@@ -24,7 +25,10 @@ import jmri.server.json.JsonSocketService;
  */
 public class JsonLightSocketService extends JsonSocketService<JsonLightHttpService> {
 
+    private final JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+    // listeners are added by the client and removed by the message queue
     protected final HashMap<String, LightListener> lights = new HashMap<>();
+    private final PropertyChangeListener managerListener = this::managerChange;
 
     public JsonLightSocketService(JsonConnection connection) {
         super(connection, new JsonLightHttpService(connection.getObjectMapper()));
@@ -39,12 +43,18 @@ public class JsonLightSocketService extends JsonSocketService<JsonLightHttpServi
         } else {
             this.connection.sendMessage(this.service.doPost(type, name, data, locale));
         }
-        if (!this.lights.containsKey(name)) {
-            Light light = InstanceManager.getDefault(LightManager.class).getLight(name);
-            if (light != null) {
-                LightListener listener = new LightListener(light);
-                light.addPropertyChangeListener(listener);
-                this.lights.put(name, listener);
+        synchronized (this.lights) {
+            if (!this.lights.containsKey(name)) {
+                Light light = InstanceManager.getDefault(LightManager.class).getLight(name);
+                if (light != null) {
+                    LightListener listener = new LightListener(light);
+                    cache.retain(LIGHT, name);
+                    light.addPropertyChangeListener(listener);
+                    if (this.lights.isEmpty()) {
+                        InstanceManager.getDefault(LightManager.class).addPropertyChangeListener(this.managerListener);
+                    }
+                    this.lights.put(name, listener);
+                }
             }
         }
     }
@@ -57,13 +67,42 @@ public class JsonLightSocketService extends JsonSocketService<JsonLightHttpServi
 
     @Override
     public void onClose() {
-        lights.values().stream().forEach((light) -> {
-            light.light.removePropertyChangeListener(light);
-        });
-        lights.clear();
+        synchronized (this.lights) {
+            lights.values().stream().forEach((light) -> {
+                light.light.removePropertyChangeListener(light);
+                cache.release(LIGHT, light.light.getSystemName());
+            });
+            lights.clear();
+            InstanceManager.getDefault(LightManager.class).removePropertyChangeListener(this.managerListener);
+        }
     }
 
-    private class LightListener implements PropertyChangeListener {
+    /**
+     * Stop listening to lights removed from the LightManager.
+     *
+     * @param evt the change to the LightManager
+     */
+    private void managerChange(PropertyChangeEvent evt) {
+        if (evt.getPropertyName().equals("length")) { // NOI18N
+            LightManager manager = InstanceManager.getDefault(LightManager.class);
+            synchronized (this.lights) {
+                this.lights.values().removeIf(listener -> {
+                    String name = listener.light.getSystemName();
+                    if (manager.getBySystemName(name) != listener.light) {
+                        listener.light.removePropertyChangeListener(listener);
+                        cache.remove(LIGHT, name);
+                        return true;
+                    }
+                    return false;
+                });
+                if (this.lights.isEmpty()) {
+                    manager.removePropertyChangeListener(this.managerListener);
+                }
+            }
+        }
+    }
+
+    private class LightListener implements PropertyChangeListener, JsonConnection.PendingMessage {
 
         protected final Light light;
 
@@ -73,21 +112,38 @@ public class JsonLightSocketService extends JsonSocketService<JsonLightHttpServi
 
         @Override
         public void propertyChange(PropertyChangeEvent e) {
+            // any change makes the cached message for this light stale
+            cache.invalidate(LIGHT, this.light.getSystemName());
             // If the Commanded State changes, show transition state as "<inconsistent>"
             if (e.getPropertyName().equals("KnownState")) {
-                try {
-                    try {
-                        connection.sendMessage(service.doGet(LIGHT, this.light.getSystemName(), getLocale()));
-                    } catch (JsonException ex) {
-                        connection.sendMessage(ex.getJsonMessage());
-                    }
-                } catch (IOException ex) {
-                    // if we get an error, de-register
-                    light.removePropertyChangeListener(this);
-                    lights.remove(this.light.getSystemName());
+                // only the latest state is sent if this changes again before sending
+                connection.queueMessage(this);
+            }
+        }
+
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            return service.doGet(LIGHT, this.light.getSystemName(), getLocale());
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            light.removePropertyChangeListener(this);
+            synchronized (lights) {
+                if (lights.remove(this.light.getSystemName()) != null) {
+                    cache.release(LIGHT, this.light.getSystemName());
+                }
+                if (lights.isEmpty()) {
+                    InstanceManager.getDefault(LightManager.class).removePropertyChangeListener(managerListener);
                 }
             }
         }
+
+        @Override
+        public JsonMessageCache.Key getCacheKey() {
+            return new JsonMessageCache.Key(LIGHT, this.light.getSystemName(), getLocale());
+        }
     }
 
 }
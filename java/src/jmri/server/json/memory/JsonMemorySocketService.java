@@ -16,6 +16,7 @@ import jmri.Memory;
 import jmri.MemoryManager;
 import jmri.server.json.JsonConnection;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonSocketService;
 
 /**
@@ -24,7 +25,10 @@ import jmri.server.json.JsonSocketService;
  */
 public class JsonMemorySocketService extends JsonSocketService<JsonMemoryHttpService> {
 
+    private final JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+    // listeners are added by the client and removed by the message queue
     private final HashMap<String, MemoryListener> memories = new HashMap<>();
+    private final PropertyChangeListener managerListener = this::managerChange;
 
     public JsonMemorySocketService(JsonConnection connection) {
         super(connection,new JsonMemoryHttpService(connection.getObjectMapper()));
@@ -39,12 +43,18 @@ public class JsonMemorySocketService extends JsonSocketService<JsonMemoryHttpSer
         } else {
             this.connection.sendMessage(this.service.doPost(type, name, data, locale));
         }
-        if (!this.memories.containsKey(name)) {
-            Memory memory = InstanceManager.getDefault(MemoryManager.class).getMemory(name);
-            if (memory != null) {
-                MemoryListener listener = new MemoryListener(memory);
-                memory.addPropertyChangeListener(listener);
-                this.memories.put(name, listener);
+        synchronized (this.memories) {
+            if (!this.memories.containsKey(name)) {
+                Memory memory = InstanceManager.getDefault(MemoryManager.class).getMemory(name);
+                if (memory != null) {
+                    MemoryListener listener = new MemoryListener(memory);
+                    cache.retain(MEMORY, name);
+                    memory.addPropertyChangeListener(listener);
+                    if (this.memories.isEmpty()) {
+                        InstanceManager.getDefault(MemoryManager.class).addPropertyChangeListener(this.managerListener);
+                    }
+                    this.memories.put(name, listener);
+                }
             }
         }
     }
@@ -57,13 +67,42 @@ public class JsonMemorySocketService extends JsonSocketService<JsonMemoryHttpSer
 
     @Override
     public void onClose() {
-        memories.values().stream().forEach((memory) -> {
-            memory.memory.removePropertyChangeListener(memory);
-        });
-        memories.clear();
+        synchronized (this.memories) {
+            memories.values().stream().forEach((memory) -> {
+                memory.memory.removePropertyChangeListener(memory);
+                cache.release(MEMORY, memory.memory.getSystemName());
+            });
+            memories.clear();
+            InstanceManager.getDefault(MemoryManager.class).removePropertyChangeListener(this.managerListener);
+        }
     }
 
-    private class MemoryListener implements PropertyChangeListener {
+    /**
+     * Stop listening to memorys removed from the MemoryManager.
+     *
+     * @param evt the change to the MemoryManager
+     */
+    private void managerChange(PropertyChangeEvent evt) {
+        if (evt.getPropertyName().equals("length")) { // NOI18N
+            MemoryManager manager = InstanceManager.getDefault(MemoryManager.class);
+            synchronized (this.memories) {
+                this.memories.values().removeIf(listener -> {
+                    String name = listener.memory.getSystemName();
+                    if (manager.getBySystemName(name) != listener.memory) {
+                        listener.memory.removePropertyChangeListener(listener);
+                        cache.remove(MEMORY, name);
+                        return true;
+                    }
+                    return false;
+                });
+                if (this.memories.isEmpty()) {
+                    manager.removePropertyChangeListener(this.managerListener);
+                }
+            }
+        }
+    }
+
+    private class MemoryListener implements PropertyChangeListener, JsonConnection.PendingMessage {
 
         protected final Memory memory;
 
@@ -73,21 +112,38 @@ public class JsonMemorySocketService extends JsonSocketService<JsonMemoryHttpSer
 
         @Override
         public void propertyChange(PropertyChangeEvent e) {
+            // any change makes the cached message for this memory stale
+            cache.invalidate(MEMORY, this.memory.getSystemName());
             // If the Commanded State changes, show transition state as "<inconsistent>"
             if (e.getPropertyName().equals("value")) {
-                try {
-                    try {
-                        connection.sendMessage(service.doGet(MEMORY, this.memory.getSystemName(), getLocale()));
-                    } catch (JsonException ex) {
-                        connection.sendMessage(ex.getJsonMessage());
-                    }
-                } catch (IOException ex) {
-                    // if we get an error, de-register
-                    memory.removePropertyChangeListener(this);
-                    memories.remove(this.memory.getSystemName());
+                // only the latest state is sent if this changes again before sending
+                connection.queueMessage(this);
+            }
+        }
+
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            return service.doGet(MEMORY, this.memory.getSystemName(), getLocale());
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            memory.removePropertyChangeListener(this);
+            synchronized (memories) {
+                if (memories.remove(this.memory.getSystemName()) != null) {
+                    cache.release(MEMORY, this.memory.getSystemName());
+                }
+                if (memories.isEmpty()) {
+                    InstanceManager.getDefault(MemoryManager.class).removePropertyChangeListener(managerListener);
                 }
             }
         }
+
+        @Override
+        public JsonMessageCache.Key getCacheKey() {
+            return new JsonMessageCache.Key(MEMORY, this.memory.getSystemName(), getLocale());
+        }
     }
 
 }
@@ -16,6 +16,7 @@ import jmri.Reporter;
 import jmri.ReporterManager;
 import jmri.server.json.JsonConnection;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonSocketService;
 
 /**
@@ -24,7 +25,10 @@ import jmri.server.json.JsonSocketService;
  */
 public class JsonReporterSocketService extends JsonSocketService<JsonReporterHttpService> {
 
+    private final JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+    // listeners are added by the client and removed by the message queue
     private final HashMap<String, ReporterListener> reporters = new HashMap<>();
+    private final PropertyChangeListener managerListener = this::managerChange;
 
     public JsonReporterSocketService(JsonConnection connection) {
         super(connection, new JsonReporterHttpService(connection.getObjectMapper()));
@@ -39,12 +43,18 @@ public class JsonReporterSocketService extends JsonSocketService<JsonReporterHtt
         } else {
             this.connection.sendMessage(this.service.doPost(type, name, data, locale));
         }
-        if (!this.reporters.containsKey(name)) {
-            Reporter reporter = InstanceManager.getDefault(ReporterManager.class).getReporter(name);
-            if (reporter != null) {
-                ReporterListener listener = new ReporterListener(reporter);
-                reporter.addPropertyChangeListener(listener);
-                this.reporters.put(name, listener);
+        synchronized (this.reporters) {
+            if (!this.reporters.containsKey(name)) {
+                Reporter reporter = InstanceManager.getDefault(ReporterManager.class).getReporter(name);
+                if (reporter != null) {
+                    ReporterListener listener = new ReporterListener(reporter);
+                    cache.retain(REPORTER, name);
+                    reporter.addPropertyChangeListener(listener);
+                    if (this.reporters.isEmpty()) {
+                        InstanceManager.getDefault(ReporterManager.class).addPropertyChangeListener(this.managerListener);
+                    }
+                    this.reporters.put(name, listener);
+                }
             }
         }
     }
@@ -57,13 +67,42 @@ public class JsonReporterSocketService extends JsonSocketService<JsonReporterHtt
 
     @Override
     public void onClose() {
-        reporters.values().stream().forEach((reporter) -> {
-            reporter.reporter.removePropertyChangeListener(reporter);
-        });
-        reporters.clear();
+        synchronized (this.reporters) {
+            reporters.values().stream().forEach((reporter) -> {
+                reporter.reporter.removePropertyChangeListener(reporter);
+                cache.release(REPORTER, reporter.reporter.getSystemName());
+            });
+            reporters.clear();
+            InstanceManager.getDefault(ReporterManager.class).removePropertyChangeListener(this.managerListener);
+        }
     }
 
-    private class ReporterListener implements PropertyChangeListener {
+    /**
+     * Stop listening to reporters removed from the ReporterManager.
+     *
+     * @param evt the change to the ReporterManager
+     */
+    private void managerChange(PropertyChangeEvent evt) {
+        if (evt.getPropertyName().equals("length")) { // NOI18N
+            ReporterManager manager = InstanceManager.getDefault(ReporterManager.class);
+            synchronized (this.reporters) {
+                this.reporters.values().removeIf(listener -> {
+                    String name = listener.reporter.getSystemName();
+                    if (manager.getBySystemName(name) != listener.reporter) {
+                        listener.reporter.removePropertyChangeListener(listener);
+                        cache.remove(REPORTER, name);
+                        return true;
+                    }
+                    return false;
+                });
+                if (this.reporters.isEmpty()) {
+                    manager.removePropertyChangeListener(this.managerListener);
+                }
+            }
+        }
+    }
+
+    private class ReporterListener implements PropertyChangeListener, JsonConnection.PendingMessage {
 
         protected final Reporter reporter;
 
@@ -73,21 +112,38 @@ public class JsonReporterSocketService extends JsonSocketService<JsonReporterHtt
 
         @Override
         public void propertyChange(PropertyChangeEvent e) {
+            // any change makes the cached message for this reporter stale
+            cache.invalidate(REPORTER, this.reporter.getSystemName());
             // If the Commanded State changes, show transition state as "<inconsistent>"
             if (e.getPropertyName().equals("currentReport")) {
-                try {
-                    try {
-                        connection.sendMessage(service.doGet(REPORTER, this.reporter.getSystemName(), getLocale()));
-                    } catch (JsonException ex) {
-                        connection.sendMessage(ex.getJsonMessage());
-                    }
-                } catch (IOException ex) {
-                    // if we get an error, de-register
-                    reporter.removePropertyChangeListener(this);
-                    reporters.remove(this.reporter.getSystemName());
+                // only the latest state is sent if this changes again before sending
+                connection.queueMessage(this);
+            }
+        }
+
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            return service.doGet(REPORTER, this.reporter.getSystemName(), getLocale());
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            reporter.removePropertyChangeListener(this);
+            synchronized (reporters) {
+                if (reporters.remove(this.reporter.getSystemName()) != null) {
+                    cache.release(REPORTER, this.reporter.getSystemName());
+                }
+                if (reporters.isEmpty()) {
+                    InstanceManager.getDefault(ReporterManager.class).removePropertyChangeListener(managerListener);
                 }
             }
         }
+
+        @Override
+        public JsonMessageCache.Key getCacheKey() {
+            return new JsonMessageCache.Key(REPORTER, this.reporter.getSystemName(), getLocale());
+        }
     }
 
 }
@@ -30,9 +30,24 @@ public class JsonSensorHttpService extends JsonNamedBeanHttpService {
 
     @Override
     public JsonNode doGet(String type, String name, Locale locale) throws JsonException {
+        return this.doGet(InstanceManager.getDefault(SensorManager.class).getSensor(name), name, type, locale);
+    }
+
+    /**
+     * Get the JSON representation of a sensor. Unlike
+     * {@link #doGet(java.lang.String, java.lang.String, java.util.Locale)},
+     * this does not require that the sensor still be in the SensorManager.
+     *
+     * @param sensor the sensor, may be null
+     * @param name   the name of the sensor
+     * @param type   the type of the requested object
+     * @param locale the requesting client's locale
+     * @return the JSON representation of the sensor
+     * @throws JsonException if sensor is null
+     */
+    public ObjectNode doGet(Sensor sensor, String name, String type, Locale locale) throws JsonException {
         ObjectNode root = mapper.createObjectNode();
         root.put(JSON.TYPE, SENSOR);
-        Sensor sensor = InstanceManager.getDefault(SensorManager.class).getSensor(name);
         ObjectNode data = this.getNamedBean(sensor, name, type, locale); // throws JsonException if sensor == null
         if (sensor != null) {
             root.set(JSON.DATA, data);
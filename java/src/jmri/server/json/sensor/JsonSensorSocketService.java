@@ -4,10 +4,14 @@ import static jmri.server.json.sensor.JsonSensor.SENSOR;
 import static jmri.server.json.sensor.JsonSensor.SENSORS;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import jmri.InstanceManager;
 import jmri.JmriException;
@@ -16,6 +20,7 @@ import jmri.SensorManager;
 import jmri.server.json.JSON;
 import jmri.server.json.JsonConnection;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonSocketService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,8 +32,14 @@ import org.slf4j.LoggerFactory;
  */
 public class JsonSensorSocketService extends JsonSocketService<JsonSensorHttpService> {
 
+    private final JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+    // listeners are added and removed by both the client and the message queue
     private final HashMap<String, SensorListener> sensorListeners = new HashMap<>();
     private final SensorsListener sensorsListener = new SensorsListener();
+    private volatile boolean listChanges = false;
+    private volatile boolean listRequested = false;
+    // guarded by the listeners
+    private boolean managerListened = false;
     private final static Logger log = LoggerFactory.getLogger(JsonSensorSocketService.class);
 
 
@@ -45,12 +56,16 @@ public class JsonSensorSocketService extends JsonSocketService<JsonSensorHttpSer
         } else {
             this.connection.sendMessage(this.service.doPost(type, name, data, locale));
         }
-        if (!this.sensorListeners.containsKey(name)) {
-            Sensor sensor = InstanceManager.getDefault(SensorManager.class).getSensor(name);
-            if (sensor != null) {
-                SensorListener listener = new SensorListener(sensor);
-                sensor.addPropertyChangeListener(listener);
-                this.sensorListeners.put(name, listener);
+        synchronized (this.sensorListeners) {
+            if (!this.sensorListeners.containsKey(name)) {
+                Sensor sensor = InstanceManager.getDefault(SensorManager.class).getSensor(name);
+                if (sensor != null) {
+                    SensorListener listener = new SensorListener(sensor);
+                    cache.retain(SENSOR, name);
+                    sensor.addPropertyChangeListener(listener);
+                    this.sensorListeners.put(name, listener);
+                    this.listenToManager();
+                }
             }
         }
     }
@@ -58,35 +73,57 @@ public class JsonSensorSocketService extends JsonSocketService<JsonSensorHttpSer
     @Override
     public void onList(String type, JsonNode data, Locale locale) throws IOException, JmriException, JsonException {
         this.setLocale(locale);
+        this.listChanges = data.path(JSON.CHANGES).asBoolean(false);
         this.connection.sendMessage(this.service.doGetList(type, locale));
         log.debug("adding SensorsListener");
-        InstanceManager.getDefault(SensorManager.class).addPropertyChangeListener(sensorsListener); //add parent listener
+        this.listRequested = true;
+        this.listenToManager(); //add parent listener
         addListenersToChildren();
     }
 
     private void addListenersToChildren() {
-        InstanceManager.getDefault(SensorManager.class).getSystemNameList().stream().forEach((sn) -> { //add listeners to each child (if not already)
-            if (!sensorListeners.containsKey(sn)) {
-                log.debug("adding SensorListener for Sensor {}", sn);
-                Sensor s = InstanceManager.getDefault(SensorManager.class).getSensor(sn);
-                if (s != null) {
-                    sensorListeners.put(sn, new SensorListener(s));
-                    s.addPropertyChangeListener(this.sensorListeners.get(sn));
+        synchronized (this.sensorListeners) {
+            InstanceManager.getDefault(SensorManager.class).getSystemNameList().stream().forEach((sn) -> { //add listeners to each child (if not already)
+                if (!sensorListeners.containsKey(sn)) {
+                    log.debug("adding SensorListener for Sensor {}", sn);
+                    Sensor s = InstanceManager.getDefault(SensorManager.class).getSensor(sn);
+                    if (s != null) {
+                        cache.retain(SENSOR, sn);
+                        sensorListeners.put(sn, new SensorListener(s));
+                        s.addPropertyChangeListener(this.sensorListeners.get(sn));
+                    }
                 }
+            });
+        }
+    }
+
+    /**
+     * Listen to the SensorManager for sensors being removed, so their listeners
+     * and cached messages are dropped.
+     */
+    private void listenToManager() {
+        synchronized (this.sensorListeners) {
+            if (!this.managerListened) {
+                InstanceManager.getDefault(SensorManager.class).addPropertyChangeListener(sensorsListener);
+                this.managerListened = true;
             }
-        });
+        }
     }
 
     @Override
     public void onClose() {
-        sensorListeners.values().stream().forEach((listener) -> {
-            listener.sensor.removePropertyChangeListener(listener);
-        });
-        sensorListeners.clear();
-        InstanceManager.getDefault(SensorManager.class).removePropertyChangeListener(sensorsListener);
+        synchronized (this.sensorListeners) {
+            sensorListeners.values().stream().forEach((listener) -> {
+                listener.sensor.removePropertyChangeListener(listener);
+                cache.release(SENSOR, listener.sensor.getSystemName());
+            });
+            sensorListeners.clear();
+            InstanceManager.getDefault(SensorManager.class).removePropertyChangeListener(sensorsListener);
+            managerListened = false;
+        }
     }
 
-    private class SensorListener implements PropertyChangeListener {
+    private class SensorListener implements PropertyChangeListener, JsonConnection.PendingMessage {
 
         protected final Sensor sensor;
 
@@ -96,42 +133,114 @@ public class JsonSensorSocketService extends JsonSocketService<JsonSensorHttpSer
 
         @Override
         public void propertyChange(PropertyChangeEvent evt) {
+            // any change makes the cached message for this sensor stale
+            cache.invalidate(SENSOR, this.sensor.getSystemName());
             log.debug("in SensorListener for '{}' '{}' ('{}'=>'{}')", this.sensor.getSystemName(), evt.getPropertyName(), evt.getOldValue(), evt.getNewValue());
-            try {
-                try {
-                    connection.sendMessage(service.doGet(SENSOR, this.sensor.getSystemName(), getLocale()));
-                } catch (JsonException ex) {
-                    connection.sendMessage(ex.getJsonMessage());
+            // only the latest state is sent if this changes again before sending
+            connection.queueMessage(this);
+        }
+
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            return service.doGet(SENSOR, this.sensor.getSystemName(), getLocale());
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            sensor.removePropertyChangeListener(this);
+            synchronized (sensorListeners) {
+                if (sensorListeners.remove(this.sensor.getSystemName()) != null) {
+                    cache.release(SENSOR, this.sensor.getSystemName());
                 }
-            } catch (IOException ex) {
-                // if we get an error, de-register
-                sensor.removePropertyChangeListener(this);
-                sensorListeners.remove(this.sensor.getSystemName());
             }
         }
+
+        @Override
+        public JsonMessageCache.Key getCacheKey() {
+            return new JsonMessageCache.Key(SENSOR, this.sensor.getSystemName(), getLocale());
+        }
     }
 
-    private class SensorsListener implements PropertyChangeListener {
+    private class SensorsListener implements PropertyChangeListener, JsonConnection.PendingMessage {
         @Override
         public void propertyChange(PropertyChangeEvent evt) {
             log.debug("in SensorsListener for '{}' ('{}' => '{}')", evt.getPropertyName(), evt.getOldValue(), evt.getNewValue());
 
+            if (evt.getPropertyName().equals("length")) { // NOI18N
+                // child added or removed, send once any burst of changes is over
+                connection.queueMessage(this);
+                return;
+            }
+            if (!listRequested) {
+                return;
+            }
             try {
                 try {
                  // send the new list
                     connection.sendMessage(service.doGetList(SENSORS, getLocale()));
-                    //child added or removed, reset listeners
-                    if (evt.getPropertyName().equals("length")) { // NOI18N
-                        addListenersToChildren();
-                    }
                 } catch (JsonException ex) {
                     log.warn("json error sending Sensors: {}", ex.getJsonMessage());
                     connection.sendMessage(ex.getJsonMessage());
                 }
             } catch (IOException ex) {
-                // if we get an error, de-register
-                log.debug("deregistering sensorsListener due to IOException");
+                sendFailed(ex);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Resets the listeners to match the sensors in the SensorManager. If
+         * the client asked for {@value jmri.server.json.JSON#CHANGES}, lists
+         * the added sensors with the method {@value jmri.server.json.JSON#PUT}
+         * and the removed sensors with the method
+         * {@value jmri.server.json.JSON#DELETE}, otherwise lists all sensors.
+         */
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            ArrayNode changes = connection.getObjectMapper().createArrayNode();
+            List<String> list = InstanceManager.getDefault(SensorManager.class).getSystemNameList();
+            HashSet<String> names = new HashSet<>(list);
+            List<String> added = new ArrayList<>();
+            synchronized (sensorListeners) {
+                for (SensorListener listener : new ArrayList<>(sensorListeners.values())) {
+                    String name = listener.sensor.getSystemName();
+                    if (!names.contains(name)) {
+                        log.debug("removing SensorListener for Sensor {}", name);
+                        listener.sensor.removePropertyChangeListener(listener);
+                        sensorListeners.remove(name);
+                        cache.remove(SENSOR, name);
+                        changes.add(service.doGet(listener.sensor, name, SENSOR, getLocale()).put(JSON.METHOD, JSON.DELETE));
+                    }
+                }
+                for (String name : list) {
+                    if (!sensorListeners.containsKey(name)) {
+                        added.add(name);
+                    }
+                }
+                if (!listRequested) {
+                    return null;
+                }
+                addListenersToChildren();
+            }
+            if (!listChanges) {
+                return service.doGetList(SENSORS, getLocale());
+            }
+            for (String name : added) {
+                Sensor sensor = InstanceManager.getDefault(SensorManager.class).getSensor(name);
+                changes.add(service.doGet(sensor, name, SENSOR, getLocale()).put(JSON.METHOD, JSON.PUT));
+            }
+            return changes.size() != 0 ? changes : null;
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            log.debug("deregistering sensorsListener due to IOException");
+            synchronized (sensorListeners) {
                 InstanceManager.getDefault(SensorManager.class).removePropertyChangeListener(sensorsListener);
+                managerListened = false;
             }
         }
     }
@@ -33,9 +33,24 @@ public class JsonTurnoutHttpService extends JsonNamedBeanHttpService {
 
     @Override
     public JsonNode doGet(String type, String name, Locale locale) throws JsonException {
+        return this.doGet(InstanceManager.turnoutManagerInstance().getTurnout(name), name, type, locale);
+    }
+
+    /**
+     * Get the JSON representation of a turnout. Unlike
+     * {@link #doGet(java.lang.String, java.lang.String, java.util.Locale)},
+     * this does not require that the turnout still be in the TurnoutManager.
+     *
+     * @param turnout the turnout, may be null
+     * @param name    the name of the turnout
+     * @param type    the type of the requested object
+     * @param locale  the requesting client's locale
+     * @return the JSON representation of the turnout
+     * @throws JsonException if turnout is null
+     */
+    public ObjectNode doGet(Turnout turnout, String name, String type, Locale locale) throws JsonException {
         ObjectNode root = mapper.createObjectNode();
         root.put(JSON.TYPE, TURNOUT);
-        Turnout turnout = InstanceManager.turnoutManagerInstance().getTurnout(name);
         ObjectNode data = this.getNamedBean(turnout, name, type, locale); // throws JsonException if turnout == null
         root.set(JSON.DATA, data);
         if (turnout != null) {
@@ -1,15 +1,22 @@
 package jmri.server.json.turnout;
 
+import static jmri.server.json.JSON.CHANGES;
+import static jmri.server.json.JSON.DELETE;
+import static jmri.server.json.JSON.METHOD;
 import static jmri.server.json.JSON.NAME;
 import static jmri.server.json.JSON.PUT;
 import static jmri.server.json.turnout.JsonTurnoutServiceFactory.TURNOUT;
 import static jmri.server.json.turnout.JsonTurnoutServiceFactory.TURNOUTS;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import jmri.InstanceManager;
 import jmri.JmriException;
@@ -17,6 +24,7 @@ import jmri.Turnout;
 import jmri.TurnoutManager;
 import jmri.server.json.JsonConnection;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonSocketService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,8 +36,14 @@ import org.slf4j.LoggerFactory;
  */
 public class JsonTurnoutSocketService extends JsonSocketService<JsonTurnoutHttpService> {
 
+    private final JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+    // listeners are added and removed by both the client and the message queue
     private final HashMap<String, TurnoutListener> turnoutListeners = new HashMap<>();
     private final TurnoutsListener turnoutsListener = new TurnoutsListener();
+    private volatile boolean listChanges = false;
+    private volatile boolean listRequested = false;
+    // guarded by the listeners
+    private boolean managerListened = false;
     private final static Logger log = LoggerFactory.getLogger(JsonTurnoutSocketService.class);
 
 
@@ -46,12 +60,16 @@ public class JsonTurnoutSocketService extends JsonSocketService<JsonTurnoutHttpS
         } else {
             this.connection.sendMessage(this.service.doPost(type, name, data, locale));
         }
-        if (!this.turnoutListeners.containsKey(name)) {
-            Turnout turnout = InstanceManager.getDefault(TurnoutManager.class).getTurnout(name);
-            TurnoutListener listener = new TurnoutListener(turnout);
-            if (turnout != null) {
-                turnout.addPropertyChangeListener(listener);
-                this.turnoutListeners.put(name, listener);
+        synchronized (this.turnoutListeners) {
+            if (!this.turnoutListeners.containsKey(name)) {
+                Turnout turnout = InstanceManager.getDefault(TurnoutManager.class).getTurnout(name);
+                if (turnout != null) {
+                    TurnoutListener listener = new TurnoutListener(turnout);
+                    cache.retain(TURNOUT, name);
+                    turnout.addPropertyChangeListener(listener);
+                    this.turnoutListeners.put(name, listener);
+                    this.listenToManager();
+                }
             }
         }
     }
@@ -60,37 +78,59 @@ public class JsonTurnoutSocketService extends JsonSocketService<JsonTurnoutHttpS
     public void onList(String type, JsonNode data, Locale locale) throws IOException, JmriException, JsonException {
         log.debug("adding TurnoutsListener");
         this.setLocale(locale);
+        this.listChanges = data.path(CHANGES).asBoolean(false);
         this.connection.sendMessage(this.service.doGetList(type, locale));
 
-        InstanceManager.getDefault(TurnoutManager.class).addPropertyChangeListener(turnoutsListener); //add parent listener
+        this.listRequested = true;
+        this.listenToManager(); //add parent listener
         addListenersToChildren();
 
     }
 
     private void addListenersToChildren() {
-        InstanceManager.getDefault(TurnoutManager.class).getSystemNameList().stream().forEach((tn) -> { //add listeners to each child (if not already)
-            if (!turnoutListeners.containsKey(tn)) {
-                log.debug("adding TurnoutListener for Turnout {}", tn);
-                Turnout t = InstanceManager.getDefault(TurnoutManager.class).getTurnout(tn);
-                if (t != null) {
-                    turnoutListeners.put(tn, new TurnoutListener(t));
-                    t.addPropertyChangeListener(this.turnoutListeners.get(tn));
+        synchronized (this.turnoutListeners) {
+            InstanceManager.getDefault(TurnoutManager.class).getSystemNameList().stream().forEach((tn) -> { //add listeners to each child (if not already)
+                if (!turnoutListeners.containsKey(tn)) {
+                    log.debug("adding TurnoutListener for Turnout {}", tn);
+                    Turnout t = InstanceManager.getDefault(TurnoutManager.class).getTurnout(tn);
+                    if (t != null) {
+                        cache.retain(TURNOUT, tn);
+                        turnoutListeners.put(tn, new TurnoutListener(t));
+                        t.addPropertyChangeListener(this.turnoutListeners.get(tn));
+                    }
                 }
-            }
-        });
+            });
+        }
     }
 
 
+    /**
+     * Listen to the TurnoutManager for turnouts being removed, so their listeners
+     * and cached messages are dropped.
+     */
+    private void listenToManager() {
+        synchronized (this.turnoutListeners) {
+            if (!this.managerListened) {
+                InstanceManager.getDefault(TurnoutManager.class).addPropertyChangeListener(turnoutsListener);
+                this.managerListened = true;
+            }
+        }
+    }
+
     @Override
     public void onClose() {
-        turnoutListeners.values().stream().forEach((turnout) -> {
-            turnout.turnout.removePropertyChangeListener(turnout);
-        });
-        turnoutListeners.clear();
-        InstanceManager.getDefault(TurnoutManager.class).removePropertyChangeListener(turnoutsListener);
+        synchronized (this.turnoutListeners) {
+            turnoutListeners.values().stream().forEach((turnout) -> {
+                turnout.turnout.removePropertyChangeListener(turnout);
+                cache.release(TURNOUT, turnout.turnout.getSystemName());
+            });
+            turnoutListeners.clear();
+            InstanceManager.getDefault(TurnoutManager.class).removePropertyChangeListener(turnoutsListener);
+            managerListened = false;
+        }
     }
 
-    private class TurnoutListener implements PropertyChangeListener {
+    private class TurnoutListener implements PropertyChangeListener, JsonConnection.PendingMessage {
 
         protected final Turnout turnout;
 
@@ -100,46 +140,120 @@ public class JsonTurnoutSocketService extends JsonSocketService<JsonTurnoutHttpS
 
         @Override
         public void propertyChange(PropertyChangeEvent evt) {
+            // any change makes the cached message for this turnout stale
+            cache.invalidate(TURNOUT, this.turnout.getSystemName());
             log.debug("in TurnoutListener for '{}' '{}' ('{}'=>'{}')", this.turnout.getSystemName(), evt.getPropertyName(), evt.getOldValue(), evt.getNewValue());
             if (evt.getPropertyName().equals("KnownState")  //only send changes for values which are sent
                     || evt.getPropertyName().equals("inverted")
                     || evt.getPropertyName().equals("UserName")
                     || evt.getPropertyName().equals("Comment")) {
-                try {
-                    try {
-                        connection.sendMessage(service.doGet(TURNOUT, this.turnout.getSystemName(), getLocale()));
-                    } catch (JsonException ex) {
-                        connection.sendMessage(ex.getJsonMessage());
-                    }
-                } catch (IOException ex) {
-                    // if we get an error, de-register
-                    turnout.removePropertyChangeListener(this);
-                    turnoutListeners.remove(this.turnout.getSystemName());
+                // only the latest state is sent if this changes again before sending
+                connection.queueMessage(this);
+            }
+        }
+
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            return service.doGet(TURNOUT, this.turnout.getSystemName(), getLocale());
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            turnout.removePropertyChangeListener(this);
+            synchronized (turnoutListeners) {
+                if (turnoutListeners.remove(this.turnout.getSystemName()) != null) {
+                    cache.release(TURNOUT, this.turnout.getSystemName());
                 }
             }
         }
+
+        @Override
+        public JsonMessageCache.Key getCacheKey() {
+            return new JsonMessageCache.Key(TURNOUT, this.turnout.getSystemName(), getLocale());
+        }
     }
-    private class TurnoutsListener implements PropertyChangeListener {
+
+    private class TurnoutsListener implements PropertyChangeListener, JsonConnection.PendingMessage {
         @Override
         public void propertyChange(PropertyChangeEvent evt) {
             log.debug("in TurnoutsListener for '{}' ('{}' => '{}')", evt.getPropertyName(), evt.getOldValue(), evt.getNewValue());
 
+            if (evt.getPropertyName().equals("length")) { // NOI18N
+                // child added or removed, send once any burst of changes is over
+                connection.queueMessage(this);
+                return;
+            }
+            if (!listRequested) {
+                return;
+            }
             try {
                 try {
                  // send the new list
                     connection.sendMessage(service.doGetList(TURNOUTS, getLocale()));
-                    //child added or removed, reset listeners
-                    if (evt.getPropertyName().equals("length")) { // NOI18N
-                        addListenersToChildren();
-                    }
                 } catch (JsonException ex) {
                     log.warn("json error sending Turnouts: {}", ex.getJsonMessage());
                     connection.sendMessage(ex.getJsonMessage());
                 }
             } catch (IOException ex) {
-                // if we get an error, de-register
-                log.debug("deregistering turnoutsListener due to IOException");
+                sendFailed(ex);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Resets the listeners to match the turnouts in the TurnoutManager. If
+         * the client asked for {@value jmri.server.json.JSON#CHANGES}, lists
+         * the added turnouts with the method {@value jmri.server.json.JSON#PUT}
+         * and the removed turnouts with the method
+         * {@value jmri.server.json.JSON#DELETE}, otherwise lists all
+         * turnouts.
+         */
+        @Override
+        public JsonNode getMessage() throws JsonException {
+            ArrayNode changes = connection.getObjectMapper().createArrayNode();
+            List<String> list = InstanceManager.getDefault(TurnoutManager.class).getSystemNameList();
+            HashSet<String> names = new HashSet<>(list);
+            List<String> added = new ArrayList<>();
+            synchronized (turnoutListeners) {
+                for (TurnoutListener listener : new ArrayList<>(turnoutListeners.values())) {
+                    String name = listener.turnout.getSystemName();
+                    if (!names.contains(name)) {
+                        log.debug("removing TurnoutListener for Turnout {}", name);
+                        listener.turnout.removePropertyChangeListener(listener);
+                        turnoutListeners.remove(name);
+                        cache.remove(TURNOUT, name);
+                        changes.add(service.doGet(listener.turnout, name, TURNOUT, getLocale()).put(METHOD, DELETE));
+                    }
+                }
+                for (String name : list) {
+                    if (!turnoutListeners.containsKey(name)) {
+                        added.add(name);
+                    }
+                }
+                if (!listRequested) {
+                    return null;
+                }
+                addListenersToChildren();
+            }
+            if (!listChanges) {
+                return service.doGetList(TURNOUTS, getLocale());
+            }
+            for (String name : added) {
+                Turnout turnout = InstanceManager.getDefault(TurnoutManager.class).getTurnout(name);
+                changes.add(service.doGet(turnout, name, TURNOUT, getLocale()).put(METHOD, PUT));
+            }
+            return changes.size() != 0 ? changes : null;
+        }
+
+        @Override
+        public void sendFailed(IOException ex) {
+            // if we get an error, de-register
+            log.debug("deregistering turnoutsListener due to IOException");
+            synchronized (turnoutListeners) {
                 InstanceManager.getDefault(TurnoutManager.class).removePropertyChangeListener(turnoutsListener);
+                managerListened = false;
             }
         }
     }
@@ -22,6 +22,7 @@ package jmri.util;
  * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
  *
  */
+import java.util.ArrayList;
 import java.util.Comparator;
 
 /**
@@ -129,4 +130,66 @@ public class AlphanumComparator implements Comparator<String> {
 
         return Integer.signum(result);  // limit to -1, 0, 1
     }
+
+    /**
+     * Split a string into the chunks this comparator compares.
+     * <p>
+     * Used with {@link #compareChunks(String[], int, String[], int)} to
+     * compare strings that are compared often, such as NamedBean system
+     * names, without parsing them on every comparison.
+     *
+     * @param s the string to split
+     * @return the chunks, in order
+     */
+    public static String[] split(String s) {
+        AlphanumComparator ac = new AlphanumComparator();
+        int length = s.length();
+        ArrayList<String> chunks = new ArrayList<>();
+        int marker = 0;
+        while (marker < length) {
+            chunks.add(ac.getChunk(s, length, marker));
+            marker += ac.skip;
+        }
+        return chunks.toArray(new String[chunks.size()]);
+    }
+
+    /**
+     * Compare two strings that have been split by {@link #split(String)}.
+     * Gives the same result as {@link #compare(String, String)} on the
+     * original strings.
+     *
+     * @param chunks1 the chunks of the first string
+     * @param length1 the length of the first string
+     * @param chunks2 the chunks of the second string
+     * @param length2 the length of the second string
+     * @return -1, 0 or +1
+     */
+    public static int compareChunks(String[] chunks1, int length1, String[] chunks2, int length2) {
+        if (chunks1.length == 0 || chunks2.length == 0) {
+            return Integer.signum(length1 - length2);
+        }
+        int count = Math.min(chunks1.length, chunks2.length);
+        for (int i = 0; i < count; i++) {
+            String chunk1 = chunks1[i];
+            String chunk2 = chunks2[i];
+            int result;
+            // If both chunks contain numeric characters, sort them numerically
+            if (isDigitChar(chunk1.charAt(0)) && isDigitChar(chunk2.charAt(0))) {
+                result = chunk1.length() - chunk2.length();
+                if (result == 0) {
+                    result = chunk1.compareTo(chunk2);
+                }
+            } else {
+                result = chunk1.compareTo(chunk2);
+            }
+            if (result != 0) {
+                return Integer.signum(result);
+            }
+        }
+        return Integer.compare(chunks1.length, chunks2.length);
+    }
+
+    private static boolean isDigitChar(char ch) {
+        return (('0' <= ch) && (ch <= '9'));
+    }
 }
@@ -59,13 +59,20 @@ public class PropertyChangeEventQueue {
     final Collection<NamedBean> items = new ArrayList<>();
     final static int MAX_SIZE = 100;
     final BlockingQueue<PropertyChangeEvent> dq = new ArrayBlockingQueue<>(MAX_SIZE);
-    final PropertyChangeListener listener = (PropertyChangeEvent e) -> {
-        log.trace(" handling event {}", e);
-        boolean success = dq.offer(e);
-        if (!success) {
-            log.error("Could not process event {} from {} in {}", e.getPropertyName(), e.getSource(), dq);
+    final PropertyChangeListener listener = new Listener();
+
+    // only queues the events, so can be notified on the layout thread
+    private class Listener implements PropertyChangeListener, ThreadingUtil.LayoutListener {
+
+        @Override
+        public void propertyChange(PropertyChangeEvent e) {
+            log.trace(" handling event {}", e);
+            boolean success = dq.offer(e);
+            if (!success) {
+                log.error("Could not process event {} from {} in {}", e.getPropertyName(), e.getSource(), dq);
+            }
         }
-    };
+    }
 
     /**
      * Dispose by dropping the listeners to all the specified
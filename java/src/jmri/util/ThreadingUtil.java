@@ -1,9 +1,20 @@
 package jmri.util;
 
 import java.awt.event.ActionEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeListenerProxy;
+import java.beans.PropertyChangeSupport;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
+import javax.swing.table.TableModel;
 import javax.annotation.Nonnull;
 
 /**
@@ -13,8 +24,10 @@ import javax.annotation.Nonnull;
  * <a href="http://jmri.org/help/en/html/doc/Technical/Threads.shtml">http://jmri.org/help/en/html/doc/Technical/Threads.shtml</a>
  * <p>
  * Note this distinguishes "on layout", for example, Setting a sensor, from "on
- * GUI", for example, manipulating the Swing GUI. That may not be an important
- * distinction now, but it might be later, so we build it into the calls.
+ * GUI", for example, manipulating the Swing GUI. By default both run on the
+ * Swing event dispatch thread, but if {@link #isLayoutThreadEnabled()} layout
+ * operations are run on a single, separate layout thread so that they don't
+ * have to wait for repaints and the like.
  *
  * @author Bob Jacobsen Copyright 2015
  */
@@ -40,13 +53,91 @@ public class ThreadingUtil {
      *     sensor.setState(value);
      * }); 
      * }
+     * <p>
+     * If an InterruptedException is encountered, it'll be deferred to the 
+     * next blocking call via Thread.currentThread().interrupt()
+     * <p>
+     * If layout operations have their own thread and the layout thread is
+     * waiting for the GUI thread, this is called on the GUI thread and the
+     * layout thread can't run until it returns, so the work is run right away
+     * on the GUI thread instead.
      *
      * @param ta What to run, usually as a lambda expression
      */
     static public void runOnLayout(@Nonnull ThreadAction ta) {
-        runOnGUI(ta);
+        if (!isLayoutThreadEnabled()) {
+            runOnGUI(ta);
+        } else if (isLayoutThread()) {
+            // run now
+            ta.run();
+        } else {
+            boolean gui = isGUIThread();
+            synchronized (waiting) {
+                if (gui && layoutWaitingOnGUI) {
+                    // the layout thread is stopped until this returns
+                    ta.run();
+                    return;
+                }
+                guiWaitingOnLayout = gui;
+            }
+            // dispatch to layout thread
+            warnLocks();
+            try {
+                getLayoutExecutor().submit(ta).get();
+            } catch (InterruptedException e) {
+                log.debug("Interrupted while running on layout thread");
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.error("Error while on layout thread", e.getCause());
+                // should have been handled inside the ThreadAction
+            } finally {
+                if (gui) {
+                    synchronized (waiting) {
+                        guiWaitingOnLayout = false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the calling thread can run GUI work right away, either because
+     * it is the GUI thread, or because it is the layout thread and the GUI
+     * thread is waiting for it, and so can't run until it is done. If not
+     * and this is the layout thread, it is flagged as waiting for the GUI
+     * thread, and {@link #layoutDoneWaiting()} must be called once
+     * the GUI work is done.
+     *
+     * @return true if the GUI work can be run on the calling thread
+     */
+    static private boolean canRunGUIWorkNow() {
+        if (isGUIThread()) {
+            return true;
+        }
+        if (isLayoutThreadEnabled() && isLayoutThread()) {
+            synchronized (waiting) {
+                if (guiWaitingOnLayout) {
+                    return true;
+                }
+                layoutWaitingOnGUI = true;
+            }
+        }
+        return false;
     }
 
+    static private void layoutDoneWaiting() {
+        if (isLayoutThreadEnabled() && isLayoutThread()) {
+            synchronized (waiting) {
+                layoutWaitingOnGUI = false;
+            }
+        }
+    }
+
+    // at most one of the GUI and layout threads waits for the other
+    private static final Object waiting = new Object();
+    private static boolean guiWaitingOnLayout = false;
+    private static boolean layoutWaitingOnGUI = false;
+
     /**
      * Run some layout-specific code at some later point.
      * <p>
@@ -63,7 +154,11 @@ public class ThreadingUtil {
      * @param ta What to run, usually as a lambda expression
      */
     static public void runOnLayoutEventually(@Nonnull ThreadAction ta) {
-        runOnGUIEventually(ta);
+        if (!isLayoutThreadEnabled()) {
+            runOnGUIEventually(ta);
+        } else {
+            getLayoutExecutor().execute(ta);
+        }
     }
 
     /**
@@ -79,13 +174,25 @@ public class ThreadingUtil {
      * }, 1000); 
      * }
      *
+     * <p>
+     * If layout operations have their own thread, the timer hands the work
+     * to that thread when it fires.
+     *
      * @param ta    What to run, usually as a lambda expression
      * @param delay interval in milliseconds
      * @return reference to timer object handling delay so you can cancel if desired; note that operation may have already taken place.
      */
     @Nonnull 
     static public Timer runOnLayoutDelayed(@Nonnull ThreadAction ta, int delay) {
-        return runOnGUIDelayed(ta, delay);
+        if (!isLayoutThreadEnabled()) {
+            return runOnGUIDelayed(ta, delay);
+        }
+        Timer timer = new Timer(delay, (ActionEvent e) -> {
+            runOnLayoutEventually(ta);
+        });
+        timer.setRepeats(false);
+        timer.start();
+        return timer;
     }
 
     /**
@@ -94,7 +201,63 @@ public class ThreadingUtil {
      * @return true if on the layout-operation thread
      */
     static public boolean isLayoutThread() {
-        return isGUIThread();
+        if (!isLayoutThreadEnabled()) {
+            return isGUIThread();
+        }
+        return Thread.currentThread() == layoutThread;
+    }
+
+    /**
+     * Check if layout operations run on their own thread, separate from the
+     * Swing event dispatch thread.
+     * <p>
+     * This is off by default, in which case layout operations run on the GUI
+     * thread as they always have. It can be turned on by starting JMRI with
+     * the system property {@value #LAYOUT_THREAD_PROPERTY} set to true.
+     *
+     * @return true if layout operations have their own thread
+     */
+    static public boolean isLayoutThreadEnabled() {
+        return layoutThreadEnabled;
+    }
+
+    /**
+     * Set whether layout operations run on their own thread.
+     * <p>
+     * This should be set once, early during startup, before any layout
+     * connections are opened. It is public for testing purposes.
+     *
+     * @param enabled true to use a separate layout thread
+     */
+    static public void setLayoutThreadEnabled(boolean enabled) {
+        layoutThreadEnabled = enabled;
+    }
+
+    /**
+     * Name of the system property that enables the separate layout thread.
+     */
+    public static final String LAYOUT_THREAD_PROPERTY = "jmri.layoutThread"; // NOI18N
+
+    private static volatile boolean layoutThreadEnabled = Boolean.getBoolean(LAYOUT_THREAD_PROPERTY);
+    private static volatile Thread layoutThread = null;
+    private static ExecutorService layoutExecutor = null;
+
+    /**
+     * Get the single-threaded executor that runs layout operations, creating
+     * it if need be.
+     *
+     * @return the layout executor
+     */
+    synchronized static private ExecutorService getLayoutExecutor() {
+        if (layoutExecutor == null) {
+            layoutExecutor = Executors.newSingleThreadExecutor((Runnable r) -> {
+                Thread t = new Thread(r, "JMRI Layout"); // NOI18N
+                t.setDaemon(true);
+                layoutThread = t;
+                return t;
+            });
+        }
+        return layoutExecutor;
     }
 
     /**
@@ -109,11 +272,15 @@ public class ThreadingUtil {
      * <p>
      * If an InterruptedException is encountered, it'll be deferred to the 
      * next blocking call via Thread.currentThread().interrupt()
+     * <p>
+     * If called on the layout thread while the GUI thread is waiting for it
+     * in {@link #runOnLayout(ThreadAction)}, the GUI thread can't run until
+     * this returns, so the work is run right away on the layout thread.
      * 
      * @param ta What to run, usually as a lambda expression
      */
     static public void runOnGUI(@Nonnull ThreadAction ta) {
-        if (isGUIThread()) {
+        if (canRunGUIWorkNow()) {
             // run now
             ta.run();
         } else {
@@ -127,6 +294,8 @@ public class ThreadingUtil {
             } catch (InvocationTargetException e) {
                 log.error("Error while on GUI thread", e.getCause());
                 // should have been handled inside the ThreadAction
+            } finally {
+                layoutDoneWaiting();
             }
         }
     }
@@ -147,7 +316,7 @@ public class ThreadingUtil {
      * @param ta What to run, usually as a lambda expression
      */
     static public <E> E runOnGUIwithReturn(@Nonnull ReturningThreadAction<E> ta) {
-        if (isGUIThread()) {
+        if (canRunGUIWorkNow()) {
             // run now
             return ta.run();
         } else {
@@ -164,6 +333,8 @@ public class ThreadingUtil {
             } catch (InvocationTargetException e) {
                 log.error("Error while on GUI thread", e.getCause());
                 // should have been handled inside the ThreadAction
+            } finally {
+                layoutDoneWaiting();
             }
             return result.get();
         }
@@ -193,6 +364,106 @@ public class ThreadingUtil {
         SwingUtilities.invokeLater(ta);
     }
 
+    /**
+     * Run some GUI-specific code at some later point, replacing any work
+     * queued under the same key that hasn't run yet.
+     * <p>
+     * This is intended for view updates driven from the layout thread, where
+     * only the latest state needs to be shown: a burst of changes results in
+     * a single update on the GUI thread. It is used to notify table models in
+     * {@link #firePropertyChange(PropertyChangeSupport, Object, String, Object, Object)}.
+     * <p>
+     * Typical uses:
+     * <p> {@code 
+     * ThreadingUtil.runOnGUICoalesced(label, ()->{ 
+     *      label.setText(sensor.describeState(sensor.getKnownState()));
+     * } ); 
+     * }
+     *
+     * @param key identifies the work to be coalesced; uses equals()
+     * @param ta  What to run, usually as a lambda expression
+     */
+    static public void runOnGUICoalesced(@Nonnull Object key, @Nonnull ThreadAction ta) {
+        if (pendingOnGUI.put(key, ta) == null) {
+            SwingUtilities.invokeLater(() -> {
+                ThreadAction latest = pendingOnGUI.remove(key);
+                if (latest != null) {
+                    latest.run();
+                }
+            });
+        }
+    }
+    private static final ConcurrentHashMap<Object, ThreadAction> pendingOnGUI = new ConcurrentHashMap<>();
+
+    /**
+     * Marks a listener that only acts on the layout and never touches the
+     * GUI, so that it can be notified on the layout thread.
+     *
+     * @see #firePropertyChange(PropertyChangeSupport, Object, String, Object, Object)
+     */
+    public interface LayoutListener {
+    }
+
+    /**
+     * Check if a listener can be notified on the layout thread.
+     *
+     * @param listener the listener
+     * @return true if the listener is marked as a {@link LayoutListener}
+     */
+    static public boolean isLayoutListener(@Nonnull Object listener) {
+        if (listener instanceof PropertyChangeListenerProxy) {
+            listener = ((PropertyChangeListenerProxy) listener).getListener();
+        }
+        return listener instanceof LayoutListener;
+    }
+
+    /**
+     * Fire a property change to the listeners of a PropertyChangeSupport.
+     * <p>
+     * If layout operations have their own thread and this is not called on
+     * the GUI thread, only the {@link #isLayoutListener(Object) layout
+     * listeners} are notified right away. The others are notified later on
+     * the GUI thread, in the order the changes were fired, except that table
+     * models are only notified of the latest change of each property of the
+     * source that is still waiting, as they show the current state.
+     * Otherwise this is the same as
+     * {@link PropertyChangeSupport#firePropertyChange(String, Object, Object)}.
+     *
+     * @param pcs      the listeners
+     * @param source   the source of the event
+     * @param property the name of the property
+     * @param old      the old value
+     * @param now      the new value
+     */
+    static public void firePropertyChange(@Nonnull PropertyChangeSupport pcs, @Nonnull Object source,
+            String property, Object old, Object now) {
+        if (!isLayoutThreadEnabled() || isGUIThread()) {
+            pcs.firePropertyChange(property, old, now);
+            return;
+        }
+        if (old != null && now != null && old.equals(now)) {
+            return;
+        }
+        PropertyChangeEvent e = new PropertyChangeEvent(source, property, old, now);
+        for (PropertyChangeListener l : pcs.getPropertyChangeListeners()) {
+            if (l instanceof PropertyChangeListenerProxy) {
+                PropertyChangeListenerProxy proxy = (PropertyChangeListenerProxy) l;
+                if (property == null || !Objects.equals(proxy.getPropertyName(), property)) {
+                    continue;
+                }
+                l = proxy.getListener();
+            }
+            PropertyChangeListener listener = l;
+            if (isLayoutListener(listener)) {
+                listener.propertyChange(e);
+            } else if (listener instanceof TableModel) {
+                runOnGUICoalesced(Arrays.asList(listener, source, property), () -> listener.propertyChange(e));
+            } else {
+                runOnGUIEventually(() -> listener.propertyChange(e));
+            }
+        }
+    }
+
     /**
      * Run some GUI-specific code at some later point, at least a known time in
      * the future.
@@ -85,6 +85,40 @@ public class NamedBeanHandleManagerTest extends TestCase {
         jmri.util.JUnitAppender.assertWarnMessage("updateBeanFromUserToSystem requires non-blank user name: \"ISNO_USER_NAME\" not renamed");
     }
 
+    public void testHandlesKeptPerBeanAndName() {
+        SensorManager sm = new jmri.managers.InternalSensorManager();
+        Sensor s1 = sm.provideSensor("IS1");
+        Sensor s2 = sm.provideSensor("IS2");
+        NamedBeanHandle<Sensor> h1 = nbhm.getNamedBeanHandle("Name", s1);
+        NamedBeanHandle<Sensor> h2 = nbhm.getNamedBeanHandle("Name", s2);
+        Assert.assertNotSame("handle for each bean", h1, h2);
+        Assert.assertSame("same handle issued", h1, nbhm.getNamedBeanHandle("Name", s1));
+
+        nbhm.renameBean("Name", "Renamed", s1);
+        Assert.assertEquals("renamed", "Renamed", h1.getName());
+        Assert.assertTrue("new name in use", nbhm.inUse("Renamed", s1));
+        Assert.assertFalse("old name not in use", nbhm.inUse("Name", s1));
+        Assert.assertEquals("other bean not renamed", "Name", h2.getName());
+
+        nbhm.moveBean(s1, s2, "Renamed");
+        Assert.assertEquals("moved", s2, h1.getBean());
+        Assert.assertSame("handle moved", h1, nbhm.getNamedBeanHandle("Renamed", s2));
+        Assert.assertFalse("not in use by old bean", nbhm.inUse("Renamed", s1));
+    }
+
+    public void testRenameToExistingName() {
+        SensorManager sm = new jmri.managers.InternalSensorManager();
+        Sensor s1 = sm.provideSensor("IS1");
+        NamedBeanHandle<Sensor> h1 = nbhm.getNamedBeanHandle("IS1", s1);
+        NamedBeanHandle<Sensor> h2 = nbhm.getNamedBeanHandle("Name", s1);
+        nbhm.renameBean("IS1", "Name", s1);
+        Assert.assertEquals("renamed", "Name", h1.getName());
+        Assert.assertSame("handle already named returned", h2, nbhm.getNamedBeanHandle("Name", s1));
+        nbhm.renameBean("Name", "Other", s1);
+        Assert.assertEquals("both renamed", "Other", h1.getName());
+        Assert.assertEquals("both renamed", "Other", h2.getName());
+    }
+
     // from here down is testing infrastructure
     public NamedBeanHandleManagerTest(String s) {
         super(s);
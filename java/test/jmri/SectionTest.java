@@ -42,6 +42,34 @@ public class SectionTest {
     Assert.assertEquals(1, s.getBlockList().size());
    }
    
+   @Test
+   public void testOccupancyFollowsBlocks() {
+    Section s = new Section("TS1");
+    Block b1 = new Block("IB1", "one");
+    Block b2 = new Block("IB2", "two");
+    b1.setState(Block.OCCUPIED);
+    b2.setState(Block.UNOCCUPIED);
+    s.addBlock(b1);
+    s.addBlock(b2);
+    Assert.assertEquals("occupied block added", Section.OCCUPIED, s.getOccupancy());
+
+    b2.setState(Block.OCCUPIED);
+    b1.setState(Block.UNOCCUPIED);
+    Assert.assertEquals("one block still occupied", Section.OCCUPIED, s.getOccupancy());
+    b2.setValue("train"); // not a state change
+    b2.setState(Block.UNOCCUPIED);
+    Assert.assertEquals("all blocks unoccupied", Section.UNOCCUPIED, s.getOccupancy());
+
+    b1.setState(Block.OCCUPIED);
+    Assert.assertEquals("block occupied again", Section.OCCUPIED, s.getOccupancy());
+    s.removeAllBlocksFromSection();
+    b1.setState(Block.UNOCCUPIED);
+    s.addBlock(b2);
+    b2.setState(Block.OCCUPIED);
+    b2.setState(Block.UNOCCUPIED);
+    Assert.assertEquals("removed block not counted", Section.UNOCCUPIED, s.getOccupancy());
+   }
+
    @Before
    public void setUp() {
         JUnitUtil.setUp();
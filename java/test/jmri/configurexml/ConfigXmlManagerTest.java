@@ -163,6 +163,29 @@ public class ConfigXmlManagerTest extends TestCase {
         f.delete();  // make sure it's gone again
     }
 
+    public void testLoadOffGUIThread() throws JmriConfigureXmlException {
+        JUnitUtil.initConfigureManager();
+        ConfigXmlManager configxmlmanager = new ConfigXmlManager();
+        configxmlmanager.setValidate(jmri.jmrit.XmlFile.Validate.None);
+        Assert.assertFalse("test not on GUI thread", jmri.util.ThreadingUtil.isGUIThread());
+        java.util.List<Thread> threads = new java.util.ArrayList<>();
+        jmri.InstanceManager.sensorManagerInstance().addPropertyChangeListener((java.beans.PropertyChangeEvent e) -> {
+            threads.add(Thread.currentThread());
+        });
+        Thread caller = Thread.currentThread();
+        boolean result = configxmlmanager.load(new File("java/test/jmri/configurexml/load/LoadFileTest.xml"));
+        Assert.assertTrue("load OK", result);
+        Assert.assertFalse("sensor manager changed", threads.isEmpty());
+        for (Thread t : threads) {
+            Assert.assertNotSame("manager not changed on the loading thread", caller, t);
+        }
+        Assert.assertNotNull("sensor loaded", jmri.InstanceManager.sensorManagerInstance().getBySystemName("IS1"));
+        Assert.assertTrue("sensor timing recorded",
+                configxmlmanager.getLoadTimes().containsKey(jmri.managers.configurexml.InternalSensorManagerXml.class.getName()));
+        Assert.assertTrue("signal head timing recorded",
+                configxmlmanager.getLoadTimes().containsKey(jmri.managers.configurexml.AbstractSignalHeadManagerXml.class.getName()));
+    }
+
     // Main entry point
     static public void main(String[] args) {
         String[] testCaseName = {"-noloading", ConfigXmlManagerTest.class.getName()};
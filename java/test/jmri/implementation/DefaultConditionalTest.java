@@ -36,6 +36,40 @@ public class DefaultConditionalTest extends NamedBeanTest {
 
     }
 
+    public void testMixedAntecedent() throws JmriException {
+        Sensor s1 = InstanceManager.sensorManagerInstance().provideSensor("IS1");
+        Sensor s2 = InstanceManager.sensorManagerInstance().provideSensor("IS2");
+        Sensor s3 = InstanceManager.sensorManagerInstance().provideSensor("IS3");
+        java.util.ArrayList<ConditionalVariable> variables = new java.util.ArrayList<>();
+        variables.add(new ConditionalVariable(false, Conditional.OPERATOR_NONE, Conditional.TYPE_SENSOR_ACTIVE, "IS1", true));
+        variables.add(new ConditionalVariable(false, Conditional.OPERATOR_NONE, Conditional.TYPE_SENSOR_ACTIVE, "IS2", true));
+        variables.add(new ConditionalVariable(false, Conditional.OPERATOR_NONE, Conditional.TYPE_SENSOR_ACTIVE, "IS3", true));
+        DefaultConditional c = new DefaultConditional("IXIC 4");
+        c.setStateVariables(variables);
+        // operators are applied left to right
+        c.setLogicType(Conditional.MIXED, "R1 or R2 and not [R3]");
+        Assert.assertNull("valid", c.validateAntecedent("R1 or R2 and not [R3]", variables));
+
+        s1.setState(Sensor.ACTIVE);
+        s2.setState(Sensor.INACTIVE);
+        s3.setState(Sensor.INACTIVE);
+        Assert.assertEquals("R1", Conditional.TRUE, c.calculate(false, null));
+        s3.setState(Sensor.ACTIVE);
+        Assert.assertEquals("R1 and R3", Conditional.FALSE, c.calculate(false, null));
+        Assert.assertEquals("every variable evaluated", Conditional.FALSE, variables.get(1).getState());
+
+        // a changed antecedent is compiled again
+        c.setLogicType(Conditional.MIXED, "R1 or (R2 and not R3)");
+        Assert.assertEquals("R1 alone", Conditional.TRUE, c.calculate(false, null));
+        s1.setState(Sensor.INACTIVE);
+        Assert.assertEquals("none", Conditional.FALSE, c.calculate(false, null));
+
+        c.setLogicType(Conditional.MIXED, "R1 or R4");
+        Assert.assertEquals("missing variable", Conditional.FALSE, c.calculate(false, null));
+        Assert.assertNotNull("error logged", jmri.util.JUnitAppender.checkForMessageStartingWith("IXIC 4 parseCalculation error antecedent= R1 or R4"));
+        Assert.assertNotNull("not valid", c.validateAntecedent("R1 and", variables));
+    }
+
     // from here down is testing infrastructure
     public DefaultConditionalTest(String s) {
         super(s);
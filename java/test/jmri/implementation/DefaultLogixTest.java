@@ -1,5 +1,7 @@
 package jmri.implementation;
 
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
 import jmri.*;
 import junit.framework.Test;
 import junit.framework.TestSuite;
@@ -40,6 +42,50 @@ public class DefaultLogixTest extends NamedBeanTest {
 
     }
 
+    public void testSensorChangeOnlyCalculatesDependentConditionals() throws JmriException {
+        Sensor s1 = InstanceManager.sensorManagerInstance().provideSensor("IS1");
+        Sensor s2 = InstanceManager.sensorManagerInstance().provideSensor("IS2");
+        Logix ix = new DefaultLogix("IX 5");
+        CountingConditional c1 = new CountingConditional("IX 5C1", "IS1");
+        CountingConditional c2 = new CountingConditional("IX 5C2", "IS2");
+        ix.addConditional(c1.getSystemName(), 0);
+        ix.addConditional(c1.getSystemName(), c1);
+        ix.addConditional(c2.getSystemName(), 1);
+        ix.addConditional(c2.getSystemName(), c2);
+        ix.activateLogix();
+        Assert.assertEquals("initial calculation", 1, c1.count);
+        Assert.assertEquals("initial calculation", 1, c2.count);
+
+        s1.setKnownState(Sensor.ACTIVE);
+        Assert.assertEquals("IS1 conditional calculated", 2, c1.count);
+        Assert.assertEquals("IS2 conditional not calculated", 1, c2.count);
+        Assert.assertEquals("IS1 conditional true", Conditional.TRUE, c1.getState());
+
+        s2.setKnownState(Sensor.ACTIVE);
+        Assert.assertEquals("IS1 conditional not calculated", 2, c1.count);
+        Assert.assertEquals("IS2 conditional calculated", 2, c2.count);
+        ix.deActivateLogix();
+    }
+
+    private static class CountingConditional extends DefaultConditional {
+
+        int count = 0;
+
+        CountingConditional(String systemName, String sensorName) {
+            super(systemName);
+            ArrayList<ConditionalVariable> variables = new ArrayList<>();
+            variables.add(new ConditionalVariable(false, Conditional.OPERATOR_NONE,
+                    Conditional.TYPE_SENSOR_ACTIVE, sensorName, true));
+            setStateVariables(variables);
+        }
+
+        @Override
+        public int calculate(boolean enabled, PropertyChangeEvent evt) {
+            count++;
+            return super.calculate(enabled, evt);
+        }
+    }
+
     // from here down is testing infrastructure
     public DefaultLogixTest(String s) {
         super(s);
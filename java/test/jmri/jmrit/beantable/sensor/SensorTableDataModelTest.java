@@ -1,5 +1,12 @@
 package jmri.jmrit.beantable.sensor;
 
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.TableModelEvent;
+import jmri.InstanceManager;
+import jmri.JmriException;
+import jmri.Sensor;
+import jmri.SensorManager;
 import jmri.util.JUnitUtil;
 import org.junit.After;
 import org.junit.Assert;
@@ -18,10 +25,73 @@ public class SensorTableDataModelTest {
         Assert.assertNotNull("exists",t);
     }
 
+    @Test
+    public void testRowUpdatesCoalesced() throws Exception {
+        SensorManager sm = InstanceManager.getDefault(SensorManager.class);
+        for (int i = 1; i <= 5; i++) {
+            sm.provideSensor("IS" + i);
+        }
+        SensorTableDataModel t = new SensorTableDataModel(sm);
+        List<TableModelEvent> events = new ArrayList<>();
+        t.addTableModelListener(events::add);
+
+        // a burst of changes while the GUI thread is busy
+        jmri.util.ThreadingUtil.runOnGUI(() -> {
+            try {
+                sm.getSensor("IS2").setKnownState(Sensor.ACTIVE);
+                sm.getSensor("IS3").setKnownState(Sensor.ACTIVE);
+                sm.getSensor("IS2").setKnownState(Sensor.INACTIVE);
+                sm.getSensor("IS5").setKnownState(Sensor.ACTIVE);
+            } catch (JmriException ex) {
+                Assert.fail(ex.getMessage());
+            }
+        });
+        JUnitUtil.waitFor(() -> events.size() >= 2, "rows updated");
+        javax.swing.SwingUtilities.invokeAndWait(() -> {
+        });
+        Assert.assertEquals("two events", 2, events.size());
+        Assert.assertEquals("first row", t.getRow("IS2"), events.get(0).getFirstRow());
+        Assert.assertEquals("last row", t.getRow("IS3"), events.get(0).getLastRow());
+        Assert.assertEquals("separate row", t.getRow("IS5"), events.get(1).getFirstRow());
+        Assert.assertEquals("update", TableModelEvent.UPDATE, events.get(1).getType());
+    }
+
+    @Test
+    public void testRowsInsertedAndDeleted() throws JmriException {
+        SensorManager sm = InstanceManager.getDefault(SensorManager.class);
+        for (int i = 1; i <= 5; i++) {
+            sm.provideSensor("IS" + i);
+        }
+        SensorTableDataModel t = new SensorTableDataModel(sm);
+        List<TableModelEvent> events = new ArrayList<>();
+        t.addTableModelListener(e -> {
+            events.add(e);
+            // the row count matches each event as it is received
+            if (e.getType() == TableModelEvent.INSERT) {
+                Assert.assertEquals("sensor shown", "IS25", t.getValueAt(e.getFirstRow(), SensorTableDataModel.SYSNAMECOL).toString());
+            }
+        });
+
+        sm.provideSensor("IS25");
+        Assert.assertEquals("one event", 1, events.size());
+        Assert.assertEquals("insert", TableModelEvent.INSERT, events.get(0).getType());
+        Assert.assertEquals("row count", 6, t.getRowCount());
+        Assert.assertEquals("inserted row", t.getRow("IS25"), events.get(0).getFirstRow());
+
+        int row = t.getRow("IS3");
+        sm.deregister(sm.getSensor("IS3"));
+        Assert.assertEquals("two events", 2, events.size());
+        Assert.assertEquals("delete", TableModelEvent.DELETE, events.get(1).getType());
+        Assert.assertEquals("deleted row", row, events.get(1).getFirstRow());
+        Assert.assertEquals("row count", 5, t.getRowCount());
+        Assert.assertEquals("not shown", -1, t.getRow("IS3"));
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
         JUnitUtil.setUp();
+        JUnitUtil.initInternalSensorManager();
     }
 
     @After
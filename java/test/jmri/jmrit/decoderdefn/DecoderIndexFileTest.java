@@ -1,7 +1,14 @@
 package jmri.jmrit.decoderdefn;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import javax.swing.JComboBox;
+import jmri.util.FileUtil;
 import jmri.util.JUnitUtil;
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -171,6 +178,109 @@ public class DecoderIndexFileTest extends TestCase {
         Assert.assertEquals("Found with version 25 ", 0, l3.size());
     }
 
+    public void testMatchingAfterAddingFamily() {
+        // setup the test object with guts
+        DecoderIndexFile di = new DecoderIndexFile();
+        setupDoc();
+        di.readMfgSection(decoderIndexElement);
+        di.readFamily(family1);
+        // index is built on first search
+        Assert.assertEquals("None with name Digitrax ", 0, di.matchingDecoderList("Digitrax", null, null, null, null, null).size());
+        Assert.assertNull("No DH142 yet ", di.fileFromTitle("DH142 (FX2 family)"));
+        // index is rebuilt when more decoders are read
+        di.readFamily(family2);
+        Assert.assertEquals("Found with name Digitrax ", 3, di.matchingDecoderList("Digitrax", null, null, null, null, null).size());
+        Assert.assertEquals("Found with family and id ", 3, di.matchingDecoderList(null, "FX2 family", "129", null, null, null).size());
+        Assert.assertEquals("Found with model ", 1, di.matchingDecoderList(null, null, null, null, null, "DH142").size());
+        Assert.assertEquals("Found by title ", "DH142", di.fileFromTitle("DH142 (FX2 family)").getModel());
+    }
+
+    public void testMatchingAfterReplacingDecoder() {
+        DecoderIndexFile di = new DecoderIndexFile();
+        setupDoc();
+        di.readMfgSection(decoderIndexElement);
+        di.readFamily(family1);
+        di.readFamily(family2);
+        Assert.assertEquals("Found with model ", 1, di.matchingDecoderList(null, null, null, null, null, "DH142").size());
+        // replacing a decoder doesn't change the number of decoders
+        DecoderFile d = di.decoderList.get(4);
+        di.decoderList.set(4, new DecoderFile(d.getMfg(), d.getMfgID(), "DH143", null, null, d.getFamily(),
+                d.getFileName(), 4, 2, d.getModelElement()));
+        Assert.assertEquals("Old model gone ", 0, di.matchingDecoderList(null, null, null, null, null, "DH142").size());
+        Assert.assertEquals("New model found ", 1, di.matchingDecoderList(null, null, null, null, null, "DH143").size());
+    }
+
+    private List<DecoderIndexFile.CachedFamily> cachedFamilies() {
+        List<DecoderIndexFile.CachedFamily> families = new ArrayList<>();
+        for (Element family : decoderIndexElement.getChild("familyList").getChildren("family")) {
+            families.add(new DecoderIndexFile.CachedFamily(family.getAttributeValue("file"), null, -1, -1, family));
+        }
+        return families;
+    }
+
+    private File tempFile(String name) throws IOException {
+        File file = new File(FileUtil.getUserFilesPath(), name);
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(name.getBytes());
+        }
+        file.deleteOnExit();
+        return file;
+    }
+
+    public void testCacheRoundTrip() throws IOException {
+        DecoderIndexFile di = new DecoderIndexFile();
+        setupDoc();
+        decoderIndexElement.setAttribute("version", "7");
+        File index = tempFile("testDecoderIndex.xml");
+        File cache = tempFile("testDecoderIndex.cache");
+        di.writeCache(cache, index, decoderIndexElement, cachedFamilies());
+
+        DecoderIndexFile cached = new DecoderIndexFile();
+        Assert.assertTrue("cache read", cached.readCache(cache, index));
+        Assert.assertEquals("version", 7, cached.fileVersion);
+        Assert.assertEquals("Digitrax ID from name ", "129", cached.mfgIdFromName("Digitrax"));
+        Assert.assertEquals("number of decoders ", 6, cached.numDecoders());
+        Assert.assertEquals("1st decoder model ", "DH142", cached.decoderList.get(4).getModel());
+        Assert.assertEquals("1st decoder family ", "FX2 family", cached.decoderList.get(4).getFamily());
+        Assert.assertEquals("Found with version 23 ", 1, cached.matchingDecoderList(null, null, null, "23", null, null).size());
+    }
+
+    public void testCacheInvalidatedByIndexChange() throws IOException {
+        DecoderIndexFile di = new DecoderIndexFile();
+        setupDoc();
+        File index = tempFile("testDecoderIndex.xml");
+        File cache = tempFile("testDecoderIndex.cache");
+        di.writeCache(cache, index, decoderIndexElement, cachedFamilies());
+        Assert.assertTrue("index changed", index.setLastModified(index.lastModified() - 10000));
+        Assert.assertFalse("cache not read", new DecoderIndexFile().readCache(cache, index));
+        Assert.assertFalse("no cache", new DecoderIndexFile().readCache(new File(FileUtil.getUserFilesPath(), "none.cache"), index));
+    }
+
+    public void testCacheRejectsSerializedObjects() throws IOException {
+        File index = tempFile("testDecoderIndex.xml");
+        File cache = tempFile("testDecoderIndex.cache");
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new FileOutputStream(cache)))) {
+            out.writeObject(new Element("decoderIndex"));
+        }
+        DecoderIndexFile di = new DecoderIndexFile();
+        Assert.assertFalse("cache not read", di.readCache(cache, index));
+        Assert.assertEquals("nothing read", 0, di.numDecoders());
+    }
+
+    public void testReadFamilyFromUnchangedFile() {
+        DecoderIndexFile di = new DecoderIndexFile();
+        DecoderIndexFile.CachedFamily first = di.readFamilyFromFile("0NMRA.xml", null);
+        Assert.assertNotNull("family read", first);
+        Assert.assertEquals("family name", "NMRA standard CV definitions", first.family.getAttributeValue("name"));
+        // an unchanged file is not read again
+        Assert.assertSame("family reused", first, di.readFamilyFromFile("0NMRA.xml", first));
+        // a changed file is
+        DecoderIndexFile.CachedFamily changed = new DecoderIndexFile.CachedFamily(first.file, first.path, first.length, first.lastModified - 1, first.family);
+        DecoderIndexFile.CachedFamily reread = di.readFamilyFromFile("0NMRA.xml", changed);
+        Assert.assertNotSame("family read again", changed, reread);
+        Assert.assertEquals("same family", first.family.getAttributeValue("name"), reread.family.getAttributeValue("name"));
+    }
+
     // static variables for the test XML structures
     Element root = null;
     Document doc = null;
@@ -1,5 +1,8 @@
 package jmri.jmrit.display.layoutEditor;
 
+import jmri.InstanceManager;
+import jmri.Memory;
+import jmri.Sensor;
 import jmri.util.JUnitUtil;
 import org.junit.After;
 import org.junit.Assert;
@@ -19,6 +22,35 @@ public class LayoutBlockManagerTest {
         Assert.assertNotNull("exists", b);
     }
 
+    @Test
+    public void testLookupsFollowAssignments() {
+        LayoutBlockManager lbm = new LayoutBlockManager();
+        LayoutBlock lb1 = lbm.createNewLayoutBlock("ILB1", "Block 1");
+        LayoutBlock lb2 = lbm.createNewLayoutBlock("ILB2", "Block 2");
+        lb1.initializeLayoutBlock();
+        Assert.assertEquals("by block", lb1, lbm.getLayoutBlock(lb1.getBlock()));
+        Assert.assertEquals("uninitialized block", lb2, lbm.getLayoutBlock((jmri.Block) null));
+
+        Sensor s1 = InstanceManager.sensorManagerInstance().provideSensor("IS1");
+        Sensor s2 = InstanceManager.sensorManagerInstance().provideSensor("IS2");
+        Assert.assertNull("no sensor assigned", lbm.getBlockWithSensorAssigned(s1));
+        lb1.setOccupancySensorName("IS1");
+        Assert.assertEquals("sensor assigned", lb1, lbm.getBlockWithSensorAssigned(s1));
+        lb1.setOccupancySensorName("IS2");
+        Assert.assertNull("sensor moved", lbm.getBlockWithSensorAssigned(s1));
+        Assert.assertEquals("sensor moved", lb1, lbm.getBlockWithSensorAssigned(s2));
+
+        // the memory is found once it exists, as before it was indexed
+        lb2.setMemoryName("IM1");
+        Assert.assertEquals("no memory yet", lb1, lbm.getBlockWithMemoryAssigned(null));
+        Memory m = InstanceManager.memoryManagerInstance().provideMemory("IM1");
+        Assert.assertEquals("memory created", lb2, lbm.getBlockWithMemoryAssigned(m));
+
+        lbm.deleteLayoutBlock(lb2);
+        Assert.assertNull("block deleted", lbm.getBlockWithMemoryAssigned(m));
+        Assert.assertEquals("by block", lb1, lbm.getLayoutBlock(lb1.getBlock()));
+    }
+
     // from here down is testing infrastructure
     @Before
     public void setUp() throws Exception {
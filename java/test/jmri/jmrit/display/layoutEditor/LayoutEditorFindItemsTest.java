@@ -1,6 +1,11 @@
 package jmri.jmrit.display.layoutEditor;
 
 import java.awt.GraphicsEnvironment;
+import java.awt.geom.Point2D;
+import jmri.InstanceManager;
+import jmri.SignalHead;
+import jmri.SignalHeadManager;
+import jmri.implementation.VirtualSignalHead;
 import jmri.util.JUnitUtil;
 import org.junit.After;
 import org.junit.Assert;
@@ -23,6 +28,37 @@ public class LayoutEditorFindItemsTest {
         JUnitUtil.dispose(e);
     }
 
+    @Test
+    public void testFindBySignalHead() {
+        Assume.assumeFalse(GraphicsEnvironment.isHeadless());
+        LayoutEditor e = new LayoutEditor();
+        LayoutEditorFindItems f = e.getFinder();
+        SignalHead h1 = new VirtualSignalHead("IH1", "Head 1");
+        SignalHead h2 = new VirtualSignalHead("IH2");
+        InstanceManager.getDefault(SignalHeadManager.class).register(h1);
+        InstanceManager.getDefault(SignalHeadManager.class).register(h2);
+        LayoutTurnout t = new LayoutTurnout("TO1", LayoutTurnout.RH_TURNOUT,
+                new Point2D.Double(150.0, 100.0), 33.0, 1.1, 1.2, e);
+        LevelXing x = new LevelXing("X1", new Point2D.Double(50.0, 100.0), e);
+        e.getLayoutTracks().add(t);
+        e.getLayoutTracks().add(x);
+        Assert.assertNull("not assigned", f.findLayoutTurnoutByBean(h1));
+
+        t.setSignalC2Name("Head 1");
+        Assert.assertEquals("by user name", t, f.findLayoutTurnoutByBean(h1));
+        Assert.assertNull("not a level crossing head", f.findLevelXingByBean(h1));
+        x.setSignalBName("IH2");
+        Assert.assertEquals("by system name", x, f.findLevelXingByBean(h2));
+
+        // moved heads are found at their new track only
+        t.setSignalC2Name("");
+        x.setSignalBName("Head 1");
+        Assert.assertNull("removed from turnout", f.findLayoutTurnoutByBean(h1));
+        Assert.assertEquals("moved to level crossing", x, f.findLevelXingByBean(h1));
+        Assert.assertNull("replaced", f.findLevelXingByBean(h2));
+        JUnitUtil.dispose(e);
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
@@ -0,0 +1,133 @@
+package jmri.jmrit.display.layoutEditor;
+
+import java.awt.GraphicsEnvironment;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import jmri.util.JUnitUtil;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test simple functioning of LayoutTrackIndex
+ */
+public class LayoutTrackIndexTest {
+
+    private static LayoutEditor le = null;
+
+    private List<LayoutTrack> createTracks() {
+        List<LayoutTrack> tracks = new ArrayList<>();
+        tracks.add(new PositionablePoint("A1", PositionablePoint.ANCHOR, new Point2D.Double(0.0, 0.0), le));
+        tracks.add(new PositionablePoint("A2", PositionablePoint.ANCHOR, new Point2D.Double(500.0, 500.0), le));
+        tracks.add(new PositionablePoint("A3", PositionablePoint.ANCHOR, new Point2D.Double(1000.0, 0.0), le));
+        tracks.add(new PositionablePoint("A4", PositionablePoint.ANCHOR, new Point2D.Double(505.0, 505.0), le));
+        return tracks;
+    }
+
+    @Test
+    public void testGetTracksInArea() {
+        Assume.assumeFalse(GraphicsEnvironment.isHeadless());
+        List<LayoutTrack> tracks = createTracks();
+        LayoutTrackIndex index = new LayoutTrackIndex();
+        index.rebuild(tracks, 10.0);
+        Assert.assertEquals("size", 4, index.size());
+
+        List<LayoutTrack> found = index.getTracks(new Rectangle2D.Double(450.0, 450.0, 100.0, 100.0));
+        Assert.assertEquals("two near middle", 2, found.size());
+        Assert.assertEquals("in list order", tracks.get(1), found.get(0));
+        Assert.assertEquals("in list order", tracks.get(3), found.get(1));
+
+        Assert.assertEquals("one at origin", tracks.get(0), index.getTracks(5.0, 5.0).get(0));
+        Assert.assertTrue("none outside margin", index.getTracks(20.0, 20.0).isEmpty());
+        Assert.assertTrue("none in empty area", index.getTracks(new Rectangle2D.Double(2000.0, 2000.0, 10.0, 10.0)).isEmpty());
+        Assert.assertEquals("all for no area", tracks, index.getTracks(null));
+        Assert.assertEquals("all in large area", tracks, index.getTracks(new Rectangle2D.Double(-5000.0, -5000.0, 10000.0, 10000.0)));
+    }
+
+    @Test
+    public void testRebuild() {
+        Assume.assumeFalse(GraphicsEnvironment.isHeadless());
+        List<LayoutTrack> tracks = createTracks();
+        LayoutTrackIndex index = new LayoutTrackIndex();
+        index.rebuild(tracks, 10.0);
+        Assert.assertTrue("none at 2000,2000", index.getTracks(2000.0, 2000.0).isEmpty());
+
+        tracks.get(0).setCoordsCenter(new Point2D.Double(2000.0, 2000.0));
+        index.rebuild(tracks, 10.0);
+        Assert.assertEquals("moved to 2000,2000", tracks.get(0), index.getTracks(2000.0, 2000.0).get(0));
+        Assert.assertTrue("none at origin", index.getTracks(0.0, 0.0).isEmpty());
+    }
+
+    @Test
+    public void testGetBoundsForLayoutBlock() {
+        Assume.assumeFalse(GraphicsEnvironment.isHeadless());
+        LayoutTrackIndex index = new LayoutTrackIndex();
+        index.rebuild(createTracks(), 10.0);
+        // anchors are not drawn in the color of a block
+        Assert.assertNull("no tracks in block", index.getBounds(new LayoutBlock("ILB1", "Test Block")));
+    }
+
+    @Test
+    public void testGetBoundsForLayoutBlockCachedUntilRebuild() {
+        Assume.assumeFalse(GraphicsEnvironment.isHeadless());
+        LayoutBlock block = new LayoutBlock("ILB2", "Test Block 2");
+        int[] checks = new int[1];
+        List<LayoutTrack> tracks = createTracks();
+        tracks.set(0, new PositionablePoint("B1", PositionablePoint.ANCHOR, new Point2D.Double(100.0, 100.0), le) {
+            @Override
+            protected boolean isDrawnWithLayoutBlock(LayoutBlock layoutBlock) {
+                checks[0]++;
+                return layoutBlock == block;
+            }
+        });
+        LayoutTrackIndex index = new LayoutTrackIndex();
+        index.rebuild(tracks, 10.0);
+
+        Rectangle2D bounds = index.getBounds(block);
+        Assert.assertNotNull("track in block", bounds);
+        Assert.assertTrue("around track", bounds.contains(100.0, 100.0));
+        Assert.assertEquals("checked once", 1, checks[0]);
+        bounds.setRect(0.0, 0.0, 1.0, 1.0);
+        Assert.assertTrue("cached, not changed by caller", index.getBounds(block).contains(100.0, 100.0));
+        Assert.assertEquals("not checked again", 1, checks[0]);
+
+        tracks.get(0).setCoordsCenter(new Point2D.Double(2000.0, 2000.0));
+        index.rebuild(tracks, 10.0);
+        Assert.assertTrue("moved", index.getBounds(block).contains(2000.0, 2000.0));
+        Assert.assertEquals("checked after rebuild", 2, checks[0]);
+    }
+
+    // from here down is testing infrastructure
+    @BeforeClass
+    public static void beforeClass() {
+        JUnitUtil.setUp();
+        if (!GraphicsEnvironment.isHeadless()) {
+            le = new LayoutEditor();
+        }
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        if (le != null) {
+            JUnitUtil.dispose(le);
+        }
+        le = null;
+        JUnitUtil.tearDown();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        JUnitUtil.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        JUnitUtil.tearDown();
+    }
+}
@@ -44,6 +44,7 @@ import org.junit.runners.Suite;
         LayoutEditorToolsTest.class,
         LayoutEditorChecksTest.class,
         LayoutTrackDrawingOptionsDialogTest.class,
+        LayoutTrackIndexTest.class,
 	LayoutTrackDrawingOptionsTest.class,
 	LayoutTrackExpectedStateTest.class,
 
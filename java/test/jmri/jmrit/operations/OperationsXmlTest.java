@@ -0,0 +1,99 @@
+package jmri.jmrit.operations;
+
+import java.io.File;
+import jmri.InstanceManager;
+import jmri.jmrit.operations.routes.RouteManager;
+import jmri.jmrit.operations.routes.RouteManagerXml;
+import jmri.util.JUnitAppender;
+import jmri.util.JUnitOperationsUtil;
+import jmri.util.JUnitUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OperationsXmlTest {
+
+    @Test
+    public void testSaveInBackground() throws Exception {
+        RouteManagerXml xml = InstanceManager.getDefault(RouteManagerXml.class);
+        File file = new File(xml.getDefaultOperationsFilename());
+        Assert.assertFalse("no file", file.exists());
+
+        InstanceManager.getDefault(RouteManager.class).newRoute("Test Route");
+        xml.setDirty(true);
+        OperationsXml.save();
+        Assert.assertFalse("not dirty once saved", xml.isDirty());
+        OperationsXml.flush();
+        Assert.assertTrue("file written", file.exists());
+        Assert.assertFalse("no temporary file", new File(file.getPath() + ".tmp").exists());
+
+        InstanceManager.getDefault(RouteManager.class).dispose();
+        xml.readFile(xml.getDefaultOperationsFilename());
+        Assert.assertNotNull("route read", InstanceManager.getDefault(RouteManager.class).getRouteByName("Test Route"));
+    }
+
+    @Test
+    public void testWriteOperationsFile() {
+        RouteManagerXml xml = InstanceManager.getDefault(RouteManagerXml.class);
+        File file = new File(xml.getDefaultOperationsFilename());
+        File backup = new File(xml.backupFileName(file.getAbsolutePath()));
+
+        InstanceManager.getDefault(RouteManager.class).newRoute("Test Route");
+        xml.writeOperationsFile();
+        Assert.assertTrue("file written", file.exists());
+        Assert.assertFalse("no backup of missing file", backup.exists());
+
+        // a later save does not replace a file written since
+        xml.setDirty(true);
+        OperationsXml.save();
+        InstanceManager.getDefault(RouteManager.class).newRoute("Second Route");
+        xml.writeOperationsFile();
+        OperationsXml.flush();
+        Assert.assertTrue("backup written", backup.exists());
+
+        InstanceManager.getDefault(RouteManager.class).dispose();
+        xml.load();
+        Assert.assertNotNull("second route read",
+                InstanceManager.getDefault(RouteManager.class).getRouteByName("Second Route"));
+    }
+
+    @Test
+    public void testDirtyWhenNotWritten() {
+        RouteManagerXml xml = InstanceManager.getDefault(RouteManagerXml.class);
+        File file = new File(xml.getDefaultOperationsFilename());
+        // a directory where the temporary file is written
+        File temp = new File(file.getPath() + ".tmp");
+        Assert.assertTrue("directory made", temp.mkdirs());
+
+        InstanceManager.getDefault(RouteManager.class).newRoute("Test Route");
+        xml.setDirty(true);
+        OperationsXml.save();
+        OperationsXml.flush();
+        Assert.assertNotNull("error logged",
+                JUnitAppender.checkForMessageStartingWith("Exception while writing operation file"));
+        Assert.assertTrue("dirty again when not written in the background", xml.isDirty());
+
+        xml.writeOperationsFile();
+        Assert.assertNotNull("error logged",
+                JUnitAppender.checkForMessageStartingWith("Exception while writing operation file"));
+        Assert.assertTrue("still dirty when not written", xml.isDirty());
+        Assert.assertFalse("no file", file.exists());
+
+        Assert.assertTrue("directory removed", temp.delete());
+        xml.writeOperationsFile();
+        Assert.assertTrue("file written", file.exists());
+        Assert.assertFalse("not dirty once written", xml.isDirty());
+    }
+
+    @Before
+    public void setUp() {
+        JUnitUtil.setUp();
+        JUnitOperationsUtil.resetOperationsManager();
+    }
+
+    @After
+    public void tearDown() {
+        JUnitUtil.tearDown();
+    }
+}
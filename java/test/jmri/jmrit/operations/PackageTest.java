@@ -20,6 +20,7 @@ import org.junit.runners.Suite;
         OperationsMenuTest.class,
         OperationsPanelTest.class,
         OpsPropertyChangeListenerTest.class,
+        OperationsXmlTest.class,
         XmlLoadTest.class, // no tests in class itself
 })
 
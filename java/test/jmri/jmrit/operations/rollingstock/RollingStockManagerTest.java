@@ -19,6 +19,19 @@ public class RollingStockManagerTest {
         Assert.assertNotNull("exists",t);
     }
 
+    @Test
+    public void testCompareIgnoreCase() {
+        String[][] pairs = {{"a", "Bc", "d", "ab", "C", "D"}, {"", "x", "", "X", "", "y"},
+            {"A", "", "", "a", "", "b"}, {"<?> ", "abc", "1", "", "ABC", "12"}};
+        for (String[] p : pairs) {
+            int expected = (p[0] + p[1] + p[2]).compareToIgnoreCase(p[3] + p[4] + p[5]);
+            int actual = RollingStockManager.compareIgnoreCase(p[0], p[1], p[2], p[3], p[4], p[5]);
+            Assert.assertEquals("compare " + String.join("", p), Integer.signum(expected), Integer.signum(actual));
+            actual = RollingStockManager.compareIgnoreCase(p[3], p[4], p[5], p[0], p[1], p[2]);
+            Assert.assertEquals("reverse compare " + String.join("", p), -Integer.signum(expected), Integer.signum(actual));
+        }
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
@@ -237,6 +237,35 @@ public class CarManagerTest extends OperationsTestCase {
         Assert.assertEquals("6th car in list by location", c3, carList.get(5));
     }
 
+    public void testListCarsAtLocationAndInTrain() {
+        resetCarManager();
+
+        CarManager manager = InstanceManager.getDefault(CarManager.class);
+        Assert.assertEquals("Cars at location B", 2, manager.getList(l1).size());
+        Assert.assertTrue("Car 1 at location B", manager.getList(l1).contains(c1));
+        Assert.assertEquals("Cars on track B A", c1, manager.getList(l1.getTrackByName("A", null)).get(0));
+
+        // lists follow cars as they are moved and assigned to trains
+        Track l2t1 = l2.getTrackByName("B", null);
+        c1.setLocation(l2, l2t1);
+        Assert.assertEquals("Cars at location B after move", 1, manager.getList(l1).size());
+        Assert.assertFalse("Car 1 not at location B", manager.getList(l1).contains(c1));
+        Assert.assertTrue("Car 1 at location C", manager.getList(l2).contains(c1));
+        Assert.assertEquals("Cars on track C B", 2, manager.getList(l2t1).size());
+
+        Train t1 = new Train("1", "F");
+        Assert.assertTrue("No cars in train", manager.getList(t1).isEmpty());
+        c3.setTrain(t1);
+        c5.setTrain(t1);
+        Assert.assertEquals("Cars in train", 2, manager.getList(t1).size());
+        c3.setTrain(null);
+        Assert.assertEquals("Car in train", c5, manager.getList(t1).get(0));
+        Assert.assertEquals("Cars not in a train", 5, manager.getList((Train) null).size());
+
+        manager.deregister(c5);
+        Assert.assertTrue("No cars in train after delete", manager.getList(t1).isEmpty());
+    }
+
     public void testListCarsByDestination() {
         resetCarManager();
 
@@ -650,6 +679,86 @@ public class CarManagerTest extends OperationsTestCase {
         Assert.assertFalse("c3 not in car list on track", carList.contains(c3));
     }
 
+    public void testSortedListsFollowChanges() {
+        resetCarManager();
+
+        CarManager manager = InstanceManager.getDefault(CarManager.class);
+        List<Car> carList = manager.getByRoadNameList();
+        Assert.assertEquals("1st car in list by road", c6, carList.get(0));
+        carList.clear();
+        Assert.assertEquals("returned list is a copy", 6, manager.getByRoadNameList().size());
+
+        c6.setRoadName("ZZ");
+        carList = manager.getByRoadNameList();
+        Assert.assertEquals("1st car in list by road after change", c2, carList.get(0));
+        Assert.assertEquals("last car in list by road after change", c6, carList.get(5));
+
+        Car c7 = manager.newCar("AB", "1");
+        Assert.assertEquals("new car in list by road", c7, manager.getByRoadNameList().get(0));
+        manager.deregister(c7);
+        Assert.assertEquals("Number of Cars by road", 6, manager.getByRoadNameList().size());
+    }
+
+    public void testSortedListsMatchNewSort() {
+        resetCarManager();
+
+        CarManager manager = InstanceManager.getDefault(CarManager.class);
+        Track l1t1 = l1.getTrackByName("A", null);
+        Track l2t2 = l2.getTrackByName("A", null);
+        Kernel kernel = manager.newKernel("K1");
+        assertSortedListsMatch(manager);
+
+        c1.setColor("RED");
+        assertSortedListsMatch(manager);
+        c2.setMoves(1);
+        assertSortedListsMatch(manager);
+        c3.setLocation(l1, l1t1);
+        assertSortedListsMatch(manager);
+        c4.setKernel(kernel);
+        c5.setKernel(kernel);
+        assertSortedListsMatch(manager);
+        c5.setBlocking(1);
+        assertSortedListsMatch(manager);
+        c6.setOwner("AT");
+        assertSortedListsMatch(manager);
+        c1.setLoadName("Bolts");
+        assertSortedListsMatch(manager);
+        c2.setDestination(l2, l2t2);
+        assertSortedListsMatch(manager);
+        c3.setRoadName("AB");
+        assertSortedListsMatch(manager);
+        c4.setNumber("0");
+        assertSortedListsMatch(manager);
+        l2.setName("Z");
+        assertSortedListsMatch(manager);
+        c6.setOutOfService(true);
+        assertSortedListsMatch(manager);
+    }
+
+    // compare the cached lists with lists sorted by a new manager
+    private void assertSortedListsMatch(CarManager manager) {
+        CarManager sorter = new CarManager();
+        for (Car car : manager.getList()) {
+            sorter.register(car);
+        }
+        Assert.assertEquals("by id", sorter.getByIdList(), manager.getByIdList());
+        Assert.assertEquals("by road", sorter.getByRoadNameList(), manager.getByRoadNameList());
+        Assert.assertEquals("by number", sorter.getByNumberList(), manager.getByNumberList());
+        Assert.assertEquals("by type", sorter.getByTypeList(), manager.getByTypeList());
+        Assert.assertEquals("by color", sorter.getByColorList(), manager.getByColorList());
+        Assert.assertEquals("by kernel", sorter.getByKernelList(), manager.getByKernelList());
+        Assert.assertEquals("by location", sorter.getByLocationList(), manager.getByLocationList());
+        Assert.assertEquals("by destination", sorter.getByDestinationList(), manager.getByDestinationList());
+        Assert.assertEquals("by train", sorter.getByTrainList(), manager.getByTrainList());
+        Assert.assertEquals("by load", sorter.getByLoadList(), manager.getByLoadList());
+        Assert.assertEquals("by owner", sorter.getByOwnerList(), manager.getByOwnerList());
+        Assert.assertEquals("by built", sorter.getByBuiltList(), manager.getByBuiltList());
+        List<Car> byMoves = manager.getByMovesList();
+        for (int i = 1; i < byMoves.size(); i++) {
+            Assert.assertTrue("by moves", byMoves.get(i - 1).getMoves() <= byMoves.get(i).getMoves());
+        }
+    }
+
     private void resetCarManager() {
         InstanceManager.getDefault(CarManager.class).dispose();
 
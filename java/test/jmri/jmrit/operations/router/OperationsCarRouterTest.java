@@ -1912,6 +1912,105 @@ public class OperationsCarRouterTest extends OperationsTestCase {
 
     }
     
+    /**
+     * Routing a car over five trains tries the same pairs of tracks many
+     * times, but only asks for a train between each pair once.
+     */
+    public void testCarRoutingFiveTrainsFindsTrainsOnce() {
+        // count the trains asked for between each pair of tracks
+        java.util.Map<String, Integer> lookups = new java.util.HashMap<>();
+        InstanceManager.setDefault(TrainManager.class, new TrainManager() {
+            @Override
+            public Train getTrainForCar(Car car, Train excludeTrain, java.io.PrintWriter buildReport) {
+                lookups.merge(car.getTrackName() + " to " + car.getDestinationTrackName(), 1, Integer::sum);
+                return super.getTrainForCar(car, excludeTrain, buildReport);
+            }
+        });
+        TrainManager tmanager = InstanceManager.getDefault(TrainManager.class);
+        RouteManager rmanager = InstanceManager.getDefault(RouteManager.class);
+        LocationManager lmanager = InstanceManager.getDefault(LocationManager.class);
+        Router router = InstanceManager.getDefault(Router.class);
+
+        JUnitOperationsUtil.createSevenNormalLocations();
+        Location acton = lmanager.getLocationByName("Acton");
+        Location foxboro = lmanager.getLocationByName("Foxboro");
+        Car c3 = JUnitOperationsUtil.createAndPlaceCar("BA", "3", "Boxcar", "40", "DAB", "1984",
+                acton.getTrackByName("Acton Spur 1", null), 0);
+
+        // trains from Acton to Boston, Boston to Chelmsford and so on to Foxboro
+        String[] names = {"Acton", "Boston", "Chelmsford", "Danvers", "Essex", "Foxboro"};
+        for (int i = 0; i < names.length - 1; i++) {
+            Route route = rmanager.newRoute(names[i] + " to " + names[i + 1]);
+            route.addLocation(lmanager.newLocation(names[i]));
+            route.addLocation(lmanager.newLocation(names[i + 1]));
+            tmanager.newTrain(route.getName()).setRoute(route);
+        }
+
+        c3.setFinalDestination(foxboro);
+        Assert.assertTrue("Try routing five trains", router.setDestination(c3, null, null));
+        Assert.assertEquals("Check car's destination", "Boston", c3.getDestinationName());
+        for (java.util.Map.Entry<String, Integer> lookup : lookups.entrySet()) {
+            Assert.assertEquals("Trains found from " + lookup.getKey(), 1, (int) lookup.getValue());
+        }
+    }
+
+    /**
+     * The trains found between tracks for one car are used for the next car
+     * of the same kind, until a track setting changes.
+     */
+    public void testCarRoutingSharesTrainsFound() {
+        // count the trains asked for between tracks
+        int[] lookups = {0};
+        InstanceManager.setDefault(TrainManager.class, new TrainManager() {
+            @Override
+            public Train getTrainForCar(Car car, Train excludeTrain, java.io.PrintWriter buildReport) {
+                lookups[0]++;
+                return super.getTrainForCar(car, excludeTrain, buildReport);
+            }
+        });
+        TrainManager tmanager = InstanceManager.getDefault(TrainManager.class);
+        RouteManager rmanager = InstanceManager.getDefault(RouteManager.class);
+        LocationManager lmanager = InstanceManager.getDefault(LocationManager.class);
+        Router router = InstanceManager.getDefault(Router.class);
+
+        JUnitOperationsUtil.createSevenNormalLocations();
+        Location acton = lmanager.getLocationByName("Acton");
+        Location foxboro = lmanager.getLocationByName("Foxboro");
+        Track actonSpur = acton.getTrackByName("Acton Spur 1", null);
+        Car c3 = JUnitOperationsUtil.createAndPlaceCar("BA", "3", "Boxcar", "40", "DAB", "1984", actonSpur, 0);
+        Car c4 = JUnitOperationsUtil.createAndPlaceCar("BA", "4", "Boxcar", "40", "DAB", "1984", actonSpur, 0);
+        Car c5 = JUnitOperationsUtil.createAndPlaceCar("BA", "5", "Boxcar", "40", "DAB", "1984", actonSpur, 0);
+
+        // trains from Acton to Boston, Boston to Chelmsford and so on to Foxboro
+        String[] names = {"Acton", "Boston", "Chelmsford", "Danvers", "Essex", "Foxboro"};
+        for (int i = 0; i < names.length - 1; i++) {
+            Route route = rmanager.newRoute(names[i] + " to " + names[i + 1]);
+            route.addLocation(lmanager.newLocation(names[i]));
+            route.addLocation(lmanager.newLocation(names[i + 1]));
+            tmanager.newTrain(route.getName()).setRoute(route);
+        }
+
+        c3.setFinalDestination(foxboro);
+        Assert.assertTrue("Try routing five trains", router.setDestination(c3, null, null));
+        Assert.assertEquals("Check car's destination", "Boston", c3.getDestinationName());
+        int firstCar = lookups[0];
+        Assert.assertTrue("Trains found for first car", firstCar > 0);
+
+        // a car of the same kind only checks the trains that carry it from its own track
+        c4.setFinalDestination(foxboro);
+        Assert.assertTrue("Try routing second car", router.setDestination(c4, null, null));
+        Assert.assertEquals("Check second car's destination", "Boston", c4.getDestinationName());
+        int secondCar = lookups[0] - firstCar;
+        Assert.assertTrue("Trains found for second car " + secondCar, secondCar < firstCar / 4);
+
+        // changing a track forgets the trains found
+        lmanager.getLocationByName("Essex").getTrackByName("Essex Yard 1", null).setComment("changed");
+        c5.setFinalDestination(foxboro);
+        Assert.assertTrue("Try routing third car", router.setDestination(c5, null, null));
+        Assert.assertEquals("Check third car's destination", "Boston", c5.getDestinationName());
+        Assert.assertEquals("Trains found again after change", firstCar, lookups[0] - firstCar - secondCar);
+    }
+
     /**
      * Five train routing test
      */
@@ -51,6 +51,31 @@ public class TrainManagerTest extends OperationsTestCase {
         Assert.assertNotNull("Retrieve Train", manager.getTrainById("1"));
     }
 
+    /**
+     * Only trains that carry a car's type and visit its location can service
+     * the car.
+     */
+    public void testGetTrainsThatMayService() {
+        TrainManager manager = InstanceManager.getDefault(TrainManager.class);
+        jmri.jmrit.operations.rollingstock.cars.Car car = InstanceManager
+                .getDefault(jmri.jmrit.operations.rollingstock.cars.CarManager.class).getByRoadAndNumber("CP", "888");
+        Train train1 = manager.getTrainById("1");
+        Train train2 = manager.getTrainById("2");
+        Assert.assertTrue("Train 1 accepts car type", train1.acceptsTypeName(car.getTypeName()));
+        Assert.assertTrue("Train 1 may service car", manager.getTrainsThatMayService(car).contains(train1));
+        Assert.assertTrue("Train 2 may service car", manager.getTrainsThatMayService(car).contains(train2));
+
+        train2.deleteTypeName(car.getTypeName());
+        Assert.assertFalse("Train 2 doesn't carry car type", manager.getTrainsThatMayService(car).contains(train2));
+
+        car.setDestination(new jmri.jmrit.operations.locations.Location("99", "Nowhere"), null);
+        Assert.assertTrue("No train visits car's destination", manager.getTrainsThatMayService(car).isEmpty());
+        car.setDestination(null, null);
+
+        train1.setRoute(null);
+        Assert.assertTrue("No trains may service car", manager.getTrainsThatMayService(car).isEmpty());
+    }
+
     // from here down is testing infrastructure
     // Ensure minimal setup for log4J
     @Override
@@ -279,6 +279,27 @@ public class RosterEntryTest extends TestCase {
         }
     }
 
+    public void testLoadedEntriesBounded() throws IOException {
+        FileUtil.createDirectory(LocoFile.getFileLocation());
+        File f = new File(LocoFile.getFileLocation() + "test_Roster_Entry_Loaded.xml");
+        FileUtil.copy(new File("java/test/jmri/jmrit/roster/ACL1012.xml"), f);
+        RosterEntry[] entries = new RosterEntry[RosterEntry.MAX_LOADED_ENTRIES + 1];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new RosterEntry("test_Roster_Entry_Loaded.xml");
+            Assert.assertFalse("not loaded before read", entries[i].isLoaded());
+            entries[i].readFile();
+            Assert.assertTrue("loaded after read", entries[i].isLoaded());
+        }
+        // least recently read entry was released
+        Assert.assertFalse("first released", entries[0].isLoaded());
+        Assert.assertTrue("second loaded", entries[1].isLoaded());
+        Assert.assertTrue("last loaded", entries[entries.length - 1].isLoaded());
+        entries[0].readFile();
+        Assert.assertTrue("first loaded again", entries[0].isLoaded());
+        Assert.assertFalse("second released", entries[1].isLoaded());
+        f.delete();
+    }
+
     public void testNoAttribute() {
         RosterEntry r = new RosterEntry();
         Assert.assertNull(r.getAttribute("foo"));
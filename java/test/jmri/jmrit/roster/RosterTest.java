@@ -150,6 +150,49 @@ public class RosterTest {
         Assert.assertEquals("search for 3 ", "123", l.get(0).getRoadNumber());
     }
 
+    @Test
+    public void testSearchFollowsEntryChanges() {
+        Roster r = new Roster();
+        RosterEntry e1 = new RosterEntry("file name Bob");
+        e1.setId("Bob");
+        e1.setDccAddress("123");
+        e1.setRoadName("SP");
+        r.addEntry(e1);
+        RosterEntry e2 = new RosterEntry("file name Bill");
+        e2.setId("Bill");
+        e2.setDccAddress("123");
+        e2.setRoadName("UP");
+        r.addEntry(e2);
+
+        Assert.assertEquals("address 123", 2, r.getEntriesByDccAddress("123").size());
+        Assert.assertEquals("Bill is first", e2, r.getEntriesByDccAddress("123").get(0));
+        Assert.assertEquals("SP", 1, r.matchingList("SP", null, null, null, null, null, null).size());
+        Assert.assertEquals("Bob by id", e1, r.getEntryForId("Bob"));
+        Assert.assertEquals("no group entries", 0, r.getEntriesInGroup("test group").size());
+
+        // change entries after the roster has been searched
+        e1.setDccAddress("456");
+        e2.setRoadName("SP");
+        e2.setRoadNumber("42");
+        e1.putAttribute(Roster.getRosterGroupProperty("test group"), "yes");
+        Assert.assertEquals("address 123", 1, r.getEntriesByDccAddress("123").size());
+        Assert.assertEquals("address 456", e1, r.getEntriesByDccAddress("456").get(0));
+        Assert.assertEquals("SP", 2, r.matchingList("SP", null, null, null, null, null, null).size());
+        Assert.assertEquals("SP 42", e2, r.matchingList("SP", "42", "123", null, null, null, null).get(0));
+        Assert.assertEquals("group entries", 1, r.getEntriesInGroup("test group").size());
+        Assert.assertEquals("group and address", 1, r.getEntriesMatchingCriteria(null, null, "456", null, null, null, null, "test group").size());
+        e1.deleteAttribute(Roster.getRosterGroupProperty("test group"));
+        Assert.assertEquals("no group entries", 0, r.getEntriesInGroup("test group").size());
+
+        e1.setId("Ben");
+        Assert.assertNull("no Bob", r.getEntryForId("Bob"));
+        Assert.assertEquals("Ben by title", e1, r.entryFromTitle("Ben"));
+
+        r.removeEntry(e2);
+        Assert.assertNull("no Bill", r.getEntryForId("Bill"));
+        Assert.assertEquals("SP", 1, r.matchingList("SP", null, null, null, null, null, null).size());
+    }
+
     @Test
     public void testComboBox() {
         Roster r = new Roster();
@@ -0,0 +1,91 @@
+package jmri.jmrit.withrottle;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import jmri.InstanceManager;
+import jmri.NamedBeanHandleManager;
+import jmri.util.JUnitUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test a device connected through a DeviceSelector.
+ */
+public class DeviceSelectorTest {
+
+    private ServerSocketChannel channel;
+    private DeviceSelector selector;
+    private FacelessServer server;
+
+    @Test
+    public void testConnection() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), channel.socket().getLocalPort())) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintStream out = new PrintStream(socket.getOutputStream(), true, "UTF8");
+            Assert.assertTrue("version sent", in.readLine().startsWith("VN"));
+            JUnitUtil.waitFor(() -> server.getDeviceList().size() == 1, "device connected");
+            jmri.util.JUnitAppender.assertErrorMessage("Attempting to use WiFiConsisting, but no Command Station available");
+
+            // two messages in one packet, with different line ends
+            out.print("NTest Device\r\nHUtest-udid\n");
+            out.flush();
+            DeviceServer device = server.getDeviceList().get(0);
+            JUnitUtil.waitFor(() -> "test-udid".equals(device.getUDID()), "device identified");
+            Assert.assertEquals("device name", "Test Device", device.getName());
+
+            out.println("Q");
+            JUnitUtil.waitFor(() -> server.getDeviceList().isEmpty(), "device disconnected");
+        }
+    }
+
+    @Test
+    public void testLostConnection() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), channel.socket().getLocalPort())) {
+            JUnitUtil.waitFor(() -> server.getDeviceList().size() == 1, "device connected");
+            jmri.util.JUnitAppender.assertErrorMessage("Attempting to use WiFiConsisting, but no Command Station available");
+        }
+        JUnitUtil.waitFor(() -> server.getDeviceList().isEmpty(), "device disconnected");
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        JUnitUtil.setUp();
+        InstanceManager.setDefault(NamedBeanHandleManager.class, new NamedBeanHandleManager());
+        server = new FacelessServer() {
+            @Override
+            public void listen() {
+            }
+        };
+        channel = ServerSocketChannel.open();
+        channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        selector = new DeviceSelector(channel, connection -> {
+            DeviceServer device = new DeviceServer(connection, server);
+            device.addDeviceListener(server);
+            return device;
+        });
+        Thread thread = new Thread(() -> {
+            try {
+                selector.run();
+            } catch (java.io.IOException e) {
+                // closed by tearDown
+            }
+        }, "DeviceSelectorTest");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        selector.stop();
+        channel.close();
+        JUnitUtil.tearDown();
+    }
+}
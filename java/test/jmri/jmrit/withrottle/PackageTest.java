@@ -8,6 +8,7 @@ import org.junit.runners.Suite;
         BundleTest.class,
         ConsistControllerTest.class,
         ConsistFunctionControllerTest.class,
+        DeviceSelectorTest.class,
         DeviceServerTest.class,
         FacelessServerTest.class,
         FastClockControllerTest.class,
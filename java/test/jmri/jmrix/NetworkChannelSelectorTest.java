@@ -0,0 +1,360 @@
+package jmri.jmrix;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import jmri.util.JUnitUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for NetworkChannelSelector, and for receiving through it in
+ * AbstractMRTrafficController.
+ */
+public class NetworkChannelSelectorTest {
+
+    private ServerSocket server;
+
+    @Test
+    public void testReadAndClose() throws IOException {
+        StringBuilder received = new StringBuilder();
+        String[] closedOn = {null};
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getLocalPort()));
+        Socket remote = server.accept();
+        NetworkChannelSelector.getDefault().register(channel, new NetworkChannelSelector.ChannelReader() {
+            @Override
+            public void read(ByteBuffer buffer) {
+                synchronized (received) {
+                    while (buffer.hasRemaining()) {
+                        received.append((char) buffer.get());
+                    }
+                }
+            }
+
+            @Override
+            public void closed(IOException e) {
+                closedOn[0] = Thread.currentThread().getName();
+            }
+        });
+        remote.getOutputStream().write("hello".getBytes());
+        remote.getOutputStream().flush();
+        JUnitUtil.waitFor(() -> {
+            synchronized (received) {
+                return received.toString().equals("hello");
+            }
+        }, "data received");
+        remote.close();
+        JUnitUtil.waitFor(() -> {
+            return closedOn[0] != null;
+        }, "close reported");
+        Assert.assertEquals("reported on status thread", "JMRI Network Connection Status", closedOn[0]);
+        channel.close();
+    }
+
+    private AbstractNetworkPortController connect() throws IOException {
+        return connect(0);
+    }
+
+    private AbstractNetworkPortController connect(int timeout) throws IOException {
+        AbstractNetworkPortController port = new AbstractNetworkPortController(new SystemConnectionMemo("T", "Test") {
+            @Override
+            protected ResourceBundle getActionModelResourceBundle() {
+                return null;
+            }
+        }) {
+            @Override
+            public void configure() {
+            }
+
+            @Override
+            public String getCurrentPortName() {
+                return "test";
+            }
+        };
+        port.setNioEnabled(true);
+        port.setConnectionTimeout(timeout);
+        port.connect("localhost", server.getLocalPort());
+        return port;
+    }
+
+    @Test
+    public void testFramedReplies() throws IOException {
+        List<String> replies = new ArrayList<>();
+        AbstractNetworkPortController port = connect();
+        Socket remote = server.accept();
+        LineTrafficController tc = new LineTrafficController(replies);
+        tc.connectPort(port);
+        Assert.assertTrue("status", tc.status());
+        Assert.assertNull("no receive thread", tc.rcvThread);
+
+        OutputStream out = remote.getOutputStream();
+        // send two replies, the second split across writes
+        out.write("one\ntw".getBytes());
+        out.flush();
+        JUnitUtil.waitFor(() -> {
+            synchronized (replies) {
+                return replies.size() == 1;
+            }
+        }, "first reply");
+        out.write("o\n".getBytes());
+        out.flush();
+        JUnitUtil.waitFor(() -> {
+            synchronized (replies) {
+                return replies.size() == 2;
+            }
+        }, "second reply");
+        Assert.assertEquals("one\n", replies.get(0));
+        Assert.assertEquals("two\n", replies.get(1));
+        // the split reply is read again from its start when the rest arrives
+        Assert.assertEquals("characters checked", 10, tc.checks);
+
+        tc.terminateThreads();
+        JUnitUtil.waitFor(() -> {
+            return !port.getSocketChannel().isRegistered();
+        }, "channel no longer serviced");
+        remote.close();
+        port.getSocketChannel().close();
+    }
+
+    @Test
+    public void testSlowListenerDoesNotBlockSelector() throws Exception {
+        List<String> replies = new ArrayList<>();
+        AbstractNetworkPortController port = connect();
+        Socket remote = server.accept();
+        LineTrafficController tc = new LineTrafficController(replies);
+        tc.release = new CountDownLatch(1);
+        tc.connectPort(port);
+
+        remote.getOutputStream().write("one\n".getBytes());
+        remote.getOutputStream().flush();
+        JUnitUtil.waitFor(() -> {
+            return tc.waiting;
+        }, "listener busy");
+
+        // another connection is still read while the listener is busy
+        StringBuilder received = new StringBuilder();
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getLocalPort()));
+        Socket other = server.accept();
+        NetworkChannelSelector.getDefault().register(channel, new NetworkChannelSelector.ChannelReader() {
+            @Override
+            public void read(ByteBuffer buffer) {
+                synchronized (received) {
+                    while (buffer.hasRemaining()) {
+                        received.append((char) buffer.get());
+                    }
+                }
+            }
+
+            @Override
+            public void closed(IOException e) {
+            }
+        });
+        other.getOutputStream().write("hello".getBytes());
+        other.getOutputStream().flush();
+        JUnitUtil.waitFor(() -> {
+            synchronized (received) {
+                return received.toString().equals("hello");
+            }
+        }, "other connection read");
+
+        tc.release.countDown();
+        JUnitUtil.waitFor(() -> {
+            synchronized (replies) {
+                return replies.size() == 1;
+            }
+        }, "reply delivered");
+
+        tc.terminateThreads();
+        other.close();
+        channel.close();
+        remote.close();
+        port.getSocketChannel().close();
+    }
+
+    @Test
+    public void testPartialRepliesDoNotHoldThreads() throws Exception {
+        List<AbstractNetworkPortController> ports = new ArrayList<>();
+        List<Socket> remotes = new ArrayList<>();
+        List<LineTrafficController> controllers = new ArrayList<>();
+        // more connections waiting for the rest of a reply than there are threads
+        for (int i = 0; i <= NetworkChannelSelector.WORKERS; i++) {
+            AbstractNetworkPortController port = connect();
+            Socket remote = server.accept();
+            LineTrafficController tc = new LineTrafficController(new ArrayList<>());
+            tc.connectPort(port);
+            remote.getOutputStream().write("part".getBytes());
+            remote.getOutputStream().flush();
+            ports.add(port);
+            remotes.add(remote);
+            controllers.add(tc);
+        }
+        List<String> replies = new ArrayList<>();
+        AbstractNetworkPortController port = connect();
+        Socket remote = server.accept();
+        LineTrafficController tc = new LineTrafficController(replies);
+        tc.connectPort(port);
+        remote.getOutputStream().write("one\n".getBytes());
+        remote.getOutputStream().flush();
+        JUnitUtil.waitFor(() -> {
+            synchronized (replies) {
+                return replies.size() == 1;
+            }
+        }, "reply delivered");
+
+        tc.terminateThreads();
+        remote.close();
+        port.getSocketChannel().close();
+        for (int i = 0; i < ports.size(); i++) {
+            controllers.get(i).terminateThreads();
+            remotes.get(i).close();
+            ports.get(i).getSocketChannel().close();
+        }
+    }
+
+    @Test
+    public void testConnectionTimeout() throws IOException {
+        AbstractNetworkPortController port = connect(1234);
+        Socket remote = server.accept();
+        Assert.assertEquals("timeout set on NIO socket", 1234, port.getSocketChannel().socket().getSoTimeout());
+        remote.close();
+        port.getSocketChannel().close();
+    }
+
+    @Test
+    public void testLargeWrite() throws Exception {
+        AbstractNetworkPortController port = connect();
+        Socket remote = server.accept();
+        LineTrafficController tc = new LineTrafficController(new ArrayList<>());
+        tc.connectPort(port);
+
+        // more than the socket buffers hold, so the writer has to wait
+        byte[] data = new byte[4 * 1024 * 1024];
+        Thread writer = new Thread(() -> {
+            try {
+                port.getOutputStream().write(data);
+            } catch (IOException e) {
+                Assert.fail(e.toString());
+            }
+        });
+        writer.start();
+        java.io.InputStream in = remote.getInputStream();
+        byte[] buffer = new byte[8192];
+        int total = 0;
+        while (total < data.length) {
+            int n = in.read(buffer);
+            Assert.assertTrue("data to read", n > 0);
+            total += n;
+        }
+        writer.join(10000);
+        Assert.assertFalse("writer done", writer.isAlive());
+
+        tc.terminateThreads();
+        remote.close();
+        port.getSocketChannel().close();
+    }
+
+    /**
+     * Minimal controller for newline-terminated replies.
+     */
+    private static class LineTrafficController extends AbstractMRTrafficController {
+
+        private final List<String> replies;
+        // calls to endOfMessage
+        int checks = 0;
+        // if set, replies are held until released
+        CountDownLatch release = null;
+        volatile boolean waiting = false;
+
+        LineTrafficController(List<String> replies) {
+            this.replies = replies;
+            addListener(new AbstractMRListener() {
+            });
+        }
+
+        @Override
+        protected void setInstance() {
+        }
+
+        @Override
+        protected void forwardMessage(AbstractMRListener client, AbstractMRMessage m) {
+        }
+
+        @Override
+        protected AbstractMRMessage pollMessage() {
+            return null;
+        }
+
+        @Override
+        protected AbstractMRListener pollReplyHandler() {
+            return null;
+        }
+
+        @Override
+        protected AbstractMRMessage enterProgMode() {
+            return null;
+        }
+
+        @Override
+        protected AbstractMRMessage enterNormalMode() {
+            return null;
+        }
+
+        @Override
+        protected void forwardReply(AbstractMRListener client, AbstractMRReply m) {
+            if (release != null) {
+                waiting = true;
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (replies) {
+                replies.add(m.toString());
+            }
+        }
+
+        @Override
+        protected AbstractMRReply newReply() {
+            AbstractMRReply reply = new AbstractMRReply() {
+                @Override
+                protected int skipPrefix(int index) {
+                    return index;
+                }
+            };
+            reply.setUnsolicited();
+            return reply;
+        }
+
+        @Override
+        protected boolean endOfMessage(AbstractMRReply r) {
+            checks++;
+            return r.getElement(r.getNumDataElements() - 1) == '\n';
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        JUnitUtil.setUp();
+        server = new ServerSocket(0);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+        NetworkChannelSelector.getDefault().dispose();
+        JUnitUtil.tearDown();
+    }
+
+}
@@ -5,7 +5,9 @@ import jmri.jmrix.AbstractMRMessage;
 import jmri.jmrix.AbstractMRReply;
 import jmri.util.JUnitUtil;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Test;
 
 /**
  * Tests for AbstractCanTrafficController.
@@ -55,6 +57,32 @@ public class AbstractCanTrafficControllerTest extends jmri.jmrix.AbstractMRTraff
         };
     }
 
+    private static class Listener implements CanListener {
+
+        CanListener sender = null;
+
+        @Override
+        public void message(CanMessage m) {
+        }
+
+        @Override
+        public void message(CanMessage m, CanListener sender) {
+            this.sender = sender;
+        }
+
+        @Override
+        public void reply(CanReply m) {
+        }
+    }
+
+    @Test
+    public void testForwardMessageNamesSender() {
+        Listener client = new Listener();
+        Listener sender = new Listener();
+        ((AbstractCanTrafficController) tc).forwardMessage(client, new CanMessage(0x12), sender);
+        Assert.assertSame("sender passed on", sender, client.sender);
+    }
+
     @Override
     @After
     public void tearDown(){
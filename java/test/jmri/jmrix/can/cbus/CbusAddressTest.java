@@ -240,6 +240,29 @@ public class CbusAddressTest extends TestCase {
 
     }
 
+    public void testEventKey() {
+        String[] addresses = {"+1", "-1", "+N15E6", "-N15E6", "X0A", "X9012345678", "x980001000A"};
+        int[][] frames = {
+            {CbusConstants.CBUS_ASON, 0x00, 0x00, 0x00, 0x01},
+            {CbusConstants.CBUS_ASOF, 0x12, 0x34, 0x00, 0x01},
+            {CbusConstants.CBUS_ACON, 0x00, 0x0F, 0x00, 0x06},
+            {CbusConstants.CBUS_ACOF, 0x00, 0x0F, 0x00, 0x06},
+            {CbusConstants.CBUS_ACON, 0x00, 0x0E, 0x00, 0x06},
+            {CbusConstants.CBUS_ACON, 0x00, 0x0F, 0x00},
+            {0x0A},
+            {0x90, 0x12, 0x34, 0x56, 0x78},
+            {0x98, 0x12, 0x34, 0x00, 0x0A}};
+        // the keys must be equal exactly when the address matches
+        for (String a : addresses) {
+            CbusAddress address = new CbusAddress(a);
+            for (int[] frame : frames) {
+                CanReply r = new CanReply(frame);
+                assertEquals(a + " key for " + r, address.match(r),
+                        address.eventKey().equals(CbusAddress.eventKey(r)));
+            }
+        }
+    }
+
     // from here down is testing infrastructure
     public CbusAddressTest(String s) {
         super(s);
@@ -1,6 +1,8 @@
 package jmri.jmrix.can.cbus;
 
 import jmri.Sensor;
+import jmri.jmrix.can.CanMessage;
+import jmri.jmrix.can.CanReply;
 import jmri.jmrix.can.CanSystemConnectionMemo;
 import jmri.jmrix.can.TestTrafficController;
 import jmri.util.JUnitUtil;
@@ -71,6 +73,59 @@ public class CbusSensorManagerTest extends jmri.managers.AbstractSensorMgrTestBa
         Assert.assertTrue(null == t1.getUserName());
     }
 
+    @Test
+    public void testFramesPassedToMatchingSensors() throws jmri.JmriException {
+        Sensor s1 = l.provideSensor("MS+N15E6");
+        Sensor s2 = l.provideSensor("MS+N15E7");
+        Sensor s3 = l.provideSensor("MS+8");
+        CbusSensorManager m = (CbusSensorManager) l;
+
+        m.reply(new CanReply(new int[]{CbusConstants.CBUS_ACON, 0x00, 0x0F, 0x00, 0x06}));
+        Assert.assertEquals("s1 active", Sensor.ACTIVE, s1.getKnownState());
+        Assert.assertEquals("s2 unchanged", Sensor.UNKNOWN, s2.getKnownState());
+        m.message(new CanMessage(new int[]{CbusConstants.CBUS_ACOF, 0x00, 0x0F, 0x00, 0x06}, 0x12));
+        Assert.assertEquals("s1 inactive", Sensor.INACTIVE, s1.getKnownState());
+
+        // short events match from any node
+        m.reply(new CanReply(new int[]{CbusConstants.CBUS_ASON, 0x12, 0x34, 0x00, 0x08}));
+        Assert.assertEquals("s3 active", Sensor.ACTIVE, s3.getKnownState());
+
+        // the sensor setting its state is not sent its own message
+        s2.setKnownState(Sensor.ACTIVE);
+        Assert.assertEquals("s2 active", Sensor.ACTIVE, s2.getKnownState());
+
+        l.deregister(s1);
+        m.reply(new CanReply(new int[]{CbusConstants.CBUS_ACON, 0x00, 0x0F, 0x00, 0x06}));
+        Assert.assertEquals("s1 no longer passed frames", Sensor.INACTIVE, s1.getKnownState());
+    }
+
+    @Test
+    public void testOnlySenderNotPassedItsMessage() throws jmri.JmriException {
+        TestTrafficController tc = (TestTrafficController) memo.getTrafficController();
+        CbusSensorManager m = (CbusSensorManager) l;
+        // two sensors on the same events
+        Sensor s1 = l.provideSensor("MS+N15E6");
+        Sensor s2 = l.provideSensor("MS+N15E6;-N15E6");
+
+        s1.setKnownState(Sensor.ACTIVE);
+        CanMessage active = tc.rcvMessage;
+        s1.setKnownState(Sensor.INACTIVE);
+        CanMessage inactive = tc.rcvMessage;
+
+        // the traffic controller passes the messages back to the manager,
+        // naming the sender
+        m.message(active, (CbusSensor) s1);
+        Assert.assertEquals("s1 not passed its own message", Sensor.INACTIVE, s1.getKnownState());
+        Assert.assertEquals("s2 active", Sensor.ACTIVE, s2.getKnownState());
+        m.message(inactive, (CbusSensor) s1);
+        Assert.assertEquals("s2 inactive", Sensor.INACTIVE, s2.getKnownState());
+
+        // a message from elsewhere is passed to both
+        m.message(new CanMessage(new int[]{CbusConstants.CBUS_ACON, 0x00, 0x0F, 0x00, 0x06}, 0x12));
+        Assert.assertEquals("s1 active", Sensor.ACTIVE, s1.getKnownState());
+        Assert.assertEquals("s2 active again", Sensor.ACTIVE, s2.getKnownState());
+    }
+
     // The minimal setup for log4J
     @Override
     @Before
@@ -1,5 +1,7 @@
 package jmri.jmrix.can.cbus;
 
+import jmri.Turnout;
+import jmri.jmrix.can.CanMessage;
 import jmri.jmrix.can.CanSystemConnectionMemo;
 import jmri.jmrix.can.TrafficControllerScaffold;
 import jmri.util.JUnitUtil;
@@ -23,6 +25,33 @@ public class CbusTurnoutManagerTest {
         Assert.assertNotNull("exists",t);
     }
 
+    @Test
+    public void testOnlySenderNotPassedItsMessage() {
+        TrafficControllerScaffold tc = new TrafficControllerScaffold();
+        CanSystemConnectionMemo memo = new CanSystemConnectionMemo();
+        memo.setTrafficController(tc);
+        CbusTurnoutManager m = new CbusTurnoutManager(memo);
+        // two turnouts on the same events
+        Turnout t1 = m.provideTurnout("MT+N15E6");
+        Turnout t2 = m.provideTurnout("MT+N15E6;-N15E6");
+
+        t1.setCommandedState(Turnout.THROWN);
+        t1.setCommandedState(Turnout.CLOSED);
+        Assert.assertEquals("messages sent", 2, tc.outbound.size());
+
+        // the traffic controller passes the messages back, naming the sender
+        m.events.message(tc.outbound.get(0), (CbusTurnout) t1);
+        Assert.assertEquals("t1 not passed its own message", Turnout.CLOSED, t1.getCommandedState());
+        Assert.assertEquals("t2 thrown", Turnout.THROWN, t2.getCommandedState());
+        m.events.message(tc.outbound.get(1), (CbusTurnout) t1);
+        Assert.assertEquals("t2 closed", Turnout.CLOSED, t2.getCommandedState());
+
+        // a message from elsewhere is passed to both
+        m.events.message(new CanMessage(new int[]{CbusConstants.CBUS_ACON, 0x00, 0x0F, 0x00, 0x06}, 0x12));
+        Assert.assertEquals("t1 thrown", Turnout.THROWN, t1.getCommandedState());
+        Assert.assertEquals("t2 thrown again", Turnout.THROWN, t2.getCommandedState());
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
@@ -30,6 +30,41 @@ public class LnPacketizerTest {
        Assert.assertFalse("not connected", lnp.status() );
     }
 
+    @Test
+    public void testSlotSettingsReplaced() {
+        // queue messages without a thread to send them
+        lnp.xmtHandler = lnp.new XmtHandler();
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_SPD, 5, 10));
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_SPD, 6, 10));
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_SPD, 5, 20));
+        Assert.assertEquals("speed for slot 5 replaced", 2, lnp.xmtList.size());
+        Assert.assertEquals("newest speed", 20, lnp.xmtList.get(0)[2]);
+
+        // a direction change keeps the speeds around it in order
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_DIRF, 5, 0x20));
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_SPD, 5, 30));
+        Assert.assertEquals("speed after direction queued", 4, lnp.xmtList.size());
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_SPD, 5, 40));
+        Assert.assertEquals("later speed replaced", 4, lnp.xmtList.size());
+        Assert.assertEquals("newest speed", 40, lnp.xmtList.get(3)[2]);
+
+        // slot changes are not passed
+        LocoNetMessage move = new LocoNetMessage(4);
+        move.setOpCode(LnConstants.OPC_MOVE_SLOTS);
+        move.setElement(1, 6);
+        lnp.sendLocoNetMessage(move);
+        lnp.sendLocoNetMessage(slotSetting(LnConstants.OPC_LOCO_SPD, 6, 50));
+        Assert.assertEquals("speed after slot move queued", 6, lnp.xmtList.size());
+    }
+
+    private LocoNetMessage slotSetting(int opcode, int slot, int value) {
+        LocoNetMessage m = new LocoNetMessage(4);
+        m.setOpCode(opcode);
+        m.setElement(1, slot);
+        m.setElement(2, value);
+        return m;
+    }
+
     @Test
     @Ignore("may be causing hang on travis and appveyor")
     public void testStartThreads() {
@@ -19,6 +19,66 @@ public class LnTrafficControllerTest {
         Assert.assertNotNull("exists", memo.getLnTrafficController() );
     }
 
+    @Test
+    public void testAddressedDispatch() {
+        LocoNetInterfaceScaffold lnis = (LocoNetInterfaceScaffold) memo.getLnTrafficController();
+        CountingListener all = new CountingListener();
+        CountingListener sensors = new CountingListener();
+        CountingListener s1 = new CountingListener();
+        CountingListener s2 = new CountingListener();
+        lnis.addLocoNetListener(LocoNetInterface.ALL, all);
+        lnis.addLocoNetListener(LocoNetInterface.SENSORS, sensors);
+        // LS1 is address 0, LS2 is address 1 (the AS bit)
+        lnis.addLocoNetListener(LocoNetInterface.SENSORS, 0, s1);
+        lnis.addLocoNetListener(LocoNetInterface.SENSORS, 1, s2);
+        Assert.assertEquals("listeners", 4, lnis.numListeners());
+
+        // OPC_INPUT_REP for LS2 (AS bit set)
+        lnis.sendTestMessage(new LocoNetMessage(new int[]{0xB2, 0x00, 0x60, 0x00}));
+        Assert.assertEquals("all", 1, all.count);
+        Assert.assertEquals("sensors", 1, sensors.count);
+        Assert.assertEquals("LS1", 0, s1.count);
+        Assert.assertEquals("LS2", 1, s2.count);
+
+        // OPC_GPON only goes to the ALL listener
+        lnis.sendTestMessage(new LocoNetMessage(new int[]{0x83, 0x7C}));
+        Assert.assertEquals("all", 2, all.count);
+        Assert.assertEquals("sensors", 1, sensors.count);
+        Assert.assertEquals("LS2", 1, s2.count);
+
+        lnis.removeLocoNetListener(LocoNetInterface.SENSORS, 1, s2);
+        lnis.removeLocoNetListener(LocoNetInterface.SENSORS, sensors);
+        lnis.sendTestMessage(new LocoNetMessage(new int[]{0xB2, 0x00, 0x60, 0x00}));
+        Assert.assertEquals("sensors", 1, sensors.count);
+        Assert.assertEquals("LS2", 1, s2.count);
+        Assert.assertEquals("listeners", 2, lnis.numListeners());
+    }
+
+    @Test
+    public void testAddressOf() {
+        // OPC_INPUT_REP for LS3
+        Assert.assertEquals("sensor", 2,
+                LnTrafficController.addressOf(LocoNetInterface.SENSORS, new LocoNetMessage(new int[]{0xB2, 0x01, 0x40, 0x00})));
+        // OPC_SW_REQ for LT21
+        Assert.assertEquals("turnout", 21,
+                LnTrafficController.addressOf(LocoNetInterface.TURNOUTS, new LocoNetMessage(new int[]{0xB0, 0x14, 0x30, 0x00})));
+        // OPC_MULTI_SENSE transponding report for zone 3
+        Assert.assertEquals("reporter", 3,
+                LnTrafficController.addressOf(LocoNetInterface.REPORTS, new LocoNetMessage(new int[]{0xD0, 0x20, 0x02, 0x7D, 0x03, 0x00})));
+        Assert.assertEquals("wrong class", -1,
+                LnTrafficController.addressOf(LocoNetInterface.TURNOUTS, new LocoNetMessage(new int[]{0xB2, 0x01, 0x40, 0x00})));
+    }
+
+    private static class CountingListener implements LocoNetListener {
+
+        int count = 0;
+
+        @Override
+        public void message(LocoNetMessage m) {
+            count++;
+        }
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
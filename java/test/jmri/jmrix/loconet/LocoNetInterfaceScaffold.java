@@ -68,7 +68,7 @@ public class LocoNetInterfaceScaffold extends LnTrafficController {
      * Check number of listeners, used for testing dispose().
      */
     public int numListeners() {
-        return listeners.size();
+        return getNumListeners();
     }
 
     private final static Logger log = LoggerFactory.getLogger(LocoNetInterfaceScaffold.class);
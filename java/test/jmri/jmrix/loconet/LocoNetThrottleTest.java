@@ -15,6 +15,26 @@ public class LocoNetThrottleTest extends jmri.jmrix.AbstractThrottleTest {
         Assert.assertNotNull(instance);
     }
 
+    @Test
+    public void testSpeedMessageInterval() {
+        LocoNetThrottle t = new LocoNetThrottle(memo, slotmanager.slot(3));
+        t.setSpeedMessageInterval(200);
+        lnis.outbound.clear();
+        t.setSpeedSetting(0.25f);
+        t.setSpeedSetting(0.5f);
+        t.setSpeedSetting(0.75f);
+        Assert.assertEquals("first speed sent", 1, lnis.outbound.size());
+        JUnitUtil.waitFor(() -> lnis.outbound.size() == 2, "latest speed sent");
+        Assert.assertEquals("latest speed", t.intSpeed(0.75f), lnis.outbound.get(1).getElement(2));
+
+        // emergency stop is not held back
+        t.setSpeedSetting(0.5f);
+        t.setSpeedSetting(-1.0f);
+        Assert.assertEquals("emergency stop sent", 3, lnis.outbound.size());
+        Assert.assertEquals("emergency stop", 1, lnis.outbound.get(2).getElement(2));
+        Assert.assertFalse("held speed dropped", JUnitUtil.waitFor(() -> lnis.outbound.size() > 3));
+    }
+
     // test the speed setting code.
     @Test
     public void testSpeedSetting() {
@@ -1,5 +1,7 @@
 package jmri.jmrix.rps;
 
+import java.util.List;
+import javax.vecmath.Point3d;
 import jmri.util.JUnitUtil;
 import org.junit.After;
 import org.junit.Assert;
@@ -18,6 +20,53 @@ public class ModelTest {
         Assert.assertNotNull("exists",t);
     }
 
+    @Test
+    public void testGetRegionsContaining() {
+        Model t = new Model();
+        Region wide = new Region("(0,0,0);(10,0,0);(10,1,0);(0,1,0)");
+        Region left = new Region("(0,0,0);(1,0,0);(1,1,0);(0,1,0)");
+        Region middle = new Region("(4,0,0);(5,0,0);(5,1,0);(4,1,0)");
+        Region above = new Region("(4,2,0);(5,2,0);(5,3,0);(4,3,0)");
+        t.addRegion(wide);
+        t.addRegion(middle);
+        t.addRegion(left);
+        t.addRegion(above);
+
+        List<Region> l = t.getRegionsContaining(new Point3d(4.5, 0.5, 0.));
+        Assert.assertEquals("two regions", 2, l.size());
+        Assert.assertTrue("wide", l.contains(wide));
+        Assert.assertTrue("middle", l.contains(middle));
+        Assert.assertTrue("left of all", t.getRegionsContaining(new Point3d(-1., 0.5, 0.)).isEmpty());
+        Assert.assertTrue("right of all", t.getRegionsContaining(new Point3d(11., 0.5, 0.)).isEmpty());
+        Assert.assertEquals("above", above, t.getRegionsContaining(new Point3d(4.5, 2.5, 0.)).get(0));
+
+        t.removeRegion(wide);
+        Assert.assertEquals("one region", 1, t.getRegionsContaining(new Point3d(4.5, 0.5, 0.)).size());
+        Assert.assertTrue("none", t.getRegionsContaining(new Point3d(7., 0.5, 0.)).isEmpty());
+    }
+
+    @Test
+    public void testIsInside() {
+        Model t = new Model();
+        Region left = new Region("(0,0,0);(1,0,0);(1,1,0);(0,1,0)");
+        Region right = new Region("(2,0,0);(3,0,0);(3,1,0);(2,1,0)");
+        t.addRegion(left);
+        t.addRegion(right);
+
+        Point3d p = new Point3d(0.5, 0.5, 0.);
+        Assert.assertTrue("in left", t.isInside(left, p));
+        Assert.assertFalse("not in right", t.isInside(right, p));
+        p = new Point3d(2.5, 0.5, 0.);
+        Assert.assertFalse("not in left", t.isInside(left, p));
+        Assert.assertTrue("in right", t.isInside(right, p));
+
+        // regions not in the model are checked directly
+        Region other = new Region("(2,0,0);(4,0,0);(4,4,0);(2,4,0)");
+        Assert.assertTrue("in other", t.isInside(other, p));
+        t.removeRegion(right);
+        Assert.assertTrue("in removed", t.isInside(right, p));
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
@@ -1,8 +1,12 @@
 package jmri.server.json;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import jmri.InstanceManager;
 import jmri.jmris.json.JsonServerPreferences;
 import jmri.util.JUnitAppender;
@@ -94,4 +98,53 @@ public class JsonConnectionTest {
         Assert.assertEquals("Invalid message is passed", invalid, baos.toString("UTF-8"));
         baos.reset();
     }
+
+    private JsonConnection.PendingMessage pong(JsonConnection connection) {
+        return new JsonConnection.PendingMessage() {
+            @Override
+            public JsonNode getMessage() {
+                return connection.getObjectMapper().createObjectNode().put(JSON.TYPE, JSON.PONG);
+            }
+
+            @Override
+            public void sendFailed(IOException ex) {
+            }
+        };
+    }
+
+    /**
+     * Test of queueMessage method, of class JsonConnection. Verifies that a
+     * client that is slow to read doesn't hold up messages to other clients.
+     *
+     * @throws java.io.IOException if unable to write to output stream
+     */
+    @Test
+    public void testQueueMessage_slowClient() throws IOException {
+        InstanceManager.getDefault(JsonServerPreferences.class).setValidateServerMessages(false);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        JsonConnection slow = new JsonConnection(new DataOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JsonConnection fast = new JsonConnection(new DataOutputStream(baos));
+        slow.queueMessage(pong(slow));
+        JUnitUtil.waitFor(() -> {
+            return blocked.getCount() == 0;
+        }, "slow client blocked");
+        fast.queueMessage(pong(fast));
+        JUnitUtil.waitFor(() -> {
+            return baos.size() > 0;
+        }, "fast client sent to");
+        Assert.assertEquals("message sent", "{\"type\":\"pong\"}", baos.toString("UTF-8"));
+        release.countDown();
+    }
 }
@@ -0,0 +1,113 @@
+package jmri.server.json;
+
+import java.io.IOException;
+import java.util.Locale;
+import jmri.util.JUnitUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for JsonMessageCache class.
+ */
+public class JsonMessageCacheTest {
+
+    private int renders;
+
+    @Before
+    public void setUp() {
+        JUnitUtil.setUp();
+        renders = 0;
+    }
+
+    @After
+    public void tearDown() {
+        JUnitUtil.tearDown();
+    }
+
+    private String render(String message) {
+        renders++;
+        return message;
+    }
+
+    @Test
+    public void testGetMessage() throws JsonException, IOException {
+        JsonMessageCache cache = new JsonMessageCache();
+        cache.retain("turnout", "IT1");
+        cache.retain("turnout", "IT2");
+        cache.retain("sensor", "IT1");
+        JsonMessageCache.Key key = new JsonMessageCache.Key("turnout", "IT1", Locale.ENGLISH);
+        Assert.assertEquals("rendered", "one", cache.getMessage(key, () -> render("one")));
+        Assert.assertEquals("cached", "one", cache.getMessage(new JsonMessageCache.Key("turnout", "IT1", Locale.ENGLISH), () -> render("two")));
+        Assert.assertEquals("rendered once", 1, renders);
+        // other locales and objects are cached separately
+        Assert.assertEquals("other locale", "three", cache.getMessage(new JsonMessageCache.Key("turnout", "IT1", Locale.GERMAN), () -> render("three")));
+        Assert.assertEquals("other name", "four", cache.getMessage(new JsonMessageCache.Key("turnout", "IT2", Locale.ENGLISH), () -> render("four")));
+        Assert.assertEquals("other type", "five", cache.getMessage(new JsonMessageCache.Key("sensor", "IT1", Locale.ENGLISH), () -> render("five")));
+        Assert.assertEquals("rendered each", 4, renders);
+    }
+
+    @Test
+    public void testInvalidate() throws JsonException, IOException {
+        JsonMessageCache cache = new JsonMessageCache();
+        cache.retain("turnout", "IT1");
+        cache.retain("turnout", "IT2");
+        JsonMessageCache.Key english = new JsonMessageCache.Key("turnout", "IT1", Locale.ENGLISH);
+        JsonMessageCache.Key german = new JsonMessageCache.Key("turnout", "IT1", Locale.GERMAN);
+        JsonMessageCache.Key other = new JsonMessageCache.Key("turnout", "IT2", Locale.ENGLISH);
+        cache.getMessage(english, () -> render("one"));
+        cache.getMessage(german, () -> render("eins"));
+        cache.getMessage(other, () -> render("other"));
+        cache.invalidate("turnout", "IT1");
+        Assert.assertEquals("re-rendered", "two", cache.getMessage(english, () -> render("two")));
+        Assert.assertEquals("re-rendered in all locales", "zwei", cache.getMessage(german, () -> render("zwei")));
+        Assert.assertEquals("other object still cached", "other", cache.getMessage(other, () -> render("changed")));
+        Assert.assertEquals("rendered", 5, renders);
+    }
+
+    @Test
+    public void testChangeWhileRendering() throws JsonException, IOException {
+        JsonMessageCache cache = new JsonMessageCache();
+        cache.retain("turnout", "IT1");
+        JsonMessageCache.Key key = new JsonMessageCache.Key("turnout", "IT1", Locale.ENGLISH);
+        Assert.assertEquals("stale", "stale", cache.getMessage(key, () -> {
+            cache.invalidate("turnout", "IT1");
+            return render("stale");
+        }));
+        Assert.assertEquals("not cached", "fresh", cache.getMessage(key, () -> render("fresh")));
+    }
+
+    @Test
+    public void testRetainAndRelease() throws JsonException, IOException {
+        JsonMessageCache cache = new JsonMessageCache();
+        JsonMessageCache.Key key = new JsonMessageCache.Key("turnout", "IT1", Locale.ENGLISH);
+        Assert.assertEquals("not retained", "one", cache.getMessage(key, () -> render("one")));
+        Assert.assertEquals("not cached", "two", cache.getMessage(key, () -> render("two")));
+        Assert.assertFalse("not retained", cache.isRetained("turnout", "IT1"));
+        cache.retain("turnout", "IT1");
+        cache.retain("turnout", "IT1");
+        cache.getMessage(key, () -> render("three"));
+        cache.release("turnout", "IT1");
+        Assert.assertTrue("retained by other listener", cache.isRetained("turnout", "IT1"));
+        Assert.assertEquals("still cached", "three", cache.getMessage(key, () -> render("four")));
+        cache.release("turnout", "IT1");
+        Assert.assertFalse("released", cache.isRetained("turnout", "IT1"));
+        Assert.assertEquals("dropped", "five", cache.getMessage(key, () -> render("five")));
+        Assert.assertEquals("rendered", 4, renders);
+        // releasing an object that is not retained does nothing
+        cache.release("turnout", "IT1");
+        Assert.assertFalse("not retained", cache.isRetained("turnout", "IT1"));
+    }
+
+    @Test
+    public void testRemove() {
+        JsonMessageCache cache = new JsonMessageCache();
+        cache.retain("turnout", "IT1");
+        cache.retain("turnout", "IT1");
+        cache.retain("turnout", "IT2");
+        cache.remove("turnout", "IT1");
+        Assert.assertFalse("removed", cache.isRetained("turnout", "IT1"));
+        Assert.assertTrue("other object kept", cache.isRetained("turnout", "IT2"));
+    }
+}
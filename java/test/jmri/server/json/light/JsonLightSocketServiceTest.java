@@ -11,6 +11,7 @@ import jmri.Light;
 import jmri.LightManager;
 import jmri.server.json.JSON;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonMockConnection;
 import jmri.util.JUnitUtil;
 import org.junit.After;
@@ -40,12 +41,18 @@ public class JsonLightSocketServiceTest {
         JUnitUtil.waitFor(() -> {
             return light1.getState() == Light.ON;
         }, "Light to throw");
+        JUnitUtil.waitFor(() -> {
+            return connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt() == JSON.ON;
+        }, "message sent");
         Assert.assertEquals(JSON.ON, connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt());
         light1.setState(Light.OFF);
         JUnitUtil.waitFor(() -> {
             return light1.getState() == Light.OFF;
         }, "Light to close");
         Assert.assertEquals(Light.OFF, light1.getState());
+        JUnitUtil.waitFor(() -> {
+            return connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt() == JSON.OFF;
+        }, "message sent");
         Assert.assertEquals(JSON.OFF, connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt());
         // test IOException handling when listening by triggering execption and
         // observing that light1 is no longer being listened to
@@ -55,6 +62,9 @@ public class JsonLightSocketServiceTest {
             return light1.getState() == Light.ON;
         }, "Light to close");
         Assert.assertEquals(Light.ON, light1.getState());
+        JUnitUtil.waitFor(() -> {
+            return light1.getNumPropertyChangeListeners() == 1;
+        }, "queued message to fail");
         Assert.assertEquals("Light is no longer listened to by service", 1, light1.getNumPropertyChangeListeners());
         service.onMessage(JsonLight.LIGHT, message, JSON.POST, Locale.ENGLISH);
         Assert.assertEquals("Light is being listened to by service", 2, light1.getNumPropertyChangeListeners());
@@ -108,6 +118,28 @@ public class JsonLightSocketServiceTest {
         Assert.assertEquals(Light.OFF, light1.getState());
     }
 
+    @Test
+    public void testCacheReleased() throws IOException, JmriException, JsonException {
+        JsonMockConnection connection = new JsonMockConnection((DataOutputStream) null);
+        JsonNode message = connection.getObjectMapper().createObjectNode().put(JSON.NAME, "IL1");
+        JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+        LightManager manager = InstanceManager.getDefault(LightManager.class);
+        Light light1 = manager.provideLight("IL1");
+        JsonLightSocketService service = new JsonLightSocketService(connection);
+        service.onMessage(JsonLight.LIGHT, message, JSON.POST, Locale.ENGLISH);
+        Assert.assertTrue("cached while listened to", cache.isRetained(JsonLight.LIGHT, "IL1"));
+        service.onClose();
+        Assert.assertFalse("dropped on close", cache.isRetained(JsonLight.LIGHT, "IL1"));
+        // deleting the light drops its listener and cached messages
+        service.onMessage(JsonLight.LIGHT, message, JSON.POST, Locale.ENGLISH);
+        Assert.assertTrue("cached while listened to", cache.isRetained(JsonLight.LIGHT, "IL1"));
+        manager.deregister(light1);
+        light1.dispose();
+        Assert.assertFalse("dropped on delete", cache.isRetained(JsonLight.LIGHT, "IL1"));
+        Assert.assertTrue("not listened to", service.lights.isEmpty());
+        service.onClose();
+    }
+
     @Before
     public void setUp() {
         JUnitUtil.setUp();
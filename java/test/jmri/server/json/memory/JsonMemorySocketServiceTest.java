@@ -40,12 +40,18 @@ public class JsonMemorySocketServiceTest {
             JUnitUtil.waitFor(() -> {
                 return memory1.getValue().equals("throw");
             }, "Memory to throw");
+            JUnitUtil.waitFor(() -> {
+                return "throw".equals(connection.getMessage().path(JSON.DATA).path(JSON.VALUE).asText());
+            }, "message sent");
             Assert.assertEquals("throw", connection.getMessage().path(JSON.DATA).path(JSON.VALUE).asText());
             memory1.setValue("close");
             JUnitUtil.waitFor(() -> {
                 return memory1.getValue().equals("close");
             }, "Memory to close");
             Assert.assertEquals("close", memory1.getValue());
+            JUnitUtil.waitFor(() -> {
+                return "close".equals(connection.getMessage().path(JSON.DATA).path(JSON.VALUE).asText());
+            }, "message sent");
             Assert.assertEquals("close", connection.getMessage().path(JSON.DATA).path(JSON.VALUE).asText());
             service.onClose();
             // TODO: test that service is no longer a listener in MemoryManager
@@ -40,12 +40,18 @@ public class JsonReporterSocketServiceTest {
             JUnitUtil.waitFor(() -> {
                 return memory1.getCurrentReport().equals("throw");
             }, "Reporter to throw");
+            JUnitUtil.waitFor(() -> {
+                return "throw".equals(connection.getMessage().path(JSON.DATA).path(JsonReporter.REPORT).asText());
+            }, "message sent");
             Assert.assertEquals("throw", connection.getMessage().path(JSON.DATA).path(JsonReporter.REPORT).asText());
             memory1.setReport("close");
             JUnitUtil.waitFor(() -> {
                 return memory1.getCurrentReport().equals("close");
             }, "Reporter to close");
             Assert.assertEquals("close", memory1.getCurrentReport());
+            JUnitUtil.waitFor(() -> {
+                return "close".equals(connection.getMessage().path(JSON.DATA).path(JsonReporter.REPORT).asText());
+            }, "message sent");
             Assert.assertEquals("close", connection.getMessage().path(JSON.DATA).path(JsonReporter.REPORT).asText());
             service.onClose();
             // TODO: test that service is no longer a listener in ReporterManager
@@ -10,6 +10,7 @@ import jmri.Sensor;
 import jmri.SensorManager;
 import jmri.server.json.JSON;
 import jmri.server.json.JsonException;
+import jmri.server.json.JsonMessageCache;
 import jmri.server.json.JsonMockConnection;
 import jmri.util.JUnitUtil;
 import org.junit.After;
@@ -39,12 +40,18 @@ public class JsonSensorSocketServiceTest {
             JUnitUtil.waitFor(() -> {
                 return sensor1.getKnownState() == Sensor.ACTIVE;
             }, "Sensor ACTIVE");
+            JUnitUtil.waitFor(() -> {
+                return connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt(-1) == JSON.ACTIVE;
+            }, "message sent");
             Assert.assertEquals(JSON.ACTIVE, connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt(-1));
             sensor1.setKnownState(Sensor.INACTIVE);
             JUnitUtil.waitFor(() -> {
                 return sensor1.getKnownState() == Sensor.INACTIVE;
             }, "Sensor INACTIVE");
             Assert.assertEquals(Sensor.INACTIVE, sensor1.getKnownState());
+            JUnitUtil.waitFor(() -> {
+                return connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt(-1) == JSON.INACTIVE;
+            }, "message sent");
             Assert.assertEquals(JSON.INACTIVE, connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt(-1));
             service.onClose();
             // TODO: test that service is no longer a listener in SensorManager
@@ -94,6 +101,31 @@ public class JsonSensorSocketServiceTest {
         }
     }
 
+    @Test
+    public void testCacheReleased() throws IOException, JmriException, JsonException {
+        JsonMockConnection connection = new JsonMockConnection((DataOutputStream) null);
+        JsonNode message = connection.getObjectMapper().createObjectNode().put(JSON.NAME, "IS1");
+        JsonMessageCache cache = InstanceManager.getDefault(JsonMessageCache.class);
+        SensorManager manager = InstanceManager.getDefault(SensorManager.class);
+        Sensor sensor1 = manager.provideSensor("IS1");
+        JsonSensorSocketService service = new JsonSensorSocketService(connection);
+        service.onMessage(JsonSensor.SENSOR, message, JSON.POST, Locale.ENGLISH);
+        Assert.assertTrue("cached while listened to", cache.isRetained(JsonSensor.SENSOR, "IS1"));
+        service.onClose();
+        Assert.assertFalse("dropped on close", cache.isRetained(JsonSensor.SENSOR, "IS1"));
+        // deleting the sensor drops its listener and cached messages
+        service.onMessage(JsonSensor.SENSOR, message, JSON.POST, Locale.ENGLISH);
+        Assert.assertEquals("Sensor is being listened to by service", 2, sensor1.getNumPropertyChangeListeners());
+        manager.deregister(sensor1);
+        JUnitUtil.waitFor(() -> {
+            return !cache.isRetained(JsonSensor.SENSOR, "IS1");
+        }, "dropped on delete");
+        Assert.assertEquals("Sensor is no longer listened to by service", 0, sensor1.getNumPropertyChangeListeners());
+        // the list was not requested, so is not sent
+        Assert.assertEquals(JsonSensor.SENSOR, connection.getMessage().path(JSON.TYPE).asText());
+        service.onClose();
+    }
+
     @Before
     public void setUp() throws Exception {
         JUnitUtil.setUp();
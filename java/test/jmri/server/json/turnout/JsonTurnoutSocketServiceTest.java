@@ -42,11 +42,17 @@ public class JsonTurnoutSocketServiceTest {
                 return turnout1.getKnownState() == Turnout.CLOSED;
             }, "Turnout to close");
             Assert.assertEquals(Turnout.CLOSED, turnout1.getKnownState());
+            JUnitUtil.waitFor(() -> {
+                return connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt() == JSON.CLOSED;
+            }, "message sent");
             Assert.assertEquals(JSON.CLOSED, connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt());
             turnout1.setCommandedState(Turnout.THROWN);
             JUnitUtil.waitFor(() -> {
                 return turnout1.getKnownState() == Turnout.THROWN;
             }, "Turnout to throw");
+            JUnitUtil.waitFor(() -> {
+                return connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt() == JSON.THROWN;
+            }, "message sent");
             Assert.assertEquals(JSON.THROWN, connection.getMessage().path(JSON.DATA).path(JSON.STATE).asInt());
             service.onClose();
             // TODO: test that service is no longer a listener in TurnoutManager
@@ -92,6 +98,63 @@ public class JsonTurnoutSocketServiceTest {
         }
     }
 
+    @Test
+    public void testListChanges() throws IOException, JmriException, JsonException {
+        JsonMockConnection connection = new JsonMockConnection((DataOutputStream) null);
+        JsonTurnoutSocketService service = new JsonTurnoutSocketService(connection);
+        TurnoutManager manager = InstanceManager.getDefault(TurnoutManager.class);
+        manager.provideTurnout("IT1");
+        service.onList(JsonTurnoutServiceFactory.TURNOUTS, connection.getObjectMapper().createObjectNode().put(JSON.CHANGES, true), Locale.ENGLISH);
+        Assert.assertEquals("full list sent", 1, connection.getMessage().size());
+        Assert.assertTrue("not a change", connection.getMessage().get(0).path(JSON.METHOD).isMissingNode());
+        // adding turnouts sends only the added turnouts
+        manager.provideTurnout("IT2");
+        manager.provideTurnout("IT3");
+        JUnitUtil.waitFor(() -> {
+            return connection.getMessage().size() == 2;
+        }, "added turnouts sent");
+        Assert.assertEquals("IT2", connection.getMessage().get(0).path(JSON.DATA).path(JSON.NAME).asText());
+        Assert.assertEquals("IT3", connection.getMessage().get(1).path(JSON.DATA).path(JSON.NAME).asText());
+        Assert.assertEquals(JSON.PUT, connection.getMessage().get(0).path(JSON.METHOD).asText());
+        // removing a turnout sends it as deleted
+        Turnout turnout2 = manager.getTurnout("IT2");
+        manager.deregister(turnout2);
+        JUnitUtil.waitFor(() -> {
+            return connection.getMessage().size() == 1;
+        }, "removed turnout sent");
+        Assert.assertEquals("IT2", connection.getMessage().get(0).path(JSON.DATA).path(JSON.NAME).asText());
+        Assert.assertEquals(JSON.DELETE, connection.getMessage().get(0).path(JSON.METHOD).asText());
+        Assert.assertEquals("not listening to removed turnout", 0, turnout2.getNumPropertyChangeListeners());
+        service.onClose();
+    }
+
+    @Test
+    public void testListWithoutChanges() throws IOException, JmriException, JsonException {
+        JsonMockConnection connection = new JsonMockConnection((DataOutputStream) null);
+        JsonTurnoutSocketService service = new JsonTurnoutSocketService(connection);
+        TurnoutManager manager = InstanceManager.getDefault(TurnoutManager.class);
+        manager.provideTurnout("IT1");
+        service.onList(JsonTurnoutServiceFactory.TURNOUTS, connection.getObjectMapper().createObjectNode(), Locale.ENGLISH);
+        Assert.assertEquals("full list sent", 1, connection.getMessage().size());
+        // adding turnouts sends the complete list once
+        manager.provideTurnout("IT2");
+        manager.provideTurnout("IT3");
+        JUnitUtil.waitFor(() -> {
+            return connection.getMessage().size() == 3;
+        }, "complete list sent");
+        for (JsonNode turnout : connection.getMessage()) {
+            Assert.assertTrue("not a change", turnout.path(JSON.METHOD).isMissingNode());
+        }
+        // removing a turnout sends the complete list
+        Turnout turnout2 = manager.getTurnout("IT2");
+        manager.deregister(turnout2);
+        JUnitUtil.waitFor(() -> {
+            return connection.getMessage().size() == 2;
+        }, "complete list sent");
+        Assert.assertEquals("not listening to removed turnout", 0, turnout2.getNumPropertyChangeListeners());
+        service.onClose();
+    }
+
     @Before
     public void setUp() throws Exception {
         JUnitUtil.setUp();
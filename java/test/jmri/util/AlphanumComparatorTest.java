@@ -177,6 +177,21 @@ public class AlphanumComparatorTest {
         Assert.assertEquals("IS100A > IS100", +1, ac.compare("IS100A", "IS100"));
     }
 
+
+    @Test
+    final public void testCompareChunksMatchesCompare() {
+        String[] values = {"", "0", "00", "1", "01", "001", "10", "100", "A", "a", "0A", "00A",
+            "B0A", "B00A", "A10Z2", "A10Z10", "IS100", "IS100A", "IS100B", "1A", "A1", "12:3", "1.2.3"};
+        // subclasses may compare differently, so check against this class
+        AlphanumComparator alphanum = new AlphanumComparator();
+        for (String v1 : values) {
+            for (String v2 : values) {
+                Assert.assertEquals(v1 + " vs " + v2, alphanum.compare(v1, v2),
+                        AlphanumComparator.compareChunks(AlphanumComparator.split(v1), v1.length(),
+                                AlphanumComparator.split(v2), v2.length()));
+            }
+        }
+    }
     
     // from here down is testing infrastructure
     @Before
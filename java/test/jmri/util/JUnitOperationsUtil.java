@@ -62,6 +62,9 @@ public class JUnitOperationsUtil {
         //shut down the AutoSave thread if it is running.
         Setup.setAutoSaveEnabled(false);
 
+        // finish writing files saved by the last test
+        OperationsXml.flush();
+
         // set the file location to temp (in the root of the build directory).
         OperationsSetupXml.setFileLocation("temp" + File.separator);
 
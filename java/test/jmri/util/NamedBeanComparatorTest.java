@@ -97,6 +97,37 @@ public class NamedBeanComparatorTest {
         Assert.assertTrue(hit);
     }
 
+    @Test
+    public void testCachedOrdering() {
+        String[] names = {"IT10", "IT2B", "IT1", "IT2", "ITA", "IT2A"};
+        java.util.TreeSet<NamedBean> set = new java.util.TreeSet<>(new NamedBeanComparator());
+        for (String name : names) {
+            set.add(InstanceManager.getDefault(TurnoutManager.class).provideTurnout(name));
+        }
+        StringBuilder order = new StringBuilder();
+        for (NamedBean b : set) {
+            order.append(b.getSystemName()).append(' ');
+        }
+        Assert.assertEquals("IT1 IT2 IT2A IT2B IT10 ITA ", order.toString());
+    }
+
+    @Test
+    public void testLargeManagerLoad() {
+        // 20k beans through the managers' sorted sets
+        TurnoutManager tm = InstanceManager.getDefault(TurnoutManager.class);
+        SensorManager sm = InstanceManager.getDefault(SensorManager.class);
+        for (int i = 10000; i > 0; i--) {
+            tm.provideTurnout("IT" + i);
+            sm.provideSensor("IS" + i);
+        }
+        java.util.List<String> names = tm.getSystemNameList();
+        Assert.assertEquals(10000, names.size());
+        Assert.assertEquals("IT1", names.get(0));
+        Assert.assertEquals("IT2", names.get(1));
+        Assert.assertEquals("IT10000", names.get(9999));
+        Assert.assertEquals("IS10", sm.getSystemNameList().get(9));
+    }
+
     // The minimal setup for log4J
     @Before
     public void setUp() {
@@ -143,6 +143,167 @@ public class ThreadingUtilTest extends TestCase {
         JUnitUtil.waitFor( ()->{ return done; }, "Delayed oepration complete");
     }
 
+    public void testSeparateLayoutThread() {
+        ThreadingUtil.setLayoutThreadEnabled(true);
+        try {
+            done = false;
+
+            ThreadingUtil.runOnLayout( ()-> { 
+                Assert.assertTrue("on Layout thread", ThreadingUtil.isLayoutThread());
+                Assert.assertFalse("not on GUI thread", ThreadingUtil.isGUIThread());
+                done = true; 
+            } );
+            Assert.assertTrue(done);
+            Assert.assertFalse("test thread is not Layout thread", ThreadingUtil.isLayoutThread());
+
+            done = false;
+            ThreadingUtil.runOnLayoutEventually( ()-> { 
+                Assert.assertTrue("on Layout thread", ThreadingUtil.isLayoutThread());
+                done = true; 
+            } );
+            JUnitUtil.waitFor( ()->{ return done; }, "Layout thread complete");
+
+            done = false;
+            ThreadingUtil.runOnLayoutDelayed( ()-> { 
+                Assert.assertTrue("on Layout thread", ThreadingUtil.isLayoutThread());
+                done = true; 
+            }, 100 );
+            JUnitUtil.waitFor( ()->{ return done; }, "Delayed operation complete");
+        } finally {
+            ThreadingUtil.setLayoutThreadEnabled(false);
+        }
+    }
+
+    public void testLayoutThreadDoesNotBlockGUI() throws Exception {
+        ThreadingUtil.setLayoutThreadEnabled(true);
+        try {
+            done = false;
+            // the layout thread waits for the GUI thread, which asks for layout work
+            ThreadingUtil.runOnLayoutEventually( ()-> {
+                ThreadingUtil.runOnGUI( ()-> {
+                    ThreadingUtil.runOnLayout( ()-> {
+                        done = true;
+                    } );
+                } );
+            } );
+            JUnitUtil.waitFor( ()->{ return done; }, "Layout work from GUI complete");
+
+            // the GUI thread waits for layout work, which asks for GUI work
+            done = false;
+            javax.swing.SwingUtilities.invokeAndWait( ()-> {
+                ThreadingUtil.runOnLayout( ()-> {
+                    ThreadingUtil.runOnGUI( ()-> {
+                        done = true;
+                    } );
+                } );
+                Assert.assertTrue("done before returning", done);
+            });
+
+            // delayed work can be cancelled
+            done = false;
+            javax.swing.Timer timer = ThreadingUtil.runOnLayoutDelayed( ()-> {
+                done = true;
+            }, 200 );
+            Assert.assertTrue("timer running", timer.isRunning());
+            timer.stop();
+            Assert.assertFalse("timer stopped", timer.isRunning());
+            Assert.assertFalse("not run", JUnitUtil.waitFor( ()->{ return done; }));
+        } finally {
+            ThreadingUtil.setLayoutThreadEnabled(false);
+        }
+    }
+
+    boolean guiNotified;
+    boolean layoutNotified;
+    public void testListenersNotifiedOnTheirThreads() {
+        guiNotified = false;
+        layoutNotified = false;
+        jmri.Block block = new jmri.Block("IB1");
+        class LayoutListener implements java.beans.PropertyChangeListener, ThreadingUtil.LayoutListener {
+            @Override
+            public void propertyChange(java.beans.PropertyChangeEvent e) {
+                layoutNotified = ThreadingUtil.isLayoutThread();
+            }
+        }
+        block.addPropertyChangeListener(new LayoutListener());
+        block.addPropertyChangeListener((e) -> {
+            guiNotified = ThreadingUtil.isGUIThread();
+        });
+        ThreadingUtil.setLayoutThreadEnabled(true);
+        try {
+            ThreadingUtil.runOnLayout( ()-> {
+                block.setState(jmri.Block.OCCUPIED);
+            } );
+            Assert.assertTrue("layout listener notified on layout thread", layoutNotified);
+            JUnitUtil.waitFor( ()->{ return guiNotified; }, "other listener notified on GUI thread");
+        } finally {
+            ThreadingUtil.setLayoutThreadEnabled(false);
+        }
+    }
+
+    int tableChanges;
+    public void testTableModelsNotifiedOfLatestChange() throws Exception {
+        tableChanges = 0;
+        jmri.Block block = new jmri.Block("IB2");
+        class Model extends javax.swing.table.AbstractTableModel implements java.beans.PropertyChangeListener {
+            @Override
+            public int getRowCount() {
+                return 0;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 0;
+            }
+
+            @Override
+            public Object getValueAt(int row, int column) {
+                return null;
+            }
+
+            @Override
+            public void propertyChange(java.beans.PropertyChangeEvent e) {
+                tableChanges++;
+            }
+        }
+        block.addPropertyChangeListener(new Model());
+        ThreadingUtil.setLayoutThreadEnabled(true);
+        try {
+            // hold the GUI thread so all changes are queued before any is shown
+            javax.swing.SwingUtilities.invokeAndWait( ()-> {
+                ThreadingUtil.runOnLayout( ()-> {
+                    block.setState(jmri.Block.OCCUPIED);
+                    block.setState(jmri.Block.UNOCCUPIED);
+                    block.setState(jmri.Block.OCCUPIED);
+                } );
+                Assert.assertEquals("changes made", 0, tableChanges);
+            });
+            JUnitUtil.waitFor( ()->{ return tableChanges > 0; }, "table model notified");
+            Assert.assertEquals("notified once", 1, tableChanges);
+        } finally {
+            ThreadingUtil.setLayoutThreadEnabled(false);
+        }
+    }
+
+    int coalescedCount;
+    int coalescedValue;
+    public void testRunOnGUICoalesced() throws Exception {
+        coalescedCount = 0;
+        coalescedValue = 0;
+        // hold the GUI thread so all three are queued before any runs
+        javax.swing.SwingUtilities.invokeAndWait( ()-> {
+            for (int i = 1; i <= 3; i++) {
+                final int value = i;
+                ThreadingUtil.runOnGUICoalesced(this, ()-> {
+                    coalescedCount++;
+                    coalescedValue = value;
+                });
+            }
+        });
+        JUnitUtil.waitFor( ()->{ return coalescedValue == 3; }, "Coalesced operation complete");
+        Assert.assertEquals("ran once", 1, coalescedCount);
+    }
+
     /**
      * Show how to query state of _current_ thread
      */
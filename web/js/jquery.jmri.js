@@ -16,6 +16,7 @@
  * blocks(data array)
  * car(name, data)
  * cars(data array)
+ * changes(list type, data array)
  * configProfile(name, data)
  * configProfiles(data array)
  * consist(name, data)
@@ -101,6 +102,8 @@
             };
             jmri.blocks = function(data) {
             };
+            jmri.changes = function(list, data) {
+            };
             jmri.car = function(name, data) {
             };
             jmri.cars = function(data) {
@@ -300,9 +303,17 @@
              * Request a json list of the specified list type.
              *   will also set up listeners for changes to this type
              * @param {String} type of list (e.g. "sensors")
+             * @param {Boolean} changes true to have later changes to the list
+             *   passed to changes() instead of the complete list being passed
+             *   again; each changed item has the method "put" if added or
+             *   "delete" if removed
              */
-            jmri.getList = function(name) {
-            	jmri.socket._send(JSON.stringify({list: name}));
+            jmri.getList = function(name, changes) {
+            	if (changes) {
+            		jmri.socket._send(JSON.stringify({list: name, data: {changes: true}}));
+            	} else {
+            		jmri.socket._send(JSON.stringify({list: name}));
+            	}
             };
 
             jmri.getObject = function(type, name) {
@@ -710,6 +721,9 @@
             		cars: function(e) {
             			jmri.cars(e.data);
             		},
+            		changes: function(e) {
+            			jmri.changes(e.list, e.data);
+            		},
             		configProfile: function(e) {
             			jmri.configProfile(e.data.name, e.data);
             		},
@@ -868,7 +882,11 @@
                         		return;
                         	} else { //use type of first entry to determine list type
                             	var lt = jmri.getListType(m[0].type);
-                            	m = {type: lt, data: m}; //wrap up the message as data for list type
+                            	if (m[0].method) { //only lists of changes carry a method
+                            		m = {type: "changes", list: lt, data: m};
+                            	} else {
+                            		m = {type: lt, data: m}; //wrap up the message as data for list type
+                            	}
                         	}
                         }
                         h = jmri.events[m.type];